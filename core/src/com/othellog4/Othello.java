@@ -9,6 +9,7 @@ import com.badlogic.gdx.graphics.GL20;
 import com.othellog4.environment.GameMode;
 import com.othellog4.environment.Launcher;
 import com.othellog4.environment.PlayerType;
+import com.othellog4.environment.Scheduler;
 import com.othellog4.game.GameModel;
 import com.othellog4.screens.BaseScreen;
 import com.othellog4.screens.CreditScreen;
@@ -200,5 +201,6 @@ public class Othello extends Game {
 	@Override
 	public void dispose() {
 		BaseScreen.cleanupStaticObjects();
+		Scheduler.get().shutdown();
 	}
 }
@@ -0,0 +1,1274 @@
+package com.othellog4.environment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.othellog4.game.Game;
+import com.othellog4.game.GameEvent;
+import com.othellog4.game.GameManager;
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.SearchBoard;
+import com.othellog4.game.board.Symmetry;
+import com.othellog4.game.extension.SearchProfiler;
+import com.othellog4.game.player.AutomaticPlayer;
+import com.othellog4.game.player.Participant;
+import com.othellog4.game.player.ai.DelayStrategies;
+import com.othellog4.game.player.ai.EvaluationStrategies;
+import com.othellog4.game.player.ai.LazySmp;
+import com.othellog4.game.player.ai.OpeningBook;
+import com.othellog4.game.player.ai.SearchStatistics;
+import com.othellog4.game.player.ai.SearchStrategies;
+import com.othellog4.game.player.ai.SearchStrategy;
+import com.othellog4.game.player.ai.Tactic;
+
+/**
+ * The {@code Arena} class plays a round-robin tournament between engines,
+ * and reports their strength and speed.
+ *
+ * <p>
+ * Every pair of engines plays every opening twice, once with each engine
+ * playing first, so neither an opening nor the first move favours either
+ * engine. The openings are random positions which are close to even, and
+ * no two of which are the same under the {@link Symmetry} of the board. The
+ * games are played at once by a {@link HeadlessRunner}.
+ * </p>
+ *
+ * <p>
+ * The {@link Standings} give the Elo difference of each engine against the
+ * field and of each pair of engines, with their 95% confidence intervals,
+ * and the average time each engine took per move and the nodes it searched
+ * per second. If the {@code Arena} has a {@link Sprt}, a pair of engines
+ * stops playing as soon as the test accepts either hypothesis.
+ * </p>
+ *
+ * <p>
+ * The times and speeds are only meaningful if the games which are played
+ * at once do not compete for processors, that is, if the concurrency is at
+ * most {@link #concurrency(List)} of the engines. The engines never ponder,
+ * so only the engine which is to move uses processors.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see Elo
+ */
+public final class Arena
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The number of random plies of an opening of {@link #main(String[])}.
+	 */
+	private static final int DEFAULT_PLIES = 8;
+	/**
+	 * The number of openings of {@link #main(String[])}, if none is given.
+	 */
+	private static final int DEFAULT_OPENINGS = 50;
+	/**
+	 * The milli-seconds which a game of {@link #main(String[])} may take.
+	 */
+	private static final long DEFAULT_TIMEOUT = 10 * 60 * 1000;
+	/**
+	 * The largest evaluation in discs of a balanced opening, for the side
+	 * to move.
+	 */
+	private static final double BALANCE = 4;
+	/**
+	 * The number of random games which are tried for each opening before
+	 * giving up.
+	 */
+	private static final int ATTEMPTS = 1000;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The engines of the tournament.
+	 */
+	private final List<Engine> engines;
+	/**
+	 * The openings of the tournament.
+	 */
+	private final List<Opening> openings;
+	/**
+	 * The {@link HeadlessRunner} which plays the games.
+	 */
+	private final HeadlessRunner runner;
+	/**
+	 * The {@link Sprt} which stops a pair of engines early, or
+	 * <code>null</code> if every pair plays every opening.
+	 */
+	private final Sprt sprt;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create an {@code Arena}.
+	 *
+	 * @param engines The engines of the tournament.
+	 * @param openings The openings of the tournament.
+	 * @param concurrency The number of games which are played at once,
+	 * 			which should be at most {@link #concurrency(List)} of the
+	 * 			<code>engines</code> for the times to be meaningful.
+	 * @param timeout The milli-seconds which a game may take before it is
+	 * 			abandoned, or <code>0</code> if there is no limit.
+	 * @param sprt The {@link Sprt} which stops a pair of engines early, or
+	 * 			<code>null</code> if every pair plays every opening.
+	 * @throws IllegalArgumentException If there are fewer than two
+	 * 			<code>engines</code>, no <code>openings</code>,
+	 * 			<code>concurrency</code> is not positive, or
+	 * 			<code>timeout</code> is negative.
+	 */
+	public Arena(
+			final List<Engine> engines,
+			final List<Opening> openings,
+			final int concurrency,
+			final long timeout,
+			final Sprt sprt)
+			throws
+			IllegalArgumentException
+	{
+		if(engines == null || engines.size() < 2
+				|| openings == null || openings.isEmpty())
+			throw new IllegalArgumentException();
+		this.engines = new ArrayList<>(engines);
+		this.openings = new ArrayList<>(openings);
+		runner = new HeadlessRunner(concurrency, timeout);
+		this.sprt = sprt;
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Create balanced openings by random play from the start of the game.
+	 *
+	 * <p>
+	 * An opening is kept if the {@link EvaluationStrategies#PATTERN}
+	 * evaluation of the side to move is within a few discs of even, and it
+	 * is not the same as an opening which was kept before under the
+	 * {@link Symmetry} of the board. Fewer openings are created if not
+	 * enough can be found.
+	 * </p>
+	 *
+	 * @param count The number of openings to create.
+	 * @param plies The number of random plies of each opening.
+	 * @param seed The seed of the random plies.
+	 * @return The openings.
+	 * @throws IllegalArgumentException If <code>count</code> or
+	 * 			<code>plies</code> is negative.
+	 */
+	public static List<Opening> openings(
+			final int count,
+			final int plies,
+			final long seed)
+			throws
+			IllegalArgumentException
+	{
+		if(count < 0 || plies < 0)
+			throw new IllegalArgumentException();
+		final Random random = new Random(seed);
+		final List<Opening> openings = new ArrayList<>();
+		final Set<Long> seen = new HashSet<>();
+		for(int attempt = 0;
+				openings.size() < count && attempt < count * ATTEMPTS;
+				++attempt)
+		{
+			final SearchBoard board = new SearchBoard(new BitBoard());
+			Piece piece = Piece.player1();
+			for(int ply = 0; ply < plies && !board.isEnd(); ++ply)
+			{
+				long moves = board.legalMoveMask(piece);
+				if(moves == 0)
+				{
+					piece = piece.flip();
+					moves = board.legalMoveMask(piece);
+				}
+				for(int skip = random.nextInt(Long.bitCount(moves));
+						skip > 0;
+						--skip)
+					moves &= moves - 1;
+				board.makeMove(Long.numberOfTrailingZeros(moves), piece);
+				piece = piece.flip();
+			}
+			if(board.isEnd() || board.legalMoveMask(piece) == 0)
+				continue;
+			final Opening opening = new Opening(
+					board.mask(Piece.PIECE_A),
+					board.mask(Piece.PIECE_B),
+					piece);
+			final double eval = EvaluationStrategies.PATTERN
+					.evaluate(opening.board(), piece);
+			final long key = Symmetry.canonicalForm(opening.board())
+					.board()
+					.hash(piece);
+			if(Math.abs(eval) <= BALANCE && seen.add(key))
+				openings.add(opening);
+		}
+		return openings;
+	}
+	/**
+	 * Get the number of games of engines which may be played at once, so
+	 * that no game waits for a processor.
+	 *
+	 * @param engines The engines of the games.
+	 * @return The number of available processors divided by the most
+	 * 			threads of any of the <code>engines</code>, which is at
+	 * 			least <code>1</code>.
+	 */
+	public static int concurrency(final List<Engine> engines)
+	{
+		int threads = 1;
+		for(final Engine engine : engines)
+			threads = Math.max(threads, engine.threads());
+		return Math.max(
+				1,
+				Runtime.getRuntime().availableProcessors() / threads);
+	}
+	/**
+	 * Play a tournament, and print the {@link Standings}.
+	 *
+	 * <p>
+	 * The first argument is the number of openings, and the rest are the
+	 * engines, each of which is either the name of an AI of the
+	 * {@link PlayerType}, or the names of an {@link EvaluationStrategies}
+	 * and a {@link SearchStrategies} joined by a colon, such as
+	 * <code>PATTERN:ITERATIVE_DEEPENING</code>. If there are exactly two
+	 * engines, they are stopped early by a {@link Sprt} of
+	 * <code>0</code> against <code>10</code> Elo. The games are played
+	 * {@link #concurrency(List)} at a time.
+	 * </p>
+	 *
+	 * @param args The command line arguments.
+	 * @throws InterruptedException If the thread is interrupted while the
+	 * 			games are played.
+	 */
+	public static void main(final String[] args)
+			throws
+			InterruptedException
+	{
+		if(args.length < 3)
+		{
+			System.err.println("Usage: Arena <openings> <engine> <engine>"
+					+ " [engine...], where an engine is an AI player type"
+					+ " or <evaluation>:<search>");
+			return;
+		}
+		final List<Engine> engines = new ArrayList<>();
+		for(int i = 1; i < args.length; ++i)
+		{
+			final String[] names = args[i].split(":");
+			engines.add(names.length == 1
+					? Engine.of(PlayerType.valueOf(names[0]))
+					: Engine.of(args[i], new Tactic(
+							EvaluationStrategies.valueOf(names[0]),
+							SearchStrategies.valueOf(names[1]))));
+		}
+		final int openings = args[0].isEmpty()
+				? DEFAULT_OPENINGS
+				: Integer.parseInt(args[0]);
+		final Arena arena = new Arena(
+				engines,
+				openings(openings, DEFAULT_PLIES, System.nanoTime()),
+				concurrency(engines),
+				DEFAULT_TIMEOUT,
+				engines.size() == 2? new Sprt(0, 10, 0.05, 0.05): null);
+		System.out.println(arena.run());
+		Scheduler.get().shutdown();
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Play the tournament.
+	 *
+	 * @return The {@link Standings} of the tournament.
+	 * @throws InterruptedException If the thread is interrupted while the
+	 * 			games are played.
+	 */
+	public Standings run()
+			throws
+			InterruptedException
+	{
+		final Tournament tournament = new Tournament();
+		runner.play(tournament::next, tournament::finish);
+		return tournament.standings();
+	}
+	//=========================================================================
+	//Inner classes.
+	/**
+	 * The {@code Engine} class is a named player of an {@code Arena}.
+	 *
+	 * <p>
+	 * The {@code Engine} class is immutable.
+	 * </p>
+	 */
+	public static final class Engine
+	{
+		/**
+		 * The name of the engine.
+		 */
+		private final String name;
+		/**
+		 * The {@link Supplier} of the {@link Participant} of each game.
+		 */
+		private final Supplier<? extends Participant> players;
+		/**
+		 * The number of threads which the engine searches with.
+		 */
+		private final int threads;
+		/**
+		 * Create an {@code Engine} which searches with a single thread.
+		 *
+		 * @param name The name of the engine.
+		 * @param players The {@link Supplier} of the {@link Participant} of
+		 * 			each game, which should not delay its moves.
+		 * @throws IllegalArgumentException If <code>name</code> or
+		 * 			<code>players</code> is <code>null</code>.
+		 */
+		public Engine(
+				final String name,
+				final Supplier<? extends Participant> players)
+				throws
+				IllegalArgumentException
+		{
+			this(name, players, 1);
+		}
+		/**
+		 * Create an {@code Engine}.
+		 *
+		 * @param name The name of the engine.
+		 * @param players The {@link Supplier} of the {@link Participant} of
+		 * 			each game, which should neither delay its moves nor
+		 * 			ponder.
+		 * @param threads The number of threads which the engine searches
+		 * 			with.
+		 * @throws IllegalArgumentException If <code>name</code> or
+		 * 			<code>players</code> is <code>null</code>, or
+		 * 			<code>threads</code> is not positive.
+		 */
+		public Engine(
+				final String name,
+				final Supplier<? extends Participant> players,
+				final int threads)
+				throws
+				IllegalArgumentException
+		{
+			if(name == null || players == null || threads <= 0)
+				throw new IllegalArgumentException();
+			this.name = name;
+			this.players = players;
+			this.threads = threads;
+		}
+		/**
+		 * Get the number of threads which a {@link SearchStrategy} searches
+		 * with.
+		 *
+		 * @param search The {@link SearchStrategy}.
+		 * @return The number of threads.
+		 */
+		private static int threads(final SearchStrategy search)
+		{
+			return search == SearchStrategies.PARALLEL
+					|| search == SearchStrategies.MCTS
+					|| search == SearchStrategies.ENDGAME
+					? LazySmp.defaultThreads()
+					: 1;
+		}
+		/**
+		 * Create an {@code Engine} of an AI of the {@link PlayerType}.
+		 *
+		 * <p>
+		 * The games share a copy of the AI which neither delays its moves
+		 * nor ponders, so it does not search while the other engine is
+		 * being timed.
+		 * </p>
+		 *
+		 * @param type The {@link PlayerType} of the AI.
+		 * @return The {@code Engine}.
+		 * @throws IllegalArgumentException If <code>type</code> is not an
+		 * 			AI.
+		 */
+		public static Engine of(final PlayerType type)
+				throws
+				IllegalArgumentException
+		{
+			if(!(type.get() instanceof AutomaticPlayer))
+				throw new IllegalArgumentException(type + " is not an AI");
+			final AutomaticPlayer ai = ((AutomaticPlayer) type.get())
+					.withDelay(DelayStrategies.WAIT_ZERO_SEC)
+					.withPondering(false);
+			return new Engine(
+					type.name(),
+					() -> ai,
+					threads(ai.getTactic().getSearchStrategy()));
+		}
+		/**
+		 * Create an {@code Engine} of a {@link Tactic}, which does not
+		 * delay its moves.
+		 *
+		 * @param name The name of the engine.
+		 * @param tactic The {@link Tactic} of the engine.
+		 * @return The {@code Engine}.
+		 */
+		public static Engine of(final String name, final Tactic tactic)
+		{
+			final Participant player = new AutomaticPlayer(
+					tactic,
+					DelayStrategies.WAIT_ZERO_SEC,
+					false,
+					OpeningBook.empty());
+			return new Engine(
+					name,
+					() -> player,
+					threads(tactic.getSearchStrategy()));
+		}
+		/**
+		 * Get the name of <code>this</code> {@code Engine}.
+		 *
+		 * @return The name.
+		 */
+		public String name()
+		{
+			return name;
+		}
+		/**
+		 * Get the number of threads which <code>this</code> {@code Engine}
+		 * searches with.
+		 *
+		 * @return The number of threads.
+		 */
+		public int threads()
+		{
+			return threads;
+		}
+		/**
+		 * Get the name of <code>this</code> {@code Engine}.
+		 *
+		 * @return The name.
+		 */
+		@Override
+		public String toString()
+		{
+			return name;
+		}
+	}
+	/**
+	 * The {@code Opening} class is the starting position of a game of an
+	 * {@code Arena}.
+	 *
+	 * <p>
+	 * The {@code Opening} class is immutable.
+	 * </p>
+	 */
+	public static final class Opening
+	{
+		/**
+		 * The mask of {@link Piece#PIECE_A}.
+		 */
+		private final long maskA;
+		/**
+		 * The mask of {@link Piece#PIECE_B}.
+		 */
+		private final long maskB;
+		/**
+		 * The {@link Piece} which is next to move.
+		 */
+		private final Piece next;
+		/**
+		 * Create an {@code Opening}.
+		 *
+		 * @param maskA The mask of {@link Piece#PIECE_A}.
+		 * @param maskB The mask of {@link Piece#PIECE_B}.
+		 * @param next The {@link Piece} which is next to move.
+		 * @throws IllegalArgumentException If the masks overlap, or
+		 * 			<code>next</code> is not a player.
+		 */
+		public Opening(final long maskA, final long maskB, final Piece next)
+				throws
+				IllegalArgumentException
+		{
+			if((maskA & maskB) != 0
+					|| (next != Piece.PIECE_A && next != Piece.PIECE_B))
+				throw new IllegalArgumentException();
+			this.maskA = maskA;
+			this.maskB = maskB;
+			this.next = next;
+		}
+		/**
+		 * Create a new board of the position of <code>this</code>
+		 * {@code Opening}.
+		 *
+		 * @return The new {@link BitBoard}.
+		 */
+		public BitBoard board()
+		{
+			return new BitBoard(maskA, maskB);
+		}
+		/**
+		 * Get the {@link Piece} which is next to move.
+		 *
+		 * @return The {@link Piece} to move.
+		 */
+		public Piece next()
+		{
+			return next;
+		}
+	}
+	/**
+	 * The {@code Sprt} class is a sequential probability ratio test of the
+	 * Elo difference of a pair of engines.
+	 *
+	 * <p>
+	 * The test accepts the alternative hypothesis, that the first engine is
+	 * stronger by <code>elo1</code>, once the log-likelihood ratio of
+	 * {@link Elo#llr(int, int, int, double, double)} reaches the upper
+	 * bound, and accepts the null hypothesis, that it is stronger by
+	 * <code>elo0</code>, once the ratio reaches the lower bound.
+	 * </p>
+	 *
+	 * <p>
+	 * The {@code Sprt} class is immutable.
+	 * </p>
+	 */
+	public static final class Sprt
+	{
+		/**
+		 * The Elo difference of the null hypothesis.
+		 */
+		private final double elo0;
+		/**
+		 * The Elo difference of the alternative hypothesis.
+		 */
+		private final double elo1;
+		/**
+		 * The lower bound of the log-likelihood ratio.
+		 */
+		private final double lower;
+		/**
+		 * The upper bound of the log-likelihood ratio.
+		 */
+		private final double upper;
+		/**
+		 * Create a {@code Sprt}.
+		 *
+		 * @param elo0 The Elo difference of the null hypothesis.
+		 * @param elo1 The Elo difference of the alternative hypothesis.
+		 * @param alpha The probability of accepting the alternative
+		 * 			hypothesis when the null hypothesis is true.
+		 * @param beta The probability of accepting the null hypothesis when
+		 * 			the alternative hypothesis is true.
+		 * @throws IllegalArgumentException If <code>elo1</code> is not
+		 * 			greater than <code>elo0</code>, or <code>alpha</code> or
+		 * 			<code>beta</code> is not between <code>0</code> and
+		 * 			<code>0.5</code>.
+		 */
+		public Sprt(
+				final double elo0,
+				final double elo1,
+				final double alpha,
+				final double beta)
+				throws
+				IllegalArgumentException
+		{
+			if(!(elo1 > elo0)
+					|| !(alpha > 0 && alpha < 0.5)
+					|| !(beta > 0 && beta < 0.5))
+				throw new IllegalArgumentException();
+			this.elo0 = elo0;
+			this.elo1 = elo1;
+			lower = Math.log(beta / (1 - alpha));
+			upper = Math.log((1 - beta) / alpha);
+		}
+		/**
+		 * Get the log-likelihood ratio of a result.
+		 *
+		 * @param wins The number of wins of the first engine.
+		 * @param draws The number of draws.
+		 * @param losses The number of losses of the first engine.
+		 * @return The log-likelihood ratio.
+		 */
+		public double llr(final int wins, final int draws, final int losses)
+		{
+			return Elo.llr(wins, draws, losses, elo0, elo1);
+		}
+		/**
+		 * Get the decision of the test for a result.
+		 *
+		 * @param wins The number of wins of the first engine.
+		 * @param draws The number of draws.
+		 * @param losses The number of losses of the first engine.
+		 * @return <code>1</code> if the alternative hypothesis is accepted,
+		 * 			<code>-1</code> if the null hypothesis is accepted, or
+		 * 			<code>0</code> if more games are needed.
+		 */
+		public int decide(final int wins, final int draws, final int losses)
+		{
+			final double llr = llr(wins, draws, losses);
+			return llr >= upper? 1: llr <= lower? -1: 0;
+		}
+	}
+	/**
+	 * The {@code Tournament} class is the state of a call to
+	 * {@link Arena#run()}.
+	 *
+	 * <p>
+	 * The games are handed out an opening at a time, each opening to every
+	 * pair which has not been stopped, so every pair progresses at the same
+	 * rate.
+	 * </p>
+	 */
+	private final class Tournament
+	{
+		/**
+		 * The result of each engine.
+		 */
+		private final List<Result> results = new ArrayList<>();
+		/**
+		 * The result of each pair of engines.
+		 */
+		private final List<Pairing> pairings = new ArrayList<>();
+		/**
+		 * The {@link Fixture} of each game which is being played.
+		 */
+		private final Map<GameManager, Fixture> playing =
+				new IdentityHashMap<>();
+		/**
+		 * The {@link System#nanoTime()} of the start of the tournament.
+		 */
+		private final long start = System.nanoTime();
+		/**
+		 * The index of the opening of the next game.
+		 */
+		private int opening;
+		/**
+		 * The index of the pairing of the next game.
+		 */
+		private int pairing;
+		/**
+		 * Is <code>true</code> if the first engine of the pairing plays
+		 * second in the next game.
+		 */
+		private boolean swapped;
+		/**
+		 * Create a {@code Tournament} where no games have been played.
+		 */
+		private Tournament()
+		{
+			for(final Engine engine : engines)
+				results.add(new Result(engine));
+			for(int i = 0; i < results.size(); ++i)
+				for(int j = i + 1; j < results.size(); ++j)
+					pairings.add(new Pairing(results.get(i), results.get(j)));
+		}
+		/**
+		 * Create the next game of the tournament.
+		 *
+		 * @return The {@link GameManager} of the next game, or
+		 * 			<code>null</code> if there are no more games.
+		 */
+		private synchronized GameManager next()
+		{
+			while(opening < openings.size())
+			{
+				final Pairing current = pairings.get(pairing);
+				final boolean second = swapped;
+				final Opening position = openings.get(opening);
+				//Advance to the colour, the pairing, then the opening.
+				swapped = !swapped;
+				if(!swapped && ++pairing == pairings.size())
+				{
+					pairing = 0;
+					++opening;
+				}
+				if(current.stopped)
+					continue;
+				final Result first = second? current.second: current.first;
+				final Result other = second? current.first: current.second;
+				final SearchProfiler profiler = new SearchProfiler();
+				final Game game = new Game(position.board(), position.next());
+				final Fixture fixture =
+						new Fixture(current, first, other, profiler);
+				game.addListener(event -> fixture.time(game, event));
+				final GameManager manager = new GameManager(
+						game,
+						first.engine.players.get(),
+						other.engine.players.get(),
+						profiler);
+				playing.put(manager, fixture);
+				return manager;
+			}
+			return null;
+		}
+		/**
+		 * Record a game which is finished, and stop its pairing if the
+		 * {@link Sprt} has decided.
+		 *
+		 * @param manager The {@link GameManager} of the game.
+		 */
+		private synchronized void finish(final GameManager manager)
+		{
+			final Fixture fixture = playing.remove(manager);
+			final Game game = manager.game();
+			fixture.player1.add(fixture, Piece.player1());
+			fixture.player2.add(fixture, Piece.player2());
+			if(!game.isGameOver())
+			{
+				++fixture.pairing.unfinished;
+				return;
+			}
+			final Piece winner = game.getConclusion().isDraw()
+					? null
+					: game.getConclusion().getWinner();
+			fixture.player1.record(winner, Piece.player1());
+			fixture.player2.record(winner, Piece.player2());
+			final Pairing pairing = fixture.pairing;
+			final Piece first = fixture.player1 == pairing.first
+					? Piece.player1()
+					: Piece.player2();
+			if(winner == null)
+				++pairing.draws;
+			else if(winner == first)
+				++pairing.wins;
+			else
+				++pairing.losses;
+			if(sprt != null)
+			{
+				pairing.decision = sprt.decide(
+						pairing.wins,
+						pairing.draws,
+						pairing.losses);
+				pairing.stopped = pairing.decision != 0;
+			}
+		}
+		/**
+		 * Create the {@link Standings} of the games which have been
+		 * recorded.
+		 *
+		 * @return The {@link Standings}.
+		 */
+		private synchronized Standings standings()
+		{
+			return new Standings(
+					results,
+					pairings,
+					sprt,
+					System.nanoTime() - start);
+		}
+	}
+	/**
+	 * The {@code Fixture} class is a game of a {@link Tournament} which is
+	 * being played, and times the moves of its engines.
+	 */
+	private static final class Fixture
+	{
+		/**
+		 * The {@link Pairing} of the game.
+		 */
+		private final Pairing pairing;
+		/**
+		 * The {@link Result} of the engine which plays
+		 * {@link Piece#player1()}.
+		 */
+		private final Result player1;
+		/**
+		 * The {@link Result} of the engine which plays
+		 * {@link Piece#player2()}.
+		 */
+		private final Result player2;
+		/**
+		 * The {@link SearchProfiler} of the game.
+		 */
+		private final SearchProfiler profiler;
+		/**
+		 * The number of moves of each player.
+		 */
+		private final long[] moves = new long[2];
+		/**
+		 * The nano-seconds which the moves of each player took.
+		 */
+		private final long[] nanos = new long[2];
+		/**
+		 * The {@link System#nanoTime()} of the start of the current turn.
+		 */
+		private long turn;
+		/**
+		 * Create a {@code Fixture}.
+		 *
+		 * @param pairing The {@link Pairing} of the game.
+		 * @param player1 The {@link Result} of the first player.
+		 * @param player2 The {@link Result} of the second player.
+		 * @param profiler The {@link SearchProfiler} of the game.
+		 */
+		private Fixture(
+				final Pairing pairing,
+				final Result player1,
+				final Result player2,
+				final SearchProfiler profiler)
+		{
+			this.pairing = pairing;
+			this.player1 = player1;
+			this.player2 = player2;
+			this.profiler = profiler;
+		}
+		/**
+		 * Time the moves of a game from its events.
+		 *
+		 * <p>
+		 * A turn starts when the game is waiting for a move, and ends when
+		 * the move is accepted, before the turn passes to the other player.
+		 * </p>
+		 *
+		 * @param game The {@link Game} of <code>this</code> {@code Fixture}.
+		 * @param event The {@link GameEvent} of the <code>game</code>.
+		 */
+		private synchronized void time(final Game game, final GameEvent event)
+		{
+			if(event == GameEvent.STANDBY)
+				turn = System.nanoTime();
+			else if(event == GameEvent.ACCEPTED_PLACMENT)
+			{
+				final int player = game.getCurrent() == Piece.player1()? 0: 1;
+				++moves[player];
+				nanos[player] += System.nanoTime() - turn;
+			}
+		}
+	}
+	/**
+	 * The {@code Result} class is the result of an engine against the
+	 * field.
+	 */
+	public static final class Result
+	{
+		/**
+		 * The {@link Engine}.
+		 */
+		private final Engine engine;
+		/**
+		 * The number of wins.
+		 */
+		private int wins;
+		/**
+		 * The number of draws.
+		 */
+		private int draws;
+		/**
+		 * The number of losses.
+		 */
+		private int losses;
+		/**
+		 * The number of moves which were timed.
+		 */
+		private long moves;
+		/**
+		 * The nano-seconds which the moves took.
+		 */
+		private long nanos;
+		/**
+		 * The combined {@link SearchStatistics} of the searches.
+		 */
+		private SearchStatistics search = SearchStatistics.NONE;
+		/**
+		 * Create a {@code Result} of no games.
+		 *
+		 * @param engine The {@link Engine}.
+		 */
+		private Result(final Engine engine)
+		{
+			this.engine = engine;
+		}
+		/**
+		 * Add the moves and searches of a game.
+		 *
+		 * @param fixture The {@link Fixture} of the game.
+		 * @param piece The {@link Piece} which the engine played.
+		 */
+		private void add(final Fixture fixture, final Piece piece)
+		{
+			final int player = piece == Piece.player1()? 0: 1;
+			synchronized(fixture)
+			{
+				moves += fixture.moves[player];
+				nanos += fixture.nanos[player];
+			}
+			search = search.plus(fixture.profiler.statistics(piece));
+		}
+		/**
+		 * Record the result of a game which ended.
+		 *
+		 * @param winner The {@link Piece} which won, or <code>null</code>
+		 * 			if the game was drawn.
+		 * @param piece The {@link Piece} which the engine played.
+		 */
+		private void record(final Piece winner, final Piece piece)
+		{
+			if(winner == null)
+				++draws;
+			else if(winner == piece)
+				++wins;
+			else
+				++losses;
+		}
+		/**
+		 * Get the {@link Engine}.
+		 *
+		 * @return The {@link Engine} of the result.
+		 */
+		public Engine engine()
+		{
+			return engine;
+		}
+		/**
+		 * Get the number of wins.
+		 *
+		 * @return The number of wins.
+		 */
+		public int wins()
+		{
+			return wins;
+		}
+		/**
+		 * Get the number of draws.
+		 *
+		 * @return The number of draws.
+		 */
+		public int draws()
+		{
+			return draws;
+		}
+		/**
+		 * Get the number of losses.
+		 *
+		 * @return The number of losses.
+		 */
+		public int losses()
+		{
+			return losses;
+		}
+		/**
+		 * Get the Elo difference of the engine against the field.
+		 *
+		 * @return The Elo difference.
+		 */
+		public double elo()
+		{
+			return Elo.elo(Elo.score(wins, draws, losses));
+		}
+		/**
+		 * Get the 95% confidence interval of the Elo difference of the
+		 * engine against the field.
+		 *
+		 * @return The lower and upper bounds of the interval.
+		 */
+		public double[] interval()
+		{
+			return Elo.interval(wins, draws, losses);
+		}
+		/**
+		 * Get the average time of a move.
+		 *
+		 * @return The average milli-seconds of a move, or <code>0</code> if
+		 * 			no moves were timed.
+		 */
+		public double moveMillis()
+		{
+			return moves == 0? 0: nanos / 1e6 / moves;
+		}
+		/**
+		 * Get the combined {@link SearchStatistics} of the searches.
+		 *
+		 * @return The {@link SearchStatistics}.
+		 */
+		public SearchStatistics search()
+		{
+			return search;
+		}
+	}
+	/**
+	 * The {@code Pairing} class is the result of a pair of engines against
+	 * each other, from the point of view of the first engine.
+	 */
+	public static final class Pairing
+	{
+		/**
+		 * The {@link Result} of the first engine.
+		 */
+		private final Result first;
+		/**
+		 * The {@link Result} of the second engine.
+		 */
+		private final Result second;
+		/**
+		 * The number of wins of the first engine.
+		 */
+		private int wins;
+		/**
+		 * The number of draws.
+		 */
+		private int draws;
+		/**
+		 * The number of losses of the first engine.
+		 */
+		private int losses;
+		/**
+		 * The number of games which were abandoned.
+		 */
+		private int unfinished;
+		/**
+		 * The decision of the {@link Sprt}, as by
+		 * {@link Sprt#decide(int, int, int)}.
+		 */
+		private int decision;
+		/**
+		 * Is <code>true</code> if no more games are started.
+		 */
+		private boolean stopped;
+		/**
+		 * Create a {@code Pairing} of no games.
+		 *
+		 * @param first The {@link Result} of the first engine.
+		 * @param second The {@link Result} of the second engine.
+		 */
+		private Pairing(final Result first, final Result second)
+		{
+			this.first = first;
+			this.second = second;
+		}
+		/**
+		 * Get the first {@link Engine}.
+		 *
+		 * @return The first {@link Engine}.
+		 */
+		public Engine first()
+		{
+			return first.engine;
+		}
+		/**
+		 * Get the second {@link Engine}.
+		 *
+		 * @return The second {@link Engine}.
+		 */
+		public Engine second()
+		{
+			return second.engine;
+		}
+		/**
+		 * Get the number of games which ended.
+		 *
+		 * @return The number of games.
+		 */
+		public int games()
+		{
+			return wins + draws + losses;
+		}
+		/**
+		 * Get the number of wins of the first engine.
+		 *
+		 * @return The number of wins.
+		 */
+		public int wins()
+		{
+			return wins;
+		}
+		/**
+		 * Get the number of draws.
+		 *
+		 * @return The number of draws.
+		 */
+		public int draws()
+		{
+			return draws;
+		}
+		/**
+		 * Get the number of losses of the first engine.
+		 *
+		 * @return The number of losses.
+		 */
+		public int losses()
+		{
+			return losses;
+		}
+		/**
+		 * Get the number of games which ran out of time.
+		 *
+		 * @return The number of abandoned games.
+		 */
+		public int unfinished()
+		{
+			return unfinished;
+		}
+		/**
+		 * Get the Elo difference of the first engine.
+		 *
+		 * @return The Elo difference.
+		 */
+		public double elo()
+		{
+			return Elo.elo(Elo.score(wins, draws, losses));
+		}
+		/**
+		 * Get the 95% confidence interval of the Elo difference of the
+		 * first engine.
+		 *
+		 * @return The lower and upper bounds of the interval.
+		 */
+		public double[] interval()
+		{
+			return Elo.interval(wins, draws, losses);
+		}
+		/**
+		 * Get the decision of the {@link Sprt}.
+		 *
+		 * @return <code>1</code> if the first engine was found stronger,
+		 * 			<code>-1</code> if it was not, or <code>0</code> if there
+		 * 			was no decision.
+		 */
+		public int decision()
+		{
+			return decision;
+		}
+	}
+	/**
+	 * The {@code Standings} class is the result of a tournament.
+	 */
+	public static final class Standings
+	{
+		/**
+		 * The result of each engine.
+		 */
+		private final List<Result> results;
+		/**
+		 * The result of each pair of engines.
+		 */
+		private final List<Pairing> pairings;
+		/**
+		 * The {@link Sprt} of the tournament, or <code>null</code>.
+		 */
+		private final Sprt sprt;
+		/**
+		 * The nano-seconds which the tournament took.
+		 */
+		private final long nanos;
+		/**
+		 * Create the {@code Standings}.
+		 *
+		 * @param results The result of each engine.
+		 * @param pairings The result of each pair of engines.
+		 * @param sprt The {@link Sprt} of the tournament, or
+		 * 			<code>null</code>.
+		 * @param nanos The nano-seconds which the tournament took.
+		 */
+		private Standings(
+				final List<Result> results,
+				final List<Pairing> pairings,
+				final Sprt sprt,
+				final long nanos)
+		{
+			this.results = Collections.unmodifiableList(results);
+			this.pairings = Collections.unmodifiableList(pairings);
+			this.sprt = sprt;
+			this.nanos = nanos;
+		}
+		/**
+		 * Get the result of each engine, in the order of the engines.
+		 *
+		 * @return The unmodifiable {@link List} of {@link Result} objects.
+		 */
+		public List<Result> results()
+		{
+			return results;
+		}
+		/**
+		 * Get the result of each pair of engines.
+		 *
+		 * @return The unmodifiable {@link List} of {@link Pairing} objects.
+		 */
+		public List<Pairing> pairings()
+		{
+			return pairings;
+		}
+		/**
+		 * Get the number of games which ended.
+		 *
+		 * @return The number of games.
+		 */
+		public int games()
+		{
+			int games = 0;
+			for(final Pairing pairing : pairings)
+				games += pairing.games();
+			return games;
+		}
+		/**
+		 * Get the milli-seconds which the tournament took.
+		 *
+		 * @return The elapsed milli-seconds.
+		 */
+		public long millis()
+		{
+			return nanos / 1_000_000;
+		}
+		/**
+		 * Get the {@link String} representation of <code>this</code>
+		 * {@code Standings}, which is a table of the engines followed by a
+		 * table of the pairs.
+		 *
+		 * @return The {@link String} representation.
+		 */
+		@Override
+		public String toString()
+		{
+			final StringBuilder table = new StringBuilder(String.format(
+					"%d games in %.1f s%n%-28s %6s %15s %9s %10s %12s%n",
+					games(),
+					nanos / 1e9,
+					"Engine", "Elo", "95%", "W-D-L", "ms/move", "nps"));
+			for(final Result result : results)
+				table.append(String.format(
+						"%-28s %+6.0f [%+6.0f,%+6.0f] %3d-%d-%d"
+								+ " %10.1f %12.0f%n",
+						result.engine.name,
+						result.elo(),
+						result.interval()[0],
+						result.interval()[1],
+						result.wins,
+						result.draws,
+						result.losses,
+						result.moveMillis(),
+						result.search.nodesPerSecond()));
+			for(final Pairing pairing : pairings)
+			{
+				table.append(String.format(
+						"%s vs %s: %+.0f [%+.0f,%+.0f] %d-%d-%d",
+						pairing.first.engine.name,
+						pairing.second.engine.name,
+						pairing.elo(),
+						pairing.interval()[0],
+						pairing.interval()[1],
+						pairing.wins,
+						pairing.draws,
+						pairing.losses));
+				if(pairing.unfinished != 0)
+					table.append(", ").append(pairing.unfinished)
+							.append(" unfinished");
+				if(sprt != null)
+					table.append(String.format(
+							", LLR %.2f %s",
+							sprt.llr(
+									pairing.wins,
+									pairing.draws,
+									pairing.losses),
+							pairing.decision > 0
+									? "H1 accepted"
+									: pairing.decision < 0
+											? "H0 accepted"
+											: "undecided"));
+				table.append(System.lineSeparator());
+			}
+			return table.toString();
+		}
+	}
+}
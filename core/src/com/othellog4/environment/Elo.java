@@ -0,0 +1,173 @@
+package com.othellog4.environment;
+
+/**
+ * The {@code Elo} class is a collection of the formulas which turn the
+ * results of games into differences of Elo ratings.
+ *
+ * <p>
+ * A result is counted as the number of wins, draws and losses of one
+ * player, where a win scores <code>1</code>, a draw <code>0.5</code> and a
+ * loss <code>0</code>. The variance of a result is measured from the games,
+ * so the intervals and the sequential probability ratio test hold for
+ * engines which draw often as well as for those which rarely draw.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see Arena
+ */
+public final class Elo
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The normal quantile of a two sided 95% confidence interval.
+	 */
+	private static final double Z_95 = 1.959964;
+	/**
+	 * The largest Elo difference which is reported, for a score of
+	 * <code>0</code> or <code>1</code>.
+	 */
+	public static final double MAX = 1200;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Prevent the {@code Elo} class from being instantiated.
+	 */
+	private Elo()
+	{
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Get the expected score of a player who is rated higher by an Elo
+	 * difference.
+	 *
+	 * @param elo The Elo difference.
+	 * @return The expected score, between <code>0</code> and
+	 * 			<code>1</code>.
+	 */
+	public static double score(final double elo)
+	{
+		return 1 / (1 + Math.pow(10, -elo / 400));
+	}
+	/**
+	 * Get the Elo difference of a player with an expected score.
+	 *
+	 * @param score The expected score.
+	 * @return The Elo difference, which is between {@link #MAX} below and
+	 * 			above <code>0</code>.
+	 */
+	public static double elo(final double score)
+	{
+		if(score <= 0)
+			return -MAX;
+		if(score >= 1)
+			return MAX;
+		return Math.max(-MAX, Math.min(
+				MAX,
+				-400 * Math.log10(1 / score - 1)));
+	}
+	/**
+	 * Get the score of a result.
+	 *
+	 * @param wins The number of wins.
+	 * @param draws The number of draws.
+	 * @param losses The number of losses.
+	 * @return The average score of the games, or <code>0.5</code> if there
+	 * 			are no games.
+	 */
+	public static double score(
+			final int wins,
+			final int draws,
+			final int losses)
+	{
+		final int games = wins + draws + losses;
+		return games == 0? 0.5: (wins + draws / 2.0) / games;
+	}
+	/**
+	 * Get the variance of the score of a single game of a result.
+	 *
+	 * @param wins The number of wins.
+	 * @param draws The number of draws.
+	 * @param losses The number of losses.
+	 * @return The variance of the score of a game, or <code>0</code> if
+	 * 			there are no games.
+	 */
+	private static double variance(
+			final int wins,
+			final int draws,
+			final int losses)
+	{
+		final int games = wins + draws + losses;
+		if(games == 0)
+			return 0;
+		final double score = score(wins, draws, losses);
+		return (wins * (1 - score) * (1 - score)
+				+ draws * (0.5 - score) * (0.5 - score)
+				+ losses * score * score) / games;
+	}
+	/**
+	 * Get the 95% confidence interval of the Elo difference of a result.
+	 *
+	 * @param wins The number of wins.
+	 * @param draws The number of draws.
+	 * @param losses The number of losses.
+	 * @return The lower and upper bounds of the interval.
+	 */
+	public static double[] interval(
+			final int wins,
+			final int draws,
+			final int losses)
+	{
+		final int games = wins + draws + losses;
+		if(games == 0)
+			return new double[]{-MAX, MAX};
+		final double score = score(wins, draws, losses);
+		final double error = Z_95
+				* Math.sqrt(variance(wins, draws, losses) / games);
+		return new double[]{elo(score - error), elo(score + error)};
+	}
+	/**
+	 * Get the log-likelihood ratio of a result, of the hypothesis that the
+	 * Elo difference is <code>elo1</code> against the hypothesis that it is
+	 * <code>elo0</code>.
+	 *
+	 * <p>
+	 * The ratio is approximated by normal distributions of the score, with
+	 * the variance which is measured from the games. If every game has the
+	 * same result, the variance is measured as if there were one more game
+	 * with a different result, which is a draw, or a win and a loss if every
+	 * game was drawn, so a sweep still moves the ratio towards a decision.
+	 * </p>
+	 *
+	 * @param wins The number of wins.
+	 * @param draws The number of draws.
+	 * @param losses The number of losses.
+	 * @param elo0 The Elo difference of the null hypothesis.
+	 * @param elo1 The Elo difference of the alternative hypothesis.
+	 * @return The log-likelihood ratio, which is <code>0</code> if there
+	 * 			are no games.
+	 */
+	public static double llr(
+			final int wins,
+			final int draws,
+			final int losses,
+			final double elo0,
+			final double elo1)
+	{
+		final double measured = variance(wins, draws, losses);
+		final double variance = measured > 0
+				? measured
+				: wins + losses == 0
+						? variance(1, draws, 1)
+						: variance(wins, draws + 1, losses);
+		final int games = wins + draws + losses;
+		final double score0 = score(elo0);
+		final double score1 = score(elo1);
+		return games * (score1 - score0)
+				* (2 * score(wins, draws, losses) - score0 - score1)
+				/ (2 * variance);
+	}
+}
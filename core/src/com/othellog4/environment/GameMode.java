@@ -3,6 +3,7 @@ package com.othellog4.environment;
 import com.othellog4.game.extension.FlipCounter;
 import com.othellog4.game.extension.GameExtension;
 import com.othellog4.game.extension.Logger;
+import com.othellog4.game.extension.SearchProfiler;
 import com.othellog4.game.extension.TimeoutTimer;
 import com.othellog4.game.extension.Timer;
 
@@ -12,7 +13,7 @@ import com.othellog4.game.extension.Timer;
  *
  * @author 	159015260 John Berg
  * @since	04/03/2018
- * @version 04/03/2018
+ * @version 18/10/2026
  */
 public enum GameMode
 {
@@ -20,7 +21,8 @@ public enum GameMode
 	 * The {@code GameMode} which is used to help during debugging.
 	 *
 	 * <p>
-	 * Provides a {@link Logger} to log the events of a game.
+	 * Provides a {@link Logger} to log the events of a game, and a
+	 * {@link SearchProfiler} to log the searches of the AI players.
 	 * </p>
 	 */
 	DEBUGGING
@@ -30,7 +32,8 @@ public enum GameMode
 		{
 			return new GameExtension[]
 			{
-					new Logger(System.out::println)
+					new Logger(System.out::println),
+					new SearchProfiler(System.out::println)
 			};
 		}
 	},
@@ -61,7 +64,8 @@ public enum GameMode
 			return new GameExtension[]
 			{
 					new FlipCounter(),
-					new Timer()
+					new Timer(),
+					new SearchProfiler()
 			};
 		}
 	},
@@ -77,7 +81,8 @@ public enum GameMode
 			{
 					new TimeoutTimer(90),
 					new Timer(),
-					new FlipCounter()
+					new FlipCounter(),
+					new SearchProfiler()
 			};
 		}
 	};
@@ -0,0 +1,544 @@
+package com.othellog4.environment;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.othellog4.game.Game;
+import com.othellog4.game.GameConclusion;
+import com.othellog4.game.GameEvent;
+import com.othellog4.game.GameManager;
+import com.othellog4.game.GameSession;
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.player.AutomaticPlayer;
+import com.othellog4.game.player.Participant;
+import com.othellog4.game.player.ai.DelayStrategies;
+import com.othellog4.game.player.ai.EvaluationStrategies;
+import com.othellog4.game.player.ai.EvaluationStrategy;
+import com.othellog4.game.player.ai.SearchStrategies;
+import com.othellog4.game.player.ai.SearchStrategy;
+
+/**
+ * The {@code HeadlessRunner} class plays batches of complete games between
+ * {@link Participant} objects, without any screens.
+ *
+ * <p>
+ * Each game is a {@link Game} with a {@link GameManager} and a
+ * {@link GameSession}, but no {@link com.othellog4.game.GameModel}, so
+ * nothing is rendered and nothing waits for an animation. A number of games
+ * are played at once, and as soon as one game ends the next one is started.
+ * No thread waits for a game: the {@link Participant} objects do their work
+ * on the threads of the {@link Scheduler}, and a game is finished by its
+ * {@link GameEvent#END} event, or by its time limit. The
+ * {@link #play(Supplier, Consumer)} method plays games of any setup, such as
+ * the games of a tournament.
+ * </p>
+ *
+ * <p>
+ * The {@link Participant} objects should not delay their moves. The
+ * {@link #engine(EvaluationStrategy, SearchStrategy)} method creates an
+ * {@link AutomaticPlayer} which does not. The {@link #main(String[])}
+ * method plays a batch from the command line.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public final class HeadlessRunner
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The number of games of {@link #main(String[])}, if none is given.
+	 */
+	private static final int DEFAULT_GAMES = 100;
+	/**
+	 * The milli-seconds which a game of {@link #main(String[])} may take.
+	 */
+	private static final long DEFAULT_TIMEOUT = 10 * 60 * 1000;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The number of games which are played at once.
+	 */
+	private final int concurrency;
+	/**
+	 * The milli-seconds which a game may take before it is abandoned, or
+	 * <code>0</code> if there is no limit.
+	 */
+	private final long timeout;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code HeadlessRunner}.
+	 *
+	 * @param concurrency The number of games which are played at once.
+	 * @param timeout The milli-seconds which a game may take before it is
+	 * 			abandoned, or <code>0</code> if there is no limit.
+	 * @throws IllegalArgumentException If <code>concurrency</code> is not
+	 * 			positive, or <code>timeout</code> is negative.
+	 */
+	public HeadlessRunner(final int concurrency, final long timeout)
+			throws
+			IllegalArgumentException
+	{
+		if(concurrency <= 0 || timeout < 0)
+			throw new IllegalArgumentException();
+		this.concurrency = concurrency;
+		this.timeout = timeout;
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Create an {@link AutomaticPlayer} which plays its moves as soon as it
+	 * has searched for them.
+	 *
+	 * @param eval The {@link EvaluationStrategy} of the player.
+	 * @param search The {@link SearchStrategy} of the player.
+	 * @return The {@link AutomaticPlayer}, which does not ponder.
+	 */
+	public static Participant engine(
+			final EvaluationStrategy eval,
+			final SearchStrategy search)
+	{
+		return new AutomaticPlayer(eval, search, DelayStrategies.WAIT_ZERO_SEC);
+	}
+	/**
+	 * Play a batch of games between two engines, and print the
+	 * {@link Report}.
+	 *
+	 * <p>
+	 * The arguments are the names of the {@link EvaluationStrategies} and
+	 * the {@link SearchStrategies} of the first player, followed by those of
+	 * the second player, and optionally the number of games and the number
+	 * of games which are played at once.
+	 * </p>
+	 *
+	 * @param args The command line arguments.
+	 * @throws InterruptedException If the thread is interrupted while the
+	 * 			games are played.
+	 */
+	public static void main(final String[] args)
+			throws
+			InterruptedException
+	{
+		if(args.length < 4)
+		{
+			System.err.println("Usage: HeadlessRunner <eval1> <search1> "
+					+ "<eval2> <search2> [games] [concurrency]");
+			return;
+		}
+		final Participant player1 = engine(
+				EvaluationStrategies.valueOf(args[0]),
+				SearchStrategies.valueOf(args[1]));
+		final Participant player2 = engine(
+				EvaluationStrategies.valueOf(args[2]),
+				SearchStrategies.valueOf(args[3]));
+		final int games = args.length > 4
+				? Integer.parseInt(args[4])
+				: DEFAULT_GAMES;
+		final int concurrency = args.length > 5
+				? Integer.parseInt(args[5])
+				: Runtime.getRuntime().availableProcessors();
+		System.out.println(new HeadlessRunner(concurrency, DEFAULT_TIMEOUT)
+				.run(() -> player1, () -> player2, games));
+		Scheduler.get().shutdown();
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Play a batch of games, where the players alternate colours.
+	 *
+	 * <p>
+	 * The first player moves first in the even games and second in the odd
+	 * games, so neither player has the advantage of the first move, and the
+	 * {@link Report} is from the point of view of the first player, whatever
+	 * its colour.
+	 * </p>
+	 *
+	 * @param player1 The {@link Supplier} of the first player of each game.
+	 * @param player2 The {@link Supplier} of the second player of each game.
+	 * @param games The number of games to play.
+	 * @return The {@link Report} of the games.
+	 * @throws IllegalArgumentException If <code>games</code> is negative.
+	 * @throws InterruptedException If the thread is interrupted while the
+	 * 			games are played.
+	 */
+	public Report run(
+			final Supplier<? extends Participant> player1,
+			final Supplier<? extends Participant> player2,
+			final int games)
+			throws
+			IllegalArgumentException,
+			InterruptedException
+	{
+		if(games < 0)
+			throw new IllegalArgumentException();
+		final AtomicInteger started = new AtomicInteger();
+		final Tally tally = new Tally();
+		//The Piece of the first player of each game which is being played.
+		final Map<GameManager, Piece> pieces =
+				Collections.synchronizedMap(new IdentityHashMap<>());
+		play(
+				() ->
+				{
+					final int game = started.getAndIncrement();
+					if(game >= games)
+						return null;
+					final boolean swap = game % 2 != 0;
+					final Participant first = player1.get();
+					final Participant second = player2.get();
+					final GameManager manager = new GameManager(
+							new Game(new BitBoard()),
+							swap? second: first,
+							swap? first: second);
+					pieces.put(
+							manager,
+							swap? Piece.player2(): Piece.player1());
+					return manager;
+				},
+				manager -> tally.record(manager, pieces.remove(manager)));
+		return tally.report();
+	}
+	/**
+	 * Play games until there are no more games to play.
+	 *
+	 * <p>
+	 * The <code>games</code> are asked for the next game whenever a game
+	 * finishes, from the thread which finished it, so the games may depend
+	 * on the results so far. A game is finished when it ends, or when it
+	 * runs out of time, in which case its {@link Game} is not over.
+	 * </p>
+	 *
+	 * @param games The {@link Supplier} of the {@link GameManager} of each
+	 * 			game, which has not been started, or <code>null</code> if
+	 * 			there are no more games.
+	 * @param finished The {@link Consumer} which is called with the
+	 * 			{@link GameManager} of each game when it is finished.
+	 * @throws InterruptedException If the thread is interrupted while the
+	 * 			games are played.
+	 */
+	public void play(
+			final Supplier<GameManager> games,
+			final Consumer<GameManager> finished)
+			throws
+			InterruptedException
+	{
+		//Each game is a party, so the phase ends when every game finishes.
+		final Phaser playing = new Phaser(1);
+		for(int i = 0; i < concurrency; ++i)
+			if(!start(games, finished, playing))
+				break;
+		playing.awaitAdvanceInterruptibly(playing.arrive());
+	}
+	/**
+	 * Start the next game, if there are games left to play.
+	 *
+	 * @param games The {@link Supplier} of the {@link GameManager} of each
+	 * 			game.
+	 * @param finished The {@link Consumer} which is called when a game is
+	 * 			finished.
+	 * @param playing The {@link Phaser} which the game is registered with
+	 * 			until it is finished.
+	 * @return <code>true</code> if a game was started.
+	 */
+	private boolean start(
+			final Supplier<GameManager> games,
+			final Consumer<GameManager> finished,
+			final Phaser playing)
+	{
+		final GameManager manager = games.get();
+		if(manager == null)
+			return false;
+		playing.register();
+		final Game game = manager.game();
+		final GameSession session = new GameSession(manager);
+		final AtomicBoolean done = new AtomicBoolean();
+		final Runnable finish = () ->
+		{
+			if(!done.compareAndSet(false, true))
+				return;
+			try
+			{
+				//Stops the participants of a game which ran out of time.
+				session.discard();
+				finished.accept(manager);
+				//The next game is registered before this one leaves.
+				start(games, finished, playing);
+			}
+			finally
+			{
+				playing.arriveAndDeregister();
+			}
+		};
+		final Future<?> limit = timeout > 0
+				? Scheduler.get().delay(finish, timeout)
+				: null;
+		game.addListener(event ->
+		{
+			//The game is finished once its listeners have been notified.
+			if(event == GameEvent.END)
+				Scheduler.get().run(() ->
+				{
+					if(limit != null)
+						limit.cancel(false);
+					finish.run();
+				});
+		});
+		game.start();
+		return true;
+	}
+	//=========================================================================
+	//Inner classes.
+	/**
+	 * The {@code Tally} class counts the results of the games of
+	 * {@link HeadlessRunner#run(Supplier, Supplier, int)}.
+	 */
+	private static final class Tally
+	{
+		/**
+		 * The {@link System#nanoTime()} of the start of the batch.
+		 */
+		private final long start = System.nanoTime();
+		/**
+		 * The number of games won by the first player.
+		 */
+		private int wins;
+		/**
+		 * The number of games won by the second player.
+		 */
+		private int losses;
+		/**
+		 * The number of games which were drawn.
+		 */
+		private int draws;
+		/**
+		 * The number of games which were abandoned.
+		 */
+		private int unfinished;
+		/**
+		 * The sum of the disc differences of the first player.
+		 */
+		private long discs;
+		/**
+		 * Record the result of a finished game.
+		 *
+		 * @param manager The {@link GameManager} of the game which is
+		 * 			finished.
+		 * @param piece The {@link Piece} of the first player in the game.
+		 */
+		private synchronized void record(
+				final GameManager manager,
+				final Piece piece)
+		{
+			final Game game = manager.game();
+			if(!game.isGameOver())
+			{
+				++unfinished;
+				return;
+			}
+			final GameConclusion conclusion = game.getConclusion();
+			final BoardView board = game.getBoard();
+			discs += board.count(piece) - board.count(piece.flip());
+			if(conclusion.isDraw())
+				++draws;
+			else if(conclusion.getWinner() == piece)
+				++wins;
+			else
+				++losses;
+		}
+		/**
+		 * Create the {@link Report} of the games which have been recorded.
+		 *
+		 * @return The {@link Report}.
+		 */
+		private synchronized Report report()
+		{
+			return new Report(
+					wins,
+					losses,
+					draws,
+					unfinished,
+					discs,
+					System.nanoTime() - start);
+		}
+	}
+	/**
+	 * The {@code Report} class is the result of a batch of games, from the
+	 * point of view of the first player.
+	 *
+	 * <p>
+	 * The {@code Report} class is immutable.
+	 * </p>
+	 */
+	public static final class Report
+	{
+		/**
+		 * The number of games won by the first player.
+		 */
+		private final int wins;
+		/**
+		 * The number of games won by the second player.
+		 */
+		private final int losses;
+		/**
+		 * The number of games which were drawn.
+		 */
+		private final int draws;
+		/**
+		 * The number of games which were abandoned.
+		 */
+		private final int unfinished;
+		/**
+		 * The sum of the disc differences of the first player.
+		 */
+		private final long discs;
+		/**
+		 * The nano-seconds which the batch took.
+		 */
+		private final long nanos;
+		/**
+		 * Create a {@code Report}.
+		 *
+		 * @param wins The number of games won by the first player.
+		 * @param losses The number of games won by the second player.
+		 * @param draws The number of games which were drawn.
+		 * @param unfinished The number of games which were abandoned.
+		 * @param discs The sum of the disc differences of the first player.
+		 * @param nanos The nano-seconds which the batch took.
+		 */
+		private Report(
+				final int wins,
+				final int losses,
+				final int draws,
+				final int unfinished,
+				final long discs,
+				final long nanos)
+		{
+			this.wins = wins;
+			this.losses = losses;
+			this.draws = draws;
+			this.unfinished = unfinished;
+			this.discs = discs;
+			this.nanos = nanos;
+		}
+		/**
+		 * Get the number of games which were played, including the games
+		 * which were abandoned.
+		 *
+		 * @return The number of games.
+		 */
+		public int games()
+		{
+			return wins + losses + draws + unfinished;
+		}
+		/**
+		 * Get the number of games won by the first player.
+		 *
+		 * @return The number of wins.
+		 */
+		public int wins()
+		{
+			return wins;
+		}
+		/**
+		 * Get the number of games won by the second player.
+		 *
+		 * @return The number of losses.
+		 */
+		public int losses()
+		{
+			return losses;
+		}
+		/**
+		 * Get the number of games which were drawn.
+		 *
+		 * @return The number of draws.
+		 */
+		public int draws()
+		{
+			return draws;
+		}
+		/**
+		 * Get the number of games which ran out of time before they ended.
+		 *
+		 * @return The number of abandoned games.
+		 */
+		public int unfinished()
+		{
+			return unfinished;
+		}
+		/**
+		 * Get the average disc difference of the first player, over the
+		 * games which ended.
+		 *
+		 * @return The average disc difference.
+		 */
+		public double discDifference()
+		{
+			final int ended = wins + losses + draws;
+			return ended == 0? 0: (double) discs / ended;
+		}
+		/**
+		 * Get the share of the points of the first player, where a draw is
+		 * half a point, over the games which ended.
+		 *
+		 * @return The score, between <code>0</code> and <code>1</code>.
+		 */
+		public double score()
+		{
+			final int ended = wins + losses + draws;
+			return ended == 0? 0.5: (wins + draws / 2.0) / ended;
+		}
+		/**
+		 * Get the milli-seconds which the batch took.
+		 *
+		 * @return The elapsed milli-seconds.
+		 */
+		public long millis()
+		{
+			return nanos / 1_000_000;
+		}
+		/**
+		 * Get the number of games which were finished per second.
+		 *
+		 * @return The games per second.
+		 */
+		public double gamesPerSecond()
+		{
+			return nanos == 0? 0: games() * 1e9 / nanos;
+		}
+		/**
+		 * Get the {@link String} representation of <code>this</code>
+		 * {@code Report}.
+		 *
+		 * @return The {@link String} representation.
+		 */
+		@Override
+		public String toString()
+		{
+			return String.format(
+					"%d games in %.1f s (%.2f games/s): "
+					+ "+%d -%d =%d, %d unfinished, "
+					+ "score %.3f, discs %+.2f",
+					games(),
+					nanos / 1e9,
+					gamesPerSecond(),
+					wins,
+					losses,
+					draws,
+					unfinished,
+					score(),
+					discDifference());
+		}
+	}
+}
@@ -2,6 +2,8 @@ package com.othellog4.environment;
 
 import com.othellog4.game.Game;
 import com.othellog4.game.GameModel;
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.Board;
 import com.othellog4.game.board.GameBoard;
 
 /**
@@ -15,12 +17,16 @@ import com.othellog4.game.board.GameBoard;
  *
  * @author 	159014260 John Berg
  * @since	03/03/2018
- * @version 04/03/2018
+ * @version 18/10/2026
  */
 public final class Launcher
 {
 	//=========================================================================
 	//Static fields.
+	/**
+	 * The <code>int</code> which is the size of the board of a new game.
+	 */
+	private static final int BOARD_SIZE = 8;
 	/**
 	 * The singleton instance of the {@code Launcher} class.
 	 *
@@ -67,9 +73,18 @@ public final class Launcher
 	}
 	/**
 	 * Clear the cached {@link GameModel}.
+	 *
+	 * <p>
+	 * The cleared {@link GameModel} is discarded, as it can no longer be
+	 * resumed.
+	 * </p>
+	 *
+	 * @see GameModel#discard()
 	 */
 	public final synchronized void clear()
 	{
+		if(cachedModel != null)
+			cachedModel.discard();
 		cachedModel = null;
 	}
 	/**
@@ -77,7 +92,8 @@ public final class Launcher
 	 *
 	 * <p>
 	 * The {@code Launcher} only has capacity for one {@link GameModel} and
-	 * will overwrite the currently cached {@link GameModel} if it exists.
+	 * will overwrite the currently cached {@link GameModel} if it exists,
+	 * in which case the overwritten {@link GameModel} is discarded.
 	 * </p>
 	 *
 	 * @param model The {@link GameModel} to cache.
@@ -92,6 +108,8 @@ public final class Launcher
 			throw new NullPointerException();
 		synchronized(this)
 		{
+			if(cachedModel != null && cachedModel != model)
+				cachedModel.discard();
 			cachedModel = model;
 		}
 	}
@@ -117,7 +135,7 @@ public final class Launcher
 		if(!hasCache())
 			throw new IllegalStateException();
 		final GameModel model = cachedModel;
-		clear();
+		cachedModel = null;
 		return model;
 	}
 	/**
@@ -136,14 +154,32 @@ public final class Launcher
 			final PlayerType p2,
 			final GameMode gameMode)
 	{
+		//An AI only ponders on the time of a human, and only in this game.
 		return new GameModel(
-				new Game(new GameBoard(8)),
-				p1.get(),
-				p2.get(),
+				new Game(newBoard(BOARD_SIZE)),
+				p1.get(p2 == PlayerType.USER),
+				p2.get(p1 == PlayerType.USER),
 				gameMode.get());
 	}
 	//=========================================================================
 	//Static methods.
+	/**
+	 * Create the {@link Board} for a new game of a specified size.
+	 *
+	 * <p>
+	 * Games of the standard size are played on a {@link BitBoard}, which is
+	 * faster than a {@link GameBoard}. Other sizes use a {@link GameBoard}.
+	 * </p>
+	 *
+	 * @param size The width and height of the board.
+	 * @return The {@link Board} of the new game.
+	 */
+	private static Board newBoard(final int size)
+	{
+		return size == BitBoard.SIZE
+				? new BitBoard()
+				: new GameBoard(size);
+	}
 	/**
 	 * Get the instance of the {@code Launcher} class.
 	 *
@@ -5,6 +5,7 @@ import com.othellog4.game.player.Participant;
 import com.othellog4.game.player.Player;
 import com.othellog4.game.player.ai.DelayStrategies;
 import com.othellog4.game.player.ai.EvaluationStrategies;
+import com.othellog4.game.player.ai.OpeningBook;
 import com.othellog4.game.player.ai.SearchStrategies;
 
 /**
@@ -13,7 +14,7 @@ import com.othellog4.game.player.ai.SearchStrategies;
  *
  * @author 	159014260 John Berg
  * @since 	03/03/2018
- * @version 03/03/2018
+ * @version 18/10/2026
  */
 public enum PlayerType
 {
@@ -82,22 +83,60 @@ public enum PlayerType
 	 *
 	 * <p>
 	 * Provides access to a shared instance of an {@link AutomaticPlayer}
-	 * object.
+	 * object, which plays the openings of the {@link OpeningBook#shared()}
+	 * book. The shared instance does not ponder, as it may play many games
+	 * at once; a game which wants it to ponder gets its own copy from
+	 * {@link #get(boolean)}.
 	 * </p>
 	 */
 	AI_HARD
 	{
-		private final Participant ai = new AutomaticPlayer(
+		private final AutomaticPlayer ai = new AutomaticPlayer(
 				EvaluationStrategies.COUNT,
-				SearchStrategies.MINIMAX,
-				DelayStrategies.WAIT_ONE_SEC);
+				SearchStrategies.ENDGAME,
+				DelayStrategies.WAIT_ONE_SEC,
+				false,
+				OpeningBook.shared());
 		@Override
 		final Participant get()
 		{
 			return ai;
 		}
+		@Override
+		final Participant get(final boolean ponder)
+		{
+			return ponder? ai.withPondering(true): ai;
+		}
 	};
 	//=========================================================================
+	//Methods.
+	/**
+	 * Get the {@link Participant} object which is corresponding to the
+	 * {@code PlayerType} object, which ponders on the time of the opponent
+	 * if it is able to.
+	 *
+	 * <p>
+	 * Package private to only allow certain classes to access this method.
+	 * </p>
+	 *
+	 * <p>
+	 * A {@code PlayerType} which ponders returns a new {@link Participant}
+	 * object when <code>ponder</code> is <code>true</code>, so the pondering
+	 * belongs to a single game. Other {@code PlayerType} objects return the
+	 * same {@link Participant} as {@link #get()}.
+	 * </p>
+	 *
+	 * @param ponder <code>true</code> if the {@link Participant} should
+	 * 			ponder.
+	 * @return The {@link Participant} which corresponds to the
+	 * 			{@code PlayerType} object.
+	 * @see #get()
+	 */
+	Participant get(final boolean ponder)
+	{
+		return get();
+	}
+	//=========================================================================
 	//Abstract methods.
 	/**
 	 * Get the {@link Participant} object which is corresponding to the
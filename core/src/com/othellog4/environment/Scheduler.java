@@ -1,5 +1,17 @@
 package com.othellog4.environment;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
@@ -13,14 +25,43 @@ import java.util.function.Consumer;
  * {@code Scheduler} class.
  * </p>
  *
+ * <p>
+ * The tasks are run by a shared pool of worker threads, rather than a new
+ * thread for each task. A delayed task does not hold a thread while it
+ * waits: a single timer thread hands each task to the workers when its delay
+ * has elapsed. The pool has {@link #WORKERS_PROPERTY} threads, or twice the
+ * number of available processors if it is not set, and if the
+ * {@link #VIRTUAL_PROPERTY} is <code>true</code> and the JVM supports
+ * virtual threads, each task is run by a new virtual thread instead. Every
+ * thread is a named daemon thread, so the {@code Scheduler} never keeps the
+ * JVM alive.
+ * </p>
+ *
  * @author	159014260 John Berg
  * @since 	14/02/2018
- * @version 16/02/2018
+ * @version 18/10/2026
  */
 public class Scheduler
 {
 	//=========================================================================
 	//Static fields.
+	/**
+	 * The name of the system property of the number of worker threads.
+	 */
+	public static final String WORKERS_PROPERTY = "othello.scheduler.workers";
+	/**
+	 * The name of the system property which selects virtual threads, when
+	 * the JVM supports them.
+	 */
+	public static final String VIRTUAL_PROPERTY = "othello.scheduler.virtual";
+	/**
+	 * The least number of worker threads of the default pool.
+	 */
+	private static final int MIN_WORKERS = 4;
+	/**
+	 * The prefix of the names of the threads.
+	 */
+	private static final String THREAD_PREFIX = "othello-scheduler-";
 	/**
 	 * The instance of {@code Scheduler} which is the only instance to be
 	 * allowed.
@@ -35,6 +76,22 @@ public class Scheduler
 	 */
 	private static Scheduler instance;
 	//=========================================================================
+	//Fields.
+	/**
+	 * The {@link ScheduledExecutorService} which waits for the delay of each
+	 * task, and hands the task to the {@link #workers}.
+	 */
+	private final ScheduledExecutorService timer;
+	/**
+	 * The {@link ExecutorService} which runs the tasks.
+	 */
+	private final ExecutorService workers;
+	/**
+	 * Is <code>true</code> if the {@link #workers} run each task by a
+	 * virtual thread.
+	 */
+	private final boolean virtual;
+	//=========================================================================
 	//Constructor.
 	/**
 	 * Construct a {@code Scheduler} object.
@@ -49,6 +106,50 @@ public class Scheduler
 	 */
 	private Scheduler()
 	{
+		this(
+				Integer.getInteger(WORKERS_PROPERTY, Math.max(
+						MIN_WORKERS,
+						2 * Runtime.getRuntime().availableProcessors())),
+				Boolean.getBoolean(VIRTUAL_PROPERTY));
+	}
+	/**
+	 * Construct a {@code Scheduler} object which is not shared.
+	 *
+	 * <p>
+	 * For testing only!
+	 * </p>
+	 *
+	 * @param workers The number of worker threads, if the threads are not
+	 * 			virtual.
+	 * @param virtual <code>true</code> to run each task by a virtual
+	 * 			thread, if the JVM supports them.
+	 * @throws IllegalArgumentException If <code>workers</code> is not
+	 * 			positive.
+	 */
+	Scheduler(final int workers, final boolean virtual)
+			throws
+			IllegalArgumentException
+	{
+		if(workers <= 0)
+			throw new IllegalArgumentException();
+		final ScheduledThreadPoolExecutor timer =
+				new ScheduledThreadPoolExecutor(1, threads("timer-"));
+		//A cancelled delay does not stay in the queue until it would run.
+		timer.setRemoveOnCancelPolicy(true);
+		this.timer = timer;
+		final ExecutorService virtualWorkers = virtual
+				? virtualThreads()
+				: null;
+		this.virtual = virtualWorkers != null;
+		this.workers = virtualWorkers != null
+				? virtualWorkers
+				: new ThreadPoolExecutor(
+						workers,
+						workers,
+						0,
+						TimeUnit.MILLISECONDS,
+						new LinkedBlockingQueue<>(),
+						threads("worker-"));
 	}
 	//=========================================================================
 	//Methods.
@@ -56,10 +157,11 @@ public class Scheduler
 	 * Run a {@link Runnable} object from the {@code Scheduler}.
 	 *
 	 * @param task The {@link Runnable} object to be executed.
+	 * @return The {@link Future} of the <code>task</code>.
 	 */
-	public final void run(final Runnable task)
+	public final Future<?> run(final Runnable task)
 	{
-		delay(task, 0);
+		return delay(task, 0);
 	}
 	/**
 	 * Run a {@link Runnable} object from the {@code Scheduler}.
@@ -67,12 +169,13 @@ public class Scheduler
 	 * @param task The {@link Runnable} object to be executed.
 	 * @param onThrow The {@link Consumer} object called if a {@link Throwable}
 	 * 			object is thrown.
+	 * @return The {@link Future} of the <code>task</code>.
 	 */
-	public final void run(
+	public final Future<?> run(
 			final Runnable task,
-			final Consumer<Throwable> noThrow)
+			final Consumer<Throwable> onThrow)
 	{
-		delay(task, 0, noThrow);
+		return delay(task, 0, onThrow);
 	}
 	/**
 	 * Schedule the execution of a {@link Runnable} object by a specified
@@ -81,40 +184,136 @@ public class Scheduler
 	 * @param task The {@link Runnable} object to run.
 	 * @param delay The <code>long</code> value which represents the delay in
 	 * 			mili-seconds.
+	 * @return The {@link Future} of the <code>task</code>.
 	 */
-	public final void delay(
+	public final Future<?> delay(
 			final Runnable task,
 			final long delay)
 	{
-		delay(task, delay, Throwable::printStackTrace);
+		return delay(task, delay, Throwable::printStackTrace);
 	}
 	/**
 	 * Schedule the execution of a {@link Runnable} object by a specified
 	 * delay amount.
 	 *
+	 * <p>
+	 * Cancelling the returned {@link Future} before the delay has elapsed
+	 * prevents the <code>task</code> from running. If the {@code Scheduler}
+	 * has been shut down, the <code>task</code> never runs, and
+	 * <code>onThrow</code> is called with a
+	 * {@link RejectedExecutionException}.
+	 * </p>
+	 *
 	 * @param task The {@link Runnable} object to run.
 	 * @param delay The <code>long</code> value which represents the delay in
 	 * 			mili-seconds.
 	 * @param onThrow The {@link Consumer} object called if a {@link Throwable}
 	 * 			object is thrown.
+	 * @return The {@link Future} of the <code>task</code>, or of its delay.
 	 */
-	public final void delay(
+	public final Future<?> delay(
 			final Runnable task,
 			final long delay,
 			final Consumer<Throwable> onThrow)
 	{
-		new Thread(() ->
+		final Runnable guarded = () ->
 		{
 			try
 			{
-				Thread.sleep(delay);
 				task.run();
 			}
 			catch (final Throwable e)
 			{
 				onThrow.accept(e);
 			}
-		}).start();
+		};
+		try
+		{
+			return delay <= 0
+					? workers.submit(guarded)
+					: timer.schedule(
+							() -> submit(guarded, onThrow),
+							delay,
+							TimeUnit.MILLISECONDS);
+		}
+		catch (final RejectedExecutionException e)
+		{
+			onThrow.accept(e);
+			//The task never runs, so its Future is already cancelled.
+			final FutureTask<?> rejected = new FutureTask<>(task, null);
+			rejected.cancel(false);
+			return rejected;
+		}
+	}
+	/**
+	 * Hand a task to the workers once its delay has elapsed.
+	 *
+	 * @param task The {@link Runnable} object to run.
+	 * @param onThrow The {@link Consumer} object called if the task is
+	 * 			rejected.
+	 */
+	private void submit(
+			final Runnable task,
+			final Consumer<Throwable> onThrow)
+	{
+		try
+		{
+			workers.execute(task);
+		}
+		catch (final RejectedExecutionException e)
+		{
+			onThrow.accept(e);
+		}
+	}
+	/**
+	 * Check if the tasks are run by virtual threads.
+	 *
+	 * @return <code>true</code> if each task is run by a new virtual thread,
+	 * 			or <code>false</code> if they are run by the pool of worker
+	 * 			threads.
+	 */
+	public final boolean isVirtual()
+	{
+		return virtual;
+	}
+	/**
+	 * Check if <code>this</code> {@code Scheduler} has been shut down.
+	 *
+	 * @return <code>true</code> if {@link #shutdown()} has been called.
+	 */
+	public final boolean isShutdown()
+	{
+		return workers.isShutdown();
+	}
+	/**
+	 * Shut down <code>this</code> {@code Scheduler}.
+	 *
+	 * <p>
+	 * The tasks which are running, or whose delay has elapsed, are allowed
+	 * to finish, but the tasks which are still delayed are discarded, and no
+	 * new tasks are accepted. After the shared {@code Scheduler} is shut
+	 * down, {@link #get()} creates a new one.
+	 * </p>
+	 */
+	public final void shutdown()
+	{
+		timer.shutdownNow();
+		workers.shutdown();
+	}
+	/**
+	 * Wait for the tasks of <code>this</code> {@code Scheduler} to finish,
+	 * after it has been shut down.
+	 *
+	 * @param millis The most milli-seconds to wait.
+	 * @return <code>true</code> if every task has finished, or
+	 * 			<code>false</code> if the time ran out first.
+	 * @throws InterruptedException If the waiting thread is interrupted.
+	 */
+	public final boolean awaitTermination(final long millis)
+			throws
+			InterruptedException
+	{
+		return workers.awaitTermination(millis, TimeUnit.MILLISECONDS);
 	}
 	//=========================================================================
 	//Static methods.
@@ -133,8 +332,62 @@ public class Scheduler
 	 */
 	public static final synchronized Scheduler get()
 	{
-		return instance == null
+		return instance == null || instance.isShutdown()
 				?instance = new Scheduler()
 				:instance;
 	}
+	/**
+	 * Create a {@link ThreadFactory} of named daemon threads.
+	 *
+	 * @param role The part of the names of the threads which describes
+	 * 			their role.
+	 * @return The {@link ThreadFactory}.
+	 */
+	private static ThreadFactory threads(final String role)
+	{
+		final AtomicInteger count = new AtomicInteger();
+		return task ->
+		{
+			final Thread thread = new Thread(
+					task,
+					THREAD_PREFIX + role + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+	/**
+	 * Create an {@link ExecutorService} which runs each task by a new named
+	 * virtual thread.
+	 *
+	 * <p>
+	 * Virtual threads are found by reflection, so the code still runs on
+	 * JVMs which do not support them. Virtual threads are always daemon
+	 * threads.
+	 * </p>
+	 *
+	 * @return The {@link ExecutorService}, or <code>null</code> if the JVM
+	 * 			does not support virtual threads.
+	 */
+	private static ExecutorService virtualThreads()
+	{
+		try
+		{
+			final Object builder = Thread.class
+					.getMethod("ofVirtual")
+					.invoke(null);
+			final Class<?> type = Class.forName("java.lang.Thread$Builder");
+			type.getMethod("name", String.class, long.class)
+					.invoke(builder, THREAD_PREFIX + "virtual-", 1L);
+			final ThreadFactory factory = (ThreadFactory) type
+					.getMethod("factory")
+					.invoke(builder);
+			return (ExecutorService) Executors.class
+					.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+					.invoke(null, factory);
+		}
+		catch (final ReflectiveOperationException | RuntimeException e)
+		{
+			return null;
+		}
+	}
 }
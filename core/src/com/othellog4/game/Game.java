@@ -3,6 +3,7 @@ package com.othellog4.game;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import com.othellog4.game.board.Board;
 import com.othellog4.game.board.BoardView;
 import com.othellog4.game.board.GameBoard;
 import com.othellog4.game.board.InvalidMoveException;
@@ -57,11 +58,11 @@ public class Game
 	 */
 	private int turn;
 	/**
-	 * The {@link GameBoard} of <code>this</code> game.
+	 * The {@link Board} of <code>this</code> game.
 	 *
-	 * @see GameBoard
+	 * @see Board
 	 */
-	private final GameBoard board;
+	private final Board board;
 	/**
 	 * The {@link Piece} object which represents the {@link Piece} of the
 	 * current player.
@@ -99,7 +100,7 @@ public class Game
 	//=========================================================================
 	//Constructors.
 	/**
-	 * Create a {@code Game} object by specifying a {@link GameBoard} that
+	 * Create a {@code Game} object by specifying a {@link Board} that
 	 * a {@code Game} should be played on.
 	 *
 	 * <p>
@@ -107,12 +108,12 @@ public class Game
 	 * {@link Piece#PIECE_A} should go first.
 	 * </p>
 	 *
-	 * @param board The {@link GameBoard} for <code>this</code> game.
+	 * @param board The {@link Board} for <code>this</code> game.
 	 * @throws NullPointerException If <code>board</code> is
 	 * 			<code>null</code>.
-	 * @see GameBoard
+	 * @see Board
 	 */
-	public Game(final GameBoard board)
+	public Game(final Board board)
 			throws
 			NullPointerException
 	{
@@ -120,7 +121,7 @@ public class Game
 		this(board, Piece.PIECE_A);
 	}
 	/**
-	 * Create a {@code Game} by with a specific {@link GameBoard} and the
+	 * Create a {@code Game} by with a specific {@link Board} and the
 	 * {@link Piece} which current turn it is.
 	 *
 	 * <p>
@@ -129,17 +130,17 @@ public class Game
 	 * {@link GameBoard} and non-fixed first players.
 	 * </p>
 	 *
-	 * @param board The {@link GameBoard} which will be used to play the
+	 * @param board The {@link Board} which will be used to play the
 	 * 			{@link Game}.
 	 * @param currentPiece The {@link Piece} for which player's turn it
 	 * 			currently is.
 	 * @throws NullPointerException If either <code>board</code> or
 	 * 			<code>currentPiece</code> is <code>null</code>.
-	 * @see GameBoard
+	 * @see Board
 	 * @see Piece
 	 */
 	public Game(
-			final GameBoard board,
+			final Board board,
 			final Piece currentPiece)
 			throws
 			NullPointerException
@@ -148,7 +149,7 @@ public class Game
 		this(board, currentPiece, FIRST_TURN);
 	}
 	/**
-	 * Create a {@code Game} by with a specific {@link GameBoard} and the
+	 * Create a {@code Game} by with a specific {@link Board} and the
 	 * {@link Piece} which current turn it is.
 	 *
 	 * <p>
@@ -157,18 +158,18 @@ public class Game
 	 * {@link GameBoard} and non-fixed first players.
 	 * </p>
 	 *
-	 * @param board The {@link GameBoard} which will be used to play the
+	 * @param board The {@link Board} which will be used to play the
 	 * 			{@link Game}.
 	 * @param currentPiece The {@link Piece} for which player's turn it
 	 * 			currently is.
 	 * @param turn The current turn of the {@code Game}.
 	 * @throws NullPointerException If either <code>board</code> or
 	 * 			<code>currentPiece</code> is <code>null</code>.
-	 * @see GameBoard
+	 * @see Board
 	 * @see Piece
 	 */
 	public Game(
-			final GameBoard board,
+			final Board board,
 			final Piece currentPiece,
 			final int turn)
 			throws
@@ -204,7 +205,7 @@ public class Game
 	{
 		if(isGameOver())
 			update(GameEvent.END);
-		else if(!board.legalMoves(current.flip()).isEmpty())
+		else if(board.mobility(current.flip()) != 0)
 		{
 			current = current.flip();
 			++turn;
@@ -272,6 +272,22 @@ public final class GameManager
 	{
 		return game;
 	}
+	/**
+	 * Get the first {@link GameExtension} object of a specified type which
+	 * is managed by <code>this</code> {@code GameManager}.
+	 *
+	 * @param type The {@link Class} of the {@link GameExtension}.
+	 * @return The {@link Optional} {@link GameExtension} which is an
+	 * 			instance of <code>type</code>.
+	 */
+	public final <T extends GameExtension> Optional<T> extension(
+			final Class<T> type)
+	{
+		return extensions.stream()
+				.filter(type::isInstance)
+				.map(type::cast)
+				.findFirst();
+	}
 	/**
 	 * Get the {@link GameResult} objects from the {@link GameExtension}
 	 * objects for a specified {@link Piece} object, managed by
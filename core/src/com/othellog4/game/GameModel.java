@@ -25,7 +25,7 @@ import com.othellog4.game.player.Player;
  *
  * @author 	159014260 John Berg
  * @since 	01/12/2017
- * @version 16/03/2018
+ * @version 18/10/2026
  */
 public class GameModel extends Observable
 {
@@ -39,6 +39,11 @@ public class GameModel extends Observable
 	 * @see GameManager
 	 */
 	private final GameManager manager;
+	/**
+	 * The {@link GameSession} through which the {@link Participant} objects
+	 * play the game.
+	 */
+	private final GameSession session;
 	//=========================================================================
 	//Constructors.
 	/**
@@ -66,7 +71,7 @@ public class GameModel extends Observable
 			final GameExtension... extensions)
 	{
 		manager = new GameManager(game, player1, player2, extensions);
-		new GameSession(manager);
+		session = new GameSession(manager);
 		manager.game().addListener(this::update);
 	}
 	//=========================================================================
@@ -241,6 +246,21 @@ public class GameModel extends Observable
 		if(manager.current().getControl().isPresent())
 			manager.game().surrender(manager.game().getCurrent());
 	}
+	/**
+	 * Discard <code>this</code> {@code GameModel} when it will no longer be
+	 * played.
+	 *
+	 * <p>
+	 * Any work which the {@link Participant} objects are doing in the
+	 * background, such as an AI searching for a move, is stopped.
+	 * </p>
+	 *
+	 * @see GameSession#discard()
+	 */
+	public final void discard()
+	{
+		session.discard();
+	}
 	/**
 	 * Issue a command to attempt to place a {@link Piece} object at a
 	 * specified location.
@@ -1,9 +1,16 @@
 package com.othellog4.game;
 
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
 import com.othellog4.game.board.BoardView;
 import com.othellog4.game.board.GameBoard;
 import com.othellog4.game.board.Piece;
 import com.othellog4.game.command.GameCommand;
+import com.othellog4.game.extension.GameExtension;
+import com.othellog4.game.extension.TimeoutTimer;
 import com.othellog4.game.player.Participant;
 
 /**
@@ -35,9 +42,17 @@ import com.othellog4.game.player.Participant;
  * the current player to make certain decisions.
  * </p>
  *
+ * <p>
+ * A {@link Participant} which works in the background, such as an AI which
+ * is searching for a move, can register an interrupt with the
+ * {@code GameSession}. The interrupts are run when the game is paused or
+ * ends, and when the {@code GameSession} is discarded, so that the work is
+ * stopped as soon as its result is no longer needed.
+ * </p>
+ *
  * @author 	15901426 John Berg
  * @since 	20/11/2017
- * @version 04/03/2018
+ * @version 18/10/2026
  * @see Game
  * @see Participant
  * @see Piece
@@ -52,6 +67,16 @@ public final class GameSession
 	 * {@link Participant} and {@link Piece} objects.
 	 */
 	private final GameManager manager;
+	/**
+	 * The interrupts which are run when the work of the {@link Participant}
+	 * objects is no longer needed.
+	 */
+	private final Set<Runnable> interrupts;
+	/**
+	 * The flag which is set when <code>this</code> {@code GameSession} has
+	 * been discarded.
+	 */
+	private volatile boolean discarded;
 	//=========================================================================
 	//Constructors.
 	/**
@@ -74,6 +99,8 @@ public final class GameSession
 		if(manager == null)
 			throw new NullPointerException();
 		this.manager = manager;
+		interrupts = new CopyOnWriteArraySet<>();
+		discarded = false;
 		this.manager.game().addListener(this::notifyCurrent);
 	}
 	//=========================================================================
@@ -90,6 +117,80 @@ public final class GameSession
 	{
 		if(event == GameEvent.STANDBY)
 			manager.current().notifyTurn(this);
+		else if(event == GameEvent.PAUSED || event == GameEvent.END)
+			interrupt();
+	}
+	/**
+	 * Run and remove all the interrupts of <code>this</code>
+	 * {@code GameSession}.
+	 *
+	 * <p>
+	 * <b>For internal use only!</b>
+	 * </p>
+	 */
+	private void interrupt()
+	{
+		for(final Runnable task: interrupts)
+			if(interrupts.remove(task))
+				task.run();
+	}
+	/**
+	 * Add an interrupt to <code>this</code> {@code GameSession}, which is run
+	 * once, when the game is paused or ends, or when <code>this</code>
+	 * {@code GameSession} is discarded.
+	 *
+	 * <p>
+	 * If <code>this</code> {@code GameSession} has already been discarded,
+	 * then the interrupt is run immediately.
+	 * </p>
+	 *
+	 * @param task The {@link Runnable} object which is run on an interrupt.
+	 * @throws NullPointerException If <code>task</code> is
+	 * 			<code>null</code>.
+	 */
+	public final void addInterrupt(final Runnable task)
+			throws
+			NullPointerException
+	{
+		if(task == null)
+			throw new NullPointerException();
+		interrupts.add(task);
+		if(discarded)
+			interrupt();
+	}
+	/**
+	 * Remove an interrupt from <code>this</code> {@code GameSession}, if it
+	 * has not been run yet.
+	 *
+	 * @param task The {@link Runnable} object to remove.
+	 */
+	public final void removeInterrupt(final Runnable task)
+	{
+		interrupts.remove(task);
+	}
+	/**
+	 * Discard <code>this</code> {@code GameSession}, which runs all of its
+	 * interrupts.
+	 *
+	 * <p>
+	 * Once discarded, no more moves should be made in <code>this</code>
+	 * {@code GameSession}.
+	 * </p>
+	 */
+	public final void discard()
+	{
+		discarded = true;
+		interrupt();
+	}
+	/**
+	 * Check if <code>this</code> {@code GameSession} has been discarded.
+	 *
+	 * @return <code>true</code> if {@link #discard()} has been called,
+	 * 			otherwise, returns <code>false</code>.
+	 */
+	public final boolean isDiscarded()
+	{
+		return discarded;
 	}
 	/**
 	 * Accept a {@link GameCommand} to be executed on the {@link Game} in
@@ -141,4 +242,35 @@ public final class GameSession
 	{
 		return manager.game().getCurrent();
 	}
+	/**
+	 * Get the first {@link GameExtension} object of a specified type which
+	 * is included in the game.
+	 *
+	 * @param type The {@link Class} of the {@link GameExtension}.
+	 * @return The {@link Optional} {@link GameExtension} which is an
+	 * 			instance of <code>type</code>.
+	 */
+	public final <T extends GameExtension> Optional<T> extension(
+			final Class<T> type)
+	{
+		return manager.extension(type);
+	}
+	/**
+	 * Get the number of milliseconds which the current player has left on
+	 * the clock.
+	 *
+	 * <p>
+	 * The clock is only present if a {@link TimeoutTimer} is included in the
+	 * game.
+	 * </p>
+	 *
+	 * @return The {@link OptionalLong} remaining milliseconds of the current
+	 * 			{@link Piece}.
+	 */
+	public final OptionalLong timeRemaining()
+	{
+		return extension(TimeoutTimer.class)
+				.map(t -> OptionalLong.of(t.remaining(current())))
+				.orElse(OptionalLong.empty());
+	}
 }
\ No newline at end of file
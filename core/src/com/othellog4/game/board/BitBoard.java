@@ -0,0 +1,521 @@
+package com.othellog4.game.board;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The {@code BitBoard} class is an implementation of the standard 8x8 board,
+ * where each side of the board is stored as a <code>long</code> mask.
+ *
+ * <p>
+ * The {@code BitBoard} behaves the same as a {@link GameBoard} of size
+ * <code>8</code>, but finds legal moves and flips for all directions at once
+ * using the operations of {@link BoardMasks}, rather than walking the board
+ * square by square.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see Board
+ * @see GameBoard
+ */
+public final class BitBoard implements Board, Cloneable, Serializable
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The width and height of every {@code BitBoard}.
+	 */
+	public static final int SIZE = BoardMasks.SIZE;
+	/**
+	 * Serial ID.
+	 */
+	private static final long serialVersionUID = 2795186338441367702L;
+	/**
+	 * The {@link String} message for when a prebuilt grid is not 8x8.
+	 */
+	private static final String INVALID_SIZE = "A BitBoard must be 8x8";
+	//=========================================================================
+	//Fields.
+	/**
+	 * The mask of the squares occupied by {@link Piece#PIECE_A}.
+	 */
+	private long maskA;
+	/**
+	 * The mask of the squares occupied by {@link Piece#PIECE_B}.
+	 */
+	private long maskB;
+	/**
+	 * The bit index of the square of the last placed {@link Piece}.
+	 *
+	 * <p>
+	 * Is <code>-1</code> if there has been no {@link Piece} objects placed.
+	 * </p>
+	 */
+	private int lastMove;
+	/**
+	 * The mask of the {@link Piece} objects which were flipped by the last
+	 * placed {@link Piece}.
+	 */
+	private long lastFlips;
+	/**
+	 * The {@link Zobrist} hash of <code>this</code> {@code BitBoard}.
+	 */
+	private long hash;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code BitBoard} object in the starting state of a game.
+	 */
+	public BitBoard()
+	{
+		this(
+				bit(3, 3) | bit(4, 4),
+				bit(4, 3) | bit(3, 4));
+	}
+	/**
+	 * Create a {@code BitBoard} object from a grid of {@link Piece} objects.
+	 *
+	 * <p>
+	 * The grid is indexed by column, and then by row, the same as the grid
+	 * given to {@link GameBoard#GameBoard(Piece[][])}.
+	 * </p>
+	 *
+	 * @param prebuilt The 8x8 grid of {@link Piece} objects, where empty
+	 * 			squares are <code>null</code>.
+	 * @throws IllegalArgumentException If <code>prebuilt</code> is not 8x8.
+	 */
+	public BitBoard(final Piece[][] prebuilt)
+			throws
+			IllegalArgumentException
+	{
+		if(prebuilt.length != SIZE)
+			throw new IllegalArgumentException(INVALID_SIZE);
+		for(int col = 0; col < SIZE; ++col)
+		{
+			if(prebuilt[col].length != SIZE)
+				throw new IllegalArgumentException(INVALID_SIZE);
+			for(int row = 0; row < SIZE; ++row)
+				if(prebuilt[col][row] == Piece.PIECE_A)
+					maskA |= bit(col, row);
+				else if(prebuilt[col][row] == Piece.PIECE_B)
+					maskB |= bit(col, row);
+		}
+		lastMove = -1;
+		hash = Zobrist.hash(maskA, maskB);
+	}
+	/**
+	 * Create a {@code BitBoard} object from the masks of both sides.
+	 *
+	 * @param maskA The mask of the squares occupied by {@link Piece#PIECE_A}.
+	 * @param maskB The mask of the squares occupied by {@link Piece#PIECE_B}.
+	 * @throws IllegalArgumentException If <code>maskA</code> and
+	 * 			<code>maskB</code> share a square.
+	 */
+	public BitBoard(final long maskA, final long maskB)
+			throws
+			IllegalArgumentException
+	{
+		if((maskA & maskB) != 0)
+			throw new IllegalArgumentException();
+		this.maskA = maskA;
+		this.maskB = maskB;
+		lastMove = -1;
+		hash = Zobrist.hash(maskA, maskB);
+	}
+	/**
+	 * Copy constructor.
+	 *
+	 * @param board The {@code BitBoard} to copy.
+	 */
+	public BitBoard(final BitBoard board)
+	{
+		maskA = board.maskA;
+		maskB = board.maskB;
+		lastMove = board.lastMove;
+		lastFlips = board.lastFlips;
+		hash = board.hash;
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Get the mask of the squares occupied by a {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} object.
+	 * @return The mask of the squares occupied by <code>piece</code>.
+	 * @throws NullPointerException If <code>piece</code> is
+	 * 			<code>null</code>.
+	 */
+	@Override
+	public long mask(final Piece piece)
+			throws
+			NullPointerException
+	{
+		switch(piece)
+		{
+		case PIECE_A:
+			return maskA;
+		default:
+			return maskB;
+		}
+	}
+	/**
+	 * Check if a specified location is a valid position on a
+	 * {@code BitBoard}.
+	 *
+	 * @param col The column index.
+	 * @param row The row index.
+	 * @return <code>true</code> if and only if <code>col</code> and
+	 * 			<code>row</code> are between <code>0</code> and
+	 * 			{@link #SIZE}, otherwise, returns <code>false</code>.
+	 */
+	private static boolean onBoard(final int col, final int row)
+	{
+		return 0 <= col && col < SIZE && 0 <= row && row < SIZE;
+	}
+	/**
+	 * Get the mask of a single square.
+	 *
+	 * @param col The column index.
+	 * @param row The row index.
+	 * @return The mask with only the bit of the square set.
+	 */
+	private static long bit(final int col, final int row)
+	{
+		return 1L << BoardMasks.index(col, row);
+	}
+	/**
+	 * Place a {@link Piece} object at a specified {@link Position} and flip
+	 * the captured {@link Piece} objects.
+	 *
+	 * @param position The {@link Position} to place the <code>piece</code>.
+	 * @param piece The {@link Piece} object to place.
+	 * @throws InvalidMoveException If <code>piece</code> cannot be placed at
+	 * 			<code>position</code>.
+	 */
+	@Override
+	public void put(final Position position, final Piece piece)
+			throws
+			InvalidMoveException
+	{
+		if(!onBoard(position.col, position.row))
+			throw new InvalidMoveException(position, piece);
+		final int square = BoardMasks.index(position.col, position.row);
+		final long flips = BoardMasks.flips(
+				mask(piece),
+				mask(piece.flip()),
+				square);
+		if(flips == 0)
+			throw new InvalidMoveException(position, piece);
+		apply(square, flips, piece);
+	}
+	/**
+	 * Flip the {@link Piece} objects which would be captured by placing a
+	 * {@link Piece} at a specified location, without placing the
+	 * {@link Piece} itself.
+	 *
+	 * @param x The column index.
+	 * @param y The row index.
+	 * @param piece The {@link Piece} which captures.
+	 */
+	public void flip(final int x, final int y, final Piece piece)
+	{
+		final int square = BoardMasks.index(x, y);
+		final long flips = onBoard(x, y)
+				? BoardMasks.flips(mask(piece), mask(piece.flip()), square)
+				: 0;
+		maskA ^= flips;
+		maskB ^= flips;
+		hash ^= Zobrist.flip(flips);
+		lastMove = square;
+		lastFlips = flips;
+	}
+	/**
+	 * Place a {@link Piece} and flip the captured {@link Piece} objects.
+	 *
+	 * <p>
+	 * For internal use only!
+	 * </p>
+	 *
+	 * @param square The bit index of the square to place on.
+	 * @param flips The mask of the captured {@link Piece} objects.
+	 * @param piece The {@link Piece} which is placed.
+	 */
+	private void apply(final int square, final long flips, final Piece piece)
+	{
+		maskA ^= flips;
+		maskB ^= flips;
+		if(piece == Piece.PIECE_A)
+			maskA |= 1L << square;
+		else
+			maskB |= 1L << square;
+		hash ^= Zobrist.flip(flips) ^ Zobrist.key(piece, square);
+		lastMove = square;
+		lastFlips = flips;
+	}
+	//=========================================================================
+	//Overriden methods.
+	/**
+	 * Check if neither {@link Piece} can be placed.
+	 *
+	 * @return <code>true</code> if the game on <code>this</code>
+	 * 			{@code BitBoard} has ended, otherwise, returns
+	 * 			<code>false</code>.
+	 */
+	@Override
+	public boolean isEnd()
+	{
+		return BoardMasks.moves(maskA, maskB) == 0
+				&& BoardMasks.moves(maskB, maskA) == 0;
+	}
+	/**
+	 * Check if <code>this</code> {@code BitBoard} is in a draw.
+	 *
+	 * @return <code>true</code> If both {@link Piece} objects have the same
+	 * 			number of instances, otherwise, returns <code>false</code>.
+	 */
+	@Override
+	public boolean isDraw()
+	{
+		return winning() == null;
+	}
+	/**
+	 * Get the size of <code>this</code> {@code BitBoard}.
+	 *
+	 * @return {@link #SIZE}.
+	 */
+	@Override
+	public int size()
+	{
+		return SIZE;
+	}
+	/**
+	 * Count the number of instances of a {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} object to be counted.
+	 * @return The number of squares occupied by <code>piece</code>.
+	 */
+	@Override
+	public int count(final Piece piece)
+	{
+		return Long.bitCount(mask(piece));
+	}
+	/**
+	 * Count the number of flips which would be the result of placing a
+	 * {@link Piece} at a specified location.
+	 *
+	 * @param x The column index.
+	 * @param y The row index.
+	 * @param player The {@link Piece} to be placed.
+	 * @return The number of {@link Piece} objects which would be flipped.
+	 */
+	@Override
+	public int countFlips(final int x, final int y, final Piece player)
+	{
+		if(!onBoard(x, y))
+			return 0;
+		return Long.bitCount(BoardMasks.flips(
+				mask(player),
+				mask(player.flip()),
+				BoardMasks.index(x, y)));
+	}
+	/**
+	 * Get the {@link FlipEvent} objects from the previous move which was made
+	 * on <code>this</code> {@code BitBoard}.
+	 *
+	 * <p>
+	 * The {@link FlipEvent} objects are only created when this method is
+	 * called, there is one sequence for each direction, ordered from the
+	 * placed {@link Piece} outwards.
+	 * </p>
+	 *
+	 * @return The {@link Set} of a sequence of {@link FlipEvent} objects.
+	 */
+	@Override
+	public Set<FlipEvent[]> flips()
+	{
+		if(lastMove < 0)
+			return Collections.emptySet();
+		//The flipped pieces are now of the same type as the placed piece.
+		final Piece initial = ((maskA & lastFlips) != 0
+				? Piece.PIECE_A
+				: Piece.PIECE_B).flip();
+		return BoardMasks.flipEvents(lastMove, lastFlips, initial);
+	}
+	/**
+	 * Get the legal {@link Position} objects for a {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} to find the legal moves for.
+	 * @return The {@link Set} of {@link Position} objects where
+	 * 			<code>piece</code> can be placed.
+	 */
+	@Override
+	public Set<Position> legalMoves(final Piece piece)
+	{
+		final Set<Position> validMoves = new HashSet<>();
+		long moves = legalMoveMask(piece);
+		while(moves != 0)
+		{
+			final int square = Long.numberOfTrailingZeros(moves);
+			validMoves.add(Position.fromIndex(square, SIZE));
+			moves &= moves - 1;
+		}
+		return validMoves;
+	}
+	/**
+	 * Get the legal moves of a {@link Piece} as a <code>long</code> mask.
+	 *
+	 * @param piece The {@link Piece} to find the legal moves for.
+	 * @return The mask of the legal moves of <code>piece</code>.
+	 */
+	@Override
+	public long legalMoveMask(final Piece piece)
+	{
+		return BoardMasks.moves(mask(piece), mask(piece.flip()));
+	}
+	/**
+	 * Count the number of legal moves of a {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} to count the legal moves for.
+	 * @return The number of legal moves of <code>piece</code>.
+	 */
+	@Override
+	public int mobility(final Piece piece)
+	{
+		return Long.bitCount(legalMoveMask(piece));
+	}
+	/**
+	 * Get the {@link Piece} object which has the most instances.
+	 *
+	 * @return The {@link Piece} object which is winning. Returns
+	 * 			<code>null</code> if the state of the board is a draw.
+	 */
+	@Override
+	public Piece winning()
+	{
+		final int a = Long.bitCount(maskA);
+		final int b = Long.bitCount(maskB);
+		if(a == b)
+			return null;
+		return a < b? Piece.PIECE_B: Piece.PIECE_A;
+	}
+	/**
+	 * Get the {@link Piece} object which has the fewest instances.
+	 *
+	 * @return The {@link Piece} object which is losing. Returns
+	 * 			<code>null</code> if the state of the board is a draw.
+	 */
+	@Override
+	public Piece losing()
+	{
+		final Piece piece = winning();
+		return piece == null? null: piece.flip();
+	}
+	/**
+	 * Get the {@link Piece} object at a specific {@link Position}.
+	 *
+	 * @param pos The {@link Position} on the board.
+	 * @return The {@link Optional} {@link Piece} at <code>pos</code>.
+	 * @throws ArrayIndexOutOfBoundsException If <code>pos</code> is not on
+	 * 			the board.
+	 */
+	@Override
+	public Optional<Piece> view(final Position pos)
+			throws
+			ArrayIndexOutOfBoundsException
+	{
+		if(!onBoard(pos.col, pos.row))
+			throw new ArrayIndexOutOfBoundsException(pos.toString());
+		final long square = bit(pos.col, pos.row);
+		if((maskA & square) != 0)
+			return Optional.of(Piece.PIECE_A);
+		if((maskB & square) != 0)
+			return Optional.of(Piece.PIECE_B);
+		return Optional.empty();
+	}
+	/**
+	 * Try placing a {@link Piece} object at a specified {@link Position},
+	 * without modifying <code>this</code> {@code BitBoard} object.
+	 *
+	 * @param pos The {@link Position} to try.
+	 * @param piece The {@link Piece} object to put.
+	 * @return A projection of <code>this</code> {@code BitBoard} which
+	 * 			represents the outcome of placing the <code>piece</code> at
+	 * 			<code>pos</code>.
+	 * @throws InvalidMoveException If the attempted move is not allowed.
+	 */
+	@Override
+	public BitBoard tryPut(final Position pos, final Piece piece)
+			throws
+			InvalidMoveException
+	{
+		final BitBoard board = clone();
+		board.put(pos, piece);
+		return board;
+	}
+	/**
+	 * Get the hash of <code>this</code> {@code BitBoard}.
+	 *
+	 * @return The {@link Zobrist} hash of the board.
+	 */
+	@Override
+	public long hash()
+	{
+		return hash;
+	}
+	/**
+	 * Get the read-only {@link BoardView} of <code>this</code>
+	 * {@code BitBoard}.
+	 *
+	 * @return The {@link ProxyGameBoard} of <code>this</code>.
+	 */
+	@Override
+	public BoardView getView()
+	{
+		return new ProxyGameBoard(this);
+	}
+	/**
+	 * Clone <code>this</code> {@code BitBoard}.
+	 *
+	 * @return The {@code BitBoard} object which is a clone of
+	 * 			<code>this</code> {@code BitBoard}.
+	 */
+	@Override
+	public BitBoard clone()
+	{
+		return new BitBoard(this);
+	}
+	/**
+	 * Check if an {@link Object} is equal to <code>this</code>
+	 * {@code BitBoard}.
+	 *
+	 * @param o The object to compare <code>this</code> with.
+	 * @return <code>true</code> if <code>o</code> is a {@link BoardView} of
+	 * 			the same size and {@link #hash()} as <code>this</code>,
+	 * 			otherwise, returns <code>false</code>.
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if(o instanceof BoardView)
+		{
+			final BoardView board = (BoardView) o;
+			return SIZE == board.size() && hash == board.hash();
+		}
+		return false;
+	}
+	/**
+	 * Get the hash code of <code>this</code> {@code BitBoard}.
+	 *
+	 * @return The hash code of {@link #hash()}.
+	 */
+	@Override
+	public int hashCode()
+	{
+		return Long.hashCode(hash);
+	}
+}
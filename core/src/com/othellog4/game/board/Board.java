@@ -0,0 +1,38 @@
+package com.othellog4.game.board;
+
+/**
+ * The {@code Board} interface is a specification of a board in Othello which
+ * can be both inspected and modified.
+ *
+ * <p>
+ * The {@code Board} interface extends the {@link BoardView} interface with
+ * the operations which modify the state of the board. Only the owner of a
+ * {@code Board}, such as a {@link com.othellog4.game.Game}, should have
+ * access to these operations; other objects should be given the
+ * {@link BoardView} returned from {@link #getView()}.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see BoardView
+ * @see GameBoard
+ * @see BitBoard
+ */
+public interface Board extends BoardView
+{
+	//=========================================================================
+	//Abstract methods.
+	/**
+	 * Place a {@link Piece} object at a specific {@link Position} and flip
+	 * the {@link Piece} objects which are captured by the placement.
+	 *
+	 * @param position The {@link Position} to place the <code>piece</code>.
+	 * @param piece The {@link Piece} object to place.
+	 * @throws InvalidMoveException If the <code>piece</code> cannot be placed
+	 * 			at <code>position</code>.
+	 */
+	public void put(Position position, Piece piece)
+			throws
+			InvalidMoveException;
+}
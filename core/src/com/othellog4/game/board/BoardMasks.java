@@ -0,0 +1,271 @@
+package com.othellog4.game.board;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The {@code BoardMasks} class is a collection of operations on the
+ * <code>long</code> representation of a standard 8x8 board.
+ *
+ * <p>
+ * Each square of the board is represented by a single bit, where the bit
+ * index of a square is <code>row * 8 + col</code>. A side of the board is
+ * therefore represented by a <code>long</code> mask where a set bit marks a
+ * square occupied by that side.
+ * </p>
+ *
+ * <p>
+ * All operations are computed with shifts and masks across all the squares of
+ * the board at once, rather than by walking the board square by square.
+ * </p>
+ *
+ * <p>
+ * Package private as it is an implementation detail of the boards.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see BitBoard
+ */
+final class BoardMasks
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The width and height of a board which can be represented by a mask.
+	 */
+	static final int SIZE = 8;
+	/**
+	 * The number of squares on a board which can be represented by a mask.
+	 */
+	static final int SQUARES = SIZE * SIZE;
+	/**
+	 * The mask of every square except the squares of the first column.
+	 */
+	private static final long NOT_FIRST_COL = 0xFEFEFEFEFEFEFEFEL;
+	/**
+	 * The mask of every square except the squares of the last column.
+	 */
+	private static final long NOT_LAST_COL = 0x7F7F7F7F7F7F7F7FL;
+	/**
+	 * The mask of every square except the squares of the first and last
+	 * columns.
+	 */
+	private static final long INNER_COLS = NOT_FIRST_COL & NOT_LAST_COL;
+	/**
+	 * The number of directions on the board.
+	 */
+	static final int DIRECTIONS = 8;
+	/**
+	 * The column offset of each direction.
+	 */
+	static final int[] COL_STEP = {0, 1, 1, 1, 0, -1, -1, -1};
+	/**
+	 * The row offset of each direction.
+	 */
+	static final int[] ROW_STEP = {-1, -1, 0, 1, 1, 1, 0, -1};
+	//=========================================================================
+	//Constructors.
+	/**
+	 * No instances of {@code BoardMasks} may be created.
+	 */
+	private BoardMasks()
+	{
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Get the bit index of a square.
+	 *
+	 * @param col The column index.
+	 * @param row The row index.
+	 * @return The bit index of the square.
+	 */
+	static int index(final int col, final int row)
+	{
+		return row * SIZE + col;
+	}
+	/**
+	 * Shift every square of a mask one step in a direction.
+	 *
+	 * <p>
+	 * Squares which would be shifted off the board are discarded.
+	 * </p>
+	 *
+	 * @param mask The mask to shift.
+	 * @param dir The direction, an index into {@link #COL_STEP} and
+	 * 			{@link #ROW_STEP}.
+	 * @return The shifted mask.
+	 */
+	static long shift(final long mask, final int dir)
+	{
+		switch(dir)
+		{
+		case 0:
+			return mask >>> 8;
+		case 1:
+			return (mask >>> 7) & NOT_FIRST_COL;
+		case 2:
+			return (mask << 1) & NOT_FIRST_COL;
+		case 3:
+			return (mask << 9) & NOT_FIRST_COL;
+		case 4:
+			return mask << 8;
+		case 5:
+			return (mask << 7) & NOT_LAST_COL;
+		case 6:
+			return (mask >>> 1) & NOT_LAST_COL;
+		default:
+			return (mask >>> 9) & NOT_LAST_COL;
+		}
+	}
+	/**
+	 * Get the mask of the squares just beyond a run of pieces which starts
+	 * next to a piece of a side, in both directions along a line.
+	 *
+	 * @param own The mask of the side.
+	 * @param run The mask of the squares which a run may contain.
+	 * @param shift The distance between neighbouring squares of the line.
+	 * @return The mask of the squares beyond the runs.
+	 */
+	private static long beyondRuns(
+			final long own,
+			final long run,
+			final int shift)
+	{
+		long up = run & (own << shift);
+		up |= run & (up << shift);
+		up |= run & (up << shift);
+		up |= run & (up << shift);
+		up |= run & (up << shift);
+		up |= run & (up << shift);
+		long down = run & (own >>> shift);
+		down |= run & (down >>> shift);
+		down |= run & (down >>> shift);
+		down |= run & (down >>> shift);
+		down |= run & (down >>> shift);
+		down |= run & (down >>> shift);
+		return (up << shift) | (down >>> shift);
+	}
+	/**
+	 * Get the mask of the pieces flipped along a line by placing a piece.
+	 *
+	 * @param own The mask of the side placing the piece.
+	 * @param run The mask of the opposing pieces which may be flipped.
+	 * @param placed The mask of the square where the piece is placed.
+	 * @param shift The distance between neighbouring squares of the line.
+	 * @return The mask of the flipped pieces, in both directions.
+	 */
+	private static long flipsAlong(
+			final long own,
+			final long run,
+			final long placed,
+			final int shift)
+	{
+		long flips = 0;
+		long up = run & (placed << shift);
+		up |= run & (up << shift);
+		up |= run & (up << shift);
+		up |= run & (up << shift);
+		up |= run & (up << shift);
+		up |= run & (up << shift);
+		if((own & (up << shift)) != 0)
+			flips |= up;
+		long down = run & (placed >>> shift);
+		down |= run & (down >>> shift);
+		down |= run & (down >>> shift);
+		down |= run & (down >>> shift);
+		down |= run & (down >>> shift);
+		down |= run & (down >>> shift);
+		if((own & (down >>> shift)) != 0)
+			flips |= down;
+		return flips;
+	}
+	/**
+	 * Get the mask of the legal moves for a side.
+	 *
+	 * <p>
+	 * The lines are followed with fixed shifts rather than with
+	 * {@link #shift(long, int)}, as this is the innermost loop of every
+	 * search. A run along a line which changes column cannot contain the
+	 * first or last column, so it cannot wrap around the board.
+	 * </p>
+	 *
+	 * @param own The mask of the side to move.
+	 * @param opp The mask of the opposing side.
+	 * @return The mask of the empty squares where <code>own</code> can place
+	 * 			a piece which flips at least one piece of <code>opp</code>.
+	 */
+	static long moves(final long own, final long opp)
+	{
+		final long inner = opp & INNER_COLS;
+		return (beyondRuns(own, inner, 1)
+				| beyondRuns(own, opp, SIZE)
+				| beyondRuns(own, inner, SIZE - 1)
+				| beyondRuns(own, inner, SIZE + 1))
+				& ~(own | opp);
+	}
+	/**
+	 * Get the mask of the pieces which would be flipped by placing a piece at
+	 * a square.
+	 *
+	 * @param own The mask of the side placing the piece.
+	 * @param opp The mask of the opposing side.
+	 * @param square The bit index of the square where the piece is placed.
+	 * @return The mask of the pieces of <code>opp</code> which would be
+	 * 			flipped. Returns <code>0</code> if the square is occupied.
+	 */
+	static long flips(final long own, final long opp, final int square)
+	{
+		final long placed = 1L << square;
+		if(((own | opp) & placed) != 0)
+			return 0;
+		final long inner = opp & INNER_COLS;
+		return flipsAlong(own, inner, placed, 1)
+				| flipsAlong(own, opp, placed, SIZE)
+				| flipsAlong(own, inner, placed, SIZE - 1)
+				| flipsAlong(own, inner, placed, SIZE + 1);
+	}
+	/**
+	 * Create the {@link FlipEvent} objects of a placed {@link Piece}.
+	 *
+	 * <p>
+	 * There is one sequence of {@link FlipEvent} objects for each direction,
+	 * ordered from the placed {@link Piece} outwards.
+	 * </p>
+	 *
+	 * @param square The bit index of the square of the placed {@link Piece}.
+	 * @param flips The mask of the flipped {@link Piece} objects.
+	 * @param initial The {@link Piece} of the flipped squares before they were
+	 * 			flipped.
+	 * @return The {@link Set} of a sequence of {@link FlipEvent} objects.
+	 */
+	static Set<FlipEvent[]> flipEvents(
+			final int square,
+			final long flips,
+			final Piece initial)
+	{
+		final Set<FlipEvent[]> flipEvents = new HashSet<>();
+		final int col = square % SIZE;
+		final int row = square / SIZE;
+		for(int dir = 0; dir < DIRECTIONS; ++dir)
+		{
+			int length = 0;
+			long next = shift(1L << square, dir);
+			while((next & flips) != 0)
+			{
+				++length;
+				next = shift(next, dir);
+			}
+			final FlipEvent[] events = new FlipEvent[length];
+			for(int i = 1; i <= length; ++i)
+				events[i - 1] = new FlipEvent(initial, Position.at(
+						col + COL_STEP[dir] * i,
+						row + ROW_STEP[dir] * i));
+			flipEvents.add(events);
+		}
+		return Collections.unmodifiableSet(flipEvents);
+	}
+}
@@ -15,7 +15,7 @@ import java.util.Set;
  * @author 	159014260 John Berg
  * @author 	James Shorthouse
  * @since 	23/10/2017
- * @version 01/03/2017
+ * @version 18/10/2026
  */
 public interface BoardView {
 	/**
@@ -63,6 +63,89 @@ public interface BoardView {
 	 * @return a set of legal Positions to move to
 	 */
 	public Set<Position> legalMoves(Piece piece);
+	/**
+	 * Get the legal moves of a {@link Piece} as a <code>long</code> mask.
+	 *
+	 * <p>
+	 * The bit <code>row * size() + col</code> of the mask is set if the
+	 * {@link Piece} can be placed at the column and row. Unlike
+	 * {@link #legalMoves(Piece)}, no objects are created, which allows the
+	 * moves to be iterated using {@link Long#numberOfTrailingZeros(long)}.
+	 * </p>
+	 *
+	 * @param piece The {@link Piece} to determine the legal moves for.
+	 * @return The mask of the legal moves of <code>piece</code>.
+	 * @throws UnsupportedOperationException If the board has more squares
+	 * 			than the number of bits in a <code>long</code>.
+	 */
+	public long legalMoveMask(Piece piece)
+			throws
+			UnsupportedOperationException;
+	/**
+	 * Count the number of legal moves of a {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} to count the legal moves for.
+	 * @return The number of positions where <code>piece</code> can be
+	 * 			placed.
+	 */
+	public int mobility(Piece piece);
+	/**
+	 * Get the squares occupied by a {@link Piece} as a <code>long</code>
+	 * mask.
+	 *
+	 * <p>
+	 * The bit <code>row * size() + col</code> of the mask is set if the
+	 * {@link Piece} is at the column and row, the same as
+	 * {@link #legalMoveMask(Piece)}. The default implementation reads every
+	 * square, so boards which are represented by masks should override it.
+	 * </p>
+	 *
+	 * @param piece The {@link Piece} to find.
+	 * @return The mask of the squares occupied by <code>piece</code>.
+	 * @throws UnsupportedOperationException If the board has more squares
+	 * 			than the number of bits in a <code>long</code>.
+	 * @see Features
+	 */
+	public default long mask(final Piece piece)
+			throws
+			UnsupportedOperationException
+	{
+		if(size() * size() > Long.SIZE)
+			throw new UnsupportedOperationException(
+					"Board too large for a mask");
+		long mask = 0;
+		for(int row = 0; row < size(); ++row)
+			for(int col = 0; col < size(); ++col)
+				if(view(Position.at(col, row))
+						.filter(p -> p == piece)
+						.isPresent())
+					mask |= 1L << (row * size() + col);
+		return mask;
+	}
+	/**
+	 * Get the hash of the {@link Piece} objects on the {@code BoardView}.
+	 *
+	 * <p>
+	 * The hash is the {@link Zobrist} hash of the board, so two boards with
+	 * the same {@link Piece} objects at the same {@link Position} objects
+	 * have the same hash, regardless of their implementation.
+	 * </p>
+	 *
+	 * @return The 64-bit hash of the board.
+	 * @see Zobrist
+	 */
+	public long hash();
+	/**
+	 * Get the hash of the {@code BoardView} together with the side to move.
+	 *
+	 * @param toMove The {@link Piece} which is next to move.
+	 * @return The 64-bit hash of the board and <code>toMove</code>.
+	 * @see #hash()
+	 */
+	public default long hash(final Piece toMove)
+	{
+		return hash() ^ Zobrist.side(toMove);
+	}
 	/**
 	 * Get the {@link Piece} object which has the most instances.
 	 *
@@ -0,0 +1,221 @@
+package com.othellog4.game.board;
+
+/**
+ * The {@code Features} class is a collection of the standard features of an
+ * Othello position, computed from the <code>long</code> masks of both sides.
+ *
+ * <p>
+ * Every feature is computed with shifts and masks across all the squares of
+ * the board at once, as {@link BoardView#legalMoveMask(Piece)} is, so no
+ * objects are created and no square is visited on its own. The masks of a
+ * {@link BoardView} are found by {@link BoardView#mask(Piece)}.
+ * </p>
+ *
+ * <p>
+ * The features are:
+ * </p>
+ * <ul>
+ * 		<li>{@link #mobility(long, long)}: the number of legal moves.</li>
+ * 		<li>{@link #potentialMobility(long, long)}: the number of empty
+ * 		squares next to a disc of the opponent, where moves may become
+ * 		legal.</li>
+ * 		<li>{@link #frontier(long, long)}: the number of discs next to an
+ * 		empty square, which the opponent may be able to flip.</li>
+ * 		<li>{@link #stable(long, long)}: the number of discs which can never
+ * 		be flipped.</li>
+ * </ul>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see BoardView#mask(Piece)
+ */
+public final class Features
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The mask of the 4 corners of the board.
+	 */
+	public static final long CORNERS = 0x8100000000000081L;
+	/**
+	 * The mask of every square of the board.
+	 */
+	private static final long ALL = -1L;
+	/**
+	 * The number of axes of the board, which are the vertical, the two
+	 * diagonals and the horizontal.
+	 */
+	private static final int AXES = BoardMasks.DIRECTIONS / 2;
+	/**
+	 * The squares of each axis which are at an edge of the board along the
+	 * axis, so that one of their neighbours on the axis is off the board.
+	 */
+	private static final long[] EDGES = new long[AXES];
+	/**
+	 * The masks of the lines of each axis.
+	 */
+	private static final long[][] LINES = new long[AXES][];
+	static
+	{
+		for(int axis = 0; axis < AXES; ++axis)
+		{
+			EDGES[axis] = ~BoardMasks.shift(ALL, axis)
+					| ~BoardMasks.shift(ALL, axis + AXES);
+			//Each line is found once, from its first square on the axis.
+			final long[] lines = new long[BoardMasks.SIZE * 2 - 1];
+			int count = 0;
+			for(long starts = ~BoardMasks.shift(ALL, axis);
+					starts != 0;
+					starts &= starts - 1)
+			{
+				long line = Long.lowestOneBit(starts);
+				for(long next = line; next != 0;)
+				{
+					next = BoardMasks.shift(next, axis);
+					line |= next;
+				}
+				lines[count++] = line;
+			}
+			LINES[axis] = new long[count];
+			System.arraycopy(lines, 0, LINES[axis], 0, count);
+		}
+	}
+	//=========================================================================
+	//Constructors.
+	/**
+	 * No instances of {@code Features} may be created.
+	 */
+	private Features()
+	{
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Get the mask of the squares next to any square of a mask.
+	 *
+	 * @param mask The mask of the squares.
+	 * @return The mask of every square next to a square of
+	 * 			<code>mask</code>, in any direction.
+	 */
+	public static long neighbours(final long mask)
+	{
+		long neighbours = 0;
+		for(int dir = 0; dir < BoardMasks.DIRECTIONS; ++dir)
+			neighbours |= BoardMasks.shift(mask, dir);
+		return neighbours;
+	}
+	/**
+	 * Count the legal moves of a side.
+	 *
+	 * @param own The mask of the side.
+	 * @param opp The mask of the opposing side.
+	 * @return The number of squares where <code>own</code> can place a
+	 * 			disc.
+	 */
+	public static int mobility(final long own, final long opp)
+	{
+		return Long.bitCount(BoardMasks.moves(own, opp));
+	}
+	/**
+	 * Count the potential mobility of a side, which is the number of empty
+	 * squares next to a disc of the opposing side.
+	 *
+	 * @param own The mask of the side.
+	 * @param opp The mask of the opposing side.
+	 * @return The number of empty squares next to <code>opp</code>.
+	 */
+	public static int potentialMobility(final long own, final long opp)
+	{
+		return Long.bitCount(neighbours(opp) & ~(own | opp));
+	}
+	/**
+	 * Count the frontier discs of a side, which are the discs next to an
+	 * empty square.
+	 *
+	 * @param own The mask of the side.
+	 * @param opp The mask of the opposing side.
+	 * @return The number of discs of <code>own</code> next to an empty
+	 * 			square.
+	 */
+	public static int frontier(final long own, final long opp)
+	{
+		return Long.bitCount(neighbours(~(own | opp)) & own);
+	}
+	/**
+	 * Get the mask of the squares whose line along an axis is full.
+	 *
+	 * @param occupied The mask of the occupied squares.
+	 * @param axis The axis, which is the direction of {@link BoardMasks}
+	 * 			from <code>0</code> to <code>3</code>.
+	 * @return The mask of every square of every full line of the
+	 * 			<code>axis</code>.
+	 */
+	private static long full(final long occupied, final int axis)
+	{
+		long full = 0;
+		for(final long line : LINES[axis])
+			if((occupied & line) == line)
+				full |= line;
+		return full;
+	}
+	/**
+	 * Get the mask of the stable discs of a side, which can never be
+	 * flipped.
+	 *
+	 * <p>
+	 * A disc is stable along an axis if its line along the axis is full, or
+	 * if either of its neighbours on the axis is off the board or a stable
+	 * disc of the same side. A disc which is stable along all 4 axes can
+	 * never be flipped. Starting from the corners, the stable discs are
+	 * grown until no more are found. The result is a lower bound, as some
+	 * discs which cannot be flipped are not found this way.
+	 * </p>
+	 *
+	 * @param own The mask of the side.
+	 * @param opp The mask of the opposing side.
+	 * @return The mask of the stable discs of <code>own</code>.
+	 */
+	public static long stableMask(final long own, final long opp)
+	{
+		final long[] anchored = new long[AXES];
+		for(int axis = 0; axis < AXES; ++axis)
+			anchored[axis] = EDGES[axis] | full(own | opp, axis);
+		long stable = own & CORNERS;
+		long previous;
+		do
+		{
+			previous = stable;
+			long grown = own;
+			for(int axis = 0; axis < AXES; ++axis)
+				grown &= anchored[axis]
+						| BoardMasks.shift(stable, axis)
+						| BoardMasks.shift(stable, axis + AXES);
+			stable = grown;
+		}
+		while(stable != previous);
+		return stable;
+	}
+	/**
+	 * Count the stable discs of a side, which can never be flipped.
+	 *
+	 * @param own The mask of the side.
+	 * @param opp The mask of the opposing side.
+	 * @return The number of stable discs of <code>own</code>.
+	 * @see #stableMask(long, long)
+	 */
+	public static int stable(final long own, final long opp)
+	{
+		return Long.bitCount(stableMask(own, opp));
+	}
+	/**
+	 * Count the corners occupied by a side.
+	 *
+	 * @param own The mask of the side.
+	 * @return The number of corners of <code>own</code>.
+	 */
+	public static int corners(final long own)
+	{
+		return Long.bitCount(own & CORNERS);
+	}
+}
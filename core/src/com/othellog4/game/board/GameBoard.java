@@ -10,9 +10,9 @@ import java.util.Set;
  * The GameBoard is where actions are completed.
  * @author 	Charlie Sims
  * @since 	23/10/2017
- * @version 01/03/2017
+ * @version 18/10/2026
  */
-public final class GameBoard implements BoardView, Cloneable, Serializable {
+public final class GameBoard implements Board, Cloneable, Serializable {
 	private Piece[][] grid;
 	/**
 	 * The {@link Set} of the {@link FlipEvent} objects which were flipped
@@ -25,6 +25,24 @@ public final class GameBoard implements BoardView, Cloneable, Serializable {
 	 * @see FlipEvent
 	 */
 	private Set<FlipEvent[]> flipEvents;
+	/**
+	 * The number of instances of each {@link Piece}, indexed by
+	 * {@link Piece#ordinal()}.
+	 *
+	 * <p>
+	 * Kept up to date by {@link #write(int, int, Piece)}, so that
+	 * {@link #count(Piece)} does not have to scan the grid.
+	 * </p>
+	 */
+	private final int[] counts = new int[Piece.values().length];
+	/**
+	 * The {@link Zobrist} hash of the grid.
+	 *
+	 * <p>
+	 * Kept up to date by {@link #write(int, int, Piece)}.
+	 * </p>
+	 */
+	private long hash;
 	/**
 	 * Create a {@code GameBoard} object of a specified size.
 	 *
@@ -66,12 +84,13 @@ public final class GameBoard implements BoardView, Cloneable, Serializable {
 			}
 		}*/
 		flipEvents = null;
-
+		recount();
 	}
 	public GameBoard(Piece[][] prebuilt){
 		grid = new Piece[prebuilt.length][];
 		for(int i = 0; i < prebuilt.length; ++i)
 			grid[i] = prebuilt[i].clone();;
+		recount();
 	}
 	/**
 	 * Copy constructor.
@@ -99,6 +118,25 @@ public final class GameBoard implements BoardView, Cloneable, Serializable {
 	{
 		return 0 <= col && col < size() && 0 <= row && row < size();
 	}
+	/**
+	 * Count the instances of each {@link Piece} on the grid, and compute the
+	 * hash of the grid.
+	 *
+	 * <p>
+	 * Only needed when the grid is set directly, rather than through
+	 * {@link #write(int, int, Piece)}.
+	 * </p>
+	 */
+	private void recount()
+	{
+		for(int col = 0; col < grid.length; ++col)
+			for(int row = 0; row < grid[col].length; ++row)
+				if(grid[col][row] != null)
+				{
+					++counts[grid[col][row].ordinal()];
+					hash ^= Zobrist.key(grid[col][row], col, row);
+				}
+	}
 	/**
 	 * Write a {@link Piece} object to a specified location of
 	 * <code>this</code> {@code GameBoard}.
@@ -112,6 +150,17 @@ public final class GameBoard implements BoardView, Cloneable, Serializable {
 			final int row,
 			final Piece piece)
 	{
+		final Piece previous = grid[col][row];
+		if(previous != null)
+		{
+			--counts[previous.ordinal()];
+			hash ^= Zobrist.key(previous, col, row);
+		}
+		if(piece != null)
+		{
+			++counts[piece.ordinal()];
+			hash ^= Zobrist.key(piece, col, row);
+		}
 		grid[col][row] = piece;
 	}
 	/**
@@ -144,6 +193,7 @@ public final class GameBoard implements BoardView, Cloneable, Serializable {
 	{
 		return winning() == null;
 	}
+	@Override
 	public void put(Position position, Piece piece)
 			throws InvalidMoveException{
 		if(!legalMoves(piece).contains(position))
@@ -154,23 +204,30 @@ public final class GameBoard implements BoardView, Cloneable, Serializable {
 
 	@Override
 	public boolean isEnd() {
-		return legalMoves(Piece.PIECE_A).isEmpty()
-				&& legalMoves(Piece.PIECE_B).isEmpty();
+		return mobility(Piece.PIECE_A) == 0
+				&& mobility(Piece.PIECE_B) == 0;
 				}
 
 	@Override
 	public int size() {
 		return grid.length;
 	}
+	/**
+	 * Count the number of instances of a {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} object to be counted, or
+	 * 			<code>null</code> to count the empty squares.
+	 * @return The number of squares occupied by <code>piece</code>.
+	 */
 	@Override
 	public final int count(final Piece piece)
 	{
-		int count = 0;
-		for(int i = 0; i < size(); ++i)
-			for(int j = 0; j < size(); ++j)
-				if(view(Position.at(i, j)).orElse(null) == piece)
-						++count;
-		return count;
+		if(piece != null)
+			return counts[piece.ordinal()];
+		int empty = size() * size();
+		for(final int count : counts)
+			empty -= count;
+		return empty;
 	}
 	@Override
 	public int countFlips(int x, int y, Piece player) {
@@ -210,6 +267,47 @@ public final class GameBoard implements BoardView, Cloneable, Serializable {
 		return validMoves;
 	}
 
+	/**
+	 * Get the legal moves of a {@link Piece} as a <code>long</code> mask.
+	 *
+	 * @param piece The {@link Piece} to find the legal moves for.
+	 * @return The mask of the legal moves, where the bit
+	 * 			<code>row * size() + col</code> is set for each legal move.
+	 * @throws UnsupportedOperationException If <code>this</code>
+	 * 			{@code GameBoard} has more than <code>64</code> squares.
+	 */
+	@Override
+	public long legalMoveMask(final Piece piece)
+			throws
+			UnsupportedOperationException
+	{
+		if(size() * size() > Long.SIZE)
+			throw new UnsupportedOperationException(
+					"Board too large for a move mask");
+		long moves = 0;
+		for (int x = 0; x < grid.length; x++)
+			for (int y = 0; y < grid.length; y++)
+				if(read(x, y) == null && locationValid(x, y, piece))
+					moves |= 1L << (y * size() + x);
+		return moves;
+	}
+	/**
+	 * Count the number of legal moves of a {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} to count the legal moves for.
+	 * @return The number of legal moves of <code>piece</code>.
+	 */
+	@Override
+	public int mobility(final Piece piece)
+	{
+		int moves = 0;
+		for (int x = 0; x < grid.length; x++)
+			for (int y = 0; y < grid.length; y++)
+				if(read(x, y) == null && locationValid(x, y, piece))
+					++moves;
+		return moves;
+	}
+
 	private boolean locationValid(int x, int y, Piece player){
 		return countFlips(x, y, player) != 0;
 	}
@@ -276,6 +374,16 @@ public final class GameBoard implements BoardView, Cloneable, Serializable {
 		}
 		return flips;
 	}
+	/**
+	 * Get the hash of <code>this</code> {@code GameBoard}.
+	 *
+	 * @return The {@link Zobrist} hash of the grid.
+	 */
+	@Override
+	public final long hash()
+	{
+		return hash;
+	}
 	@Override
 	public final BoardView getView()
 	{
@@ -291,8 +399,8 @@ public final class GameBoard implements BoardView, Cloneable, Serializable {
 	 */
 	@Override
 	public Piece winning(){
-		int a = count(Piece.PIECE_A);
-		int b = count(Piece.PIECE_B);
+		final int a = counts[Piece.PIECE_A.ordinal()];
+		final int b = counts[Piece.PIECE_B.ordinal()];
 		if(a == b)
 			return null;
 		if(a < b)
@@ -364,4 +472,33 @@ public final class GameBoard implements BoardView, Cloneable, Serializable {
 	{
 		return new GameBoard(this);
 	}
+	/**
+	 * Check if an {@link Object} is equal to <code>this</code>
+	 * {@code GameBoard}.
+	 *
+	 * @param o The object to compare <code>this</code> with.
+	 * @return <code>true</code> if <code>o</code> is a {@link BoardView} of
+	 * 			the same size and {@link #hash()} as <code>this</code>,
+	 * 			otherwise, returns <code>false</code>.
+	 */
+	@Override
+	public final boolean equals(final Object o)
+	{
+		if(o instanceof BoardView)
+		{
+			final BoardView board = (BoardView) o;
+			return size() == board.size() && hash == board.hash();
+		}
+		return false;
+	}
+	/**
+	 * Get the hash code of <code>this</code> {@code GameBoard}.
+	 *
+	 * @return The hash code of {@link #hash()}.
+	 */
+	@Override
+	public final int hashCode()
+	{
+		return Long.hashCode(hash);
+	}
 }
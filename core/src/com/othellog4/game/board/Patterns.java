@@ -0,0 +1,360 @@
+package com.othellog4.game.board;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code Patterns} class is the collection of the patterns of squares
+ * which a pattern evaluation of an 8x8 board is made of.
+ *
+ * <p>
+ * A pattern is a fixed list of squares, such as an edge, and its index is
+ * the state of those squares as a number in base 3, where the square at
+ * position <code>k</code> of the list is the digit of <code>3^k</code>, and
+ * the digit is <code>0</code> for an empty square, <code>1</code> for
+ * {@link Piece#PIECE_A} and <code>2</code> for {@link Piece#PIECE_B}. Each
+ * type of pattern has an instance for every distinct rotation and
+ * reflection of its squares, and the instances of a type share one table of
+ * weights.
+ * </p>
+ *
+ * <p>
+ * The types of pattern are:
+ * </p>
+ * <ul>
+ * 		<li>{@link #EDGE_2X}: an edge, and the two squares diagonally
+ * 		inside its corners.</li>
+ * 		<li>{@link #CORNER_3X3}: the 3x3 squares of a corner.</li>
+ * 		<li>{@link #CORNER_2X5}: the 2x5 squares along an edge from a
+ * 		corner.</li>
+ * 		<li>{@link #DIAGONAL_8} to {@link #DIAGONAL_4}: the diagonals of
+ * 		8 to 4 squares.</li>
+ * </ul>
+ *
+ * <p>
+ * Placing or flipping a {@link Piece} only changes the digit of one square,
+ * so the indices of a {@link SearchBoard} are updated by a few additions for
+ * each square of a move, rather than by reading every square again.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see SearchBoard#patterns()
+ */
+public final class Patterns
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The type of the pattern of an edge and its two X-squares.
+	 */
+	public static final int EDGE_2X = 0;
+	/**
+	 * The type of the pattern of the 3x3 squares of a corner.
+	 */
+	public static final int CORNER_3X3 = 1;
+	/**
+	 * The type of the pattern of the 2x5 squares along an edge from a
+	 * corner.
+	 */
+	public static final int CORNER_2X5 = 2;
+	/**
+	 * The type of the pattern of a diagonal of 8 squares.
+	 */
+	public static final int DIAGONAL_8 = 3;
+	/**
+	 * The type of the pattern of a diagonal of 7 squares.
+	 */
+	public static final int DIAGONAL_7 = 4;
+	/**
+	 * The type of the pattern of a diagonal of 6 squares.
+	 */
+	public static final int DIAGONAL_6 = 5;
+	/**
+	 * The type of the pattern of a diagonal of 5 squares.
+	 */
+	public static final int DIAGONAL_5 = 6;
+	/**
+	 * The type of the pattern of a diagonal of 4 squares.
+	 */
+	public static final int DIAGONAL_4 = 7;
+	/**
+	 * The number of types of pattern.
+	 */
+	public static final int TYPES = 8;
+	/**
+	 * The digit of {@link Piece#PIECE_A} in an index.
+	 */
+	private static final int DIGIT_A = 1;
+	/**
+	 * The digit of {@link Piece#PIECE_B} in an index.
+	 */
+	private static final int DIGIT_B = 2;
+	/**
+	 * The squares of the first instance of each type of pattern, as
+	 * <code>{row, col}</code> pairs.
+	 */
+	private static final int[][][] SHAPES =
+	{
+		{
+			{0, 0}, {0, 1}, {0, 2}, {0, 3}, {0, 4}, {0, 5}, {0, 6}, {0, 7},
+			{1, 1}, {1, 6}
+		},
+		{
+			{0, 0}, {0, 1}, {0, 2},
+			{1, 0}, {1, 1}, {1, 2},
+			{2, 0}, {2, 1}, {2, 2}
+		},
+		{
+			{0, 0}, {0, 1}, {0, 2}, {0, 3}, {0, 4},
+			{1, 0}, {1, 1}, {1, 2}, {1, 3}, {1, 4}
+		},
+		diagonal(8),
+		diagonal(7),
+		diagonal(6),
+		diagonal(5),
+		diagonal(4)
+	};
+	/**
+	 * The bit indices of the squares of each instance.
+	 */
+	private static final int[][] INSTANCES;
+	/**
+	 * The type of each instance.
+	 */
+	private static final int[] INSTANCE_TYPES;
+	/**
+	 * The instances which include each square, indexed by the bit index of
+	 * the square.
+	 */
+	private static final int[][] SQUARE_INSTANCES =
+			new int[BoardMasks.SQUARES][];
+	/**
+	 * The power of 3 of each square in each of {@link #SQUARE_INSTANCES}.
+	 */
+	private static final int[][] SQUARE_POWERS =
+			new int[BoardMasks.SQUARES][];
+	static
+	{
+		final List<int[]> instances = new ArrayList<>();
+		final List<Integer> types = new ArrayList<>();
+		for(int type = 0; type < TYPES; ++type)
+		{
+			final List<int[]> distinct = new ArrayList<>();
+			for(int symmetry = 0; symmetry < 8; ++symmetry)
+			{
+				final int[] squares = transform(SHAPES[type], symmetry);
+				final int[] sorted = squares.clone();
+				Arrays.sort(sorted);
+				boolean found = false;
+				for(final int[] other : distinct)
+					found |= Arrays.equals(other, sorted);
+				if(found)
+					continue;
+				distinct.add(sorted);
+				instances.add(squares);
+				types.add(type);
+			}
+		}
+		INSTANCES = instances.toArray(new int[0][]);
+		INSTANCE_TYPES = new int[types.size()];
+		for(int i = 0; i < INSTANCE_TYPES.length; ++i)
+			INSTANCE_TYPES[i] = types.get(i);
+		for(int square = 0; square < BoardMasks.SQUARES; ++square)
+		{
+			final List<int[]> uses = new ArrayList<>();
+			for(int i = 0; i < INSTANCES.length; ++i)
+				for(int k = 0; k < INSTANCES[i].length; ++k)
+					if(INSTANCES[i][k] == square)
+						uses.add(new int[]{i, pow3(k)});
+			SQUARE_INSTANCES[square] = new int[uses.size()];
+			SQUARE_POWERS[square] = new int[uses.size()];
+			for(int j = 0; j < uses.size(); ++j)
+			{
+				SQUARE_INSTANCES[square][j] = uses.get(j)[0];
+				SQUARE_POWERS[square][j] = uses.get(j)[1];
+			}
+		}
+	}
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Private to prevent instantiation.
+	 */
+	private Patterns()
+	{
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Get the squares of the diagonal from the top edge which is a number of
+	 * squares long.
+	 *
+	 * @param length The number of squares of the diagonal.
+	 * @return The squares of the diagonal, as <code>{row, col}</code> pairs.
+	 */
+	private static int[][] diagonal(final int length)
+	{
+		final int[][] squares = new int[length][];
+		for(int i = 0; i < length; ++i)
+			squares[i] = new int[]{i, BoardMasks.SIZE - length + i};
+		return squares;
+	}
+	/**
+	 * Apply one of the 8 rotations and reflections of the board to a list of
+	 * squares.
+	 *
+	 * @param squares The squares, as <code>{row, col}</code> pairs.
+	 * @param symmetry The number of the symmetry, from <code>0</code> to
+	 * 			<code>7</code>.
+	 * @return The bit indices of the transformed squares, in the same order.
+	 */
+	private static int[] transform(final int[][] squares, final int symmetry)
+	{
+		final int last = BoardMasks.SIZE - 1;
+		final int[] result = new int[squares.length];
+		for(int i = 0; i < squares.length; ++i)
+		{
+			int row = squares[i][0];
+			int col = squares[i][1];
+			if((symmetry & 1) != 0)
+				col = last - col;
+			if((symmetry & 2) != 0)
+				row = last - row;
+			if((symmetry & 4) != 0)
+			{
+				final int swap = row;
+				row = col;
+				col = swap;
+			}
+			result[i] = BoardMasks.index(col, row);
+		}
+		return result;
+	}
+	/**
+	 * Get a power of 3.
+	 *
+	 * @param exponent The exponent, which is at least <code>0</code>.
+	 * @return The value of <code>3^exponent</code>.
+	 */
+	private static int pow3(final int exponent)
+	{
+		int power = 1;
+		for(int i = 0; i < exponent; ++i)
+			power *= 3;
+		return power;
+	}
+	/**
+	 * Get the number of instances of every type of pattern.
+	 *
+	 * @return The number of instances, which is the length of the array of
+	 * 			{@link #indices(long, long)}.
+	 */
+	public static int instances()
+	{
+		return INSTANCES.length;
+	}
+	/**
+	 * Get the type of an instance.
+	 *
+	 * @param instance The number of the instance.
+	 * @return The type of pattern of the <code>instance</code>.
+	 */
+	public static int type(final int instance)
+	{
+		return INSTANCE_TYPES[instance];
+	}
+	/**
+	 * Get the squares of an instance.
+	 *
+	 * @param instance The number of the instance.
+	 * @return The bit indices of the squares of the <code>instance</code>,
+	 * 			in the order of their digits.
+	 */
+	public static int[] squares(final int instance)
+	{
+		return INSTANCES[instance].clone();
+	}
+	/**
+	 * Get the number of squares of a type of pattern.
+	 *
+	 * @param type The type of pattern.
+	 * @return The number of squares of each instance of the
+	 * 			<code>type</code>.
+	 */
+	public static int length(final int type)
+	{
+		return SHAPES[type].length;
+	}
+	/**
+	 * Get the number of indices of a type of pattern.
+	 *
+	 * @param type The type of pattern.
+	 * @return The number of states of the squares of the <code>type</code>,
+	 * 			which is <code>3^length(type)</code>.
+	 */
+	public static int size(final int type)
+	{
+		return pow3(length(type));
+	}
+	/**
+	 * Compute the index of every instance from the masks of both sides, by
+	 * reading every square.
+	 *
+	 * @param maskA The mask of the squares occupied by {@link Piece#PIECE_A}.
+	 * @param maskB The mask of the squares occupied by {@link Piece#PIECE_B}.
+	 * @return The index of each instance.
+	 */
+	public static int[] indices(final long maskA, final long maskB)
+	{
+		final int[] indices = new int[INSTANCES.length];
+		for(long a = maskA; a != 0; a &= a - 1)
+			add(indices, Long.numberOfTrailingZeros(a), DIGIT_A);
+		for(long b = maskB; b != 0; b &= b - 1)
+			add(indices, Long.numberOfTrailingZeros(b), DIGIT_B);
+		return indices;
+	}
+	/**
+	 * Update the indices of every instance by a move.
+	 *
+	 * @param indices The indices to update.
+	 * @param square The bit index of the square of the move.
+	 * @param flips The mask of the {@link Piece} objects flipped by the move.
+	 * @param piece The {@link Piece} which moved.
+	 * @param sign <code>1</code> to make the move, or <code>-1</code> to
+	 * 			take it back.
+	 */
+	static void move(
+			final int[] indices,
+			final int square,
+			final long flips,
+			final Piece piece,
+			final int sign)
+	{
+		final int placed = piece == Piece.PIECE_A? DIGIT_A: DIGIT_B;
+		add(indices, square, sign * placed);
+		//A flip changes the digit from the other side to the mover.
+		final int flipped = sign * (2 * placed - DIGIT_A - DIGIT_B);
+		for(long f = flips; f != 0; f &= f - 1)
+			add(indices, Long.numberOfTrailingZeros(f), flipped);
+	}
+	/**
+	 * Change the digit of a square in every instance which includes it.
+	 *
+	 * @param indices The indices to update.
+	 * @param square The bit index of the square.
+	 * @param delta The change of the digit of the square.
+	 */
+	private static void add(
+			final int[] indices,
+			final int square,
+			final int delta)
+	{
+		final int[] instances = SQUARE_INSTANCES[square];
+		final int[] powers = SQUARE_POWERS[square];
+		for(int j = 0; j < instances.length; ++j)
+			indices[instances[j]] += delta * powers[j];
+	}
+}
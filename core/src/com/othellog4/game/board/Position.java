@@ -36,11 +36,36 @@ package com.othellog4.game.board;
  * using the {@link #at(int, int)} method is preferred.
  * </p>
  *
+ * <p>
+ * The {@code Position} objects of every square of a board of up to
+ * {@link #CACHE_SIZE} by {@link #CACHE_SIZE} are created once, and are shared
+ * by every call to {@link #at(int, int)} and {@link #fromIndex(int, int)}.
+ * </p>
+ *
  * @author 	159014260 John Berg
  * @since 	16/10/2017
- * @version 27/10/2017
+ * @version 18/10/2026
  */
 public final class Position {
+	//=========================================================================
+	//Static fields
+	/**
+	 * The number of columns and rows for which {@code Position} objects are
+	 * cached.
+	 */
+	public static final int CACHE_SIZE = 16;
+	/**
+	 * The cached {@code Position} objects, indexed by
+	 * <code>row * CACHE_SIZE + col</code>.
+	 */
+	private static final Position[] CACHE =
+			new Position[CACHE_SIZE * CACHE_SIZE];
+	static
+	{
+		for(int row = 0; row < CACHE_SIZE; ++row)
+			for(int col = 0; col < CACHE_SIZE; ++col)
+				CACHE[row * CACHE_SIZE + col] = new Position(row, col);
+	}
 	//=========================================================================
 	//Fields
 	/**
@@ -87,6 +112,27 @@ public final class Position {
 		this.col = col;
 	}
 	//=========================================================================
+	//Methods
+	/**
+	 * Get the index of <code>this</code> {@code Position} on a board of a
+	 * given size.
+	 *
+	 * <p>
+	 * The index is <code>row * size + col</code>, which is unique for every
+	 * square of the board, and can therefore be used to index an array with
+	 * one element per square, instead of using a {@link java.util.Set} or
+	 * {@link java.util.Map} of {@code Position} objects.
+	 * </p>
+	 *
+	 * @param size The width and height of the board.
+	 * @return The index of <code>this</code> {@code Position}.
+	 * @see #fromIndex(int, int)
+	 */
+	public final int index(final int size)
+	{
+		return row * size + col;
+	}
+	//=========================================================================
 	//Overidden methods
 	/**
 	 * Compare <code>this</code> {@code Position} against another
@@ -111,15 +157,16 @@ public final class Position {
 	/**
 	 * Get hash code of <code>this</code> {@code Position}.
 	 *
-	 * The hash code is computed by performing an xor on the {@link #col} and
-	 * the {@link #row} of <code>this</code> {@code Position}.
+	 * The hash code is the {@link #index(int)} of <code>this</code>
+	 * {@code Position} on a board of size {@link #CACHE_SIZE}, so every
+	 * square of a board of up to that size has a different hash code.
 	 *
 	 * @return The hash value of <code>this</code>
 	 */
 	@Override
 	public final int hashCode()
 	{
-		return col ^ row;
+		return index(CACHE_SIZE);
 	}
 	/**
 	 * Get the {@link String} representation of <code>this</code>
@@ -147,8 +194,15 @@ public final class Position {
 	//=========================================================================
 	//Static methods
 	/**
-	 * Initialise a new {@code Position} which represents a position at a given
-	 * column and row.
+	 * Get the {@code Position} which represents a position at a given column
+	 * and row.
+	 *
+	 * <p>
+	 * If both <code>col</code> and <code>row</code> are between
+	 * <code>0</code> and {@link #CACHE_SIZE}, then the cached
+	 * {@code Position} is returned, otherwise, a new {@code Position} is
+	 * created.
+	 * </p>
 	 *
 	 * @param col The column index of the {@code Position}.
 	 * @param row The row index of the {@code Position}.
@@ -156,10 +210,26 @@ public final class Position {
 	 * 			<code>col</code> and <code>row</code>.
 	 * @see #Position(int, int)
 	 */
+	@SuppressWarnings("deprecation")
 	public static final Position at(
 			final int col,
 			final int row)
 	{
+		if(0 <= col && col < CACHE_SIZE && 0 <= row && row < CACHE_SIZE)
+			return CACHE[row * CACHE_SIZE + col];
 		return new Position(row, col);
 	}
+	/**
+	 * Get the {@code Position} at an index of a board of a given size.
+	 *
+	 * @param index The index of the square, as given by
+	 * 			{@link #index(int)}.
+	 * @param size The width and height of the board.
+	 * @return The {@code Position} object at <code>index</code>.
+	 * @see #index(int)
+	 */
+	public static final Position fromIndex(final int index, final int size)
+	{
+		return at(index % size, index / size);
+	}
 } //Position
\ No newline at end of file
@@ -4,12 +4,13 @@ import java.util.Optional;
 import java.util.Set;
 
 /**
- * The {@code ProxyGameBoard} is a representative of the {@link GameBoard}
- * class.
+ * The {@code ProxyGameBoard} is a representative of the {@link Board}
+ * interface.
  *
  * <p>
  * The {@code ProxyGameBoard} functions as a wrapper class for the
- * {@link GameBoard} class.
+ * {@link Board} implementations, such as {@link GameBoard} and
+ * {@link BitBoard}.
  * </p>
  *
  * <p>
@@ -19,8 +20,9 @@ import java.util.Set;
  *
  * @author	159014260 John Berg
  * @since	20/11/2017
- * @version 25/11/2017
+ * @version 18/10/2026
  * @see BoardView
+ * @see Board
  * @see GameBoard
  */
 public final class ProxyGameBoard implements BoardView
@@ -28,23 +30,23 @@ public final class ProxyGameBoard implements BoardView
 	//=========================================================================
 	//Fields.
 	/**
-	 * The wrapee {@link GameBoard} which is used to delegate the methods calls
+	 * The wrapee {@link Board} which is used to delegate the methods calls
 	 * from <code>this</code> {@code ProxyGameBoard}.
 	 *
 	 * @see Board
 	 */
-	private final GameBoard board;
+	private final Board board;
 	//=========================================================================
 	//Constructors.
 	/**
 	 * Create a {@code ProxyGameBoard} which is a read-only version of a
-	 * {@link GameBoard}.
+	 * {@link Board}.
 	 *
-	 * @param board The {@link GameBoard} which the created
+	 * @param board The {@link Board} which the created
 	 * 			{@code ProxyGameBoard} is a read-only version of.
 	 * @throws NullPointerException If <code>board</code> is <code>null</code>
 	 */
-	public ProxyGameBoard(final GameBoard board)
+	public ProxyGameBoard(final Board board)
 			throws
 			NullPointerException
 	{
@@ -199,6 +201,63 @@ public final class ProxyGameBoard implements BoardView
 	{
 		return board.legalMoves(piece);
 	}
+	/**
+	 * Get the legal moves of a {@link Piece} as a <code>long</code> mask.
+	 *
+	 * <p>
+	 * Delegates the call to {@link Board}.
+	 * </p>
+	 *
+	 * @param piece The {@link Piece} to find the legal moves for.
+	 * @return The mask of the legal moves of <code>piece</code>.
+	 * @throws UnsupportedOperationException If the {@link Board} is too
+	 * 			large to be represented by a mask.
+	 * @see BoardView#legalMoveMask(Piece)
+	 */
+	@Override
+	public long legalMoveMask(final Piece piece)
+			throws
+			UnsupportedOperationException
+	{
+		return board.legalMoveMask(piece);
+	}
+	/**
+	 * Count the number of legal moves of a {@link Piece}.
+	 *
+	 * <p>
+	 * Delegates the call to {@link Board}.
+	 * </p>
+	 *
+	 * @param piece The {@link Piece} to count the legal moves for.
+	 * @return The number of legal moves of <code>piece</code>.
+	 * @see BoardView#mobility(Piece)
+	 */
+	@Override
+	public int mobility(final Piece piece)
+	{
+		return board.mobility(piece);
+	}
+	/**
+	 * Get the squares occupied by a {@link Piece} as a <code>long</code>
+	 * mask.
+	 *
+	 * <p>
+	 * Delegates the call to {@link Board}.
+	 * </p>
+	 *
+	 * @param piece The {@link Piece} to find.
+	 * @return The mask of the squares occupied by <code>piece</code>.
+	 * @throws UnsupportedOperationException If the {@link Board} is too
+	 * 			large to be represented by a mask.
+	 * @see BoardView#mask(Piece)
+	 */
+	@Override
+	public long mask(final Piece piece)
+			throws
+			UnsupportedOperationException
+	{
+		return board.mask(piece);
+	}
 	/**
 	 * Get the {@link Piece} which is winning.
 	 *
@@ -245,6 +304,21 @@ public final class ProxyGameBoard implements BoardView
 	{
 		return board.view(boardPosition);
 	}
+	/**
+	 * Get the hash of the board.
+	 *
+	 * <p>
+	 * Delegates the call to the {@link Board}.
+	 * </p>
+	 *
+	 * @return The value that {@link Board#hash()} returns.
+	 * @see Board#hash()
+	 */
+	@Override
+	public long hash()
+	{
+		return board.hash();
+	}
 	/**
 	 * Get the {@link BoardView} of <code>this</code>.
 	 *
@@ -260,4 +334,33 @@ public final class ProxyGameBoard implements BoardView
 	{
 		return this;
 	}
-}
\ No newline at end of file
+	/**
+	 * Check if an {@link Object} is equal to the board.
+	 *
+	 * <p>
+	 * Delegates the call to the {@link Board}.
+	 * </p>
+	 *
+	 * @param o The object to compare the board with.
+	 * @return The value that {@link Board#equals(Object)} returns.
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		return board.equals(o);
+	}
+	/**
+	 * Get the hash code of the board.
+	 *
+	 * <p>
+	 * Delegates the call to the {@link Board}.
+	 * </p>
+	 *
+	 * @return The value that {@link Board#hashCode()} returns.
+	 */
+	@Override
+	public int hashCode()
+	{
+		return board.hashCode();
+	}
+}
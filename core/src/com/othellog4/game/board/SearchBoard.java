@@ -0,0 +1,585 @@
+package com.othellog4.game.board;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The {@code SearchBoard} class is a mutable 8x8 board which is intended to
+ * be explored by a search.
+ *
+ * <p>
+ * Rather than creating a new board for every move which is tried, as
+ * {@link BoardView#tryPut(Position, Piece)} does, a search should make a move
+ * with {@link #makeMove(int, Piece)}, explore the resulting position, and
+ * then take the move back with {@link #unmakeMove()}. The masks of the
+ * flipped {@link Piece} objects are kept on an undo stack which is allocated
+ * once when the {@code SearchBoard} is created, so that making and unmaking
+ * moves does not allocate any objects.
+ * </p>
+ *
+ * <p>
+ * The squares of a {@code SearchBoard} are addressed by their bit index,
+ * <code>row * 8 + col</code>, the same as the bits of
+ * {@link BoardView#legalMoveMask(Piece)}.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see BitBoard
+ */
+public final class SearchBoard implements Board
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The width and height of every {@code SearchBoard}.
+	 */
+	public static final int SIZE = BoardMasks.SIZE;
+	/**
+	 * The {@link String} message for when a copied board is not 8x8.
+	 */
+	private static final String INVALID_SIZE = "A SearchBoard must be 8x8";
+	//=========================================================================
+	//Fields.
+	/**
+	 * The mask of the squares occupied by {@link Piece#PIECE_A}.
+	 */
+	private long maskA;
+	/**
+	 * The mask of the squares occupied by {@link Piece#PIECE_B}.
+	 */
+	private long maskB;
+	/**
+	 * The bit index of the square of each move which has been made.
+	 */
+	private final int[] moveStack;
+	/**
+	 * The mask of the {@link Piece} objects flipped by each move which has
+	 * been made.
+	 */
+	private final long[] flipStack;
+	/**
+	 * The {@link Zobrist} hash before each move which has been made.
+	 */
+	private final long[] hashStack;
+	/**
+	 * The {@link Zobrist} hash of <code>this</code> {@code SearchBoard}.
+	 */
+	private long hash;
+	/**
+	 * The number of moves on the undo stack.
+	 */
+	private int ply;
+	/**
+	 * The {@link Patterns} indices of <code>this</code> {@code SearchBoard},
+	 * or <code>null</code> if they have not been asked for.
+	 */
+	private int[] patterns;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code SearchBoard} from the masks of both sides.
+	 *
+	 * @param maskA The mask of the squares occupied by {@link Piece#PIECE_A}.
+	 * @param maskB The mask of the squares occupied by {@link Piece#PIECE_B}.
+	 * @throws IllegalArgumentException If <code>maskA</code> and
+	 * 			<code>maskB</code> share a square.
+	 */
+	public SearchBoard(final long maskA, final long maskB)
+			throws
+			IllegalArgumentException
+	{
+		if((maskA & maskB) != 0)
+			throw new IllegalArgumentException();
+		this.maskA = maskA;
+		this.maskB = maskB;
+		//Every move fills an empty square, so the stack can never be deeper.
+		moveStack = new int[BoardMasks.SQUARES];
+		flipStack = new long[BoardMasks.SQUARES];
+		hashStack = new long[BoardMasks.SQUARES];
+		ply = 0;
+		hash = Zobrist.hash(maskA, maskB);
+	}
+	/**
+	 * Create a {@code SearchBoard} which is a copy of the state of a
+	 * {@link BoardView}.
+	 *
+	 * @param board The {@link BoardView} to copy.
+	 * @throws IllegalArgumentException If <code>board</code> is not 8x8.
+	 */
+	public SearchBoard(final BoardView board)
+			throws
+			IllegalArgumentException
+	{
+		this(mask(board, Piece.PIECE_A), mask(board, Piece.PIECE_B));
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Get the mask of the squares of a {@link BoardView} occupied by a
+	 * {@link Piece}.
+	 *
+	 * @param board The {@link BoardView} to read.
+	 * @param piece The {@link Piece} to find.
+	 * @return The mask of the squares occupied by <code>piece</code>.
+	 * @throws IllegalArgumentException If <code>board</code> is not 8x8.
+	 */
+	private static long mask(final BoardView board, final Piece piece)
+			throws
+			IllegalArgumentException
+	{
+		if(board.size() != SIZE)
+			throw new IllegalArgumentException(INVALID_SIZE);
+		long mask = 0;
+		for(int row = 0; row < SIZE; ++row)
+			for(int col = 0; col < SIZE; ++col)
+				if(board.view(Position.at(col, row))
+						.filter(p -> p == piece)
+						.isPresent())
+					mask |= 1L << BoardMasks.index(col, row);
+		return mask;
+	}
+	/**
+	 * Get the bit index of the square of a {@link Position}.
+	 *
+	 * @param position The {@link Position} on the board.
+	 * @return The bit index of <code>position</code>.
+	 */
+	public static int square(final Position position)
+	{
+		return BoardMasks.index(position.col, position.row);
+	}
+	/**
+	 * Get the {@link Position} of the square at a bit index.
+	 *
+	 * @param square The bit index of the square.
+	 * @return The {@link Position} of <code>square</code>.
+	 */
+	public static Position position(final int square)
+	{
+		return Position.fromIndex(square, SIZE);
+	}
+	/**
+	 * Get the mask of the legal moves of a side, from the masks of both
+	 * sides.
+	 *
+	 * @param own The mask of the side to move.
+	 * @param opp The mask of the opposing side.
+	 * @return The mask of the squares where <code>own</code> can place a
+	 * 			piece.
+	 */
+	public static long legalMoveMask(final long own, final long opp)
+	{
+		return BoardMasks.moves(own, opp);
+	}
+	/**
+	 * Get the mask of the pieces which would be flipped by placing a piece at
+	 * a square, from the masks of both sides.
+	 *
+	 * @param own The mask of the side placing the piece.
+	 * @param opp The mask of the opposing side.
+	 * @param square The bit index of the square where the piece is placed.
+	 * @return The mask of the pieces of <code>opp</code> which would be
+	 * 			flipped, which is <code>0</code> if the move is not legal.
+	 */
+	public static long flipMask(
+			final long own,
+			final long opp,
+			final int square)
+	{
+		return BoardMasks.flips(own, opp, square);
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Get the mask of the squares occupied by a {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} object.
+	 * @return The mask of the squares occupied by <code>piece</code>.
+	 * @throws NullPointerException If <code>piece</code> is
+	 * 			<code>null</code>.
+	 */
+	@Override
+	public long mask(final Piece piece)
+			throws
+			NullPointerException
+	{
+		switch(piece)
+		{
+		case PIECE_A:
+			return maskA;
+		default:
+			return maskB;
+		}
+	}
+	/**
+	 * Get the number of moves which can be taken back with
+	 * {@link #unmakeMove()}.
+	 *
+	 * @return The depth of the undo stack.
+	 */
+	public int ply()
+	{
+		return ply;
+	}
+	/**
+	 * Count the number of empty squares.
+	 *
+	 * @return The number of squares not occupied by either {@link Piece}.
+	 */
+	public int empties()
+	{
+		return BoardMasks.SQUARES - Long.bitCount(maskA | maskB);
+	}
+	/**
+	 * Get the index of every instance of the {@link Patterns}.
+	 *
+	 * <p>
+	 * The indices are computed from every square when this method is first
+	 * called, after which they are updated incrementally by each move which
+	 * is made or taken back, so an evaluation only has to look up the
+	 * weight of each index. The array is updated in place and must not be
+	 * modified.
+	 * </p>
+	 *
+	 * @return The indices, in the order of the instances of
+	 * 			{@link Patterns}.
+	 */
+	public int[] patterns()
+	{
+		if(patterns == null)
+			patterns = Patterns.indices(maskA, maskB);
+		return patterns;
+	}
+	/**
+	 * Place a {@link Piece} at a square, flip the captured {@link Piece}
+	 * objects, and push the move on to the undo stack.
+	 *
+	 * @param square The bit index of the square to place on.
+	 * @param piece The {@link Piece} object to place.
+	 * @return The mask of the flipped {@link Piece} objects.
+	 * @throws IllegalArgumentException If <code>piece</code> does not flip
+	 * 			any {@link Piece} objects by being placed at
+	 * 			<code>square</code>.
+	 */
+	public long makeMove(final int square, final Piece piece)
+			throws
+			IllegalArgumentException
+	{
+		final long flips = BoardMasks.flips(
+				mask(piece),
+				mask(piece.flip()),
+				square);
+		if(flips == 0)
+			throw new IllegalArgumentException(
+					"Illegal move at " + position(square) + " for " + piece);
+		maskA ^= flips;
+		maskB ^= flips;
+		if(piece == Piece.PIECE_A)
+			maskA |= 1L << square;
+		else
+			maskB |= 1L << square;
+		moveStack[ply] = square;
+		flipStack[ply] = flips;
+		hashStack[ply] = hash;
+		hash ^= Zobrist.flip(flips) ^ Zobrist.key(piece, square);
+		if(patterns != null)
+			Patterns.move(patterns, square, flips, piece, 1);
+		++ply;
+		return flips;
+	}
+	/**
+	 * Take back the last move which was made with
+	 * {@link #makeMove(int, Piece)}.
+	 *
+	 * @throws IllegalStateException If there are no moves to take back.
+	 */
+	public void unmakeMove()
+			throws
+			IllegalStateException
+	{
+		if(ply == 0)
+			throw new IllegalStateException("No move to unmake");
+		--ply;
+		final long placed = ~(1L << moveStack[ply]);
+		final long flips = flipStack[ply];
+		if(patterns != null)
+			Patterns.move(
+					patterns,
+					moveStack[ply],
+					flips,
+					(maskA & ~placed) != 0? Piece.PIECE_A: Piece.PIECE_B,
+					-1);
+		//The placed square belongs to exactly one side, so clear both.
+		maskA = (maskA & placed) ^ flips;
+		maskB = (maskB & placed) ^ flips;
+		hash = hashStack[ply];
+	}
+	//=========================================================================
+	//Overriden methods.
+	/**
+	 * Place a {@link Piece} object at a specified {@link Position}, the same
+	 * as {@link #makeMove(int, Piece)}.
+	 *
+	 * @param position The {@link Position} to place the <code>piece</code>.
+	 * @param piece The {@link Piece} object to place.
+	 * @throws InvalidMoveException If <code>piece</code> cannot be placed at
+	 * 			<code>position</code>.
+	 */
+	@Override
+	public void put(final Position position, final Piece piece)
+			throws
+			InvalidMoveException
+	{
+		if(countFlips(position.col, position.row, piece) == 0)
+			throw new InvalidMoveException(position, piece);
+		makeMove(square(position), piece);
+	}
+	/**
+	 * Check if neither {@link Piece} can be placed.
+	 *
+	 * @return <code>true</code> if the game on <code>this</code>
+	 * 			{@code SearchBoard} has ended, otherwise, returns
+	 * 			<code>false</code>.
+	 */
+	@Override
+	public boolean isEnd()
+	{
+		return BoardMasks.moves(maskA, maskB) == 0
+				&& BoardMasks.moves(maskB, maskA) == 0;
+	}
+	/**
+	 * Check if <code>this</code> {@code SearchBoard} is in a draw.
+	 *
+	 * @return <code>true</code> If both {@link Piece} objects have the same
+	 * 			number of instances, otherwise, returns <code>false</code>.
+	 */
+	@Override
+	public boolean isDraw()
+	{
+		return Long.bitCount(maskA) == Long.bitCount(maskB);
+	}
+	/**
+	 * Get the size of <code>this</code> {@code SearchBoard}.
+	 *
+	 * @return {@link #SIZE}.
+	 */
+	@Override
+	public int size()
+	{
+		return SIZE;
+	}
+	/**
+	 * Count the number of instances of a {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} object to be counted.
+	 * @return The number of squares occupied by <code>piece</code>.
+	 */
+	@Override
+	public int count(final Piece piece)
+	{
+		return Long.bitCount(mask(piece));
+	}
+	/**
+	 * Count the number of flips which would be the result of placing a
+	 * {@link Piece} at a specified location.
+	 *
+	 * @param x The column index.
+	 * @param y The row index.
+	 * @param player The {@link Piece} to be placed.
+	 * @return The number of {@link Piece} objects which would be flipped.
+	 */
+	@Override
+	public int countFlips(final int x, final int y, final Piece player)
+	{
+		if(x < 0 || SIZE <= x || y < 0 || SIZE <= y)
+			return 0;
+		return Long.bitCount(BoardMasks.flips(
+				mask(player),
+				mask(player.flip()),
+				BoardMasks.index(x, y)));
+	}
+	/**
+	 * Get the {@link FlipEvent} objects of the last move on the undo stack.
+	 *
+	 * @return The {@link Set} of a sequence of {@link FlipEvent} objects.
+	 */
+	@Override
+	public Set<FlipEvent[]> flips()
+	{
+		if(ply == 0)
+			return Collections.emptySet();
+		final int square = moveStack[ply - 1];
+		//The flipped pieces are now of the same type as the placed piece.
+		final Piece initial = ((maskA & (1L << square)) != 0
+				? Piece.PIECE_A
+				: Piece.PIECE_B).flip();
+		return BoardMasks.flipEvents(square, flipStack[ply - 1], initial);
+	}
+	/**
+	 * Get the legal {@link Position} objects for a {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} to find the legal moves for.
+	 * @return The {@link Set} of {@link Position} objects where
+	 * 			<code>piece</code> can be placed.
+	 */
+	@Override
+	public Set<Position> legalMoves(final Piece piece)
+	{
+		final Set<Position> validMoves = new HashSet<>();
+		long moves = legalMoveMask(piece);
+		while(moves != 0)
+		{
+			validMoves.add(position(Long.numberOfTrailingZeros(moves)));
+			moves &= moves - 1;
+		}
+		return validMoves;
+	}
+	/**
+	 * Get the legal moves of a {@link Piece} as a <code>long</code> mask.
+	 *
+	 * @param piece The {@link Piece} to find the legal moves for.
+	 * @return The mask of the legal moves of <code>piece</code>.
+	 */
+	@Override
+	public long legalMoveMask(final Piece piece)
+	{
+		return BoardMasks.moves(mask(piece), mask(piece.flip()));
+	}
+	/**
+	 * Count the number of legal moves of a {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} to count the legal moves for.
+	 * @return The number of legal moves of <code>piece</code>.
+	 */
+	@Override
+	public int mobility(final Piece piece)
+	{
+		return Long.bitCount(legalMoveMask(piece));
+	}
+	/**
+	 * Get the {@link Piece} object which has the most instances.
+	 *
+	 * @return The {@link Piece} object which is winning. Returns
+	 * 			<code>null</code> if the state of the board is a draw.
+	 */
+	@Override
+	public Piece winning()
+	{
+		final int a = Long.bitCount(maskA);
+		final int b = Long.bitCount(maskB);
+		if(a == b)
+			return null;
+		return a < b? Piece.PIECE_B: Piece.PIECE_A;
+	}
+	/**
+	 * Get the {@link Piece} object which has the fewest instances.
+	 *
+	 * @return The {@link Piece} object which is losing. Returns
+	 * 			<code>null</code> if the state of the board is a draw.
+	 */
+	@Override
+	public Piece losing()
+	{
+		final Piece piece = winning();
+		return piece == null? null: piece.flip();
+	}
+	/**
+	 * Get the {@link Piece} object at a specific {@link Position}.
+	 *
+	 * @param pos The {@link Position} on the board.
+	 * @return The {@link Optional} {@link Piece} at <code>pos</code>.
+	 * @throws ArrayIndexOutOfBoundsException If <code>pos</code> is not on
+	 * 			the board.
+	 */
+	@Override
+	public Optional<Piece> view(final Position pos)
+			throws
+			ArrayIndexOutOfBoundsException
+	{
+		if(pos.col < 0 || SIZE <= pos.col || pos.row < 0 || SIZE <= pos.row)
+			throw new ArrayIndexOutOfBoundsException(pos.toString());
+		final long square = 1L << square(pos);
+		if((maskA & square) != 0)
+			return Optional.of(Piece.PIECE_A);
+		if((maskB & square) != 0)
+			return Optional.of(Piece.PIECE_B);
+		return Optional.empty();
+	}
+	/**
+	 * Try placing a {@link Piece} object at a specified {@link Position},
+	 * without modifying <code>this</code> {@code SearchBoard} object.
+	 *
+	 * <p>
+	 * This allocates a new board, a search should use
+	 * {@link #makeMove(int, Piece)} and {@link #unmakeMove()} instead.
+	 * </p>
+	 *
+	 * @param pos The {@link Position} to try.
+	 * @param piece The {@link Piece} object to put.
+	 * @return A projection of <code>this</code> {@code SearchBoard} which
+	 * 			represents the outcome of placing the <code>piece</code> at
+	 * 			<code>pos</code>.
+	 * @throws InvalidMoveException If the attempted move is not allowed.
+	 */
+	@Override
+	public BoardView tryPut(final Position pos, final Piece piece)
+			throws
+			InvalidMoveException
+	{
+		return new BitBoard(maskA, maskB).tryPut(pos, piece);
+	}
+	/**
+	 * Get the hash of <code>this</code> {@code SearchBoard}.
+	 *
+	 * @return The {@link Zobrist} hash of the board.
+	 */
+	@Override
+	public long hash()
+	{
+		return hash;
+	}
+	/**
+	 * Get the read-only {@link BoardView} of <code>this</code>
+	 * {@code SearchBoard}.
+	 *
+	 * @return The {@link ProxyGameBoard} of <code>this</code>.
+	 */
+	@Override
+	public BoardView getView()
+	{
+		return new ProxyGameBoard(this);
+	}
+	/**
+	 * Check if an {@link Object} is equal to <code>this</code>
+	 * {@code SearchBoard}.
+	 *
+	 * @param o The object to compare <code>this</code> with.
+	 * @return <code>true</code> if <code>o</code> is a {@link BoardView} of
+	 * 			the same size and {@link #hash()} as <code>this</code>,
+	 * 			otherwise, returns <code>false</code>.
+	 */
+	@Override
+	public boolean equals(final Object o)
+	{
+		if(o instanceof BoardView)
+		{
+			final BoardView board = (BoardView) o;
+			return SIZE == board.size() && hash == board.hash();
+		}
+		return false;
+	}
+	/**
+	 * Get the hash code of <code>this</code> {@code SearchBoard}.
+	 *
+	 * @return The hash code of {@link #hash()}.
+	 */
+	@Override
+	public int hashCode()
+	{
+		return Long.hashCode(hash);
+	}
+}
@@ -0,0 +1,456 @@
+package com.othellog4.game.board;
+
+/**
+ * The {@code Symmetry} enumeration is the collection of the 8 rotations and
+ * reflections of a square board, which map a position to an equivalent
+ * position.
+ *
+ * <p>
+ * The rules of Othello do not depend on the orientation of the board, so
+ * positions which are a {@code Symmetry} of each other have the same value
+ * and the same best moves, once the moves are mapped by the same
+ * {@code Symmetry}. A position is folded by mapping it to its canonical
+ * form with {@link #canonical(long, long)}, so that the equivalent
+ * positions of a book or a cache share one entry.
+ * </p>
+ *
+ * <p>
+ * The <code>long</code> masks of an 8x8 board are mapped with a few shifts
+ * and masks, rather than square by square. A {@link Position}, a grid of
+ * {@link Piece} objects, or a board of any other size is mapped square by
+ * square.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public enum Symmetry
+{
+	//=========================================================================
+	//Enum constants.
+	/**
+	 * The {@code Symmetry} which does not move any square.
+	 */
+	IDENTITY,
+	/**
+	 * The rotation by 90 degrees clockwise.
+	 */
+	ROTATE_90,
+	/**
+	 * The rotation by 180 degrees.
+	 */
+	ROTATE_180,
+	/**
+	 * The rotation by 270 degrees clockwise.
+	 */
+	ROTATE_270,
+	/**
+	 * The reflection in the vertical axis, which reverses the columns.
+	 */
+	FLIP_HORIZONTAL,
+	/**
+	 * The reflection in the horizontal axis, which reverses the rows.
+	 */
+	FLIP_VERTICAL,
+	/**
+	 * The reflection in the diagonal from the first square, which swaps the
+	 * rows and columns.
+	 */
+	FLIP_DIAGONAL,
+	/**
+	 * The reflection in the other diagonal.
+	 */
+	FLIP_ANTI_DIAGONAL;
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The index of the last row and column of an 8x8 board.
+	 */
+	private static final int LAST = BoardMasks.SIZE - 1;
+	/**
+	 * The mask of every other column.
+	 */
+	private static final long COLS_1 = 0x5555555555555555L;
+	/**
+	 * The mask of every other pair of columns.
+	 */
+	private static final long COLS_2 = 0x3333333333333333L;
+	/**
+	 * The mask of the first 4 columns.
+	 */
+	private static final long COLS_4 = 0x0F0F0F0F0F0F0F0FL;
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Reverse the columns of a mask.
+	 *
+	 * @param mask The mask of an 8x8 board.
+	 * @return The mask where the square at each column is moved to the
+	 * 			opposite column.
+	 */
+	private static long mirror(final long mask)
+	{
+		long x = mask;
+		//Swap the columns, then the pairs of columns, then the halves.
+		x = ((x >>> 1) & COLS_1) | ((x & COLS_1) << 1);
+		x = ((x >>> 2) & COLS_2) | ((x & COLS_2) << 2);
+		x = ((x >>> 4) & COLS_4) | ((x & COLS_4) << 4);
+		return x;
+	}
+	/**
+	 * Swap the rows and columns of a mask.
+	 *
+	 * @param mask The mask of an 8x8 board.
+	 * @return The mask where the square at each column and row is moved to
+	 * 			the column of its row, and the row of its column.
+	 */
+	private static long transpose(final long mask)
+	{
+		long x = mask;
+		long t;
+		//Swap the 4x4 blocks, then the 2x2 blocks, then the squares.
+		t = 0x0F0F0F0F00000000L & (x ^ (x << 28));
+		x ^= t ^ (t >>> 28);
+		t = 0x3333000033330000L & (x ^ (x << 14));
+		x ^= t ^ (t >>> 14);
+		t = 0x5500550055005500L & (x ^ (x << 7));
+		x ^= t ^ (t >>> 7);
+		return x;
+	}
+	/**
+	 * Find the {@code Symmetry} which maps a position to its canonical form.
+	 *
+	 * <p>
+	 * The canonical form is the smallest of the 8 equivalent positions,
+	 * compared by the mask of {@link Piece#PIECE_A} and then the mask of
+	 * {@link Piece#PIECE_B}, as unsigned numbers. Every equivalent position
+	 * has the same canonical form.
+	 * </p>
+	 *
+	 * @param maskA The mask of the squares occupied by {@link Piece#PIECE_A}.
+	 * @param maskB The mask of the squares occupied by {@link Piece#PIECE_B}.
+	 * @return The {@code Symmetry} which maps the position to its canonical
+	 * 			form.
+	 */
+	public static Symmetry canonical(final long maskA, final long maskB)
+	{
+		Symmetry best = IDENTITY;
+		long bestA = maskA;
+		long bestB = maskB;
+		for(final Symmetry symmetry : values())
+		{
+			final long a = symmetry.apply(maskA);
+			final int order = Long.compareUnsigned(a, bestA);
+			if(order > 0)
+				continue;
+			final long b = symmetry.apply(maskB);
+			if(order < 0 || Long.compareUnsigned(b, bestB) < 0)
+			{
+				best = symmetry;
+				bestA = a;
+				bestB = b;
+			}
+		}
+		return best;
+	}
+	/**
+	 * Find the canonical form of a {@link BoardView}.
+	 *
+	 * <p>
+	 * An 8x8 board is compared by its masks, as by
+	 * {@link #canonical(long, long)}. A board of any other size is compared
+	 * square by square, by the ordinal of each {@link Piece}, with the rows
+	 * in order and the columns in order within each row.
+	 * </p>
+	 *
+	 * @param board The {@link BoardView} to find the canonical form of.
+	 * @return The {@link Canonical} form of the <code>board</code>.
+	 */
+	public static Canonical canonicalForm(final BoardView board)
+	{
+		if(board.size() == BoardMasks.SIZE)
+		{
+			final Symmetry symmetry = canonical(
+					board.mask(Piece.PIECE_A),
+					board.mask(Piece.PIECE_B));
+			return new Canonical(symmetry, symmetry.apply(board));
+		}
+		final Piece[][] grid = grid(board);
+		Symmetry best = IDENTITY;
+		Piece[][] bestGrid = grid;
+		for(final Symmetry symmetry : values())
+		{
+			final Piece[][] mapped = symmetry.apply(grid);
+			if(compare(mapped, bestGrid) < 0)
+			{
+				best = symmetry;
+				bestGrid = mapped;
+			}
+		}
+		return new Canonical(best, new GameBoard(bestGrid));
+	}
+	/**
+	 * Read the grid of {@link Piece} objects of a {@link BoardView}.
+	 *
+	 * @param board The {@link BoardView} to read.
+	 * @return The grid, indexed by column and then row, where an empty
+	 * 			square is <code>null</code>.
+	 */
+	private static Piece[][] grid(final BoardView board)
+	{
+		final Piece[][] grid = new Piece[board.size()][board.size()];
+		for(int col = 0; col < grid.length; ++col)
+			for(int row = 0; row < grid.length; ++row)
+				grid[col][row] = board.view(Position.at(col, row))
+						.orElse(null);
+		return grid;
+	}
+	/**
+	 * Compare two grids of {@link Piece} objects of the same size, square by
+	 * square.
+	 *
+	 * @param a The first grid.
+	 * @param b The second grid.
+	 * @return A negative number, zero, or a positive number if
+	 * 			<code>a</code> is less than, equal to, or greater than
+	 * 			<code>b</code>.
+	 */
+	private static int compare(final Piece[][] a, final Piece[][] b)
+	{
+		for(int row = 0; row < a.length; ++row)
+			for(int col = 0; col < a.length; ++col)
+			{
+				final int x = a[col][row] == null? 0: a[col][row].ordinal() + 1;
+				final int y = b[col][row] == null? 0: b[col][row].ordinal() + 1;
+				if(x != y)
+					return x - y;
+			}
+		return 0;
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Map a mask of an 8x8 board by <code>this</code> {@code Symmetry}.
+	 *
+	 * @param mask The mask of the squares, where the bit
+	 * 			<code>row * 8 + col</code> is the square at the column and
+	 * 			row.
+	 * @return The mask of the mapped squares.
+	 */
+	public long apply(final long mask)
+	{
+		switch(this)
+		{
+		case ROTATE_90:
+			return mirror(transpose(mask));
+		case ROTATE_180:
+			return Long.reverse(mask);
+		case ROTATE_270:
+			return Long.reverseBytes(transpose(mask));
+		case FLIP_HORIZONTAL:
+			return mirror(mask);
+		case FLIP_VERTICAL:
+			return Long.reverseBytes(mask);
+		case FLIP_DIAGONAL:
+			return transpose(mask);
+		case FLIP_ANTI_DIAGONAL:
+			return Long.reverse(transpose(mask));
+		default:
+			return mask;
+		}
+	}
+	/**
+	 * Get the column a square is mapped to by <code>this</code>
+	 * {@code Symmetry}.
+	 *
+	 * @param col The column index of the square.
+	 * @param row The row index of the square.
+	 * @param last The index of the last row and column of the board.
+	 * @return The column index of the mapped square.
+	 */
+	private int col(final int col, final int row, final int last)
+	{
+		switch(this)
+		{
+		case ROTATE_90:
+		case FLIP_ANTI_DIAGONAL:
+			return last - row;
+		case ROTATE_180:
+		case FLIP_HORIZONTAL:
+			return last - col;
+		case ROTATE_270:
+		case FLIP_DIAGONAL:
+			return row;
+		default:
+			return col;
+		}
+	}
+	/**
+	 * Get the row a square is mapped to by <code>this</code>
+	 * {@code Symmetry}.
+	 *
+	 * @param col The column index of the square.
+	 * @param row The row index of the square.
+	 * @param last The index of the last row and column of the board.
+	 * @return The row index of the mapped square.
+	 */
+	private int row(final int col, final int row, final int last)
+	{
+		switch(this)
+		{
+		case ROTATE_90:
+		case FLIP_DIAGONAL:
+			return col;
+		case ROTATE_180:
+		case FLIP_VERTICAL:
+			return last - row;
+		case ROTATE_270:
+		case FLIP_ANTI_DIAGONAL:
+			return last - col;
+		default:
+			return row;
+		}
+	}
+	/**
+	 * Map a square of an 8x8 board by <code>this</code> {@code Symmetry}.
+	 *
+	 * @param square The bit index of the square.
+	 * @return The bit index of the mapped square.
+	 */
+	public int apply(final int square)
+	{
+		final int col = square % BoardMasks.SIZE;
+		final int row = square / BoardMasks.SIZE;
+		return BoardMasks.index(col(col, row, LAST), row(col, row, LAST));
+	}
+	/**
+	 * Map a {@link Position} of a board of any size by <code>this</code>
+	 * {@code Symmetry}.
+	 *
+	 * @param position The {@link Position} to map.
+	 * @param size The width and height of the board.
+	 * @return The mapped {@link Position}.
+	 */
+	public Position apply(final Position position, final int size)
+	{
+		final int last = size - 1;
+		return Position.at(
+				col(position.col, position.row, last),
+				row(position.col, position.row, last));
+	}
+	/**
+	 * Map a grid of {@link Piece} objects by <code>this</code>
+	 * {@code Symmetry}.
+	 *
+	 * @param grid The square grid, indexed by column and then row.
+	 * @return A new grid, where each {@link Piece} of <code>grid</code> is
+	 * 			moved to its mapped square.
+	 */
+	public Piece[][] apply(final Piece[][] grid)
+	{
+		final int last = grid.length - 1;
+		final Piece[][] mapped = new Piece[grid.length][grid.length];
+		for(int col = 0; col < grid.length; ++col)
+			for(int row = 0; row < grid.length; ++row)
+				mapped[col(col, row, last)][row(col, row, last)] =
+						grid[col][row];
+		return mapped;
+	}
+	/**
+	 * Map a {@link BoardView} by <code>this</code> {@code Symmetry}.
+	 *
+	 * <p>
+	 * A {@link GameBoard}, or a board which is not 8x8, is mapped square by
+	 * square to a new {@link GameBoard}, which keeps any squares which are
+	 * blocked by {@link Piece#PIECE_NULL}. Any other 8x8 board is mapped by
+	 * its masks to a new {@link BitBoard}.
+	 * </p>
+	 *
+	 * @param board The {@link BoardView} to map.
+	 * @return A new board of the mapped position.
+	 */
+	public BoardView apply(final BoardView board)
+	{
+		if(board instanceof GameBoard || board.size() != BoardMasks.SIZE)
+			return new GameBoard(apply(grid(board)));
+		return new BitBoard(
+				apply(board.mask(Piece.PIECE_A)),
+				apply(board.mask(Piece.PIECE_B)));
+	}
+	/**
+	 * Get the {@code Symmetry} which undoes <code>this</code>
+	 * {@code Symmetry}.
+	 *
+	 * @return The inverse {@code Symmetry}.
+	 */
+	public Symmetry inverse()
+	{
+		switch(this)
+		{
+		case ROTATE_90:
+			return ROTATE_270;
+		case ROTATE_270:
+			return ROTATE_90;
+		default:
+			return this;
+		}
+	}
+	//=========================================================================
+	//Inner classes.
+	/**
+	 * The {@code Canonical} class is the canonical form of a board, together
+	 * with the {@link Symmetry} which maps the board to it.
+	 *
+	 * <p>
+	 * The {@code Canonical} class is immutable.
+	 * </p>
+	 */
+	public static final class Canonical
+	{
+		/**
+		 * The {@link Symmetry} which maps the board to its canonical form.
+		 */
+		private final Symmetry symmetry;
+		/**
+		 * The board of the canonical form.
+		 */
+		private final BoardView board;
+		/**
+		 * Create the {@code Canonical} form of a board.
+		 *
+		 * @param symmetry The {@link Symmetry} which maps the board to its
+		 * 			canonical form.
+		 * @param board The board of the canonical form.
+		 */
+		private Canonical(final Symmetry symmetry, final BoardView board)
+		{
+			this.symmetry = symmetry;
+			this.board = board;
+		}
+		/**
+		 * Get the {@link Symmetry} which maps the board to its canonical
+		 * form.
+		 *
+		 * <p>
+		 * A move of the canonical form is mapped back to the board by the
+		 * {@link Symmetry#inverse()}.
+		 * </p>
+		 *
+		 * @return The {@link Symmetry} which was used.
+		 */
+		public Symmetry symmetry()
+		{
+			return symmetry;
+		}
+		/**
+		 * Get the board of the canonical form.
+		 *
+		 * @return The {@link BoardView} of the canonical form.
+		 */
+		public BoardView board()
+		{
+			return board;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+package com.othellog4.game.board;
+
+/**
+ * The {@code Zobrist} class is a collection of the keys and operations used
+ * to compute the 64-bit hash of the state of a board.
+ *
+ * <p>
+ * Every {@link Piece} at every square has a random <code>long</code> key. The
+ * hash of a board is the exclusive or of the keys of every occupied square,
+ * so placing or flipping a {@link Piece} updates the hash with one or two
+ * exclusive ors, rather than by hashing every square again.
+ * </p>
+ *
+ * <p>
+ * The keys are generated from a fixed seed, so the hash of the same state is
+ * the same across every board implementation, run and machine. The hash can
+ * therefore be stored, or sent to another player, to identify a state.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see BoardView#hash()
+ */
+public final class Zobrist
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The seed which the keys are generated from.
+	 */
+	private static final long SEED = 0x4F7468656C6C6F34L;
+	/**
+	 * The number of squares which have a key in {@link #KEYS}.
+	 */
+	private static final int SQUARES =
+			Position.CACHE_SIZE * Position.CACHE_SIZE;
+	/**
+	 * The key of each {@link Piece} at each square, indexed by
+	 * {@link Piece#ordinal()}, and then by
+	 * {@link Position#index(int)} of {@link Position#CACHE_SIZE}.
+	 */
+	private static final long[][] KEYS =
+			new long[Piece.values().length][SQUARES];
+	/**
+	 * The key of {@link Piece#PIECE_A} at each square of an 8x8 board,
+	 * indexed by the bit index of the square.
+	 */
+	private static final long[] MASK_KEYS_A = new long[BoardMasks.SQUARES];
+	/**
+	 * The key of {@link Piece#PIECE_B} at each square of an 8x8 board,
+	 * indexed by the bit index of the square.
+	 */
+	private static final long[] MASK_KEYS_B = new long[BoardMasks.SQUARES];
+	/**
+	 * The key to flip the {@link Piece} at each square of an 8x8 board,
+	 * indexed by the bit index of the square.
+	 */
+	private static final long[] MASK_KEYS_FLIP = new long[BoardMasks.SQUARES];
+	/**
+	 * The key which is included in the hash when {@link Piece#PIECE_B} is
+	 * the next to move.
+	 *
+	 * <p>
+	 * The ordinal of the key is beyond every {@link Piece}, so it is not the
+	 * key of any square of a board of fewer than 65536 rows, as otherwise
+	 * the hash of a position with one side to move would be the hash of
+	 * another position with the other side to move.
+	 * </p>
+	 */
+	private static final long SIDE = generate(Piece.values().length, 0);
+	static
+	{
+		for(final Piece piece : Piece.values())
+			for(int i = 0; i < SQUARES; ++i)
+				KEYS[piece.ordinal()][i] = generate(piece, i);
+		for(int square = 0; square < BoardMasks.SQUARES; ++square)
+		{
+			MASK_KEYS_A[square] = key(
+					Piece.PIECE_A,
+					square % BoardMasks.SIZE,
+					square / BoardMasks.SIZE);
+			MASK_KEYS_B[square] = key(
+					Piece.PIECE_B,
+					square % BoardMasks.SIZE,
+					square / BoardMasks.SIZE);
+			MASK_KEYS_FLIP[square] = MASK_KEYS_A[square] ^ MASK_KEYS_B[square];
+		}
+	}
+	//=========================================================================
+	//Constructors.
+	/**
+	 * No instances of {@code Zobrist} may be created.
+	 */
+	private Zobrist()
+	{
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Scramble the bits of a <code>long</code> value.
+	 *
+	 * @param value The value to scramble.
+	 * @return The scrambled value.
+	 */
+	private static long mix(final long value)
+	{
+		long z = value + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+	/**
+	 * Generate the key of a {@link Piece} at a square.
+	 *
+	 * @param piece The {@link Piece} object.
+	 * @param index The index of the square.
+	 * @return The generated key.
+	 */
+	private static long generate(final Piece piece, final long index)
+	{
+		return generate(piece.ordinal(), index);
+	}
+	/**
+	 * Generate the key of an ordinal at a square.
+	 *
+	 * @param ordinal The ordinal of a {@link Piece}, or of the side to move.
+	 * @param index The index of the square.
+	 * @return The generated key.
+	 */
+	private static long generate(final int ordinal, final long index)
+	{
+		return mix(SEED ^ ((long) ordinal << 32) ^ index);
+	}
+	/**
+	 * Get the key of a {@link Piece} at a specified location.
+	 *
+	 * @param piece The {@link Piece} object.
+	 * @param col The column index.
+	 * @param row The row index.
+	 * @return The key of <code>piece</code> at the location.
+	 */
+	public static long key(final Piece piece, final int col, final int row)
+	{
+		if(0 <= col && col < Position.CACHE_SIZE
+				&& 0 <= row && row < Position.CACHE_SIZE)
+			return KEYS[piece.ordinal()][row * Position.CACHE_SIZE + col];
+		//Outside of the table the key is generated every time.
+		return generate(piece, ((long) row << 16) ^ (col & 0xFFFFL));
+	}
+	/**
+	 * Get the key of the side to move.
+	 *
+	 * @param toMove The {@link Piece} which is next to move.
+	 * @return The key which is included in the hash when <code>toMove</code>
+	 * 			is next to move.
+	 */
+	public static long side(final Piece toMove)
+	{
+		return toMove == Piece.PIECE_B? SIDE: 0;
+	}
+	/**
+	 * Compute the hash of a {@link BoardView} by reading every square.
+	 *
+	 * @param board The {@link BoardView} to hash.
+	 * @return The hash of the {@link Piece} objects on <code>board</code>.
+	 */
+	public static long hash(final BoardView board)
+	{
+		long hash = 0;
+		for(int col = 0; col < board.size(); ++col)
+			for(int row = 0; row < board.size(); ++row)
+			{
+				final Piece piece = board.view(Position.at(col, row))
+						.orElse(null);
+				if(piece != null)
+					hash ^= key(piece, col, row);
+			}
+		return hash;
+	}
+	/**
+	 * Compute the hash of an 8x8 board from the masks of both sides.
+	 *
+	 * @param maskA The mask of the squares occupied by {@link Piece#PIECE_A}.
+	 * @param maskB The mask of the squares occupied by {@link Piece#PIECE_B}.
+	 * @return The hash of the board.
+	 */
+	static long hash(long maskA, long maskB)
+	{
+		long hash = 0;
+		for(; maskA != 0; maskA &= maskA - 1)
+			hash ^= MASK_KEYS_A[Long.numberOfTrailingZeros(maskA)];
+		for(; maskB != 0; maskB &= maskB - 1)
+			hash ^= MASK_KEYS_B[Long.numberOfTrailingZeros(maskB)];
+		return hash;
+	}
+	/**
+	 * Get the key of a {@link Piece} at a square of an 8x8 board.
+	 *
+	 * @param piece The {@link Piece} object.
+	 * @param square The bit index of the square.
+	 * @return The key of <code>piece</code> at <code>square</code>.
+	 */
+	static long key(final Piece piece, final int square)
+	{
+		return piece == Piece.PIECE_A
+				? MASK_KEYS_A[square]
+				: MASK_KEYS_B[square];
+	}
+	/**
+	 * Get the change to the hash of an 8x8 board from flipping the
+	 * {@link Piece} objects of a mask.
+	 *
+	 * @param flips The mask of the flipped {@link Piece} objects.
+	 * @return The value to exclusive or with the hash of the board.
+	 */
+	static long flip(long flips)
+	{
+		long hash = 0;
+		for(; flips != 0; flips &= flips - 1)
+			hash ^= MASK_KEYS_FLIP[Long.numberOfTrailingZeros(flips)];
+		return hash;
+	}
+}
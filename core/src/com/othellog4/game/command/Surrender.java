@@ -15,7 +15,7 @@ import com.othellog4.game.player.Participant;
  *
  * @author 	159014260 John Berg
  * @since	04/03/2018
- * @version	04/03/2018
+ * @version	18/10/2026
  * @see GameCommand
  */
 public final class Surrender extends GameCommand
@@ -50,6 +50,19 @@ public final class Surrender extends GameCommand
 		this.piece = piece;
 	}
 	//=========================================================================
+	//Methods.
+	/**
+	 * Get the {@link Piece} object which <code>this</code> {@code Surrender}
+	 * command will make surrender.
+	 *
+	 * @return The surrendering {@link Piece}.
+	 * @see Piece
+	 */
+	public final Piece piece()
+	{
+		return piece;
+	}
+	//=========================================================================
 	//Overriden methods.
 	/**
 	 * Execute <code>this</code> {@code Surrender} command on a {@link Game}
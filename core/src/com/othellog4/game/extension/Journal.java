@@ -0,0 +1,595 @@
+package com.othellog4.game.extension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+import com.othellog4.game.Game;
+import com.othellog4.game.GameEvent;
+import com.othellog4.game.GameManager;
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.SearchBoard;
+import com.othellog4.game.command.GameCommand;
+import com.othellog4.game.command.Put;
+import com.othellog4.game.command.Surrender;
+
+/**
+ * The {@code Journal} class is a {@link GameExtension} which records a game
+ * as a compact binary {@link Record}.
+ *
+ * <p>
+ * Each accepted {@link Put} is recorded as a single byte, which is the
+ * square of the move, and each pass, {@link Surrender} and pause is
+ * recorded as a byte of its own. A pause and the resume which follows it
+ * also record the milli-seconds since the start of the game. The
+ * {@link Record} is written when the game ends, in a single write, so the
+ * {@code Journal} objects of many games may append to the same stream, and
+ * a file of millions of games is read back one {@link Record} at a time by
+ * {@link Record#read(DataInput)}.
+ * </p>
+ *
+ * <p>
+ * Only games on a board of {@link BitBoard#SIZE} are recorded. A
+ * {@code Journal} records a single game, so each game needs its own
+ * {@code Journal}. The game is not disturbed if the {@link Record} cannot
+ * be written, so the {@link #failure()} should be checked once the game
+ * has ended.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see Record
+ */
+public final class Journal extends GameExtension
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The <code>int</code> which starts every {@link Record}, which is
+	 * <code>"OTJ1"</code> in ASCII.
+	 */
+	private static final int MAGIC = 0x4F544A31;
+	/**
+	 * The entry of a player who has no legal move and passes.
+	 */
+	private static final int PASS = 64;
+	/**
+	 * The entry of a pause, which is followed by its time.
+	 */
+	private static final int PAUSE = 65;
+	/**
+	 * The entry of a resume, which is followed by its time.
+	 */
+	private static final int RESUME = 66;
+	/**
+	 * The entry of a surrender, to which the ordinal of the surrendering
+	 * {@link Piece} is added.
+	 */
+	private static final int SURRENDER = 67;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The {@link OutputStream} which the {@link Record} is written to.
+	 */
+	private final OutputStream out;
+	/**
+	 * The entries of the game which have been recorded.
+	 */
+	private final ByteArrayOutputStream entries;
+	/**
+	 * The {@link DataOutputStream} which writes to the {@link #entries}.
+	 */
+	private final DataOutputStream data;
+	/**
+	 * The {@link System#currentTimeMillis()} of the start of the game, or
+	 * <code>0</code> if the game has not started.
+	 */
+	private long start;
+	/**
+	 * The masks of the {@link Piece#PIECE_A} and {@link Piece#PIECE_B} of
+	 * the board when the game started.
+	 */
+	private long maskA, maskB;
+	/**
+	 * The {@link Piece} which moved first.
+	 */
+	private Piece first;
+	/**
+	 * The turn of the game when it started.
+	 */
+	private int turn;
+	/**
+	 * The {@link Put} which has been issued and not yet accepted.
+	 */
+	private Put put;
+	/**
+	 * The {@link Surrender} which has been issued in the current turn, or
+	 * <code>null</code> if there is none.
+	 */
+	private Surrender surrender;
+	/**
+	 * The {@link Piece} which made the last accepted move, or
+	 * <code>null</code> if the turn has been passed on.
+	 */
+	private Piece mover;
+	/**
+	 * Is <code>true</code> if the game is not recorded.
+	 */
+	private boolean closed;
+	/**
+	 * The {@link IOException} which stopped the {@link Record} from being
+	 * written, or <code>null</code> if there was none.
+	 */
+	private IOException failure;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code Journal} which writes its {@link Record} to an
+	 * {@link OutputStream}.
+	 *
+	 * <p>
+	 * The {@link Record} is written while holding the lock of
+	 * <code>out</code>, so it is safe for the {@code Journal} objects of
+	 * games which are played at once to share <code>out</code>.
+	 * </p>
+	 *
+	 * @param out The {@link OutputStream} to append the {@link Record} to,
+	 * 			such as a {@link java.io.FileOutputStream} which appends.
+	 * @throws NullPointerException If <code>out</code> is <code>null</code>.
+	 */
+	public Journal(final OutputStream out)
+			throws
+			NullPointerException
+	{
+		if(out == null)
+			throw new NullPointerException();
+		this.out = out;
+		entries = new ByteArrayOutputStream();
+		data = new DataOutputStream(entries);
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Record an entry which is followed by the milli-seconds since the
+	 * start of the game.
+	 *
+	 * @param entry The entry to record.
+	 * @throws IOException Never, as the {@link #entries} are in memory.
+	 */
+	private void timed(final int entry)
+			throws
+			IOException
+	{
+		data.writeByte(entry);
+		data.writeInt((int) (System.currentTimeMillis() - start));
+	}
+	/**
+	 * Write the {@link Record} of the game to the {@link OutputStream}.
+	 *
+	 * @throws IOException If the {@link OutputStream} throws an
+	 * 			{@link IOException}.
+	 */
+	private void write()
+			throws
+			IOException
+	{
+		final Record record = new Record(
+				start,
+				(int) (System.currentTimeMillis() - start),
+				maskA,
+				maskB,
+				first,
+				turn,
+				entries.toByteArray());
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+				Record.HEADER + record.entries.length);
+		record.write(new DataOutputStream(bytes));
+		synchronized(out)
+		{
+			bytes.writeTo(out);
+			out.flush();
+		}
+	}
+	/**
+	 * Get the {@link IOException} which stopped the {@link Record} of the
+	 * game from being written.
+	 *
+	 * @return The {@link Optional} of the {@link IOException}, or
+	 * 			{@link Optional#empty()} if the {@link Record} was written,
+	 * 			or the game has not ended.
+	 */
+	public final synchronized Optional<IOException> failure()
+	{
+		return Optional.ofNullable(failure);
+	}
+	//=========================================================================
+	//Overriden methods.
+	/**
+	 * The {@code Journal} class does not provide a result.
+	 *
+	 * @return <code>false</code>.
+	 */
+	@Override
+	public final boolean hasResult()
+	{
+		return false;
+	}
+	/**
+	 * The {@code Journal} class does not generate a result.
+	 *
+	 * @param piece Ignored.
+	 * @return Should not return.
+	 * @throws UnsupportedOperationException When called.
+	 */
+	@Override
+	public final int result(final Piece piece)
+			throws
+			UnsupportedOperationException
+	{
+		throw new UnsupportedOperationException();
+	}
+	/**
+	 * Record the {@link GameEvent} objects which change the game, and write
+	 * the {@link Record} when the game ends.
+	 *
+	 * @param event The {@link GameEvent} which has been triggered.
+	 * @param manager The {@link GameManager} which <code>this</code>
+	 * 			{@code Journal} belongs.
+	 */
+	@Override
+	public final synchronized void onEvent(
+			final GameEvent event,
+			final GameManager manager)
+	{
+		if(closed)
+			return;
+		final Game game = manager.game();
+		try
+		{
+			switch(event)
+			{
+			case BEGIN:
+				if(start != 0)
+				{
+					timed(RESUME);
+					break;
+				}
+				final BoardView board = game.getBoard();
+				if(board.size() != BitBoard.SIZE)
+				{
+					closed = true;
+					break;
+				}
+				start = System.currentTimeMillis();
+				maskA = board.mask(Piece.PIECE_A);
+				maskB = board.mask(Piece.PIECE_B);
+				first = game.getCurrent();
+				turn = game.turn();
+				break;
+			case PAUSED:
+				timed(PAUSE);
+				break;
+			case ACCEPTED_PLACMENT:
+				data.writeByte(SearchBoard.square(put.position()));
+				mover = game.getCurrent();
+				put = null;
+				break;
+			case NEXT_TURN:
+				//The turn stays with the player who moved if the other passes.
+				if(mover != null && mover == game.getCurrent())
+					data.writeByte(PASS);
+				mover = null;
+				//A surrender which did not end the game is not recorded.
+				surrender = null;
+				break;
+			case END:
+				if(surrender != null && start != 0)
+					data.writeByte(SURRENDER + surrender.piece().ordinal());
+				closed = true;
+				if(start != 0)
+					write();
+				break;
+			default:
+				break;
+			}
+		}
+		catch(final IOException e)
+		{
+			failure = e;
+			e.printStackTrace();
+		}
+	}
+	/**
+	 * Remember the {@link Put} and {@link Surrender} commands, which are
+	 * recorded once the game accepts them.
+	 *
+	 * @param command The {@link GameCommand} which has been issued.
+	 * @param manager The {@link GameManager} which <code>this</code>
+	 * 			{@code Journal} belongs.
+	 */
+	@Override
+	public final synchronized void onCommand(
+			final GameCommand command,
+			final GameManager manager)
+	{
+		if(command instanceof Put)
+			put = (Put) command;
+		else if(command instanceof Surrender)
+			surrender = (Surrender) command;
+	}
+	//=========================================================================
+	//Inner classes.
+	/**
+	 * The {@code Record} class is the record of a game by a
+	 * {@link Journal}.
+	 *
+	 * <p>
+	 * A {@code Record} is the starting position of the game followed by its
+	 * entries, from which the {@link Game} is replayed to any point by
+	 * {@link #replay(int)}. The {@code Record} class is immutable.
+	 * </p>
+	 */
+	public static final class Record
+	{
+		/**
+		 * The number of bytes of a {@code Record} before its entries.
+		 */
+		private static final int HEADER = 4 + 8 + 4 + 8 + 8 + 1 + 4 + 4;
+		/**
+		 * The {@link System#currentTimeMillis()} of the start of the game.
+		 */
+		private final long start;
+		/**
+		 * The milli-seconds which the game took.
+		 */
+		private final int millis;
+		/**
+		 * The masks of the {@link Piece#PIECE_A} and {@link Piece#PIECE_B}
+		 * of the board when the game started.
+		 */
+		private final long maskA, maskB;
+		/**
+		 * The {@link Piece} which moved first.
+		 */
+		private final Piece first;
+		/**
+		 * The turn of the game when it started.
+		 */
+		private final int turn;
+		/**
+		 * The entries of the game.
+		 */
+		private final byte[] entries;
+		/**
+		 * Create a {@code Record}.
+		 *
+		 * @param start The time of the start of the game.
+		 * @param millis The milli-seconds which the game took.
+		 * @param maskA The mask of {@link Piece#PIECE_A} at the start.
+		 * @param maskB The mask of {@link Piece#PIECE_B} at the start.
+		 * @param first The {@link Piece} which moved first.
+		 * @param turn The turn of the game when it started.
+		 * @param entries The entries of the game.
+		 */
+		private Record(
+				final long start,
+				final int millis,
+				final long maskA,
+				final long maskB,
+				final Piece first,
+				final int turn,
+				final byte[] entries)
+		{
+			this.start = start;
+			this.millis = millis;
+			this.maskA = maskA;
+			this.maskB = maskB;
+			this.first = first;
+			this.turn = turn;
+			this.entries = entries;
+		}
+		/**
+		 * Read the next {@code Record} of a journal.
+		 *
+		 * @param in The {@link DataInput} to read the {@code Record} from.
+		 * @return The {@code Record} which was read, or <code>null</code> if
+		 * 			<code>in</code> has no more {@code Record} objects.
+		 * @throws IOException If <code>in</code> throws an
+		 * 			{@link IOException}, ends part way through a
+		 * 			{@code Record}, or is not a journal.
+		 */
+		public static Record read(final DataInput in)
+				throws
+				IOException
+		{
+			final int magic;
+			try
+			{
+				magic = in.readInt();
+			}
+			catch(final EOFException e)
+			{
+				return null;
+			}
+			if(magic != MAGIC)
+				throw new IOException("Not a game journal");
+			final long start = in.readLong();
+			final int millis = in.readInt();
+			final long maskA = in.readLong();
+			final long maskB = in.readLong();
+			final int first = in.readByte();
+			if(first < 0 || first >= Piece.values().length)
+				throw new IOException("Corrupt game journal");
+			final int turn = in.readInt();
+			final int length = in.readInt();
+			if(length < 0)
+				throw new IOException("Corrupt game journal");
+			final byte[] entries = new byte[length];
+			in.readFully(entries);
+			return new Record(
+					start,
+					millis,
+					maskA,
+					maskB,
+					Piece.values()[first],
+					turn,
+					entries);
+		}
+		/**
+		 * Write <code>this</code> {@code Record}.
+		 *
+		 * @param out The {@link DataOutputStream} to write to.
+		 * @throws IOException If <code>out</code> throws an
+		 * 			{@link IOException}.
+		 */
+		private void write(final DataOutputStream out)
+				throws
+				IOException
+		{
+			out.writeInt(MAGIC);
+			out.writeLong(start);
+			out.writeInt(millis);
+			out.writeLong(maskA);
+			out.writeLong(maskB);
+			out.writeByte(first.ordinal());
+			out.writeInt(turn);
+			out.writeInt(entries.length);
+			out.write(entries);
+			out.flush();
+		}
+		/**
+		 * Get the {@link System#currentTimeMillis()} of the start of the
+		 * game.
+		 *
+		 * @return The time of the start of the game.
+		 */
+		public long start()
+		{
+			return start;
+		}
+		/**
+		 * Get the milli-seconds which the game took, including pauses.
+		 *
+		 * @return The duration of the game.
+		 */
+		public int millis()
+		{
+			return millis;
+		}
+		/**
+		 * Get the number of entries of the game, which is the number of
+		 * moves, passes, pauses, resumes and surrenders.
+		 *
+		 * @return The number of entries.
+		 */
+		public int length()
+		{
+			int length = 0;
+			for(int i = 0; i < entries.length; ++i, ++length)
+				if(entries[i] == PAUSE || entries[i] == RESUME)
+					i += 4;
+			return length;
+		}
+		/**
+		 * Get the squares of the moves of the game, in the order they were
+		 * played, as by {@link SearchBoard#square(
+		 * com.othellog4.game.board.Position)}.
+		 *
+		 * @return The squares of the moves.
+		 */
+		public int[] moves()
+		{
+			final int[] moves = new int[entries.length];
+			int count = 0;
+			for(int i = 0; i < entries.length; ++i)
+				if(entries[i] == PAUSE || entries[i] == RESUME)
+					i += 4;
+				else if((entries[i] & 0xFF) < PASS)
+					moves[count++] = entries[i];
+			return Arrays.copyOf(moves, count);
+		}
+		/**
+		 * Replay the whole game.
+		 *
+		 * @return The {@link Game} at the end of the record.
+		 * @throws IllegalStateException If the record is not of a legal
+		 * 			game.
+		 * @see #replay(int)
+		 */
+		public Game replay()
+				throws
+				IllegalStateException
+		{
+			return replay(Integer.MAX_VALUE);
+		}
+		/**
+		 * Replay the game up to an entry.
+		 *
+		 * <p>
+		 * The {@link Game} is fast-forwarded with its events disabled, so
+		 * no {@link GameEvent} is issued for the entries which are
+		 * replayed. A {@link com.othellog4.game.GameListener} which is
+		 * added to the {@link Game} afterwards is only notified of what
+		 * happens next.
+		 * </p>
+		 *
+		 * @param count The number of entries to replay, which is all of them
+		 * 			if it is greater than {@link #length()}.
+		 * @return The {@link Game} after <code>count</code> entries.
+		 * @throws IllegalArgumentException If <code>count</code> is
+		 * 			negative.
+		 * @throws IllegalStateException If the record is not of a legal
+		 * 			game.
+		 */
+		public Game replay(final int count)
+				throws
+				IllegalArgumentException,
+				IllegalStateException
+		{
+			if(count < 0)
+				throw new IllegalArgumentException();
+			final Game game =
+					new Game(new BitBoard(maskA, maskB), first, turn);
+			game.enableEvent(false);
+			game.start();
+			try
+			{
+				for(int i = 0, entry = 0;
+						i < entries.length && entry < count;
+						++i, ++entry)
+				{
+					final int code = entries[i] & 0xFF;
+					if(code < PASS)
+						game.put(SearchBoard.position(code));
+					else if(code == PAUSE)
+						game.pause();
+					else if(code == RESUME)
+						game.start();
+					else if(code == SURRENDER || code == SURRENDER + 1)
+						game.surrender(Piece.values()[code - SURRENDER]);
+					else if(code != PASS)
+						throw new IllegalStateException("Unknown entry");
+					//A pass is taken by the game itself.
+					if(code == PAUSE || code == RESUME)
+						i += 4;
+				}
+			}
+			catch(final InvalidMoveException | IllegalStateException e)
+			{
+				throw new IllegalStateException("Corrupt game journal", e);
+			}
+			//No listeners are added yet, so the held event is discarded.
+			game.enableEvent(true);
+			return game;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package com.othellog4.game.extension;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.othellog4.game.GameEvent;
+import com.othellog4.game.GameManager;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.command.GameCommand;
+import com.othellog4.game.player.ai.SearchStatistics;
+
+/**
+ * The {@code SearchProfiler} class is a {@link GameExtension} which collects
+ * the {@link SearchStatistics} of the searches of the AI players of a game.
+ *
+ * <p>
+ * Each search is recorded by {@link #record(Piece, SearchStatistics)},
+ * which is called by the AI players which find the {@code SearchProfiler}
+ * in their game. Every search is logged as it is recorded, and the totals
+ * of each player are logged when the game ends, so the performance of the
+ * AI can be tracked between versions.
+ * </p>
+ *
+ * <p>
+ * The result of each player is the average number of nodes which its
+ * searches visited per second.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see SearchStatistics
+ */
+public final class SearchProfiler extends GameExtension
+{
+	//=========================================================================
+	//Fields.
+	/**
+	 * The combined {@link SearchStatistics} of each {@link Piece}.
+	 */
+	private final Map<Piece, SearchStatistics> statistics;
+	/**
+	 * The log which the {@link SearchStatistics} are written to.
+	 */
+	private final Consumer<String> log;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code SearchProfiler} which does not log.
+	 */
+	public SearchProfiler()
+	{
+		this(line -> {});
+	}
+	/**
+	 * Create a {@code SearchProfiler} which logs the {@link SearchStatistics}
+	 * of each search.
+	 *
+	 * @param log The log which the {@link SearchStatistics} are written to.
+	 */
+	public SearchProfiler(final Consumer<String> log)
+	{
+		statistics = new EnumMap<>(Piece.class);
+		this.log = log;
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Record the {@link SearchStatistics} of a search.
+	 *
+	 * @param piece The {@link Piece} which the search was for.
+	 * @param search The {@link SearchStatistics} of the search.
+	 */
+	public final void record(final Piece piece, final SearchStatistics search)
+	{
+		synchronized(statistics)
+		{
+			statistics.put(piece, statistics(piece).plus(search));
+		}
+		log.accept("Search: " + piece + " " + search);
+	}
+	/**
+	 * Get the combined {@link SearchStatistics} of the searches of a
+	 * {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} to get the {@link SearchStatistics} of.
+	 * @return The {@link SearchStatistics} of every search of the
+	 * 			<code>piece</code>, which is {@link SearchStatistics#NONE} if
+	 * 			it has not searched.
+	 */
+	public final SearchStatistics statistics(final Piece piece)
+	{
+		synchronized(statistics)
+		{
+			return statistics.getOrDefault(piece, SearchStatistics.NONE);
+		}
+	}
+	//=========================================================================
+	//Overriden methods.
+	@Override
+	public final boolean hasResult()
+	{
+		return true;
+	}
+	/**
+	 * Get the average number of nodes per second of the searches of a
+	 * {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} to get the result of.
+	 * @return The nodes per second, which is <code>0</code> if the
+	 * 			<code>piece</code> has not searched.
+	 */
+	@Override
+	public final int result(final Piece piece)
+	{
+		return (int) Math.min(
+				Integer.MAX_VALUE,
+				statistics(piece).nodesPerSecond());
+	}
+	@Override
+	public final void onEvent(
+			final GameEvent event,
+			final GameManager manager)
+	{
+		if(event == GameEvent.END)
+			for(final Piece piece : new Piece[]{
+					Piece.player1(),
+					Piece.player2()})
+				if(statistics(piece).searches() != 0)
+					log.accept("Total: " + piece + " " + statistics(piece));
+	}
+	@Override
+	public final void onCommand(
+			final GameCommand command,
+			final GameManager manager)
+	{
+		//Commands do nothing.
+	}
+}
@@ -1,48 +1,239 @@
 package com.othellog4.game.extension;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+
 import com.othellog4.environment.Scheduler;
 import com.othellog4.game.GameEvent;
 import com.othellog4.game.GameException;
 import com.othellog4.game.GameManager;
+import com.othellog4.game.board.Piece;
 import com.othellog4.game.command.Surrender;
 
 /**
- * 
- * @author John
+ * The {@code TimeoutTimer} class is a {@link Timer} which gives each player
+ * a clock, and surrenders the game of a player who runs out of time.
+ *
+ * <p>
+ * Each player starts with the same time limit, and gains an increment for
+ * every turn which they complete. Only the clock of the current player
+ * runs, and no clock runs while the game is paused.
+ * </p>
  *
+ * <p>
+ * No thread watches the clock. A deadline is armed with the
+ * {@link Scheduler} for the time the current player has left when a turn
+ * begins, re-armed when the game is resumed, and cancelled when the game is
+ * paused or ends, so a game which is waiting for a move uses no CPU time.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	16/02/2018
+ * @version 18/10/2026
  */
 public class TimeoutTimer extends Timer
 {
+	//=========================================================================
+	//Fields.
+	/**
+	 * The <code>int</code> which is the time limit of each player in
+	 * seconds.
+	 */
 	private final int timeoutLimit;
-	private GameManager manager;
+	/**
+	 * The <code>int</code> which is the number of seconds a player gains for
+	 * each turn they complete.
+	 */
+	private final int increment;
+	/**
+	 * The number of milliseconds each {@link Piece} has gained by
+	 * increments.
+	 */
+	private final Map<Piece, Long> gained = new EnumMap<>(Piece.class);
+	/**
+	 * The {@link Piece} whose clock is running, or <code>null</code> if no
+	 * clock is running.
+	 */
+	private Piece running;
+	/**
+	 * The {@link Future} of the armed deadline, or <code>null</code> if no
+	 * deadline is armed.
+	 */
+	private Future<?> deadline;
+	/**
+	 * The number of times a deadline has been armed or cancelled, so a
+	 * deadline which fires after it is replaced is ignored.
+	 */
+	private long generation;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code TimeoutTimer} without an increment.
+	 *
+	 * @param timeoutLimit The time limit of each player in seconds.
+	 * @throws IllegalArgumentException If <code>timeoutLimit</code> is not
+	 * 			positive.
+	 */
 	public TimeoutTimer(final int timeoutLimit)
+			throws
+			IllegalArgumentException
 	{
+		this(timeoutLimit, 0);
+	}
+	/**
+	 * Create a {@code TimeoutTimer} with an increment.
+	 *
+	 * @param timeoutLimit The time limit of each player in seconds.
+	 * @param increment The number of seconds a player gains for each turn
+	 * 			which they complete.
+	 * @throws IllegalArgumentException If <code>timeoutLimit</code> is not
+	 * 			positive, or <code>increment</code> is negative.
+	 */
+	public TimeoutTimer(final int timeoutLimit, final int increment)
+			throws
+			IllegalArgumentException
+	{
+		if(timeoutLimit <= 0 || increment < 0)
+			throw new IllegalArgumentException();
 		this.timeoutLimit = timeoutLimit;
+		this.increment = increment;
+		gained.put(Piece.PIECE_A, 0L);
+		gained.put(Piece.PIECE_B, 0L);
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Get the number of milliseconds which a {@link Piece} has left before
+	 * it runs out of time.
+	 *
+	 * @param piece The {@link Piece} to get the remaining time of.
+	 * @return The number of milliseconds remaining for <code>piece</code>,
+	 * 			which is <code>0</code> if it has run out of time.
+	 */
+	public final synchronized long remaining(final Piece piece)
+	{
+		return Math.max(
+				0,
+				timeoutLimit * 1000L + gained.get(piece) - elapsed(piece));
 	}
+	/**
+	 * Get the number of seconds a player gains for each turn they complete.
+	 *
+	 * @return The increment in seconds.
+	 */
+	public final int increment()
+	{
+		return increment;
+	}
+	/**
+	 * Arm the deadline of the current player, replacing any deadline which
+	 * is armed.
+	 *
+	 * @param manager The {@link GameManager} of the game.
+	 */
+	private void arm(final GameManager manager)
+	{
+		cancel();
+		final long armed = generation;
+		deadline = Scheduler.get().delay(
+				() -> expire(manager, armed),
+				Math.max(1, remaining(running)));
+	}
+	/**
+	 * Start the clock of the current player, and arm its deadline.
+	 *
+	 * @param manager The {@link GameManager} of the game.
+	 */
+	private void start(final GameManager manager)
+	{
+		running = manager.game().getCurrent();
+		arm(manager);
+	}
+	/**
+	 * Cancel the armed deadline, if any.
+	 */
+	private void cancel()
+	{
+		++generation;
+		if(deadline != null)
+			deadline.cancel(false);
+		deadline = null;
+	}
+	/**
+	 * Surrender the game of the current player, if the deadline is still
+	 * armed and the player has run out of time.
+	 *
+	 * <p>
+	 * The game is surrendered without holding the lock of
+	 * <code>this</code> {@code TimeoutTimer}, as the surrender notifies
+	 * <code>this</code> {@code TimeoutTimer} from the thread of the game.
+	 * </p>
+	 *
+	 * @param manager The {@link GameManager} of the game.
+	 * @param armed The generation of the deadline which fired.
+	 */
+	private void expire(final GameManager manager, final long armed)
+	{
+		final Piece piece;
+		synchronized(this)
+		{
+			if(armed != generation || running == null)
+				return;
+			if(remaining(running) > 0)
+			{
+				//The deadline fired early, as the clocks differ slightly.
+				arm(manager);
+				return;
+			}
+			piece = running;
+			cancel();
+		}
+		if(manager.game().isGameOver() || manager.game().getCurrent() != piece)
+			return;
+		try
+		{
+			manager.execute(new Surrender(manager.playerOf(piece), piece));
+		}
+		catch (final GameException e)
+		{
+			e.printStackTrace();
+		}
+	}
+	//=========================================================================
+	//Overriden methods.
+	/**
+	 * Update the clocks, and arm, re-arm or cancel the deadline of the
+	 * current player.
+	 *
+	 * @param event The {@link GameEvent} which has been triggered.
+	 * @param manager The {@link GameManager} which <code>this</code>
+	 * 			{@code TimeoutTimer} belongs.
+	 */
 	@Override
 	public final synchronized void onEvent(
 			final GameEvent event,
 			final GameManager manager)
 	{
-		if(this.manager == null)
+		super.onEvent(event, manager);
+		switch(event)
 		{
-			this.manager = manager;
-			Scheduler.get().run(() ->
-			{
-					while(realTime() <= timeoutLimit)
-						/*WAIT*/;
-					try
-					{
-						manager.execute(new Surrender(
-								manager.current(),
-								manager.game().getCurrent()));
-					}
-					catch (GameException e)
-					{
-						e.printStackTrace();
-					}
-			});
+		case NEXT_TURN:
+			//The player whose clock was running has completed a turn.
+			if(running != null)
+				gained.put(running, gained.get(running) + increment * 1000L);
+			start(manager);
+			break;
+		case BEGIN:
+			start(manager);
+			break;
+		case PAUSED:
+		case END:
+			running = null;
+			cancel();
+			break;
+		default:
+			break;
 		}
-		super.onEvent(event, manager);
 	}
 }
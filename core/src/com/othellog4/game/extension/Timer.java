@@ -19,7 +19,7 @@ import com.othellog4.game.command.GameCommand;
  * 
  * @author John Berg
  * @since 16/02/2018
- * @version 10/03/2018
+ * @version 18/10/2026
  */
 public class Timer extends GameExtension
 {
@@ -93,6 +93,20 @@ public class Timer extends GameExtension
 		timeStart = 0;
 		current = null;
 	}
+	/**
+	 * Get the number of milliseconds which a {@link Piece} has taken,
+	 * including the current turn if it is the turn of the {@link Piece}.
+	 *
+	 * @param piece The {@link Piece} to get the time of.
+	 * @return The number of milliseconds taken by <code>piece</code>.
+	 */
+	public synchronized long elapsed(final Piece piece)
+	{
+		final long taken = timeTracker.get(piece);
+		return piece == current
+				? taken + System.currentTimeMillis() - timeStart
+				: taken;
+	}
 	protected synchronized int realTime()
 	{
 		return current != null
@@ -1,13 +1,22 @@
 package com.othellog4.game.player;
 
 import java.util.Optional;
+import java.util.OptionalLong;
 
+import com.othellog4.environment.Scheduler;
 import com.othellog4.game.GameException;
 import com.othellog4.game.GameSession;
 import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
 import com.othellog4.game.command.Put;
+import com.othellog4.game.extension.SearchProfiler;
 import com.othellog4.game.player.ai.DelayStrategy;
 import com.othellog4.game.player.ai.EvaluationStrategy;
+import com.othellog4.game.player.ai.OpeningBook;
+import com.othellog4.game.player.ai.Ponderer;
+import com.othellog4.game.player.ai.SearchContext;
+import com.othellog4.game.player.ai.SearchStatistics;
 import com.othellog4.game.player.ai.SearchStrategy;
 import com.othellog4.game.player.ai.Tactic;
 
@@ -21,16 +30,36 @@ import com.othellog4.game.player.ai.Tactic;
  * </p>
  *
  * <p>
- * The {@code AutomaticPlayer} class is immutable.
+ * An {@code AutomaticPlayer} may ponder, in which case it keeps searching
+ * the predicted replies with a {@link Ponderer} while the opponent is
+ * thinking. If the opponent makes one of the replies which was searched,
+ * the answer is played at once, without searching or delaying again.
+ * </p>
+ *
+ * <p>
+ * An {@code AutomaticPlayer} may have an {@link OpeningBook}, in which case
+ * the moves of the positions in the book are played without searching.
+ * </p>
+ *
+ * <p>
+ * The {@code AutomaticPlayer} class is immutable, except for the answers
+ * found by pondering.
  * </p>
  *
  * @author 	Sailesh Patel
  * @author 	Zak Hirsi
  * @since 	23/10/2017
- * @version 13/03/2018
+ * @version 18/10/2026
  */
 public final class AutomaticPlayer implements Participant
 {
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The milli-seconds to wait before a move is tried again, while the
+	 * input of the game is disabled.
+	 */
+	private static final long INPUT_RETRY = 20;
 	//=========================================================================
 	//Fields.
 	/**
@@ -44,6 +73,21 @@ public final class AutomaticPlayer implements Participant
 	 * {@code AutomaticPlayer} object will be waiting before completing a move.
 	 */
 	private final DelayStrategy delay;
+	/**
+	 * The {@link Ponderer} which searches on the time of the opponent, or
+	 * <code>null</code> if <code>this</code> {@code AutomaticPlayer} object
+	 * does not ponder.
+	 */
+	private final Ponderer ponderer;
+	/**
+	 * The interrupt which stops the {@link Ponderer}, or <code>null</code>
+	 * if <code>this</code> {@code AutomaticPlayer} object does not ponder.
+	 */
+	private final Runnable stopPondering;
+	/**
+	 * The {@link OpeningBook} which is consulted before searching.
+	 */
+	private final OpeningBook book;
 	//=========================================================================
 	//Constructors.
 	/**
@@ -63,8 +107,256 @@ public final class AutomaticPlayer implements Participant
 			final SearchStrategy search,
 			final DelayStrategy delay)
 	{
-		tactic = new Tactic(eval, search);
+		this(eval, search, delay, false);
+	}
+	/**
+	 * Construct a new {@code AutomaticPlayer} object by specifying the
+	 * desired {@link EvaluationStrategy}, {@link SearchStrategy} and a
+	 * {@link DelayStrategy} which will be used when emulating decision
+	 * making, and if it ponders on the time of the opponent.
+	 *
+	 * @param eval The {@link EvaluationStrategy} used to evaluate a
+	 * 			{@link BoardView}.
+	 * @param search The {@link SearchStrategy} used to search a
+	 * 			{@link BoardView}.
+	 * @param delay The {@link DelayStrategy} used to potentially delay the
+	 * 			response of the {@code AutomaticPlayer} object.
+	 * @param ponder <code>true</code> if the {@code AutomaticPlayer} object
+	 * 			searches the predicted replies while the opponent is
+	 * 			thinking.
+	 */
+	public AutomaticPlayer(
+			final EvaluationStrategy eval,
+			final SearchStrategy search,
+			final DelayStrategy delay,
+			final boolean ponder)
+	{
+		this(eval, search, delay, ponder, OpeningBook.empty());
+	}
+	/**
+	 * Construct a new {@code AutomaticPlayer} object by specifying the
+	 * desired {@link EvaluationStrategy}, {@link SearchStrategy} and a
+	 * {@link DelayStrategy} which will be used when emulating decision
+	 * making, if it ponders on the time of the opponent, and the
+	 * {@link OpeningBook} which it plays from.
+	 *
+	 * @param eval The {@link EvaluationStrategy} used to evaluate a
+	 * 			{@link BoardView}.
+	 * @param search The {@link SearchStrategy} used to search a
+	 * 			{@link BoardView}.
+	 * @param delay The {@link DelayStrategy} used to potentially delay the
+	 * 			response of the {@code AutomaticPlayer} object.
+	 * @param ponder <code>true</code> if the {@code AutomaticPlayer} object
+	 * 			searches the predicted replies while the opponent is
+	 * 			thinking.
+	 * @param book The {@link OpeningBook} which is consulted before the
+	 * 			{@link SearchStrategy}.
+	 * @throws IllegalArgumentException If <code>book</code> is
+	 * 			<code>null</code>.
+	 */
+	public AutomaticPlayer(
+			final EvaluationStrategy eval,
+			final SearchStrategy search,
+			final DelayStrategy delay,
+			final boolean ponder,
+			final OpeningBook book)
+			throws
+			IllegalArgumentException
+	{
+		this(new Tactic(eval, search), delay, ponder, book);
+	}
+	/**
+	 * Construct a new {@code AutomaticPlayer} object from a {@link Tactic}.
+	 *
+	 * @param tactic The {@link Tactic} used to search for moves.
+	 * @param delay The {@link DelayStrategy} used to potentially delay the
+	 * 			response of the {@code AutomaticPlayer} object.
+	 * @param ponder <code>true</code> if the {@code AutomaticPlayer} object
+	 * 			searches the predicted replies while the opponent is
+	 * 			thinking.
+	 * @param book The {@link OpeningBook} which is consulted before the
+	 * 			<code>tactic</code>.
+	 * @throws IllegalArgumentException If <code>book</code> is
+	 * 			<code>null</code>.
+	 */
+	public AutomaticPlayer(
+			final Tactic tactic,
+			final DelayStrategy delay,
+			final boolean ponder,
+			final OpeningBook book)
+			throws
+			IllegalArgumentException
+	{
+		if(book == null)
+			throw new IllegalArgumentException();
+		this.tactic = tactic;
 		this.delay = delay;
+		ponderer = ponder? new Ponderer(tactic): null;
+		stopPondering = ponder? ponderer::stop: null;
+		this.book = book;
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Create a copy of <code>this</code> {@code AutomaticPlayer} object which
+	 * uses a different {@link DelayStrategy}.
+	 *
+	 * <p>
+	 * The copy searches with the same {@link Tactic} and
+	 * {@link OpeningBook}, and ponders if <code>this</code>
+	 * {@code AutomaticPlayer} object ponders, but does not share the
+	 * answers found by pondering, so it can play in a different game.
+	 * </p>
+	 *
+	 * @param delay The {@link DelayStrategy} of the copy.
+	 * @return The new {@code AutomaticPlayer} object.
+	 */
+	public AutomaticPlayer withDelay(final DelayStrategy delay)
+	{
+		return new AutomaticPlayer(tactic, delay, ponderer != null, book);
+	}
+	/**
+	 * Create a copy of <code>this</code> {@code AutomaticPlayer} object which
+	 * ponders, or does not ponder, on the time of the opponent.
+	 *
+	 * <p>
+	 * The copy has its own {@link Ponderer}, so pondering is enabled for a
+	 * single game, rather than for every game which shares
+	 * <code>this</code> {@code AutomaticPlayer} object.
+	 * </p>
+	 *
+	 * @param ponder <code>true</code> if the copy searches the predicted
+	 * 			replies while the opponent is thinking.
+	 * @return The new {@code AutomaticPlayer} object.
+	 */
+	public AutomaticPlayer withPondering(final boolean ponder)
+	{
+		return new AutomaticPlayer(tactic, delay, ponder, book);
+	}
+	/**
+	 * Check if <code>this</code> {@code AutomaticPlayer} object ponders on
+	 * the time of the opponent.
+	 *
+	 * @return <code>true</code> if <code>this</code> ponders, otherwise,
+	 * 			returns <code>false</code>.
+	 */
+	public boolean ponders()
+	{
+		return ponderer != null;
+	}
+	/**
+	 * Get the {@link Tactic} of <code>this</code> {@code AutomaticPlayer}
+	 * object.
+	 *
+	 * @return The {@link Tactic} which searches for the moves.
+	 */
+	public Tactic getTactic()
+	{
+		return tactic;
+	}
+	/**
+	 * Create the {@link SearchContext} for the current turn of a
+	 * {@link GameSession}.
+	 *
+	 * <p>
+	 * If the current player has a clock, then the remaining time is shared
+	 * between the remaining moves, after reserving the time of the
+	 * {@link DelayStrategy} of each move, otherwise, the search is not
+	 * limited. In either case, the search is stopped when the turn is
+	 * cancelled.
+	 * </p>
+	 *
+	 * <p>
+	 * If the game includes a {@link SearchProfiler}, then the
+	 * {@link SearchStatistics} of the search are recorded by it.
+	 * </p>
+	 *
+	 * @param session The {@link GameSession} which is waiting for a move.
+	 * @param board The {@link BoardView} which is searched.
+	 * @param piece The {@link Piece} which is searched for.
+	 * @param turn The {@link SearchContext} which cancels the turn.
+	 * @return The {@link SearchContext} of the search.
+	 */
+	private SearchContext context(
+			final GameSession session,
+			final BoardView board,
+			final Piece piece,
+			final SearchContext turn)
+	{
+		final SearchContext observed = session
+				.extension(SearchProfiler.class)
+				.map(p -> turn.observed(s -> p.record(piece, s)))
+				.orElse(turn);
+		final OptionalLong remaining = session.timeRemaining();
+		if(!remaining.isPresent())
+			return observed;
+		final int empty = board.size() * board.size()
+				- board.count(Piece.PIECE_A)
+				- board.count(Piece.PIECE_B);
+		//Each player makes every other move.
+		return observed.within(
+				SearchContext.ofClock(
+						remaining.getAsLong(),
+						(empty + 1) / 2,
+						delay.millis()).remainingMillis(),
+				Long.MAX_VALUE);
+	}
+	/**
+	 * Play a move in a {@link GameSession}, and start to ponder if the
+	 * opponent is next to move.
+	 *
+	 * <p>
+	 * Nothing is played if the turn has been cancelled, as the game has been
+	 * paused, ended or discarded since the move was searched for. If the
+	 * input of the game is disabled, such as while a move is animated, the
+	 * move is tried again after {@link #INPUT_RETRY}, without holding a
+	 * thread while it waits.
+	 * </p>
+	 *
+	 * @param session The {@link GameSession} which is waiting for a move.
+	 * @param piece The {@link Piece} which is moved.
+	 * @param position The {@link Position} of the move.
+	 * @param turn The {@link SearchContext} which cancels the turn.
+	 * @param cancel The interrupt which cancels the turn, which is removed
+	 * 			from the <code>session</code> once the turn is over.
+	 */
+	private void play(
+			final GameSession session,
+			final Piece piece,
+			final Position position,
+			final SearchContext turn,
+			final Runnable cancel)
+	{
+		if(turn.isCancelled())
+		{
+			session.removeInterrupt(cancel);
+			return;
+		}
+		try
+		{
+			if(!session.accept(new Put(this, position.col, position.row)))
+			{
+				Scheduler.get().delay(
+						() -> play(session, piece, position, turn, cancel),
+						INPUT_RETRY);
+				return;
+			}
+		}
+		catch(final GameException e)
+		{
+			//We might want to change this for later verions.
+			System.err.println(e);
+			session.removeInterrupt(cancel);
+			return;
+		}
+		session.removeInterrupt(cancel);
+		if(turn.isCancelled())
+			return;
+		if(ponderer != null && session.current() == piece.flip())
+		{
+			ponderer.start(session.getBoard(), piece);
+			session.addInterrupt(stopPondering);
+		}
 	}
 	//=========================================================================
 	//Overriden methods.
@@ -79,21 +371,36 @@ public final class AutomaticPlayer implements Participant
 	@Override
 	public final synchronized void notifyTurn(final GameSession session)
 	{
-		delay.delay(tactic.plan(
-				session.getBoard(),
-				session.current(),
-				p ->
+		final BoardView board = session.getBoard();
+		final Piece piece = session.current();
+		final SearchContext turn = SearchContext.unlimited().cancellable();
+		final Runnable cancel = turn::cancel;
+		//The turn is cancelled if the game is paused, ends or is discarded.
+		session.addInterrupt(cancel);
+		if(ponderer != null)
 		{
-			try
-			{
-				while(!session.accept(new Put(this, p.col, p.row)));
-			}
-			catch(final GameException e)
+			session.removeInterrupt(stopPondering);
+			ponderer.stop();
+			final Optional<Position> answer = ponderer.answer(board, piece);
+			if(answer.isPresent())
 			{
-				//We might want to change this for later verions.
-				System.err.println(e);
+				//The reply was predicted, so the answer is played at once.
+				Scheduler.get().run(
+						() -> play(session, piece, answer.get(), turn, cancel));
+				return;
 			}
-		}));
+		}
+		final Optional<Position> known = book.best(board, piece);
+		if(known.isPresent())
+		{
+			delay.delay(() -> play(session, piece, known.get(), turn, cancel));
+			return;
+		}
+		delay.delay(tactic.plan(
+				board,
+				piece,
+				() -> context(session, board, piece, turn),
+				p -> play(session, piece, p, turn, cancel)));
 	}
 	/**
 	 * No {@link Participant.Control} object is available for the
@@ -0,0 +1,524 @@
+package com.othellog4.game.player.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+import com.othellog4.game.board.SearchBoard;
+
+/**
+ * The {@code AlphaBeta} class is a minimax search of a {@link SearchBoard}
+ * which prunes the moves which cannot affect the result.
+ *
+ * <p>
+ * The search is fail-soft, so the score of a pruned node is the best bound
+ * which was found, rather than the bound it was searched with. The moves of
+ * each node are tried in a static order, the corners first, and the squares
+ * next to the corners last, so that the moves which are likely to be the
+ * best cause the other moves to be pruned.
+ * </p>
+ *
+ * <p>
+ * The score of every node is evaluated for the {@link Piece} which the
+ * search is for, which maximises the score, while the opposing
+ * {@link Piece} minimises the score; the same as
+ * {@link SearchStrategies#MINIMAX}.
+ * </p>
+ *
+ * <p>
+ * If the search has a {@link TranspositionTable}, each node is first looked
+ * up in it, and the result of each node is stored in it. An entry of a deep
+ * enough search may end the search of the node, and the best move of the
+ * entry is tried first. The key of a node includes the {@link Piece} which
+ * the search is for and the {@link EvaluationStrategy}, so searches which
+ * score the same position differently can share a {@link TranspositionTable}.
+ * </p>
+ *
+ * <p>
+ * A search may be limited by a {@link SearchContext}. When the
+ * {@link SearchContext} expires, the search returns as soon as possible, and
+ * {@link #isAborted()} is <code>true</code>; the result of the search is
+ * then incomplete, and should not be used.
+ * </p>
+ *
+ * <p>
+ * Package private as it is an implementation detail of the
+ * {@link SearchStrategy} objects.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see SearchStrategies#ALPHA_BETA
+ */
+final class AlphaBeta
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The mask of the corner squares.
+	 */
+	static final long CORNERS = 0x8100000000000081L;
+	/**
+	 * The mask of the squares along an edge next to a corner.
+	 */
+	static final long C_SQUARES = 0x4281000000008142L;
+	/**
+	 * The mask of the squares diagonally next to a corner.
+	 */
+	static final long X_SQUARES = 0x0042000000004200L;
+	/**
+	 * The masks of the squares in the order that moves are tried.
+	 */
+	private static final long[] ORDER = {
+			CORNERS,
+			~(CORNERS | C_SQUARES | X_SQUARES),
+			C_SQUARES,
+			X_SQUARES
+	};
+	/**
+	 * The remaining depth from which the moves of a node are ordered by the
+	 * mobility of the opponent, rather than only by {@link #ORDER}.
+	 */
+	private static final int SORT_DEPTH = 4;
+	/**
+	 * The number of squares, which no ply can be deeper than, and no
+	 * position can have more legal moves than.
+	 */
+	private static final int SQUARES = SearchBoard.SIZE * SearchBoard.SIZE;
+	/**
+	 * The mask of the number of nodes between each check of the
+	 * {@link SearchContext}.
+	 */
+	private static final long CHECK_INTERVAL = 1023;
+	/**
+	 * The odd constant which spreads the bits of the salt of the keys in the
+	 * {@link TranspositionTable}.
+	 */
+	private static final long SALT_MULTIPLIER = 0x9E3779B97F4A7C15L;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The {@link SearchBoard} which is searched.
+	 */
+	private final SearchBoard board;
+	/**
+	 * The {@link EvaluationStrategy} used to evaluate the leaf nodes.
+	 */
+	private final EvaluationStrategy eval;
+	/**
+	 * The {@link Piece} which the search is for.
+	 */
+	private final Piece max;
+	/**
+	 * The sorted moves of the node at each ply, indexed by
+	 * {@link SearchBoard#ply()}.
+	 */
+	private final int[][] moves;
+	/**
+	 * The sort key of each move in {@link #moves}.
+	 */
+	private final int[][] keys;
+	/**
+	 * The {@link TranspositionTable} of the search, or <code>null</code> if
+	 * there is none.
+	 */
+	private final TranspositionTable table;
+	/**
+	 * The {@link TranspositionTable.Entry} which the entries of
+	 * {@link #table} are read into.
+	 */
+	private final TranspositionTable.Entry entry;
+	/**
+	 * The value combined with the hash of each node to make its key in
+	 * {@link #table}.
+	 */
+	private final long salt;
+	/**
+	 * The {@link SearchContext} of the current search.
+	 */
+	private SearchContext context;
+	/**
+	 * The number of nodes which have been searched.
+	 */
+	private long nodes;
+	/**
+	 * The number of leaves which have been evaluated.
+	 */
+	private long leaves;
+	/**
+	 * The number of nodes whose moves have been searched.
+	 */
+	private long interior;
+	/**
+	 * The number of nodes whose search was cut off by the bound.
+	 */
+	private long cutoffs;
+	/**
+	 * The number of probes of {@link #table}.
+	 */
+	private long probes;
+	/**
+	 * The number of probes of {@link #table} which found an entry.
+	 */
+	private long hits;
+	/**
+	 * If the current search ran out of its {@link SearchContext}.
+	 */
+	private boolean aborted;
+	/**
+	 * If the current search evaluated a node which was cut off by the depth,
+	 * rather than by the end of the game.
+	 */
+	private boolean horizon;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create an {@code AlphaBeta} search of a {@link BoardView}.
+	 *
+	 * @param board The {@link BoardView} to search.
+	 * @param piece The {@link Piece} object to search for moves for.
+	 * @param eval The {@link EvaluationStrategy} used to rank the
+	 * 			<code>board</code>.
+	 * @throws IllegalArgumentException If <code>board</code> is not 8x8.
+	 */
+	AlphaBeta(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval)
+			throws
+			IllegalArgumentException
+	{
+		this(board, piece, eval, null);
+	}
+	/**
+	 * Create an {@code AlphaBeta} search of a {@link BoardView} which uses a
+	 * {@link TranspositionTable}.
+	 *
+	 * @param board The {@link BoardView} to search.
+	 * @param piece The {@link Piece} object to search for moves for.
+	 * @param eval The {@link EvaluationStrategy} used to rank the
+	 * 			<code>board</code>.
+	 * @param table The {@link TranspositionTable}, or <code>null</code> to
+	 * 			search without one.
+	 * @throws IllegalArgumentException If <code>board</code> is not 8x8.
+	 */
+	AlphaBeta(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval,
+			final TranspositionTable table)
+			throws
+			IllegalArgumentException
+	{
+		this.board = new SearchBoard(board);
+		this.eval = eval;
+		this.max = piece;
+		this.table = table;
+		entry = new TranspositionTable.Entry();
+		salt = (eval.hashCode() * 2L + piece.ordinal()) * SALT_MULTIPLIER;
+		moves = new int[SQUARES + 1][SQUARES];
+		keys = new int[SQUARES + 1][SQUARES];
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Search for the moves with the best score.
+	 *
+	 * <p>
+	 * Every move which is as good as the best move is kept, so the search
+	 * of each move after the first is only pruned if it is worse than the
+	 * best move so far.
+	 * </p>
+	 *
+	 * @param depth The number of moves to search ahead.
+	 * @return The {@link List} of the {@link Position} objects of the moves
+	 * 			with the best score. Is empty if there are no legal moves.
+	 */
+	final List<Position> best(final int depth)
+	{
+		return best(depth, SearchContext.unlimited(), 0);
+	}
+	/**
+	 * Search for the moves with the best score, within the budget of a
+	 * {@link SearchContext}.
+	 *
+	 * @param depth The number of moves to search ahead.
+	 * @param context The {@link SearchContext} which limits the search.
+	 * @param first The mask of the moves to search before the other moves,
+	 * 			such as the best moves of a previous search.
+	 * @return The {@link List} of the {@link Position} objects of the moves
+	 * 			with the best score. Is incomplete if {@link #isAborted()}.
+	 */
+	final List<Position> best(
+			final int depth,
+			final SearchContext context,
+			final long first)
+	{
+		this.context = context;
+		//A search which has already run out is not started.
+		aborted = context.isExpired(nodes);
+		horizon = false;
+		final List<Position> best = new ArrayList<>();
+		double bestScore = Double.NEGATIVE_INFINITY;
+		final long moves = board.legalMoveMask(max);
+		for(int i = -1; i < ORDER.length; ++i)
+			for(long ordered = i < 0
+						? moves & first
+						: moves & ORDER[i] & ~first;
+					ordered != 0 && !aborted;
+					ordered &= ordered - 1)
+			{
+				final int square = Long.numberOfTrailingZeros(ordered);
+				board.makeMove(square, max);
+				final double score = search(
+						max.flip(),
+						depth - 1,
+						Math.nextDown(bestScore),
+						Double.POSITIVE_INFINITY);
+				board.unmakeMove();
+				if(aborted)
+					break;
+				if(score > bestScore)
+				{
+					bestScore = score;
+					best.clear();
+					best.add(SearchBoard.position(square));
+				}
+				else if(score == bestScore)
+					best.add(SearchBoard.position(square));
+			}
+		return best;
+	}
+	/**
+	 * Check if the last search ran out of its {@link SearchContext}.
+	 *
+	 * @return <code>true</code> if the last search was stopped before it
+	 * 			was complete, otherwise, returns <code>false</code>.
+	 */
+	final boolean isAborted()
+	{
+		return aborted;
+	}
+	/**
+	 * Check if the last search was cut off by its depth.
+	 *
+	 * <p>
+	 * If it was not, every line of the search reached the end of the game,
+	 * so a deeper search has the same result.
+	 * </p>
+	 *
+	 * @return <code>true</code> if a node of the last search was evaluated
+	 * 			before the end of the game, otherwise, returns
+	 * 			<code>false</code>.
+	 */
+	final boolean isHorizon()
+	{
+		return horizon;
+	}
+	/**
+	 * Get the number of nodes which have been searched.
+	 *
+	 * @return The number of nodes searched by every search so far.
+	 */
+	final long nodes()
+	{
+		return nodes;
+	}
+	/**
+	 * Get the {@link SearchStatistics} of every search so far.
+	 *
+	 * @param depth The depth of the deepest search which was completed.
+	 * @param elapsed The number of nanoseconds the searches took.
+	 * @return The {@link SearchStatistics} of the searches.
+	 */
+	final SearchStatistics statistics(final int depth, final long elapsed)
+	{
+		return new SearchStatistics(
+				nodes,
+				leaves,
+				depth,
+				interior,
+				cutoffs,
+				probes,
+				hits,
+				elapsed);
+	}
+	/**
+	 * Sort the legal moves of the node at the current ply.
+	 *
+	 * <p>
+	 * The moves which leave the opponent the fewest moves are first, and
+	 * equal moves are ordered by {@link #ORDER}. The moves are stored in
+	 * {@link #moves} at the current ply, so no objects are allocated.
+	 * </p>
+	 *
+	 * @param legal The mask of the legal moves.
+	 * @param piece The {@link Piece} which is next to move.
+	 * @param start The index in {@link #moves} of the first sorted move.
+	 * @return The index after the last move.
+	 */
+	private int sort(final long legal, final Piece piece, final int start)
+	{
+		final int ply = board.ply();
+		final int[] sorted = moves[ply];
+		final int[] sortKeys = keys[ply];
+		int count = start;
+		for(int i = 0; i < ORDER.length; ++i)
+			for(long ordered = legal & ORDER[i];
+					ordered != 0;
+					ordered &= ordered - 1)
+			{
+				final int square = Long.numberOfTrailingZeros(ordered);
+				board.makeMove(square, piece);
+				final int key = board.mobility(piece.flip()) * ORDER.length + i;
+				board.unmakeMove();
+				//Insertion sort, the number of moves is small.
+				int j = count++;
+				for(; j > start && sortKeys[j - 1] > key; --j)
+				{
+					sorted[j] = sorted[j - 1];
+					sortKeys[j] = sortKeys[j - 1];
+				}
+				sorted[j] = square;
+				sortKeys[j] = key;
+			}
+		return count;
+	}
+	/**
+	 * Search a node of the tree.
+	 *
+	 * @param piece The {@link Piece} which is next to move.
+	 * @param depth The remaining depth to search.
+	 * @param alpha The score which the maximising {@link Piece} is already
+	 * 			guaranteed.
+	 * @param beta The score which the minimising {@link Piece} is already
+	 * 			guaranteed.
+	 * @return The score of the node, if it is between <code>alpha</code> and
+	 * 			<code>beta</code>, otherwise, a bound of the score which is
+	 * 			outside of them.
+	 */
+	private double search(
+			final Piece piece,
+			final int depth,
+			double alpha,
+			double beta)
+	{
+		if((++nodes & CHECK_INTERVAL) == 0 && context.isExpired(nodes))
+			aborted = true;
+		if(aborted)
+			return 0.0;
+		if(depth <= 0)
+		{
+			horizon |= board.empties() != 0;
+			++leaves;
+			return eval.evaluate(board, max);
+		}
+		final long moves = board.legalMoveMask(piece);
+		if(moves == 0 && board.mobility(piece.flip()) == 0)
+		{
+			++leaves;
+			return eval.evaluate(board, max);
+		}
+		if(moves == 0)
+			return search(piece.flip(), depth - 1, alpha, beta);
+		final long key = table == null? 0: board.hash(piece) ^ salt;
+		int hashMove = TranspositionTable.NO_MOVE;
+		if(table != null)
+			++probes;
+		if(table != null && table.probe(key, entry))
+		{
+			++hits;
+			if(entry.depth() >= depth || entry.isSolved())
+			{
+				final double score = entry.score();
+				horizon |= !entry.isSolved();
+				switch(entry.bound())
+				{
+				case EXACT:
+					return score;
+				case LOWER:
+					alpha = Math.max(alpha, score);
+					break;
+				case UPPER:
+					beta = Math.min(beta, score);
+					break;
+				}
+				if(alpha >= beta)
+					return score;
+			}
+			hashMove = entry.move();
+		}
+		//The moves are listed at the current ply, the hash move first.
+		final int[] list = this.moves[board.ply()];
+		int count = 0;
+		long rest = moves;
+		if(hashMove != TranspositionTable.NO_MOVE
+				&& (moves >>> hashMove & 1) != 0)
+		{
+			list[count++] = hashMove;
+			rest &= ~(1L << hashMove);
+		}
+		if(depth >= SORT_DEPTH)
+			count = sort(rest, piece, count);
+		else
+			for(final long order : ORDER)
+				for(long ordered = rest & order;
+						ordered != 0;
+						ordered &= ordered - 1)
+					list[count++] = Long.numberOfTrailingZeros(ordered);
+		final double alphaSearched = alpha;
+		final double betaSearched = beta;
+		final boolean outerHorizon = horizon;
+		horizon = false;
+		final boolean isMax = piece == max;
+		double best = isMax
+				? Double.NEGATIVE_INFINITY
+				: Double.POSITIVE_INFINITY;
+		int bestMove = TranspositionTable.NO_MOVE;
+		++interior;
+		for(int i = 0; i < count; ++i)
+		{
+			board.makeMove(list[i], piece);
+			final double score = search(
+					piece.flip(),
+					depth - 1,
+					alpha,
+					beta);
+			board.unmakeMove();
+			if(aborted)
+				return 0.0;
+			if(isMax? score > best: score < best)
+			{
+				best = score;
+				bestMove = list[i];
+			}
+			if(isMax)
+				alpha = Math.max(alpha, best);
+			else
+				beta = Math.min(beta, best);
+			if(alpha >= beta)
+			{
+				++cutoffs;
+				break;
+			}
+		}
+		final boolean solved = !horizon;
+		horizon |= outerHorizon;
+		if(table != null)
+			table.store(
+					key,
+					best,
+					depth,
+					best <= alphaSearched
+							? TranspositionTable.Bound.UPPER
+							: best >= betaSearched
+									? TranspositionTable.Bound.LOWER
+									: TranspositionTable.Bound.EXACT,
+					bestMove,
+					solved);
+		return best;
+	}
+}
@@ -0,0 +1,208 @@
+package com.othellog4.game.player.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Piece;
+
+/**
+ * The {@code CachedEvaluation} class is an {@link EvaluationStrategy} which
+ * remembers the evaluations of another {@link EvaluationStrategy}.
+ *
+ * <p>
+ * The same position is evaluated many times, by transpositions within a
+ * search, by successive searches of iterative deepening, and by the
+ * {@link com.othellog4.game.player.AutomaticPlayer} objects which share an
+ * {@link EvaluationStrategy}. A {@code CachedEvaluation} keeps the last
+ * evaluation of each slot of a fixed size, direct-mapped table, keyed by
+ * the hash of the position together with the side it is evaluated for, so
+ * a repeated position is looked up rather than evaluated again. A lookup
+ * does not allocate any objects.
+ * </p>
+ *
+ * <p>
+ * The {@code CachedEvaluation} class is thread safe without locking, in the
+ * same way as the {@link TranspositionTable}: each slot is written as its
+ * key combined by exclusive or with the evaluation, followed by the
+ * evaluation, so a slot which is read while another thread writes it does
+ * not combine to its key, and is treated as a miss.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see BoardView#hash(Piece)
+ */
+public final class CachedEvaluation implements EvaluationStrategy
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The number of <code>long</code> values of a slot.
+	 */
+	private static final int SLOT_LONGS = 2;
+	/**
+	 * The most slots which fit in an array.
+	 */
+	private static final int MAX_SLOTS = 1 << 29;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The {@link EvaluationStrategy} whose evaluations are cached.
+	 */
+	private final EvaluationStrategy eval;
+	/**
+	 * The slots, each of which is the check followed by the bits of the
+	 * evaluation.
+	 */
+	private final long[] table;
+	/**
+	 * The mask of the slot index of a key.
+	 */
+	private final long mask;
+	/**
+	 * The number of calls to {@link #evaluate(BoardView, Piece)}.
+	 */
+	private final LongAdder probes = new LongAdder();
+	/**
+	 * The number of calls to {@link #evaluate(BoardView, Piece)} which were
+	 * found in the table.
+	 */
+	private final LongAdder hits = new LongAdder();
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code CachedEvaluation} of an {@link EvaluationStrategy}
+	 * which holds a number of evaluations.
+	 *
+	 * <p>
+	 * The number of slots is rounded down to a power of two.
+	 * </p>
+	 *
+	 * @param eval The {@link EvaluationStrategy} whose evaluations are
+	 * 			cached.
+	 * @param capacity The most evaluations which are held at once.
+	 * @throws IllegalArgumentException If <code>eval</code> is
+	 * 			<code>null</code>, or <code>capacity</code> is not positive.
+	 */
+	public CachedEvaluation(
+			final EvaluationStrategy eval,
+			final int capacity)
+			throws
+			IllegalArgumentException
+	{
+		if(eval == null || capacity <= 0)
+			throw new IllegalArgumentException();
+		final int size = Integer.highestOneBit(Math.min(capacity, MAX_SLOTS));
+		this.eval = eval;
+		table = new long[size * SLOT_LONGS];
+		mask = size - 1;
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Remove every evaluation, and reset the counters.
+	 *
+	 * <p>
+	 * Must not be called while the {@code CachedEvaluation} is used by a
+	 * search.
+	 * </p>
+	 */
+	public void clear()
+	{
+		Arrays.fill(table, 0);
+		resetCounters();
+	}
+	/**
+	 * Reset the counters to <code>0</code>.
+	 */
+	public void resetCounters()
+	{
+		probes.reset();
+		hits.reset();
+	}
+	/**
+	 * Get the number of evaluations the table can hold.
+	 *
+	 * @return The number of slots.
+	 */
+	public int capacity()
+	{
+		return table.length / SLOT_LONGS;
+	}
+	/**
+	 * Get the number of evaluations which were asked for.
+	 *
+	 * @return The number of calls to {@link #evaluate(BoardView, Piece)}.
+	 */
+	public long probes()
+	{
+		return probes.sum();
+	}
+	/**
+	 * Get the number of evaluations which were found in the table.
+	 *
+	 * @return The number of hits.
+	 */
+	public long hits()
+	{
+		return hits.sum();
+	}
+	/**
+	 * Get the share of the evaluations which were found in the table.
+	 *
+	 * @return The hit rate, between <code>0</code> and <code>1</code>.
+	 */
+	public double hitRate()
+	{
+		final long probes = probes();
+		return probes == 0? 0: (double) hits() / probes;
+	}
+	//=========================================================================
+	//Overridden methods.
+	/**
+	 * Evaluate a {@link BoardView}, or find its evaluation in the table.
+	 *
+	 * @param board The {@link BoardView} object to evaluate.
+	 * @param piece The {@link Piece} object which is the basis of the
+	 * 			evaluation.
+	 * @return The evaluation of the cached {@link EvaluationStrategy}.
+	 */
+	@Override
+	public double evaluate(final BoardView board, final Piece piece)
+	{
+		probes.increment();
+		final long key = board.hash(piece);
+		final int index = (int) (key & mask) * SLOT_LONGS;
+		//Read each value once, so they are verified together.
+		final long check = table[index];
+		final long scoreBits = table[index + 1];
+		//An empty slot would match a key of 0, which is never cached.
+		if(key != 0 && (check ^ scoreBits) == key)
+		{
+			hits.increment();
+			return Double.longBitsToDouble(scoreBits);
+		}
+		final double score = eval.evaluate(board, piece);
+		final long bits = Double.doubleToLongBits(score);
+		table[index] = key ^ bits;
+		table[index + 1] = bits;
+		return score;
+	}
+	/**
+	 * Get the {@link String} representation of the counters of
+	 * <code>this</code> {@code CachedEvaluation}.
+	 *
+	 * @return The {@link String} representation.
+	 */
+	@Override
+	public String toString()
+	{
+		return "CachedEvaluation[" + eval
+				+ ", capacity=" + capacity()
+				+ ", probes=" + probes()
+				+ ", hits=" + hits()
+				+ "]";
+	}
+}
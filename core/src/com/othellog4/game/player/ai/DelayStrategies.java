@@ -8,7 +8,7 @@ import com.othellog4.environment.Scheduler;
  *
  * @author 	159014260 John Berg
  * @since 	08/02/2018
- * @version 14/02/2018
+ * @version 18/10/2026
  */
 public enum DelayStrategies implements DelayStrategy
 {
@@ -50,6 +50,16 @@ public enum DelayStrategies implements DelayStrategy
 		{
 			Scheduler.get().delay(r, MILI_TIME_ZERO_SEC);
 		}
+		/**
+		 * Get the delay before execution.
+		 *
+		 * @return {@link #MILI_TIME_ZERO_SEC}.
+		 */
+		@Override
+		public final long millis()
+		{
+			return MILI_TIME_ZERO_SEC;
+		}
 	},
 	/**
 	 * Delays execution for <code>1</code> seconds.
@@ -71,6 +81,16 @@ public enum DelayStrategies implements DelayStrategy
 		{
 			Scheduler.get().delay(r, MILI_TIME_ONE_SEC);
 		}
+		/**
+		 * Get the delay before execution.
+		 *
+		 * @return {@link #MILI_TIME_ONE_SEC}.
+		 */
+		@Override
+		public final long millis()
+		{
+			return MILI_TIME_ONE_SEC;
+		}
 	},
 	/**
 	 * Delay execution for <code>2</code> seconds.
@@ -92,6 +112,16 @@ public enum DelayStrategies implements DelayStrategy
 		{
 			Scheduler.get().delay(r, MILI_TIME_TWO_SEC);
 		}
+		/**
+		 * Get the delay before execution.
+		 *
+		 * @return {@link #MILI_TIME_TWO_SEC}.
+		 */
+		@Override
+		public final long millis()
+		{
+			return MILI_TIME_TWO_SEC;
+		}
 	};
 	//=========================================================================
 	//Static fields.
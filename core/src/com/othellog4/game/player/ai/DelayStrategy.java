@@ -6,7 +6,7 @@ package com.othellog4.game.player.ai;
  *
  * @author 	159014260 John Berg
  * @since 	09/02/2018
- * @version 09/02/2018
+ * @version 18/10/2026
  */
 @FunctionalInterface
 public interface DelayStrategy
@@ -17,4 +17,19 @@ public interface DelayStrategy
 	 * @param r The {@link Runnable} object to be potentially delayed.
 	 */
 	public void delay(final Runnable r);
+	/**
+	 * Get the number of milliseconds which {@link #delay(Runnable)} waits
+	 * before the execution.
+	 *
+	 * <p>
+	 * Used to reserve time on a clock for the delay of later moves. By
+	 * default there is no delay.
+	 * </p>
+	 *
+	 * @return The delay in milliseconds.
+	 */
+	public default long millis()
+	{
+		return 0;
+	}
 }
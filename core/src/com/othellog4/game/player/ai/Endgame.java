@@ -0,0 +1,554 @@
+package com.othellog4.game.player.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+import com.othellog4.game.board.SearchBoard;
+
+/**
+ * The {@code Endgame} class is an exact search of a board to the end of the
+ * game, which finds the final difference in the number of {@link Piece}
+ * objects of the two sides.
+ *
+ * <p>
+ * The search is a fail-soft negamax of the masks of the two sides, which
+ * does not evaluate any position before the end of the game. The moves are
+ * ordered to find a cutoff as soon as possible:
+ * </p>
+ *
+ * <ul>
+ * 		<li>
+ * 			With many empty squares, the moves which leave the opponent the
+ * 			fewest moves are searched first (fastest-first).
+ * 		</li>
+ * 		<li>
+ * 			With few empty squares, the moves into the quadrants of the board
+ * 			with an odd number of empty squares are searched first, as the
+ * 			side to move in such a region is likely to also move last in it
+ * 			(parity).
+ * 		</li>
+ * 		<li>
+ * 			The last three, two and one empty squares are searched by
+ * 			special cases which do not generate the masks of the moves.
+ * 		</li>
+ * </ul>
+ *
+ * <p>
+ * A search may be limited by a {@link SearchContext}, the same as an
+ * {@link AlphaBeta} search.
+ * </p>
+ *
+ * <p>
+ * Package private as it is an implementation detail of the
+ * {@link SearchStrategy} objects.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see EndgameSolver
+ */
+final class Endgame
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The masks of the four quadrants of the board.
+	 */
+	private static final long[] QUADRANTS = {
+			0x000000000F0F0F0FL,
+			0x00000000F0F0F0F0L,
+			0x0F0F0F0F00000000L,
+			0xF0F0F0F000000000L
+	};
+	/**
+	 * The masks of the squares in the order that moves are tried, within
+	 * each parity group.
+	 */
+	private static final long[] ORDER = {
+			AlphaBeta.CORNERS,
+			~(AlphaBeta.CORNERS | AlphaBeta.C_SQUARES | AlphaBeta.X_SQUARES),
+			AlphaBeta.C_SQUARES,
+			AlphaBeta.X_SQUARES
+	};
+	/**
+	 * The number of empty squares above which the moves are ordered
+	 * fastest-first, rather than by parity.
+	 */
+	private static final int FASTEST_FIRST = 7;
+	/**
+	 * The number of squares.
+	 */
+	private static final int SQUARES = SearchBoard.SIZE * SearchBoard.SIZE;
+	/**
+	 * A score which is better than any difference of the number of pieces.
+	 */
+	static final int INFINITY = SQUARES + 1;
+	/**
+	 * The mask of the number of nodes between each check of the
+	 * {@link SearchContext}.
+	 */
+	private static final long CHECK_INTERVAL = 1023;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The mask of the side to move at the root.
+	 */
+	private final long rootOwn;
+	/**
+	 * The mask of the opposing side at the root.
+	 */
+	private final long rootOpp;
+	/**
+	 * The sorted moves of the node with each number of empty squares.
+	 */
+	private final int[][] moves;
+	/**
+	 * The sort key of each move in {@link #moves}.
+	 */
+	private final int[][] keys;
+	/**
+	 * The {@link SearchContext} of the current search.
+	 */
+	private SearchContext context;
+	/**
+	 * The number of nodes which have been searched.
+	 */
+	private long nodes;
+	/**
+	 * The number of nodes with more than three empty squares whose moves
+	 * have been searched.
+	 */
+	private long interior;
+	/**
+	 * The number of nodes with more than three empty squares whose search
+	 * was cut off by the bound.
+	 */
+	private long cutoffs;
+	/**
+	 * If the current search ran out of its {@link SearchContext}.
+	 */
+	private boolean aborted;
+	/**
+	 * The score of the best moves of the last search.
+	 */
+	private int score;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create an {@code Endgame} search of a {@link BoardView}.
+	 *
+	 * @param board The {@link BoardView} to search.
+	 * @param piece The {@link Piece} object to search for moves for.
+	 * @throws IllegalArgumentException If <code>board</code> is not 8x8.
+	 */
+	Endgame(final BoardView board, final Piece piece)
+			throws
+			IllegalArgumentException
+	{
+		final SearchBoard masks = new SearchBoard(board);
+		rootOwn = masks.mask(piece);
+		rootOpp = masks.mask(piece.flip());
+		moves = new int[SQUARES + 1][SQUARES];
+		keys = new int[SQUARES + 1][SQUARES];
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Get the difference of the number of pieces of two sides.
+	 *
+	 * @param own The mask of the side to move.
+	 * @param opp The mask of the opposing side.
+	 * @return The number of pieces of <code>own</code> minus the number of
+	 * 			pieces of <code>opp</code>.
+	 */
+	private static int difference(final long own, final long opp)
+	{
+		return Long.bitCount(own) - Long.bitCount(opp);
+	}
+	/**
+	 * Get the mask of the quadrants with an odd number of empty squares.
+	 *
+	 * @param empty The mask of the empty squares.
+	 * @return The mask of every square of the odd quadrants.
+	 */
+	private static long oddQuadrants(final long empty)
+	{
+		long odd = 0;
+		for(final long quadrant : QUADRANTS)
+			if((Long.bitCount(empty & quadrant) & 1) != 0)
+				odd |= quadrant;
+		return odd;
+	}
+	/**
+	 * Get the final score with one empty square.
+	 *
+	 * @param own The mask of the side to move.
+	 * @param opp The mask of the opposing side.
+	 * @param square The bit index of the empty square.
+	 * @return The final difference of the number of pieces, for
+	 * 			<code>own</code>.
+	 */
+	private static int solve1(final long own, final long opp, final int square)
+	{
+		final int difference = difference(own, opp);
+		long flips = SearchBoard.flipMask(own, opp, square);
+		if(flips != 0)
+			return difference + 2 * Long.bitCount(flips) + 1;
+		//The side to move passes.
+		flips = SearchBoard.flipMask(opp, own, square);
+		if(flips != 0)
+			return difference - 2 * Long.bitCount(flips) - 1;
+		return difference;
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Solve the position, and find every move with the best score.
+	 *
+	 * @param context The {@link SearchContext} which limits the search.
+	 * @return The {@link List} of the {@link Position} objects of the moves
+	 * 			with the best score. Is empty if there are no legal moves, and
+	 * 			is incomplete if {@link #isAborted()}.
+	 */
+	final List<Position> best(final SearchContext context)
+	{
+		this.context = context;
+		aborted = false;
+		final List<Position> best = new ArrayList<>();
+		final long empty = ~(rootOwn | rootOpp);
+		final int empties = Long.bitCount(empty);
+		int bestScore = -INFINITY;
+		final int[] sorted = moves[empties];
+		final int count = order(
+				rootOwn,
+				rootOpp,
+				SearchBoard.legalMoveMask(rootOwn, rootOpp),
+				empties);
+		for(int i = 0; i < count && !aborted; ++i)
+		{
+			final int square = sorted[i];
+			final long flips = SearchBoard.flipMask(rootOwn, rootOpp, square);
+			//The window keeps every move which is as good as the best.
+			final int value = -solve(
+					rootOpp ^ flips,
+					rootOwn | flips | 1L << square,
+					-INFINITY,
+					-(bestScore - 1),
+					false);
+			if(aborted)
+				break;
+			if(value > bestScore)
+			{
+				bestScore = value;
+				best.clear();
+			}
+			if(value == bestScore)
+				best.add(SearchBoard.position(square));
+		}
+		score = bestScore;
+		return best;
+	}
+	/**
+	 * Get the score of the best moves of the last search.
+	 *
+	 * @return The final difference of the number of pieces, for the
+	 * 			{@link Piece} which the search is for.
+	 */
+	final int score()
+	{
+		return score;
+	}
+	/**
+	 * Check if the last search ran out of its {@link SearchContext}.
+	 *
+	 * @return <code>true</code> if the last search was stopped before it
+	 * 			was complete, otherwise, returns <code>false</code>.
+	 */
+	final boolean isAborted()
+	{
+		return aborted;
+	}
+	/**
+	 * Get the number of nodes which have been searched.
+	 *
+	 * @return The number of nodes searched by every search so far.
+	 */
+	final long nodes()
+	{
+		return nodes;
+	}
+	/**
+	 * Get the {@link SearchStatistics} of every search so far.
+	 *
+	 * <p>
+	 * No leaves are evaluated, as the score of a leaf is the final
+	 * difference of the number of pieces, and the branching factor and
+	 * cutoff ratio are only counted above the last three empty squares,
+	 * which are solved by special cases.
+	 * </p>
+	 *
+	 * @param elapsed The number of nanoseconds the searches took.
+	 * @return The {@link SearchStatistics} of the searches.
+	 */
+	final SearchStatistics statistics(final long elapsed)
+	{
+		return new SearchStatistics(
+				nodes,
+				0,
+				aborted? 0: Long.bitCount(~(rootOwn | rootOpp)),
+				interior,
+				cutoffs,
+				0,
+				0,
+				elapsed);
+	}
+	/**
+	 * Count a node, and check if the {@link SearchContext} has run out.
+	 *
+	 * @return <code>true</code> if the search must stop, otherwise, returns
+	 * 			<code>false</code>.
+	 */
+	private boolean visit()
+	{
+		if((++nodes & CHECK_INTERVAL) == 0 && context.isExpired(nodes))
+			aborted = true;
+		return aborted;
+	}
+	/**
+	 * Order the legal moves of a node.
+	 *
+	 * <p>
+	 * The moves are stored in {@link #moves} at the number of empty squares
+	 * of the node, so no objects are allocated.
+	 * </p>
+	 *
+	 * @param own The mask of the side to move.
+	 * @param opp The mask of the opposing side.
+	 * @param legal The mask of the legal moves.
+	 * @param empties The number of empty squares.
+	 * @return The number of moves.
+	 */
+	private int order(
+			final long own,
+			final long opp,
+			final long legal,
+			final int empties)
+	{
+		final int[] sorted = moves[empties];
+		final int[] sortKeys = keys[empties];
+		final long odd = oddQuadrants(~(own | opp));
+		int count = 0;
+		if(empties <= FASTEST_FIRST)
+		{
+			for(int parity = 0; parity < 2; ++parity)
+				for(final long order : ORDER)
+					for(long ordered = legal
+								& order
+								& (parity == 0? odd: ~odd);
+							ordered != 0;
+							ordered &= ordered - 1)
+						sorted[count++] = Long.numberOfTrailingZeros(ordered);
+			return count;
+		}
+		for(long ordered = legal; ordered != 0; ordered &= ordered - 1)
+		{
+			final int square = Long.numberOfTrailingZeros(ordered);
+			final long placed = 1L << square;
+			final long flips = SearchBoard.flipMask(own, opp, square);
+			//Fewest replies first, then the odd quadrants first.
+			final int key = 2 * Long.bitCount(SearchBoard.legalMoveMask(
+					opp ^ flips,
+					own | flips | placed))
+					+ ((odd & placed) != 0? 0: 1);
+			//Insertion sort, the number of moves is small.
+			int j = count++;
+			for(; j > 0 && sortKeys[j - 1] > key; --j)
+			{
+				sorted[j] = sorted[j - 1];
+				sortKeys[j] = sortKeys[j - 1];
+			}
+			sorted[j] = square;
+			sortKeys[j] = key;
+		}
+		return count;
+	}
+	/**
+	 * Search a node to the end of the game.
+	 *
+	 * @param own The mask of the side to move.
+	 * @param opp The mask of the opposing side.
+	 * @param alpha The score which the side to move is already guaranteed.
+	 * @param beta The score which the opposing side is already guaranteed.
+	 * @param passed If the opposing side passed the previous move.
+	 * @return The final difference of the number of pieces for
+	 * 			<code>own</code>, if it is between <code>alpha</code> and
+	 * 			<code>beta</code>, otherwise, a bound of the score which is
+	 * 			outside of them.
+	 */
+	private int solve(
+			final long own,
+			final long opp,
+			int alpha,
+			final int beta,
+			final boolean passed)
+	{
+		if(visit())
+			return 0;
+		final long empty = ~(own | opp);
+		final int empties = Long.bitCount(empty);
+		switch(empties)
+		{
+		case 0:
+			return difference(own, opp);
+		case 1:
+			return solve1(own, opp, Long.numberOfTrailingZeros(empty));
+		case 2:
+			return solve2(own, opp, alpha, beta, empty, false);
+		case 3:
+			return solve3(own, opp, alpha, beta, empty, false);
+		default:
+			break;
+		}
+		final long legal = SearchBoard.legalMoveMask(own, opp);
+		if(legal == 0)
+		{
+			if(passed)
+				return difference(own, opp);
+			return -solve(opp, own, -beta, -alpha, true);
+		}
+		final int[] sorted = moves[empties];
+		final int count = order(own, opp, legal, empties);
+		int best = -INFINITY;
+		++interior;
+		for(int i = 0; i < count; ++i)
+		{
+			final int square = sorted[i];
+			final long flips = SearchBoard.flipMask(own, opp, square);
+			final int value = -solve(
+					opp ^ flips,
+					own | flips | 1L << square,
+					-beta,
+					-alpha,
+					false);
+			if(aborted)
+				return 0;
+			if(value > best)
+			{
+				best = value;
+				if(best >= beta)
+				{
+					++cutoffs;
+					return best;
+				}
+				alpha = Math.max(alpha, best);
+			}
+		}
+		return best;
+	}
+	/**
+	 * Search a node with three empty squares to the end of the game.
+	 *
+	 * <p>
+	 * The empty square which is alone in its quadrant is tried first.
+	 * </p>
+	 *
+	 * @param own The mask of the side to move.
+	 * @param opp The mask of the opposing side.
+	 * @param alpha The score which the side to move is already guaranteed.
+	 * @param beta The score which the opposing side is already guaranteed.
+	 * @param empty The mask of the empty squares.
+	 * @param passed If the opposing side passed the previous move.
+	 * @return The final difference of the number of pieces for
+	 * 			<code>own</code>, or a bound of it.
+	 */
+	private int solve3(
+			final long own,
+			final long opp,
+			int alpha,
+			final int beta,
+			final long empty,
+			final boolean passed)
+	{
+		final long odd = oddQuadrants(empty);
+		int best = -INFINITY;
+		for(int parity = 0; parity < 2; ++parity)
+			for(long ordered = empty & (parity == 0? odd: ~odd);
+					ordered != 0;
+					ordered &= ordered - 1)
+			{
+				final int square = Long.numberOfTrailingZeros(ordered);
+				final long flips = SearchBoard.flipMask(own, opp, square);
+				if(flips == 0)
+					continue;
+				final long placed = 1L << square;
+				final int value = -solve2(
+						opp ^ flips,
+						own | flips | placed,
+						-beta,
+						-alpha,
+						empty & ~placed,
+						false);
+				if(aborted)
+					return 0;
+				if(value > best)
+				{
+					best = value;
+					if(best >= beta)
+						return best;
+					alpha = Math.max(alpha, best);
+				}
+			}
+		if(best != -INFINITY)
+			return best;
+		if(passed)
+			return difference(own, opp);
+		return -solve3(opp, own, -beta, -alpha, empty, true);
+	}
+	/**
+	 * Search a node with two empty squares to the end of the game.
+	 *
+	 * @param own The mask of the side to move.
+	 * @param opp The mask of the opposing side.
+	 * @param alpha The score which the side to move is already guaranteed.
+	 * @param beta The score which the opposing side is already guaranteed.
+	 * @param empty The mask of the empty squares.
+	 * @param passed If the opposing side passed the previous move.
+	 * @return The final difference of the number of pieces for
+	 * 			<code>own</code>, or a bound of it.
+	 */
+	private int solve2(
+			final long own,
+			final long opp,
+			final int alpha,
+			final int beta,
+			final long empty,
+			final boolean passed)
+	{
+		if(visit())
+			return 0;
+		final int first = Long.numberOfTrailingZeros(empty);
+		final int second = 63 - Long.numberOfLeadingZeros(empty);
+		int best = -INFINITY;
+		long flips = SearchBoard.flipMask(own, opp, first);
+		if(flips != 0)
+		{
+			best = -solve1(opp ^ flips, own | flips | 1L << first, second);
+			if(best >= beta)
+				return best;
+		}
+		flips = SearchBoard.flipMask(own, opp, second);
+		if(flips != 0)
+			best = Math.max(
+					best,
+					-solve1(opp ^ flips, own | flips | 1L << second, first));
+		if(best != -INFINITY)
+			return best;
+		if(passed)
+			return difference(own, opp);
+		return -solve2(opp, own, -beta, -alpha, empty, true);
+	}
+}
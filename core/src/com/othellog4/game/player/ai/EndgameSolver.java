@@ -0,0 +1,141 @@
+package com.othellog4.game.player.ai;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+
+/**
+ * The {@code EndgameSolver} class is an implementation of the
+ * {@link SearchStrategy} interface which plays perfectly near the end of
+ * the game.
+ *
+ * <p>
+ * Once there are at most a set number of empty squares, the position is
+ * solved exactly by an {@link Endgame} search, which maximises the final
+ * difference of the number of {@link Piece} objects; the
+ * {@link EvaluationStrategy} is not used. Before then, and if the position
+ * cannot be solved within half of the time of a move, the search is
+ * delegated to another {@link SearchStrategy}, with the rest of the time.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see Endgame
+ */
+public final class EndgameSolver implements SearchStrategy
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The default number of empty squares from which the position is solved.
+	 */
+	public static final int DEFAULT_EMPTIES = 14;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The number of empty squares from which the position is solved.
+	 */
+	private final int empties;
+	/**
+	 * The most milliseconds which a single search may take.
+	 */
+	private final long moveTime;
+	/**
+	 * The {@link SearchStrategy} which searches the positions which are not
+	 * solved.
+	 */
+	private final SearchStrategy fallback;
+	/**
+	 * The {@link Random} object to select between equally good
+	 * {@link Position} objects.
+	 */
+	private final Random rng;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create an {@code EndgameSolver}.
+	 *
+	 * @param empties The number of empty squares from which the position is
+	 * 			solved.
+	 * @param moveTime The most milliseconds which a single search may take.
+	 * @param fallback The {@link SearchStrategy} which searches the positions
+	 * 			which are not solved.
+	 * @throws IllegalArgumentException If <code>empties</code> or
+	 * 			<code>moveTime</code> is negative, or <code>fallback</code> is
+	 * 			<code>null</code>.
+	 */
+	public EndgameSolver(
+			final int empties,
+			final long moveTime,
+			final SearchStrategy fallback)
+			throws
+			IllegalArgumentException
+	{
+		if(empties < 0 || moveTime < 0 || fallback == null)
+			throw new IllegalArgumentException();
+		this.empties = empties;
+		this.moveTime = moveTime;
+		this.fallback = fallback;
+		rng = new Random(new Date().getTime());
+	}
+	//=========================================================================
+	//Overridden methods.
+	/**
+	 * Search for the {@link Position} object where a {@link Piece} object
+	 * can be placed, within the time of a move.
+	 *
+	 * @param board The {@link BoardView} which to search for moves.
+	 * @param piece The {@link Piece} object to search for moves for.
+	 * @param eval The {@link EvaluationStrategy} used to rank the
+	 * 			<code>board</code> if it is not solved.
+	 * @return The selected {@link Position} object.
+	 */
+	@Override
+	public Position search(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval)
+	{
+		return search(board, piece, eval, SearchContext.unlimited());
+	}
+	/**
+	 * Search for the {@link Position} object where a {@link Piece} object
+	 * can be placed, within the time of a move, or less if the
+	 * {@link SearchContext} is tighter.
+	 *
+	 * @param board The {@link BoardView} which to search for moves.
+	 * @param piece The {@link Piece} object to search for moves for.
+	 * @param eval The {@link EvaluationStrategy} used to rank the
+	 * 			<code>board</code> if it is not solved.
+	 * @param context The {@link SearchContext} which limits the search.
+	 * @return The selected {@link Position} object.
+	 */
+	@Override
+	public Position search(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval,
+			final SearchContext context)
+	{
+		final int empty = board.size() * board.size()
+				- board.count(piece)
+				- board.count(piece.flip());
+		if(empty > empties)
+			return fallback.search(board, piece, eval, context);
+		final long start = System.nanoTime();
+		final SearchContext budget = context.within(moveTime, Long.MAX_VALUE);
+		final Endgame endgame = new Endgame(board, piece);
+		final List<Position> best = endgame.best(
+				budget.within(budget.remainingMillis() / 2, Long.MAX_VALUE));
+		//The fallback reports its own search instead.
+		if(endgame.isAborted())
+			return fallback.search(board, piece, eval, budget);
+		context.report(endgame.statistics(System.nanoTime() - start));
+		return best.get(rng.nextInt(best.size()));
+	}
+}
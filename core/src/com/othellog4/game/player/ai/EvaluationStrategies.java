@@ -1,6 +1,7 @@
 package com.othellog4.game.player.ai;
 
 import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Features;
 import com.othellog4.game.board.Piece;
 
 /**
@@ -9,7 +10,7 @@ import com.othellog4.game.board.Piece;
  * 
  * @author 	159014260 John Berg
  * @since 	25/01/2018
- * @version 15/02/2018
+ * @version 18/10/2026
  */
 public enum EvaluationStrategies implements EvaluationStrategy
 {
@@ -99,5 +100,100 @@ public enum EvaluationStrategies implements EvaluationStrategy
 				return 0.0;
 			return (a - b) / (a + b);
 		}
+	},
+	/**
+	 * Evaluation based on the weights of the patterns of the board.
+	 */
+	PATTERN
+	{
+		/**
+		 * Evaluate the {@link BoardView} by the {@link PatternWeights} of
+		 * {@link PatternEvaluation#shared()}.
+		 *
+		 * @param board The {@link BoardView} object to evaluate.
+		 * @param piece The {@link Piece} object which is the basis of the
+		 * 			evaluation.
+		 * @return The evaluation, in discs for <code>piece</code>.
+		 */
+		@Override
+		public double evaluate(
+				final BoardView board,
+				final Piece piece)
+		{
+			return PatternEvaluation.shared().evaluate(board, piece);
+		}
+	},
+	/**
+	 * Evaluation based on the standard {@link Features} of the board,
+	 * weighted by the stage of the game.
+	 */
+	FEATURES
+	{
+		/**
+		 * The weight of each feature at the start of a game, in the order
+		 * corners, stable discs, mobility, potential mobility, frontier
+		 * discs and discs.
+		 */
+		private final double[] opening = {30, 10, 8, 4, -4, -1};
+		/**
+		 * The weight of each feature at the end of a game, in the same
+		 * order as the opening weights.
+		 */
+		private final double[] ending = {30, 20, 4, 1, -1, 4};
+		/**
+		 * Get the weight of a feature, between its opening and ending
+		 * weights.
+		 *
+		 * @param feature The index of the feature.
+		 * @param early The share of the board which is empty.
+		 * @return The weight of the <code>feature</code>.
+		 */
+		private double weight(final int feature, final double early)
+		{
+			return early * opening[feature] + (1 - early) * ending[feature];
+		}
+		/**
+		 * Evaluate the {@link BoardView} by the difference of each of the
+		 * {@link Features} of both {@link Piece} objects.
+		 *
+		 * <p>
+		 * Early in a game, mobility matters most and having few discs is an
+		 * advantage. As the board fills up, the weights move towards stable
+		 * discs and the number of discs.
+		 * </p>
+		 *
+		 * @param board The {@link BoardView} object to evaluate.
+		 * @param piece The {@link Piece} object which is the basis of the
+		 * 			evaluation.
+		 * @return The evaluation, in roughly discs for <code>piece</code>.
+		 */
+		@Override
+		public double evaluate(
+				final BoardView board,
+				final Piece piece)
+		{
+			final long own = board.mask(piece);
+			final long opp = board.mask(piece.flip());
+			final int squares = board.size() * board.size();
+			final double early = 1.0
+					- (double) Long.bitCount(own | opp) / squares;
+			//Each term is added as it is found, so nothing is allocated.
+			double score = weight(0, early)
+					* (Features.corners(own) - Features.corners(opp));
+			score += weight(1, early)
+					* (Features.stable(own, opp) - Features.stable(opp, own));
+			score += weight(2, early)
+					* (Features.mobility(own, opp)
+							- Features.mobility(opp, own));
+			score += weight(3, early)
+					* (Features.potentialMobility(own, opp)
+							- Features.potentialMobility(opp, own));
+			score += weight(4, early)
+					* (Features.frontier(own, opp)
+							- Features.frontier(opp, own));
+			score += weight(5, early)
+					* (Long.bitCount(own) - Long.bitCount(opp));
+			return score;
+		}
 	};
 }
@@ -0,0 +1,215 @@
+package com.othellog4.game.player.ai;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+import com.othellog4.game.board.SearchBoard;
+
+/**
+ * The {@code IterativeDeepening} class is an implementation of the
+ * {@link SearchStrategy} interface which searches one move deeper at a time,
+ * until it runs out of its budget.
+ *
+ * <p>
+ * Each iteration is an {@link AlphaBeta} search, and the best moves of each
+ * iteration are searched first by the next. When the budget runs out, the
+ * unfinished iteration is discarded, and a random move is selected from the
+ * best moves of the last iteration which was completed. The first iteration
+ * is always completed, so a move is always found.
+ * </p>
+ *
+ * <p>
+ * The iterations share a {@link TranspositionTable}, which by default is the
+ * {@link TranspositionTable#shared()} table, so each iteration starts from
+ * the best moves and the bounds found by the iterations before it.
+ * </p>
+ *
+ * <p>
+ * The budget is the tighter of the budget given when the
+ * {@code IterativeDeepening} is created and the {@link SearchContext} given
+ * to {@link #search(BoardView, Piece, EvaluationStrategy, SearchContext)},
+ * such as the remaining time on the clock of the player. The search may
+ * also be limited to a depth, in which case it stops there even if the
+ * budget has not run out.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see AlphaBeta
+ * @see SearchContext
+ */
+public final class IterativeDeepening implements SearchStrategy
+{
+	//=========================================================================
+	//Fields.
+	/**
+	 * The most milliseconds which a single search may take.
+	 */
+	private final long moveTime;
+	/**
+	 * The most nodes which a single search may visit.
+	 */
+	private final long nodeLimit;
+	/**
+	 * The {@link Random} object to select between equally good
+	 * {@link Position} objects.
+	 */
+	private final Random rng;
+	/**
+	 * The {@link TranspositionTable} of the search, or <code>null</code> if
+	 * there is none.
+	 */
+	private final TranspositionTable table;
+	/**
+	 * The deepest iteration which is searched.
+	 */
+	private final int depthLimit;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create an {@code IterativeDeepening} search which is limited by time.
+	 *
+	 * @param moveTime The most milliseconds which a single search may take.
+	 */
+	public IterativeDeepening(final long moveTime)
+	{
+		this(moveTime, Long.MAX_VALUE);
+	}
+	/**
+	 * Create an {@code IterativeDeepening} search which is limited by time
+	 * and by the number of nodes searched.
+	 *
+	 * @param moveTime The most milliseconds which a single search may take.
+	 * @param nodeLimit The most nodes which a single search may visit.
+	 * @throws IllegalArgumentException If either <code>moveTime</code> or
+	 * 			<code>nodeLimit</code> is negative.
+	 */
+	public IterativeDeepening(final long moveTime, final long nodeLimit)
+			throws
+			IllegalArgumentException
+	{
+		this(moveTime, nodeLimit, TranspositionTable.shared());
+	}
+	/**
+	 * Create an {@code IterativeDeepening} search which is limited by time
+	 * and by the number of nodes searched, and which uses a specified
+	 * {@link TranspositionTable}.
+	 *
+	 * @param moveTime The most milliseconds which a single search may take.
+	 * @param nodeLimit The most nodes which a single search may visit.
+	 * @param table The {@link TranspositionTable}, or <code>null</code> to
+	 * 			search without one.
+	 * @throws IllegalArgumentException If either <code>moveTime</code> or
+	 * 			<code>nodeLimit</code> is negative.
+	 */
+	public IterativeDeepening(
+			final long moveTime,
+			final long nodeLimit,
+			final TranspositionTable table)
+			throws
+			IllegalArgumentException
+	{
+		this(moveTime, nodeLimit, table, Integer.MAX_VALUE);
+	}
+	/**
+	 * Create an {@code IterativeDeepening} search which is limited by time,
+	 * by the number of nodes searched and by depth, and which uses a
+	 * specified {@link TranspositionTable}.
+	 *
+	 * @param moveTime The most milliseconds which a single search may take.
+	 * @param nodeLimit The most nodes which a single search may visit.
+	 * @param table The {@link TranspositionTable}, or <code>null</code> to
+	 * 			search without one.
+	 * @param depthLimit The deepest iteration to search.
+	 * @throws IllegalArgumentException If either <code>moveTime</code> or
+	 * 			<code>nodeLimit</code> is negative, or
+	 * 			<code>depthLimit</code> is not positive.
+	 */
+	public IterativeDeepening(
+			final long moveTime,
+			final long nodeLimit,
+			final TranspositionTable table,
+			final int depthLimit)
+			throws
+			IllegalArgumentException
+	{
+		if(moveTime < 0 || nodeLimit < 0 || depthLimit <= 0)
+			throw new IllegalArgumentException();
+		this.moveTime = moveTime;
+		this.nodeLimit = nodeLimit;
+		this.table = table;
+		this.depthLimit = depthLimit;
+		rng = new Random(new Date().getTime());
+	}
+	//=========================================================================
+	//Overridden methods.
+	/**
+	 * Search for the {@link Position} object where a {@link Piece} object
+	 * can be placed, within the budget of <code>this</code>
+	 * {@code IterativeDeepening} object.
+	 *
+	 * @param board The {@link BoardView} which to search for moves.
+	 * @param piece The {@link Piece} object to search for moves for.
+	 * @param eval The {@link EvaluationStrategy} used to rank the
+	 * 			<code>board</code>.
+	 * @return The selected {@link Position} object.
+	 */
+	@Override
+	public Position search(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval)
+	{
+		return search(board, piece, eval, SearchContext.unlimited());
+	}
+	/**
+	 * Search for the {@link Position} object where a {@link Piece} object
+	 * can be placed, within the budget of both <code>this</code>
+	 * {@code IterativeDeepening} object and a {@link SearchContext}.
+	 *
+	 * @param board The {@link BoardView} which to search for moves.
+	 * @param piece The {@link Piece} object to search for moves for.
+	 * @param eval The {@link EvaluationStrategy} used to rank the
+	 * 			<code>board</code>.
+	 * @param context The {@link SearchContext} which limits the search.
+	 * @return The selected {@link Position} object.
+	 */
+	@Override
+	public Position search(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval,
+			final SearchContext context)
+	{
+		final long start = System.nanoTime();
+		final SearchContext budget = context.within(moveTime, nodeLimit);
+		if(table != null)
+			table.newSearch();
+		final AlphaBeta search = new AlphaBeta(board, piece, eval, table);
+		List<Position> best = search.best(1);
+		int completed = 1;
+		//Searching past the end of the game cannot change the result.
+		for(int depth = 2;
+				depth <= depthLimit && search.isHorizon();
+				++depth)
+		{
+			long first = 0;
+			for(final Position position : best)
+				first |= 1L << SearchBoard.square(position);
+			final List<Position> next = search.best(depth, budget, first);
+			if(search.isAborted())
+				break;
+			best = next;
+			completed = depth;
+		}
+		context.report(search.statistics(
+				completed,
+				System.nanoTime() - start));
+		return best.get(rng.nextInt(best.size()));
+	}
+}
@@ -0,0 +1,373 @@
+package com.othellog4.game.player.ai;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+import com.othellog4.game.board.SearchBoard;
+
+/**
+ * The {@code LazySmp} class is an implementation of the
+ * {@link SearchStrategy} interface which searches with several threads at
+ * once, which share their results through a {@link TranspositionTable}.
+ *
+ * <p>
+ * Every thread runs its own iterative deepening {@link AlphaBeta} search of
+ * the same position. The threads do not divide the work between them;
+ * instead, each stores its results in the shared
+ * {@link TranspositionTable}, where the other threads find them, so that
+ * together they complete each depth sooner than a single thread. To avoid
+ * the threads searching in lockstep, half of the helper threads search one
+ * move deeper than the main thread, and each helper thread searches a
+ * random one of its best moves first.
+ * </p>
+ *
+ * <p>
+ * The search runs on the calling thread, and the helper threads run on a
+ * {@link ForkJoinPool} of <code>threads - 1</code> threads. When the main
+ * thread runs out of its budget, or any thread reaches the end of the game,
+ * every thread is stopped, and a move is selected from the deepest
+ * iteration which was completed by any of them.
+ * </p>
+ *
+ * <p>
+ * After each search, the number of nodes which each thread searched per
+ * second is available from {@link #nodesPerSecond()}, to verify that the
+ * search scales with the number of threads.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see IterativeDeepening
+ * @see TranspositionTable
+ */
+public final class LazySmp implements SearchStrategy
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The name of the system property which sets the number of threads of
+	 * {@link #defaultThreads()}.
+	 */
+	public static final String THREADS_PROPERTY = "othello.search.threads";
+	/**
+	 * The number of nanoseconds in a second.
+	 */
+	private static final double NANOS_PER_SECOND = 1e9;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The number of threads which search at once, including the calling
+	 * thread.
+	 */
+	private final int threads;
+	/**
+	 * The most milliseconds which a single search may take.
+	 */
+	private final long moveTime;
+	/**
+	 * The most nodes which each thread of a single search may visit.
+	 */
+	private final long nodeLimit;
+	/**
+	 * The {@link TranspositionTable} which the threads share.
+	 */
+	private final TranspositionTable table;
+	/**
+	 * The {@link ForkJoinPool} which runs the helper threads, or
+	 * <code>null</code> if there is only one thread.
+	 */
+	private final ForkJoinPool pool;
+	/**
+	 * The {@link Random} object to select between equally good
+	 * {@link Position} objects.
+	 */
+	private final Random rng;
+	/**
+	 * The nodes per second of each thread of the last search.
+	 */
+	private volatile double[] nodesPerSecond = new double[0];
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code LazySmp} search which is limited by time, and uses the
+	 * {@link TranspositionTable#shared()} table.
+	 *
+	 * @param threads The number of threads which search at once.
+	 * @param moveTime The most milliseconds which a single search may take.
+	 * @throws IllegalArgumentException If <code>threads</code> is not
+	 * 			positive, or <code>moveTime</code> is negative.
+	 */
+	public LazySmp(final int threads, final long moveTime)
+			throws
+			IllegalArgumentException
+	{
+		this(threads, moveTime, Long.MAX_VALUE, TranspositionTable.shared());
+	}
+	/**
+	 * Create a {@code LazySmp} search which is limited by time and by the
+	 * number of nodes searched by each thread.
+	 *
+	 * @param threads The number of threads which search at once.
+	 * @param moveTime The most milliseconds which a single search may take.
+	 * @param nodeLimit The most nodes which each thread of a single search
+	 * 			may visit.
+	 * @param table The {@link TranspositionTable} which the threads share.
+	 * @throws IllegalArgumentException If <code>threads</code> is not
+	 * 			positive, <code>moveTime</code> or <code>nodeLimit</code> is
+	 * 			negative, or <code>table</code> is <code>null</code>.
+	 */
+	public LazySmp(
+			final int threads,
+			final long moveTime,
+			final long nodeLimit,
+			final TranspositionTable table)
+			throws
+			IllegalArgumentException
+	{
+		if(threads <= 0 || moveTime < 0 || nodeLimit < 0 || table == null)
+			throw new IllegalArgumentException();
+		this.threads = threads;
+		this.moveTime = moveTime;
+		this.nodeLimit = nodeLimit;
+		this.table = table;
+		pool = threads > 1? new ForkJoinPool(threads - 1): null;
+		rng = new Random(new Date().getTime());
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Get the default number of threads.
+	 *
+	 * <p>
+	 * Is the value of the {@link #THREADS_PROPERTY} system property, or the
+	 * number of available processors if it is not set.
+	 * </p>
+	 *
+	 * @return The default number of threads, which is at least
+	 * 			<code>1</code>.
+	 */
+	public static int defaultThreads()
+	{
+		return Math.max(1, Integer.getInteger(
+				THREADS_PROPERTY,
+				Runtime.getRuntime().availableProcessors()));
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Get the number of threads which search at once.
+	 *
+	 * @return The number of threads, including the calling thread.
+	 */
+	public int threads()
+	{
+		return threads;
+	}
+	/**
+	 * Get the number of nodes which each thread searched per second, during
+	 * the last search.
+	 *
+	 * @return The nodes per second of each thread, the main thread first.
+	 * 			Is empty if there has been no search.
+	 */
+	public double[] nodesPerSecond()
+	{
+		return nodesPerSecond.clone();
+	}
+	//=========================================================================
+	//Overridden methods.
+	/**
+	 * Search for the {@link Position} object where a {@link Piece} object
+	 * can be placed, within the budget of <code>this</code>
+	 * {@code LazySmp} object.
+	 *
+	 * @param board The {@link BoardView} which to search for moves.
+	 * @param piece The {@link Piece} object to search for moves for.
+	 * @param eval The {@link EvaluationStrategy} used to rank the
+	 * 			<code>board</code>.
+	 * @return The selected {@link Position} object.
+	 */
+	@Override
+	public Position search(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval)
+	{
+		return search(board, piece, eval, SearchContext.unlimited());
+	}
+	/**
+	 * Search for the {@link Position} object where a {@link Piece} object
+	 * can be placed, within the budget of both <code>this</code>
+	 * {@code LazySmp} object and a {@link SearchContext}.
+	 *
+	 * @param board The {@link BoardView} which to search for moves.
+	 * @param piece The {@link Piece} object to search for moves for.
+	 * @param eval The {@link EvaluationStrategy} used to rank the
+	 * 			<code>board</code>.
+	 * @param context The {@link SearchContext} which limits the search.
+	 * @return The selected {@link Position} object.
+	 */
+	@Override
+	public Position search(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval,
+			final SearchContext context)
+	{
+		final SearchContext budget = context
+				.within(moveTime, nodeLimit)
+				.cancellable();
+		table.newSearch();
+		final Worker[] workers = new Worker[threads];
+		for(int i = 0; i < threads; ++i)
+			workers[i] = new Worker(
+					new AlphaBeta(board, piece, eval, table),
+					budget,
+					i);
+		final long start = System.nanoTime();
+		final List<ForkJoinTask<?>> helpers = new ArrayList<>(threads);
+		for(int i = 1; i < threads; ++i)
+			helpers.add(pool.submit(workers[i]));
+		try
+		{
+			workers[0].run();
+		}
+		finally
+		{
+			//Stop the helpers when the main thread is done.
+			budget.cancel();
+		}
+		for(final ForkJoinTask<?> helper : helpers)
+			helper.join();
+		final double seconds = Math.max(1, System.nanoTime() - start)
+				/ NANOS_PER_SECOND;
+		final double[] rates = new double[threads];
+		Worker deepest = workers[0];
+		SearchStatistics total = SearchStatistics.NONE;
+		for(int i = 0; i < threads; ++i)
+		{
+			rates[i] = workers[i].search.nodes() / seconds;
+			if(workers[i].isBetter(deepest))
+				deepest = workers[i];
+			total = total.plus(workers[i].search.statistics(0, 0));
+		}
+		nodesPerSecond = rates;
+		//The work of every thread counts towards a single search.
+		context.report(new SearchStatistics(
+				total.nodes(),
+				total.leaves(),
+				deepest.depth,
+				total.interior(),
+				total.cutoffs(),
+				total.probes(),
+				total.hits(),
+				System.nanoTime() - start));
+		return deepest.best.get(rng.nextInt(deepest.best.size()));
+	}
+	//=========================================================================
+	//Inner classes.
+	/**
+	 * The {@code Worker} class is the iterative deepening search of a single
+	 * thread.
+	 */
+	private static final class Worker implements Runnable
+	{
+		/**
+		 * The {@link AlphaBeta} search of the thread.
+		 */
+		private final AlphaBeta search;
+		/**
+		 * The {@link SearchContext} shared by every thread.
+		 */
+		private final SearchContext budget;
+		/**
+		 * The index of the thread, which is <code>0</code> for the main
+		 * thread.
+		 */
+		private final int id;
+		/**
+		 * The best moves of the deepest iteration which was completed.
+		 */
+		private List<Position> best;
+		/**
+		 * The depth of the deepest iteration which was completed.
+		 */
+		private int depth;
+		/**
+		 * If the deepest iteration reached the end of the game on every line.
+		 */
+		private boolean solved;
+		/**
+		 * Create the {@code Worker} of a thread.
+		 *
+		 * @param search The {@link AlphaBeta} search of the thread.
+		 * @param budget The {@link SearchContext} shared by every thread.
+		 * @param id The index of the thread.
+		 */
+		Worker(
+				final AlphaBeta search,
+				final SearchContext budget,
+				final int id)
+		{
+			this.search = search;
+			this.budget = budget;
+			this.id = id;
+		}
+		/**
+		 * Check if <code>this</code> {@code Worker} found a better result
+		 * than another.
+		 *
+		 * @param other The other {@code Worker}.
+		 * @return <code>true</code> if <code>this</code> {@code Worker}
+		 * 			solved the game and <code>other</code> did not, or
+		 * 			completed a deeper iteration, otherwise, returns
+		 * 			<code>false</code>.
+		 */
+		boolean isBetter(final Worker other)
+		{
+			if(solved != other.solved)
+				return solved;
+			return depth > other.depth;
+		}
+		/**
+		 * Search one move deeper at a time, until the {@link SearchContext}
+		 * runs out.
+		 */
+		@Override
+		public void run()
+		{
+			final Random rng = new Random(id);
+			best = search.best(1);
+			depth = 1;
+			//Half of the helpers search one move ahead of the main thread.
+			final int skew = id & 1;
+			while(search.isHorizon())
+			{
+				long first = 0;
+				if(id == 0)
+					for(final Position position : best)
+						first |= 1L << SearchBoard.square(position);
+				else
+					first = 1L << SearchBoard.square(
+							best.get(rng.nextInt(best.size())));
+				final int next = depth + 1 + (depth == 1? skew: 0);
+				final List<Position> moves = search.best(next, budget, first);
+				if(search.isAborted())
+					return;
+				best = moves;
+				depth = next;
+			}
+			//Every line reached the end of the game, so the others can stop.
+			solved = true;
+			budget.cancel();
+		}
+	}
+}
@@ -0,0 +1,727 @@
+package com.othellog4.game.player.ai;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+import com.othellog4.game.board.SearchBoard;
+
+/**
+ * The {@code MonteCarloTreeSearch} class is an implementation of the
+ * {@link SearchStrategy} interface which ranks the moves by the results of
+ * games played to the end with random moves (playouts).
+ *
+ * <p>
+ * The search grows a tree from the current position. Each playout selects a
+ * path down the tree by the UCT formula, which balances the moves with the
+ * best results against the moves which have been tried the least, adds the
+ * children of the last node of the path, plays the rest of the game at
+ * random, and adds the result to every node of the path. The
+ * {@link EvaluationStrategy} is not used. The move which was tried the most
+ * is selected.
+ * </p>
+ *
+ * <p>
+ * The playouts run on the calling thread and on <code>threads - 1</code>
+ * helper threads of a {@link ForkJoinPool}, which share the tree. A node
+ * counts as a loss for the threads which pass through it until their
+ * playouts finish (virtual loss), so that the threads explore different
+ * paths. The playouts play on the masks of the two sides, so they do not
+ * allocate any objects. With biased playouts, the corners are always taken
+ * if possible, and the squares diagonally next to a corner are avoided.
+ * </p>
+ *
+ * <p>
+ * The trees are kept between searches. If the position of a search was
+ * reached within two moves of the position of an earlier search, the
+ * subtree of that position is searched further rather than starting again.
+ * A tree is taken by one search at a time, and is kept again when the
+ * search finishes, so the games which share a {@code MonteCarloTreeSearch}
+ * each keep their own tree, and never grow or count the tree of another.
+ * The most recently kept trees are kept, up to {@link #MAX_NODES} nodes
+ * between them.
+ * </p>
+ *
+ * <p>
+ * A search is limited by time, by the total number of playouts, or both,
+ * so the strength of the search is set by its budget rather than by a
+ * depth.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public final class MonteCarloTreeSearch implements SearchStrategy
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The weight of the exploration term of the UCT formula.
+	 */
+	private static final double EXPLORATION = Math.sqrt(2.0);
+	/**
+	 * The move of a node which is reached by passing.
+	 */
+	private static final int PASS = 64;
+	/**
+	 * The most nodes which a tree may have, and which the kept trees may
+	 * have between them.
+	 */
+	private static final int MAX_NODES = 1 << 19;
+	/**
+	 * The most nodes on a path from the root, which is more than the number
+	 * of moves and passes of a game.
+	 */
+	private static final int MAX_PATH = 130;
+	/**
+	 * The reward of a win, which is twice the reward of a draw.
+	 */
+	private static final int WIN = 2;
+	/**
+	 * The number of nanoseconds in a second.
+	 */
+	private static final double NANOS_PER_SECOND = 1e9;
+	/**
+	 * The children of a node at the end of the game.
+	 */
+	private static final Node[] NO_CHILDREN = new Node[0];
+	//=========================================================================
+	//Fields.
+	/**
+	 * The number of threads which play at once, including the calling
+	 * thread.
+	 */
+	private final int threads;
+	/**
+	 * The most milliseconds which a single search may take.
+	 */
+	private final long moveTime;
+	/**
+	 * The most playouts of a single search.
+	 */
+	private final long playouts;
+	/**
+	 * If the playouts prefer the corners and avoid the squares diagonally
+	 * next to them.
+	 */
+	private final boolean biased;
+	/**
+	 * The {@link ForkJoinPool} which runs the helper threads, or
+	 * <code>null</code> if there is only one thread.
+	 */
+	private final ForkJoinPool pool;
+	/**
+	 * The roots of the kept trees, the most recently kept first, which are
+	 * guarded by their own lock.
+	 */
+	private final Deque<Node> trees = new ArrayDeque<>();
+	/**
+	 * The number of nodes of each of the {@link #trees}, in the same order.
+	 */
+	private final Deque<Integer> treeSizes = new ArrayDeque<>();
+	/**
+	 * The number of playouts of the last search.
+	 */
+	private volatile long lastPlayouts;
+	/**
+	 * The number of playouts per second of the last search.
+	 */
+	private volatile double playoutsPerSecond;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code MonteCarloTreeSearch}.
+	 *
+	 * @param threads The number of threads which play at once.
+	 * @param moveTime The most milliseconds which a single search may take.
+	 * @param playouts The most playouts of a single search.
+	 * @param biased If the playouts prefer the corners and avoid the squares
+	 * 			diagonally next to them, rather than being uniformly random.
+	 * @throws IllegalArgumentException If <code>threads</code> is not
+	 * 			positive, or <code>moveTime</code> or <code>playouts</code>
+	 * 			is negative.
+	 */
+	public MonteCarloTreeSearch(
+			final int threads,
+			final long moveTime,
+			final long playouts,
+			final boolean biased)
+			throws
+			IllegalArgumentException
+	{
+		if(threads <= 0 || moveTime < 0 || playouts < 0)
+			throw new IllegalArgumentException();
+		this.threads = threads;
+		this.moveTime = moveTime;
+		this.playouts = playouts;
+		this.biased = biased;
+		pool = threads > 1? new ForkJoinPool(threads - 1): null;
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Find a node with a position within two moves of a node.
+	 *
+	 * @param node The node to search from, or <code>null</code>.
+	 * @param own The mask of the side to move of the position.
+	 * @param opp The mask of the opposing side of the position.
+	 * @return The node of the position, or <code>null</code> if it was not
+	 * 			found.
+	 */
+	private static Node find(final Node node, final long own, final long opp)
+	{
+		if(node == null)
+			return null;
+		if(node.is(own, opp))
+			return node;
+		final Node[] children = node.children;
+		if(children == null)
+			return null;
+		for(final Node child : children)
+		{
+			if(child.is(own, opp))
+				return child;
+			final Node[] grandchildren = child.children;
+			if(grandchildren != null)
+				for(final Node grandchild : grandchildren)
+					if(grandchild.is(own, opp))
+						return grandchild;
+		}
+		return null;
+	}
+	/**
+	 * Count the nodes of a tree.
+	 *
+	 * @param root The root of the tree.
+	 * @return The number of nodes of the tree.
+	 */
+	private static int count(final Node root)
+	{
+		final Deque<Node> stack = new ArrayDeque<>();
+		stack.push(root);
+		int count = 0;
+		while(!stack.isEmpty())
+		{
+			final Node[] children = stack.pop().children;
+			++count;
+			if(children != null)
+				for(final Node child : children)
+					stack.push(child);
+		}
+		return count;
+	}
+	/**
+	 * Get the best of the children of a {@link Node}.
+	 *
+	 * @param children The children of the {@link Node}.
+	 * @return The child {@link Node} with the best results.
+	 */
+	private static Node best(final Node[] children)
+	{
+		Node best = null;
+		for(final Node child : children)
+			if(best == null || child.isBetter(best))
+				best = child;
+		return best;
+	}
+	/**
+	 * Get the depth of the tree along the best moves.
+	 *
+	 * @param root The root {@link Node} of the tree.
+	 * @return The number of moves from the <code>root</code> which the tree
+	 * 			has expanded along the best child of each {@link Node}.
+	 */
+	private static int depth(final Node root)
+	{
+		int depth = 0;
+		for(Node node = root;
+				node.children != null && node.children.length != 0;
+				node = best(node.children))
+			++depth;
+		return depth;
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Take the kept tree of a position, so no other search can use it.
+	 *
+	 * @param own The mask of the side to move of the position.
+	 * @param opp The mask of the opposing side of the position.
+	 * @return The node of the position, or <code>null</code> if no kept
+	 * 			tree has the position within two moves of its root.
+	 */
+	private Node take(final long own, final long opp)
+	{
+		synchronized(trees)
+		{
+			final Iterator<Node> roots = trees.iterator();
+			final Iterator<Integer> sizes = treeSizes.iterator();
+			while(roots.hasNext())
+			{
+				final Node node = find(roots.next(), own, opp);
+				sizes.next();
+				if(node != null)
+				{
+					roots.remove();
+					sizes.remove();
+					return node;
+				}
+			}
+			return null;
+		}
+	}
+	/**
+	 * Keep the tree of a search, and drop the oldest trees which no longer
+	 * fit within {@link #MAX_NODES} nodes.
+	 *
+	 * @param root The root of the tree.
+	 * @param size The number of nodes of the tree.
+	 */
+	private void keep(final Node root, final int size)
+	{
+		synchronized(trees)
+		{
+			trees.addFirst(root);
+			treeSizes.addFirst(size);
+			int total = 0;
+			for(final int kept : treeSizes)
+				total += kept;
+			while(total > MAX_NODES && trees.size() > 1)
+			{
+				trees.removeLast();
+				total -= treeSizes.removeLast();
+			}
+		}
+	}
+	/**
+	 * Get the number of playouts of the last search.
+	 *
+	 * @return The number of playouts played by every thread.
+	 */
+	public long playouts()
+	{
+		return lastPlayouts;
+	}
+	/**
+	 * Get the number of playouts per second of the last search.
+	 *
+	 * @return The number of playouts per second of every thread together.
+	 */
+	public double playoutsPerSecond()
+	{
+		return playoutsPerSecond;
+	}
+	//=========================================================================
+	//Overridden methods.
+	/**
+	 * Search for the {@link Position} object where a {@link Piece} object
+	 * can be placed, within the budget of <code>this</code>
+	 * {@code MonteCarloTreeSearch} object.
+	 *
+	 * @param board The {@link BoardView} which to search for moves.
+	 * @param piece The {@link Piece} object to search for moves for.
+	 * @param eval Unused.
+	 * @return The selected {@link Position} object.
+	 */
+	@Override
+	public Position search(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval)
+	{
+		return search(board, piece, eval, SearchContext.unlimited());
+	}
+	/**
+	 * Search for the {@link Position} object where a {@link Piece} object
+	 * can be placed, within the budget of both <code>this</code>
+	 * {@code MonteCarloTreeSearch} object and a {@link SearchContext}.
+	 *
+	 * @param board The {@link BoardView} which to search for moves.
+	 * @param piece The {@link Piece} object to search for moves for.
+	 * @param eval Unused.
+	 * @param context The {@link SearchContext} which limits the search.
+	 * @return The selected {@link Position} object.
+	 */
+	@Override
+	public Position search(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval,
+			final SearchContext context)
+	{
+		final SearchBoard masks = new SearchBoard(board);
+		final long own = masks.mask(piece);
+		final long opp = masks.mask(piece.flip());
+		Node root = take(own, opp);
+		final AtomicInteger size = new AtomicInteger();
+		if(root != null)
+			size.set(count(root));
+		//Start again if the position was not found, or its tree is full.
+		if(root == null || root.expand(size) == null)
+		{
+			root = new Node(own, opp, PASS);
+			size.set(1);
+			root.expand(size);
+		}
+		final SearchContext budget = context
+				.within(moveTime, playouts)
+				.cancellable();
+		final AtomicLong played = new AtomicLong();
+		final long start = System.nanoTime();
+		final List<ForkJoinTask<?>> helpers = new ArrayList<>(threads);
+		for(int i = 1; i < threads; ++i)
+			helpers.add(pool.submit(
+					new Worker(root, size, budget, played, biased, i)));
+		try
+		{
+			new Worker(root, size, budget, played, biased, 0).run();
+		}
+		finally
+		{
+			//Stop the helpers when the main thread is done.
+			budget.cancel();
+		}
+		for(final ForkJoinTask<?> helper : helpers)
+			helper.join();
+		keep(root, size.get());
+		lastPlayouts = played.get();
+		playoutsPerSecond = lastPlayouts
+				/ (Math.max(1, System.nanoTime() - start) / NANOS_PER_SECOND);
+		final Node best = best(root.children);
+		//Each playout ends in one evaluation of the final position.
+		context.report(new SearchStatistics(
+				size.get(),
+				lastPlayouts,
+				depth(root),
+				0,
+				0,
+				0,
+				0,
+				System.nanoTime() - start));
+		return SearchBoard.position(best.move);
+	}
+	//=========================================================================
+	//Inner classes.
+	/**
+	 * The {@code Node} class is a position in the tree of the search.
+	 *
+	 * <p>
+	 * The results of a node are for the side which moved into it, so the
+	 * parent of the node selects its best child.
+	 * </p>
+	 */
+	private static final class Node
+	{
+		/**
+		 * The mask of the side to move.
+		 */
+		private final long own;
+		/**
+		 * The mask of the opposing side.
+		 */
+		private final long opp;
+		/**
+		 * The square of the move into the node, or {@link #PASS}.
+		 */
+		private final int move;
+		/**
+		 * The children of the node, which is <code>null</code> until it is
+		 * expanded, and is empty at the end of the game.
+		 */
+		private volatile Node[] children;
+		/**
+		 * The number of playouts through the node, including the playouts
+		 * which have not finished.
+		 */
+		private final AtomicLong visits = new AtomicLong();
+		/**
+		 * The sum of the rewards of the playouts through the node, where a
+		 * win is {@link #WIN} and a draw is half of it.
+		 */
+		private final AtomicLong rewards = new AtomicLong();
+		/**
+		 * Create a {@code Node}.
+		 *
+		 * @param own The mask of the side to move.
+		 * @param opp The mask of the opposing side.
+		 * @param move The square of the move into the node, or
+		 * 			{@link #PASS}.
+		 */
+		Node(final long own, final long opp, final int move)
+		{
+			this.own = own;
+			this.opp = opp;
+			this.move = move;
+		}
+		/**
+		 * Check if the {@code Node} is of a position.
+		 *
+		 * @param own The mask of the side to move.
+		 * @param opp The mask of the opposing side.
+		 * @return <code>true</code> if the {@code Node} is of the position,
+		 * 			otherwise, returns <code>false</code>.
+		 */
+		boolean is(final long own, final long opp)
+		{
+			return this.own == own && this.opp == opp;
+		}
+		/**
+		 * Check if the {@code Node} is a better move than another.
+		 *
+		 * @param other The other {@code Node}.
+		 * @return <code>true</code> if the {@code Node} was visited more, or
+		 * 			as much with more rewards, otherwise, returns
+		 * 			<code>false</code>.
+		 */
+		boolean isBetter(final Node other)
+		{
+			final long v = visits.get();
+			final long w = other.visits.get();
+			if(v != w)
+				return v > w;
+			return rewards.get() > other.rewards.get();
+		}
+		/**
+		 * Create the children of the {@code Node}, if it does not have them
+		 * and the tree is not full.
+		 *
+		 * @param size The number of nodes of the tree.
+		 * @return The children, or <code>null</code> if the tree is full.
+		 */
+		synchronized Node[] expand(final AtomicInteger size)
+		{
+			if(children != null)
+				return children;
+			long moves = SearchBoard.legalMoveMask(own, opp);
+			final Node[] created;
+			if(moves != 0)
+			{
+				created = new Node[Long.bitCount(moves)];
+				for(int i = 0; moves != 0; moves &= moves - 1, ++i)
+				{
+					final int square = Long.numberOfTrailingZeros(moves);
+					final long flips = SearchBoard.flipMask(own, opp, square);
+					created[i] = new Node(
+							opp ^ flips,
+							own | flips | 1L << square,
+							square);
+				}
+			}
+			else if(SearchBoard.legalMoveMask(opp, own) != 0)
+				created = new Node[] {new Node(opp, own, PASS)};
+			else
+				created = NO_CHILDREN;
+			if(size.addAndGet(created.length) > MAX_NODES)
+			{
+				size.addAndGet(-created.length);
+				return null;
+			}
+			children = created;
+			return created;
+		}
+		/**
+		 * Select the child with the best UCT score.
+		 *
+		 * @param children The children of the {@code Node}.
+		 * @return The selected child.
+		 */
+		Node select(final Node[] children)
+		{
+			final double log = Math.log(Math.max(1, visits.get()));
+			Node best = children[0];
+			double bestScore = Double.NEGATIVE_INFINITY;
+			for(final Node child : children)
+			{
+				final long n = child.visits.get();
+				if(n == 0)
+					return child;
+				final double score = child.rewards.get() / (double) (WIN * n)
+						+ EXPLORATION * Math.sqrt(log / n);
+				if(score > bestScore)
+				{
+					bestScore = score;
+					best = child;
+				}
+			}
+			return best;
+		}
+	}
+	/**
+	 * The {@code Worker} class plays the playouts of a single thread.
+	 */
+	private static final class Worker implements Runnable
+	{
+		/**
+		 * The root of the tree.
+		 */
+		private final Node root;
+		/**
+		 * The number of nodes of the tree.
+		 */
+		private final AtomicInteger size;
+		/**
+		 * The {@link SearchContext} shared by every thread.
+		 */
+		private final SearchContext budget;
+		/**
+		 * The number of playouts of every thread.
+		 */
+		private final AtomicLong played;
+		/**
+		 * If the playouts prefer the corners and avoid the squares
+		 * diagonally next to them.
+		 */
+		private final boolean biased;
+		/**
+		 * The nodes of the current path from the root.
+		 */
+		private final Node[] path = new Node[MAX_PATH];
+		/**
+		 * The state of the xorshift random number generator.
+		 */
+		private long seed;
+		/**
+		 * Create the {@code Worker} of a thread.
+		 *
+		 * @param root The root of the tree.
+		 * @param size The number of nodes of the tree.
+		 * @param budget The {@link SearchContext} shared by every thread.
+		 * @param played The number of playouts of every thread.
+		 * @param biased If the playouts are biased.
+		 * @param id The index of the thread.
+		 */
+		Worker(
+				final Node root,
+				final AtomicInteger size,
+				final SearchContext budget,
+				final AtomicLong played,
+				final boolean biased,
+				final int id)
+		{
+			this.root = root;
+			this.size = size;
+			this.budget = budget;
+			this.played = played;
+			this.biased = biased;
+			seed = System.nanoTime() ^ (id + 1) * 0x9E3779B97F4A7C15L;
+			if(seed == 0)
+				seed = 1;
+		}
+		/**
+		 * Get the next random number.
+		 *
+		 * @return A random <code>long</code> value.
+		 */
+		private long next()
+		{
+			seed ^= seed << 13;
+			seed ^= seed >>> 7;
+			seed ^= seed << 17;
+			return seed;
+		}
+		/**
+		 * Select a random move.
+		 *
+		 * @param moves The mask of the legal moves, which is not
+		 * 			<code>0</code>.
+		 * @return The square of the selected move.
+		 */
+		private int pick(long moves)
+		{
+			if(biased)
+			{
+				if((moves & AlphaBeta.CORNERS) != 0)
+					moves &= AlphaBeta.CORNERS;
+				else if((moves & ~AlphaBeta.X_SQUARES) != 0)
+					moves &= ~AlphaBeta.X_SQUARES;
+			}
+			for(int i = (int) (((next() >>> 32) * Long.bitCount(moves)) >>> 32);
+					i > 0;
+					--i)
+				moves &= moves - 1;
+			return Long.numberOfTrailingZeros(moves);
+		}
+		/**
+		 * Play random moves to the end of the game.
+		 *
+		 * @param own The mask of the side to move.
+		 * @param opp The mask of the opposing side.
+		 * @return The final difference of the number of pieces, for
+		 * 			<code>own</code>.
+		 */
+		private int playout(long own, long opp)
+		{
+			int sign = 1;
+			boolean passed = false;
+			while(true)
+			{
+				final long moves = SearchBoard.legalMoveMask(own, opp);
+				if(moves == 0)
+				{
+					if(passed)
+						break;
+					passed = true;
+				}
+				else
+				{
+					passed = false;
+					final int square = pick(moves);
+					final long flips = SearchBoard.flipMask(own, opp, square);
+					own |= flips | 1L << square;
+					opp ^= flips;
+				}
+				final long swap = own;
+				own = opp;
+				opp = swap;
+				sign = -sign;
+			}
+			return sign * (Long.bitCount(own) - Long.bitCount(opp));
+		}
+		/**
+		 * Play playouts until the {@link SearchContext} runs out.
+		 */
+		@Override
+		public void run()
+		{
+			while(!budget.isExpired(played.get()))
+			{
+				Node node = root;
+				int depth = 0;
+				node.visits.incrementAndGet();
+				path[depth++] = node;
+				while(true)
+				{
+					Node[] children = node.children;
+					//A node is expanded on its second visit.
+					if(children == null && node.visits.get() > 1)
+						children = node.expand(size);
+					if(children == null || children.length == 0)
+						break;
+					node = node.select(children);
+					//Virtual loss until the result is added.
+					node.visits.incrementAndGet();
+					path[depth++] = node;
+				}
+				final int result = playout(node.own, node.opp);
+				//The reward of the side which moved into the last node.
+				int reward = result < 0? WIN: result == 0? WIN / 2: 0;
+				while(depth > 0)
+				{
+					path[--depth].rewards.addAndGet(reward);
+					reward = WIN - reward;
+				}
+				played.incrementAndGet();
+			}
+		}
+	}
+}
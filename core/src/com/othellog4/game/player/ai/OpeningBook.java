@@ -0,0 +1,335 @@
+package com.othellog4.game.player.ai;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+import com.othellog4.game.board.SearchBoard;
+import com.othellog4.game.board.Symmetry;
+
+/**
+ * The {@code OpeningBook} class is a read-only book of the best moves of
+ * known positions, which are played without searching.
+ *
+ * <p>
+ * The book is a binary file of fixed size records, sorted by key, which is
+ * memory-mapped rather than read on to the heap, and searched with a binary
+ * search. Each position is folded under the 8 {@link Symmetry} of the
+ * board: its key is the hash of its canonical form together with the side
+ * to move, and its moves are stored in the orientation of the canonical
+ * form, so a position is found in whichever orientation it is played.
+ * </p>
+ *
+ * <p>
+ * The file is big-endian:
+ * </p>
+ * <ol>
+ * 		<li>The <code>int</code> {@link #MAGIC} number.</li>
+ * 		<li>The <code>short</code> {@link #VERSION} of the format.</li>
+ * 		<li>The <code>int</code> number of records.</li>
+ * 		<li>The records, each of which is the <code>long</code> key, the
+ * 		<code>byte</code> square of a move in the canonical form, and the
+ * 		<code>short</code> score of the move in hundredths of a disc, for the
+ * 		side to move.</li>
+ * </ol>
+ *
+ * <p>
+ * A position may have several records, one for each move. The
+ * {@code OpeningBook} class is thread safe.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see OpeningBookBuilder
+ */
+public final class OpeningBook
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The number which begins every file of an {@code OpeningBook}.
+	 */
+	public static final int MAGIC = 0x4F544242;
+	/**
+	 * The version of the format of the file, which changes with the keys
+	 * of the positions.
+	 */
+	public static final short VERSION = 2;
+	/**
+	 * The number of bytes of the header of the file.
+	 */
+	public static final int HEADER_BYTES =
+			Integer.BYTES + Short.BYTES + Integer.BYTES;
+	/**
+	 * The number of bytes of a record.
+	 */
+	public static final int RECORD_BYTES =
+			Long.BYTES + Byte.BYTES + Short.BYTES;
+	/**
+	 * The name of the system property of the path of the file of the
+	 * {@link #shared()} {@code OpeningBook}.
+	 */
+	public static final String BOOK_PROPERTY = "othello.book";
+	/**
+	 * The position of the number of records in the header.
+	 */
+	private static final int COUNT_OFFSET = Integer.BYTES + Short.BYTES;
+	/**
+	 * The position of the square in a record.
+	 */
+	private static final int MOVE_OFFSET = Long.BYTES;
+	/**
+	 * The position of the score in a record.
+	 */
+	private static final int SCORE_OFFSET = MOVE_OFFSET + Byte.BYTES;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The contents of the file, which is only read with absolute positions,
+	 * so it can be shared between threads.
+	 */
+	private final ByteBuffer buffer;
+	/**
+	 * The number of records.
+	 */
+	private final int count;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create an {@code OpeningBook} from the contents of a file.
+	 *
+	 * @param buffer The contents of the file.
+	 * @throws IOException If the <code>buffer</code> is not the contents of
+	 * 			a file of an {@code OpeningBook}.
+	 */
+	private OpeningBook(final ByteBuffer buffer)
+			throws
+			IOException
+	{
+		if(buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC)
+			throw new IOException("Not an opening book");
+		final short version = buffer.getShort(Integer.BYTES);
+		if(version != VERSION)
+			throw new IOException("Unsupported version " + version);
+		count = buffer.getInt(COUNT_OFFSET);
+		final long records = (long) count * RECORD_BYTES;
+		if(count < 0 || buffer.capacity() != HEADER_BYTES + records)
+			throw new IOException("Truncated opening book");
+		this.buffer = buffer;
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Open the file of an {@code OpeningBook}, by mapping it into memory.
+	 *
+	 * @param path The {@link Path} of the file.
+	 * @return The {@code OpeningBook} of the file.
+	 * @throws IOException If the file cannot be mapped, or it is not the
+	 * 			file of an {@code OpeningBook}.
+	 */
+	public static OpeningBook open(final Path path)
+			throws
+			IOException
+	{
+		try(final FileChannel channel = FileChannel.open(
+				path,
+				StandardOpenOption.READ))
+		{
+			//The mapping stays valid after the channel is closed.
+			return new OpeningBook(channel.map(
+					FileChannel.MapMode.READ_ONLY,
+					0,
+					channel.size()));
+		}
+	}
+	/**
+	 * Read an {@code OpeningBook} from the contents of a file.
+	 *
+	 * @param contents The contents of the file.
+	 * @return The {@code OpeningBook} of the <code>contents</code>.
+	 * @throws IOException If the <code>contents</code> are not the file of
+	 * 			an {@code OpeningBook}.
+	 */
+	public static OpeningBook wrap(final byte[] contents)
+			throws
+			IOException
+	{
+		return new OpeningBook(ByteBuffer.wrap(contents));
+	}
+	/**
+	 * Get an {@code OpeningBook} which has no positions.
+	 *
+	 * @return The empty {@code OpeningBook}.
+	 */
+	public static OpeningBook empty()
+	{
+		return Shared.EMPTY;
+	}
+	/**
+	 * Get the {@code OpeningBook} which is shared by the AI players.
+	 *
+	 * <p>
+	 * The book is opened from the file of the {@link #BOOK_PROPERTY} system
+	 * property, if it is set and can be opened, otherwise, it is
+	 * {@link #empty()}.
+	 * </p>
+	 *
+	 * @return The shared {@code OpeningBook}.
+	 */
+	public static OpeningBook shared()
+	{
+		return Shared.BOOK;
+	}
+	/**
+	 * Get the key of a position in its canonical form.
+	 *
+	 * @param maskA The mask of the canonical form of {@link Piece#PIECE_A}.
+	 * @param maskB The mask of the canonical form of {@link Piece#PIECE_B}.
+	 * @param piece The {@link Piece} which is next to move.
+	 * @return The key of the position.
+	 */
+	static long key(final long maskA, final long maskB, final Piece piece)
+	{
+		return new BitBoard(maskA, maskB).hash(piece);
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Get the number of records.
+	 *
+	 * @return The number of moves of every position of the book.
+	 */
+	public int size()
+	{
+		return count;
+	}
+	/**
+	 * Find the first record of a key.
+	 *
+	 * @param key The key of a position.
+	 * @return The index of the first record whose key is not less than
+	 * 			<code>key</code>.
+	 */
+	private int lowerBound(final long key)
+	{
+		int low = 0;
+		int high = count;
+		while(low < high)
+		{
+			final int middle = (low + high) >>> 1;
+			if(buffer.getLong(HEADER_BYTES + middle * RECORD_BYTES) < key)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		return low;
+	}
+	/**
+	 * Get the best move of the book for a position.
+	 *
+	 * @param board The {@link BoardView} of the position.
+	 * @param piece The {@link Piece} which is next to move.
+	 * @return The {@link Optional} of the {@link Position} of the move with
+	 * 			the highest score, or {@link Optional#empty()} if the
+	 * 			position is not in the book, or the board is not 8x8.
+	 */
+	public Optional<Position> best(final BoardView board, final Piece piece)
+	{
+		if(count == 0 || board.size() != SearchBoard.SIZE)
+			return Optional.empty();
+		final long maskA = board.mask(Piece.PIECE_A);
+		final long maskB = board.mask(Piece.PIECE_B);
+		final Symmetry symmetry = Symmetry.canonical(maskA, maskB);
+		final long key = key(
+				symmetry.apply(maskA),
+				symmetry.apply(maskB),
+				piece);
+		final long legal = board.legalMoveMask(piece);
+		int best = -1;
+		int bestScore = Integer.MIN_VALUE;
+		for(int i = lowerBound(key); i < count; ++i)
+		{
+			final int record = HEADER_BYTES + i * RECORD_BYTES;
+			if(buffer.getLong(record) != key)
+				break;
+			final int square = symmetry.inverse()
+					.apply((int) buffer.get(record + MOVE_OFFSET));
+			final int score = buffer.getShort(record + SCORE_OFFSET);
+			//The key may collide, so the move must also be legal.
+			if((legal & 1L << square) != 0 && score > bestScore)
+			{
+				best = square;
+				bestScore = score;
+			}
+		}
+		if(best < 0)
+			return Optional.empty();
+		return Optional.of(SearchBoard.position(best));
+	}
+	//=========================================================================
+	//Inner classes.
+	/**
+	 * The {@code Shared} class holds the shared {@code OpeningBook} objects,
+	 * so the file is only opened when the book is first used.
+	 */
+	private static final class Shared
+	{
+		/**
+		 * The {@code OpeningBook} of {@link OpeningBook#empty()}.
+		 */
+		private static final OpeningBook EMPTY = create();
+		/**
+		 * The {@code OpeningBook} of {@link OpeningBook#shared()}.
+		 */
+		private static final OpeningBook BOOK = open();
+		/**
+		 * Create the empty {@code OpeningBook}.
+		 *
+		 * @return The {@code OpeningBook} which has no positions.
+		 */
+		private static OpeningBook create()
+		{
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			header.putInt(MAGIC).putShort(VERSION).putInt(0);
+			try
+			{
+				return new OpeningBook(header);
+			}
+			catch(final IOException e)
+			{
+				throw new IllegalStateException(e);
+			}
+		}
+		/**
+		 * Open the shared {@code OpeningBook}.
+		 *
+		 * @return The {@code OpeningBook} of the file of the
+		 * 			{@link OpeningBook#BOOK_PROPERTY}, or the empty
+		 * 			{@code OpeningBook}.
+		 */
+		private static OpeningBook open()
+		{
+			final String path = System.getProperty(BOOK_PROPERTY);
+			if(path != null)
+				try
+				{
+					return OpeningBook.open(Paths.get(path));
+				}
+				catch(final IOException e)
+				{
+					System.err.println("Cannot open opening book "
+							+ path + ": " + e.getMessage());
+				}
+			return EMPTY;
+		}
+	}
+}
@@ -0,0 +1,335 @@
+package com.othellog4.game.player.ai;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+import com.othellog4.game.board.SearchBoard;
+import com.othellog4.game.board.Symmetry;
+
+/**
+ * The {@code OpeningBookBuilder} class generates the file of an
+ * {@link OpeningBook} from games of self-play.
+ *
+ * <p>
+ * Every move of a game is searched by a {@link Tactic}, except for the
+ * moves from a random ply of the opening up to the number of random plies,
+ * which are random, so the games cover many openings and the opening
+ * itself is still played by the {@link Tactic} in some of them. The moves
+ * of the first plies of each game are recorded, folded under the
+ * {@link Symmetry} of the board, together with the final disc difference of
+ * the game for the side which made the move. The random moves are not
+ * recorded, as they were not chosen by the {@link Tactic}. The score of a
+ * move in the book is the average of its disc differences, shrunk towards
+ * <code>0</code> by {@link #PRIOR_GAMES} even games, and a move which was
+ * played in fewer than {@link #MIN_GAMES} games is left out, so a move
+ * which won big once does not outrank a line which was played many times.
+ * </p>
+ *
+ * <p>
+ * The {@link #main(String[])} method builds a book from the command line.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see OpeningBook
+ */
+public final class OpeningBookBuilder
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The number of games of {@link #main(String[])}, if none is given.
+	 */
+	private static final int DEFAULT_GAMES = 1000;
+	/**
+	 * The number of plies of {@link #main(String[])}, if none is given.
+	 */
+	private static final int DEFAULT_PLIES = 16;
+	/**
+	 * The number of random plies of {@link #main(String[])}.
+	 */
+	private static final int DEFAULT_RANDOM_PLIES = 6;
+	/**
+	 * The milliseconds of each search of {@link #main(String[])}.
+	 */
+	private static final long MOVE_TIME = 50;
+	/**
+	 * The value of a disc, in the unit of the scores of the book.
+	 */
+	private static final int DISC = 100;
+	/**
+	 * The number of even games which the score of each move is shrunk
+	 * towards.
+	 */
+	private static final int PRIOR_GAMES = 8;
+	/**
+	 * The fewest games which a move must be played in to be written to the
+	 * book.
+	 */
+	private static final int MIN_GAMES = 3;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The {@link Tactic} which searches for the moves of self-play.
+	 */
+	private final Tactic tactic;
+	/**
+	 * The number of plies from the start of each game up to which the moves
+	 * are recorded.
+	 */
+	private final int plies;
+	/**
+	 * The number of plies of the opening of each game in which the random
+	 * moves are played.
+	 */
+	private final int randomPlies;
+	/**
+	 * The source of the random moves.
+	 */
+	private final Random random;
+	/**
+	 * The recorded moves, by key, then by square of the canonical form. Each
+	 * value is the sum of the disc differences and the number of games.
+	 */
+	private final Map<Long, Map<Integer, long[]>> moves = new TreeMap<>();
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create an {@code OpeningBookBuilder} which has not played any games.
+	 *
+	 * @param tactic The {@link Tactic} which searches for the moves of
+	 * 			self-play.
+	 * @param plies The number of plies from the start of each game up to
+	 * 			which the moves are recorded.
+	 * @param randomPlies The number of plies of the opening of each game in
+	 * 			which the random moves are played, from a random ply of
+	 * 			each game onwards, which are not recorded.
+	 * @param seed The seed of the random moves.
+	 * @throws IllegalArgumentException If <code>tactic</code> is
+	 * 			<code>null</code>, or <code>plies</code> or
+	 * 			<code>randomPlies</code> is negative.
+	 */
+	public OpeningBookBuilder(
+			final Tactic tactic,
+			final int plies,
+			final int randomPlies,
+			final long seed)
+			throws
+			IllegalArgumentException
+	{
+		if(tactic == null || plies < 0 || randomPlies < 0)
+			throw new IllegalArgumentException();
+		this.tactic = tactic;
+		this.plies = plies;
+		this.randomPlies = randomPlies;
+		random = new Random(seed);
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Build an {@link OpeningBook} from self-play.
+	 *
+	 * <p>
+	 * The arguments are the path of the file to write, and optionally the
+	 * number of games and the number of plies to record.
+	 * </p>
+	 *
+	 * @param args The command line arguments.
+	 * @throws IOException If the file cannot be written.
+	 */
+	public static void main(final String[] args)
+			throws
+			IOException
+	{
+		if(args.length == 0)
+		{
+			System.err.println(
+					"Usage: OpeningBookBuilder <file> [games] [plies]");
+			return;
+		}
+		final int games = args.length > 1
+				? Integer.parseInt(args[1])
+				: DEFAULT_GAMES;
+		final int plies = args.length > 2
+				? Integer.parseInt(args[2])
+				: DEFAULT_PLIES;
+		final OpeningBookBuilder builder = new OpeningBookBuilder(
+				new Tactic(
+						EvaluationStrategies.PATTERN,
+						new IterativeDeepening(MOVE_TIME)),
+				plies,
+				Math.min(plies, DEFAULT_RANDOM_PLIES),
+				System.nanoTime());
+		for(int game = 1; game <= games; ++game)
+		{
+			builder.play(1);
+			if(game % 100 == 0)
+				System.out.println(game + " games, "
+						+ builder.positions() + " positions");
+		}
+		builder.write(Paths.get(args[0]));
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Play games of self-play, and record their moves.
+	 *
+	 * @param games The number of games to play.
+	 */
+	public void play(final int games)
+	{
+		for(int game = 0; game < games; ++game)
+			play();
+	}
+	/**
+	 * Play one game of self-play, and record its moves.
+	 */
+	private void play()
+	{
+		final List<long[]> played = new ArrayList<>();
+		final List<Piece> movers = new ArrayList<>();
+		BoardView board = new BitBoard();
+		Piece piece = Piece.player1();
+		//The plies before the first random ply are chosen by the tactic.
+		final int firstRandom = random.nextInt(randomPlies + 1);
+		for(int ply = 0; !board.isEnd(); ++ply)
+		{
+			final long legal = board.legalMoveMask(piece);
+			if(legal == 0)
+			{
+				piece = piece.flip();
+				--ply;
+				continue;
+			}
+			final boolean chosen = ply < firstRandom || ply >= randomPlies;
+			final Position move = chosen
+					? tactic.search(board, piece, SearchContext.unlimited())
+					: random(legal);
+			//Only the moves which the tactic chose are recorded.
+			if(chosen && ply < plies)
+			{
+				final long maskA = board.mask(Piece.PIECE_A);
+				final long maskB = board.mask(Piece.PIECE_B);
+				final Symmetry symmetry = Symmetry.canonical(maskA, maskB);
+				played.add(new long[]{
+						OpeningBook.key(
+								symmetry.apply(maskA),
+								symmetry.apply(maskB),
+								piece),
+						symmetry.apply(SearchBoard.square(move))});
+				movers.add(piece);
+			}
+			try
+			{
+				board = board.tryPut(move, piece);
+			}
+			catch(final InvalidMoveException e)
+			{
+				throw new IllegalStateException(e);
+			}
+			piece = piece.flip();
+		}
+		for(int i = 0; i < played.size(); ++i)
+		{
+			final Piece mover = movers.get(i);
+			final long[] stats = moves
+					.computeIfAbsent(played.get(i)[0], k -> new TreeMap<>())
+					.computeIfAbsent((int) played.get(i)[1], k -> new long[2]);
+			stats[0] += board.count(mover) - board.count(mover.flip());
+			++stats[1];
+		}
+	}
+	/**
+	 * Pick a random legal move.
+	 *
+	 * @param legal The mask of the legal moves.
+	 * @return The {@link Position} of one of the moves.
+	 */
+	private Position random(final long legal)
+	{
+		long moves = legal;
+		for(int skip = random.nextInt(Long.bitCount(legal)); skip > 0; --skip)
+			moves &= moves - 1;
+		return SearchBoard.position(Long.numberOfTrailingZeros(moves));
+	}
+	/**
+	 * Get the number of positions which have been recorded.
+	 *
+	 * @return The number of distinct positions, after folding.
+	 */
+	public int positions()
+	{
+		return moves.size();
+	}
+	/**
+	 * Write the recorded moves as the file of an {@link OpeningBook}.
+	 *
+	 * @param output The {@link OutputStream} to write, which is flushed but
+	 * 			not closed.
+	 * @throws IOException If the <code>output</code> cannot be written.
+	 */
+	public void write(final OutputStream output)
+			throws
+			IOException
+	{
+		int count = 0;
+		for(final Map<Integer, long[]> position : moves.values())
+			for(final long[] stats : position.values())
+				if(stats[1] >= MIN_GAMES)
+					count += 1;
+		final DataOutputStream data = new DataOutputStream(
+				new BufferedOutputStream(output));
+		data.writeInt(OpeningBook.MAGIC);
+		data.writeShort(OpeningBook.VERSION);
+		data.writeInt(count);
+		//The keys are in ascending order, as the book is searched.
+		for(final Map.Entry<Long, Map<Integer, long[]>> position
+				: moves.entrySet())
+			for(final Map.Entry<Integer, long[]> move
+					: position.getValue().entrySet())
+			{
+				final long[] stats = move.getValue();
+				if(stats[1] < MIN_GAMES)
+					continue;
+				final long score = Math.round(
+						(double) stats[0] * DISC / (stats[1] + PRIOR_GAMES));
+				data.writeLong(position.getKey());
+				data.writeByte(move.getKey());
+				data.writeShort((int) Math.max(
+						Short.MIN_VALUE,
+						Math.min(Short.MAX_VALUE, score)));
+			}
+		data.flush();
+	}
+	/**
+	 * Write the recorded moves to the file of an {@link OpeningBook}.
+	 *
+	 * @param path The {@link Path} of the file.
+	 * @throws IOException If the file cannot be written.
+	 */
+	public void write(final Path path)
+			throws
+			IOException
+	{
+		try(final OutputStream output = Files.newOutputStream(path))
+		{
+			write(output);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package com.othellog4.game.player.ai;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.SearchBoard;
+
+/**
+ * The {@code PatternEvaluation} class is an {@link EvaluationStrategy} which
+ * ranks a board by the {@link PatternWeights} of its patterns.
+ *
+ * <p>
+ * When the board is a {@link SearchBoard}, the indices of its patterns are
+ * updated incrementally by each move of the search, so the evaluation of a
+ * node is a single lookup for each pattern, rather than a scan of the
+ * board. Any other board is copied to a {@link SearchBoard} first.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see PatternWeights
+ * @see SearchBoard#patterns()
+ */
+public final class PatternEvaluation implements EvaluationStrategy
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The name of the system property of the path of the file of the
+	 * {@link PatternWeights} of {@link #shared()}.
+	 */
+	public static final String WEIGHTS_PROPERTY = "othello.patterns";
+	//=========================================================================
+	//Fields.
+	/**
+	 * The {@link PatternWeights} of the patterns.
+	 */
+	private final PatternWeights weights;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code PatternEvaluation} which ranks the patterns by a table
+	 * of {@link PatternWeights}.
+	 *
+	 * @param weights The {@link PatternWeights} of the patterns.
+	 * @throws NullPointerException If <code>weights</code> is
+	 * 			<code>null</code>.
+	 */
+	public PatternEvaluation(final PatternWeights weights)
+			throws
+			NullPointerException
+	{
+		if(weights == null)
+			throw new NullPointerException();
+		this.weights = weights;
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Get the {@code PatternEvaluation} which is shared by the AI players.
+	 *
+	 * <p>
+	 * The {@link PatternWeights} are read from the file of the
+	 * {@link #WEIGHTS_PROPERTY} system property, if it is set and can be
+	 * read, otherwise, the {@link PatternWeights#defaults()} are used.
+	 * </p>
+	 *
+	 * @return The shared {@code PatternEvaluation}.
+	 */
+	public static PatternEvaluation shared()
+	{
+		return Shared.INSTANCE;
+	}
+	//=========================================================================
+	//Overridden methods.
+	/**
+	 * Evaluate a {@link BoardView} by the weights of its patterns.
+	 *
+	 * @param board The {@link BoardView} object to evaluate.
+	 * @param piece The {@link Piece} object which is the basis of the
+	 * 			evaluation.
+	 * @return The evaluation, in discs for <code>piece</code>.
+	 */
+	@Override
+	public double evaluate(final BoardView board, final Piece piece)
+	{
+		final SearchBoard search = board instanceof SearchBoard
+				? (SearchBoard) board
+				: new SearchBoard(board);
+		final double score = weights.evaluate(
+				search.patterns(),
+				search.empties());
+		return piece == Piece.PIECE_A? score: -score;
+	}
+	//=========================================================================
+	//Inner classes.
+	/**
+	 * The {@code Shared} class holds the {@code PatternEvaluation} of
+	 * {@link PatternEvaluation#shared()}, so the weights are only loaded
+	 * when they are first used.
+	 */
+	private static final class Shared
+	{
+		/**
+		 * The shared {@code PatternEvaluation}.
+		 */
+		private static final PatternEvaluation INSTANCE =
+				new PatternEvaluation(load());
+		/**
+		 * Load the shared {@link PatternWeights}.
+		 *
+		 * @return The {@link PatternWeights} of the file of the
+		 * 			{@link PatternEvaluation#WEIGHTS_PROPERTY}, or the
+		 * 			{@link PatternWeights#defaults()}.
+		 */
+		private static PatternWeights load()
+		{
+			final String path = System.getProperty(WEIGHTS_PROPERTY);
+			if(path != null)
+				try
+				{
+					return PatternWeights.load(Paths.get(path));
+				}
+				catch(final IOException e)
+				{
+					System.err.println("Cannot load pattern weights from "
+							+ path + ": " + e.getMessage());
+				}
+			return PatternWeights.defaults();
+		}
+	}
+}
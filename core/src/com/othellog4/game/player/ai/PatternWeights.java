@@ -0,0 +1,328 @@
+package com.othellog4.game.player.ai;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.othellog4.game.board.Patterns;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.SearchBoard;
+
+/**
+ * The {@code PatternWeights} class is the table of the weight of every index
+ * of every type of {@link Patterns}, for each stage of a game.
+ *
+ * <p>
+ * The weights are in hundredths of a disc, from the point of view of
+ * {@link Piece#PIECE_A}, and a game is split into stages by the number of
+ * empty squares, as the value of a pattern changes as the board fills up.
+ * </p>
+ *
+ * <p>
+ * The weights are stored in a compact binary file, which is big-endian:
+ * </p>
+ * <ol>
+ * 		<li>The <code>int</code> {@link #MAGIC} number.</li>
+ * 		<li>The <code>short</code> {@link #VERSION} of the format.</li>
+ * 		<li>The <code>byte</code> number of stages.</li>
+ * 		<li>The <code>byte</code> number of types, which is
+ * 		{@link Patterns#TYPES}.</li>
+ * 		<li>For each stage, for each type, the <code>short</code> weight of
+ * 		every index of the type.</li>
+ * </ol>
+ *
+ * <p>
+ * The {@code PatternWeights} class is immutable.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see PatternEvaluation
+ */
+public final class PatternWeights
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The number which begins every file of {@code PatternWeights}.
+	 */
+	public static final int MAGIC = 0x4F545057;
+	/**
+	 * The version of the format of the file.
+	 */
+	public static final short VERSION = 1;
+	/**
+	 * The number of stages of the {@link #defaults()}.
+	 */
+	public static final int STAGES = 6;
+	/**
+	 * The number of moves of a game, which fill every square but the 4 of the
+	 * start.
+	 */
+	private static final int MOVES = 60;
+	/**
+	 * The width and height of the board.
+	 */
+	private static final int SIZE = SearchBoard.SIZE;
+	/**
+	 * The value of a disc, in the unit of the weights.
+	 */
+	private static final double DISC = 100.0;
+	/**
+	 * The positional value of each square of a quadrant of the board, for
+	 * the {@link #defaults()}.
+	 */
+	private static final int[][] QUADRANT =
+	{
+		{ 500, -100,  50,  25},
+		{-100, -250, -10, -10},
+		{  50,  -10,   5,   5},
+		{  25,  -10,   5,   0}
+	};
+	//=========================================================================
+	//Fields.
+	/**
+	 * The weight of each index of each type, for each stage.
+	 */
+	private final short[][][] weights;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create {@code PatternWeights} from a table of weights.
+	 *
+	 * @param weights The weight of each index of each type, for each stage.
+	 */
+	private PatternWeights(final short[][][] weights)
+	{
+		this.weights = weights;
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Read {@code PatternWeights} from a stream of the binary format.
+	 *
+	 * @param input The {@link InputStream} to read, which is not closed.
+	 * @return The {@code PatternWeights} which were read.
+	 * @throws IOException If the <code>input</code> cannot be read, or it is
+	 * 			not a file of {@code PatternWeights}.
+	 */
+	public static PatternWeights load(final InputStream input)
+			throws
+			IOException
+	{
+		final DataInputStream data = new DataInputStream(
+				new BufferedInputStream(input));
+		if(data.readInt() != MAGIC)
+			throw new IOException("Not a file of pattern weights");
+		final short version = data.readShort();
+		if(version != VERSION)
+			throw new IOException("Unsupported version " + version);
+		final int stages = data.readUnsignedByte();
+		final int types = data.readUnsignedByte();
+		if(stages == 0 || types != Patterns.TYPES)
+			throw new IOException(
+					"Invalid table of " + stages + "x" + types);
+		final short[][][] weights = new short[stages][types][];
+		for(int stage = 0; stage < stages; ++stage)
+			for(int type = 0; type < types; ++type)
+			{
+				weights[stage][type] = new short[Patterns.size(type)];
+				for(int index = 0; index < weights[stage][type].length; ++index)
+					weights[stage][type][index] = data.readShort();
+			}
+		return new PatternWeights(weights);
+	}
+	/**
+	 * Read {@code PatternWeights} from a file of the binary format.
+	 *
+	 * @param path The {@link Path} of the file.
+	 * @return The {@code PatternWeights} which were read.
+	 * @throws IOException If the file cannot be read, or it is not a file of
+	 * 			{@code PatternWeights}.
+	 */
+	public static PatternWeights load(final Path path)
+			throws
+			IOException
+	{
+		try(final InputStream input = Files.newInputStream(path))
+		{
+			return load(input);
+		}
+	}
+	/**
+	 * Create the default {@code PatternWeights}.
+	 *
+	 * <p>
+	 * The default weights are not trained. The weight of an index is the
+	 * sum of the positional value of each of its squares, split between the
+	 * instances which include the square. The squares next to a corner are
+	 * only bad while the corner is empty, so they are neutral in a pattern
+	 * which has the corner occupied. Towards the end of a game the weights
+	 * move from the position to the number of discs.
+	 * </p>
+	 *
+	 * @return The default {@code PatternWeights}.
+	 */
+	public static PatternWeights defaults()
+	{
+		final int[] coverage = new int[SIZE * SIZE];
+		for(int instance = 0; instance < Patterns.instances(); ++instance)
+			for(final int square : Patterns.squares(instance))
+				++coverage[square];
+		final short[][][] weights = new short[STAGES][Patterns.TYPES][];
+		for(int type = 0; type < Patterns.TYPES; ++type)
+		{
+			final int[] squares = first(type);
+			final int[] digits = new int[squares.length];
+			for(int stage = 0; stage < STAGES; ++stage)
+				weights[stage][type] = new short[Patterns.size(type)];
+			for(int index = 0; index < Patterns.size(type); ++index)
+			{
+				for(int k = 0, rest = index; k < digits.length; ++k, rest /= 3)
+					digits[k] = rest % 3;
+				double position = 0;
+				double discs = 0;
+				for(int k = 0; k < squares.length; ++k)
+				{
+					if(digits[k] == 0)
+						continue;
+					final double sign = digits[k] == 1? 1: -1;
+					final double share = 1.0 / coverage[squares[k]];
+					position += sign * share * value(squares, digits, k);
+					discs += sign * share * DISC;
+				}
+				for(int stage = 0; stage < STAGES; ++stage)
+				{
+					final double late = (double) stage / (STAGES - 1);
+					weights[stage][type][index] = (short) Math.round(
+							(1 - late) * position + late * discs);
+				}
+			}
+		}
+		return new PatternWeights(weights);
+	}
+	/**
+	 * Get the squares of the first instance of a type of pattern.
+	 *
+	 * @param type The type of pattern.
+	 * @return The bit indices of the squares of the first instance of the
+	 * 			<code>type</code>.
+	 */
+	private static int[] first(final int type)
+	{
+		for(int instance = 0; instance < Patterns.instances(); ++instance)
+			if(Patterns.type(instance) == type)
+				return Patterns.squares(instance);
+		throw new IllegalArgumentException();
+	}
+	/**
+	 * Get the positional value of a square of a pattern.
+	 *
+	 * @param squares The bit indices of the squares of the pattern.
+	 * @param digits The digit of each square of the pattern.
+	 * @param k The position of the square in the pattern.
+	 * @return The value of the square for the default weights.
+	 */
+	private static double value(
+			final int[] squares,
+			final int[] digits,
+			final int k)
+	{
+		final int size = SIZE;
+		final int col = squares[k] % size;
+		final int row = squares[k] / size;
+		final int qCol = Math.min(col, size - 1 - col);
+		final int qRow = Math.min(row, size - 1 - row);
+		final int value = QUADRANT[qRow][qCol];
+		if(qCol > 1 || qRow > 1 || value > 0)
+			return value;
+		//The square is next to a corner, which may be part of the pattern.
+		final int corner = (row < size / 2? 0: size - 1) * size
+				+ (col < size / 2? 0: size - 1);
+		for(int j = 0; j < squares.length; ++j)
+			if(squares[j] == corner && digits[j] != 0)
+				return 0;
+		return value;
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Write <code>this</code> {@code PatternWeights} to a stream in the
+	 * binary format.
+	 *
+	 * @param output The {@link OutputStream} to write, which is flushed but
+	 * 			not closed.
+	 * @throws IOException If the <code>output</code> cannot be written.
+	 */
+	public void save(final OutputStream output)
+			throws
+			IOException
+	{
+		final DataOutputStream data = new DataOutputStream(
+				new BufferedOutputStream(output));
+		data.writeInt(MAGIC);
+		data.writeShort(VERSION);
+		data.writeByte(weights.length);
+		data.writeByte(Patterns.TYPES);
+		for(final short[][] stage : weights)
+			for(final short[] type : stage)
+				for(final short weight : type)
+					data.writeShort(weight);
+		data.flush();
+	}
+	/**
+	 * Get the number of stages of a game.
+	 *
+	 * @return The number of stages.
+	 */
+	public int stages()
+	{
+		return weights.length;
+	}
+	/**
+	 * Get the stage of a game from the number of empty squares.
+	 *
+	 * @param empties The number of empty squares.
+	 * @return The stage, from <code>0</code> at the start to
+	 * 			<code>stages() - 1</code> at the end.
+	 */
+	public int stage(final int empties)
+	{
+		final int played = Math.max(0, Math.min(MOVES - 1, MOVES - empties));
+		return played * weights.length / MOVES;
+	}
+	/**
+	 * Get the weight of an index of a type of pattern.
+	 *
+	 * @param stage The stage of the game.
+	 * @param type The type of pattern.
+	 * @param index The index of the pattern.
+	 * @return The weight, in hundredths of a disc for {@link Piece#PIECE_A}.
+	 */
+	public int weight(final int stage, final int type, final int index)
+	{
+		return weights[stage][type][index];
+	}
+	/**
+	 * Evaluate the indices of every instance of the {@link Patterns}.
+	 *
+	 * @param indices The index of each instance.
+	 * @param empties The number of empty squares.
+	 * @return The evaluation, in discs for {@link Piece#PIECE_A}.
+	 */
+	public double evaluate(final int[] indices, final int empties)
+	{
+		final short[][] table = weights[stage(empties)];
+		int score = 0;
+		for(int instance = 0; instance < indices.length; ++instance)
+			score += table[Patterns.type(instance)][indices[instance]];
+		return score / DISC;
+	}
+}
@@ -0,0 +1,170 @@
+package com.othellog4.game.player.ai;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.othellog4.environment.Scheduler;
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+import com.othellog4.game.board.SearchBoard;
+
+/**
+ * The {@code Ponderer} class searches on the time of the opponent.
+ *
+ * <p>
+ * After a move, the {@code Ponderer} predicts the replies of the opponent,
+ * and searches for the answer to each of them with a {@link Tactic}, the
+ * most likely reply first. The replies are predicted by the
+ * {@link EvaluationStrategy} of the {@link Tactic}, from the point of view
+ * of the opponent. When the opponent has moved, the answer to the reply
+ * which was made is found by the hash of the position, so it can be played
+ * without searching again.
+ * </p>
+ *
+ * <p>
+ * The {@code Ponderer} class is thread safe.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see Tactic
+ */
+public final class Ponderer
+{
+	//=========================================================================
+	//Fields.
+	/**
+	 * The {@link Tactic} which searches for the answers.
+	 */
+	private final Tactic tactic;
+	/**
+	 * The answers which have been found, by the hash of the position with
+	 * the side to move.
+	 */
+	private final Map<Long, Position> answers = new ConcurrentHashMap<>();
+	/**
+	 * The {@link SearchContext} of the pondering in progress, or
+	 * <code>null</code> if there is none.
+	 */
+	private SearchContext context;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code Ponderer} which searches with a {@link Tactic}.
+	 *
+	 * @param tactic The {@link Tactic} which searches for the answers.
+	 */
+	public Ponderer(final Tactic tactic)
+	{
+		this.tactic = tactic;
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Start to ponder on the time of the opponent.
+	 *
+	 * <p>
+	 * Any pondering in progress is stopped, and the answers it found are
+	 * discarded. The pondering runs on its own thread until it has found an
+	 * answer to every reply, or it is stopped by {@link #stop()}.
+	 * </p>
+	 *
+	 * @param board The {@link BoardView} after the last move, where the
+	 * 			opponent is next to move.
+	 * @param piece The {@link Piece} which the answers are searched for.
+	 * @throws IllegalArgumentException If <code>board</code> is not 8x8.
+	 */
+	public synchronized void start(final BoardView board, final Piece piece)
+			throws
+			IllegalArgumentException
+	{
+		stop();
+		answers.clear();
+		//The board may change while pondering, so it is copied.
+		final SearchBoard masks = new SearchBoard(board);
+		final BoardView copy = new BitBoard(
+				masks.mask(Piece.PIECE_A),
+				masks.mask(Piece.PIECE_B));
+		final SearchContext pondering = SearchContext.unlimited()
+				.cancellable();
+		context = pondering;
+		Scheduler.get().run(() -> ponder(copy, piece, pondering));
+	}
+	/**
+	 * Stop the pondering in progress, if any.
+	 *
+	 * <p>
+	 * The answers which have been found are kept.
+	 * </p>
+	 */
+	public synchronized void stop()
+	{
+		if(context != null)
+			context.cancel();
+		context = null;
+	}
+	/**
+	 * Get the answer which was found for a position.
+	 *
+	 * @param board The {@link BoardView} of the position.
+	 * @param piece The {@link Piece} which is next to move.
+	 * @return The {@link Optional} of the {@link Position} of the answer, or
+	 * 			{@link Optional#empty()} if the position was not pondered.
+	 */
+	public Optional<Position> answer(final BoardView board, final Piece piece)
+	{
+		final Position answer = answers.get(board.hash(piece));
+		//The hash may collide, so the answer must also be legal.
+		if(answer == null || !board.legalMoves(piece).contains(answer))
+			return Optional.empty();
+		return Optional.of(answer);
+	}
+	/**
+	 * Search for the answers to the replies of the opponent.
+	 *
+	 * @param board The {@link BoardView} where the opponent is next to move.
+	 * @param piece The {@link Piece} which the answers are searched for.
+	 * @param pondering The {@link SearchContext} which stops the pondering.
+	 */
+	private void ponder(
+			final BoardView board,
+			final Piece piece,
+			final SearchContext pondering)
+	{
+		final Piece opponent = piece.flip();
+		final List<BoardView> replies = new ArrayList<>();
+		for(final Position reply : board.legalMoves(opponent))
+			try
+			{
+				replies.add(board.tryPut(reply, opponent));
+			}
+			catch(final InvalidMoveException e)
+			{
+				//Cannot happen, as the move is legal.
+			}
+		//The replies which are best for the opponent first.
+		replies.sort(Comparator.comparingDouble(
+				(BoardView reply) -> tactic.evaluate(reply, opponent))
+				.reversed());
+		for(final BoardView reply : replies)
+		{
+			if(pondering.isCancelled())
+				return;
+			if(reply.mobility(piece) == 0)
+				continue;
+			final Position answer = tactic.search(reply, piece, pondering);
+			//The answer of a stopped search is incomplete.
+			if(pondering.isCancelled())
+				return;
+			answers.put(reply.hash(piece), answer);
+		}
+	}
+}
@@ -0,0 +1,357 @@
+package com.othellog4.game.player.ai;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@code SearchContext} class is the budget which a
+ * {@link SearchStrategy} may spend on a single search.
+ *
+ * <p>
+ * A {@code SearchContext} may limit a search by a deadline, by the number of
+ * nodes which are searched, or both. A {@link SearchStrategy} which can stop
+ * early, such as {@link IterativeDeepening}, checks the
+ * {@code SearchContext} while it searches; other {@link SearchStrategy}
+ * objects ignore it.
+ * </p>
+ *
+ * <p>
+ * A {@code SearchContext} may also be cancelled from another thread, if it
+ * was created by {@link #cancellable()}. Every {@code SearchContext} which
+ * is derived from it is cancelled with it.
+ * </p>
+ *
+ * <p>
+ * The {@link SearchStatistics} of a search are reported to the
+ * {@link SearchListener} of its {@code SearchContext}, if it was created by
+ * {@link #observed(SearchListener)}.
+ * </p>
+ *
+ * <p>
+ * Other than being cancelled, the {@code SearchContext} class is immutable.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see SearchStrategy#search(com.othellog4.game.board.BoardView,
+ * 		com.othellog4.game.board.Piece, EvaluationStrategy, SearchContext)
+ */
+public final class SearchContext
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The number of nanoseconds in a millisecond.
+	 */
+	private static final long NANOS_PER_MILLI = 1000000L;
+	/**
+	 * The fraction of the remaining time on a clock which is kept in reserve
+	 * by {@link #ofClock(long, int, long)}.
+	 */
+	private static final double CLOCK_RESERVE = 0.1;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The {@link System#nanoTime()} when the search must stop.
+	 *
+	 * <p>
+	 * Is {@link Long#MAX_VALUE} if there is no deadline.
+	 * </p>
+	 */
+	private final long deadline;
+	/**
+	 * The number of nodes after which the search must stop.
+	 */
+	private final long nodeLimit;
+	/**
+	 * The flag which is set when the search is cancelled, or
+	 * <code>null</code> if it cannot be cancelled.
+	 */
+	private final AtomicBoolean cancelled;
+	/**
+	 * The {@code SearchContext} which cancels <code>this</code>
+	 * {@code SearchContext} when it is cancelled, or <code>null</code> if
+	 * there is none.
+	 */
+	private final SearchContext parent;
+	/**
+	 * The {@link SearchListener} which the {@link SearchStatistics} of the
+	 * search are reported to, or <code>null</code> if there is none.
+	 */
+	private final SearchListener listener;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create a {@code SearchContext} with a deadline and a node limit.
+	 *
+	 * @param deadline The {@link System#nanoTime()} when the search must
+	 * 			stop, or {@link Long#MAX_VALUE} for no deadline.
+	 * @param nodeLimit The number of nodes after which the search must stop.
+	 */
+	private SearchContext(final long deadline, final long nodeLimit)
+	{
+		this(deadline, nodeLimit, null, null, null);
+	}
+	/**
+	 * Create a {@code SearchContext} with a deadline, a node limit, the flags
+	 * which cancel it and the {@link SearchListener} of the search.
+	 *
+	 * @param deadline The {@link System#nanoTime()} when the search must
+	 * 			stop, or {@link Long#MAX_VALUE} for no deadline.
+	 * @param nodeLimit The number of nodes after which the search must stop.
+	 * @param cancelled The flag which is set when the search is cancelled,
+	 * 			or <code>null</code> if it cannot be cancelled.
+	 * @param parent The {@code SearchContext} which cancels the created
+	 * 			{@code SearchContext}, or <code>null</code> if there is none.
+	 * @param listener The {@link SearchListener} of the search, or
+	 * 			<code>null</code> if there is none.
+	 */
+	private SearchContext(
+			final long deadline,
+			final long nodeLimit,
+			final AtomicBoolean cancelled,
+			final SearchContext parent,
+			final SearchListener listener)
+	{
+		this.deadline = deadline;
+		this.nodeLimit = nodeLimit;
+		this.cancelled = cancelled;
+		this.parent = parent;
+		this.listener = listener;
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Get the {@link System#nanoTime()} a number of milliseconds from now.
+	 *
+	 * @param millis The number of milliseconds, which is at least
+	 * 			<code>0</code>.
+	 * @return The deadline, or {@link Long#MAX_VALUE} if it would overflow.
+	 */
+	private static long deadline(final long millis)
+	{
+		final long now = System.nanoTime();
+		if(millis >= (Long.MAX_VALUE - now) / NANOS_PER_MILLI)
+			return Long.MAX_VALUE;
+		return now + Math.max(0, millis) * NANOS_PER_MILLI;
+	}
+	/**
+	 * Create a {@code SearchContext} which does not limit the search.
+	 *
+	 * @return The unlimited {@code SearchContext}.
+	 */
+	public static SearchContext unlimited()
+	{
+		return new SearchContext(Long.MAX_VALUE, Long.MAX_VALUE);
+	}
+	/**
+	 * Create a {@code SearchContext} which stops the search after a number of
+	 * milliseconds.
+	 *
+	 * @param millis The number of milliseconds the search may take.
+	 * @return The created {@code SearchContext}.
+	 */
+	public static SearchContext ofMillis(final long millis)
+	{
+		return new SearchContext(deadline(millis), Long.MAX_VALUE);
+	}
+	/**
+	 * Create a {@code SearchContext} which stops the search after a number of
+	 * nodes.
+	 *
+	 * @param nodes The number of nodes the search may visit.
+	 * @return The created {@code SearchContext}.
+	 */
+	public static SearchContext ofNodes(final long nodes)
+	{
+		return new SearchContext(Long.MAX_VALUE, nodes);
+	}
+	/**
+	 * Create a {@code SearchContext} which shares the remaining time on a
+	 * clock between the remaining moves of a game.
+	 *
+	 * <p>
+	 * A part of the clock is kept in reserve, as well as the time which is
+	 * expected to pass outside of the search for each of the later moves,
+	 * so that the clock does not run out before the game ends.
+	 * </p>
+	 *
+	 * @param remaining The number of milliseconds remaining on the clock.
+	 * @param moves The number of moves which are still to be made on the
+	 * 			clock, including this move.
+	 * @param overhead The number of milliseconds which are expected to pass
+	 * 			outside of the search for each move.
+	 * @return The created {@code SearchContext}.
+	 */
+	public static SearchContext ofClock(
+			final long remaining,
+			final int moves,
+			final long overhead)
+	{
+		final int share = Math.max(1, moves);
+		final long usable = (long) (remaining * (1.0 - CLOCK_RESERVE))
+				- overhead * (share - 1);
+		return ofMillis(Math.max(0, usable / share));
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Create a {@code SearchContext} which is limited by both
+	 * <code>this</code> {@code SearchContext} and another budget.
+	 *
+	 * @param millis The most milliseconds from now the search may take.
+	 * @param nodes The most nodes the search may visit.
+	 * @return The {@code SearchContext} with the tighter of each limit.
+	 */
+	public SearchContext within(final long millis, final long nodes)
+	{
+		return new SearchContext(
+				Math.min(deadline, deadline(millis)),
+				Math.min(nodeLimit, nodes),
+				cancelled,
+				parent,
+				listener);
+	}
+	/**
+	 * Create a {@code SearchContext} with the same limits as
+	 * <code>this</code> {@code SearchContext}, which can also be cancelled by
+	 * {@link #cancel()}.
+	 *
+	 * <p>
+	 * If <code>this</code> {@code SearchContext} is cancelled, so is the
+	 * created {@code SearchContext}, but not the other way around.
+	 * </p>
+	 *
+	 * @return The created {@code SearchContext}.
+	 */
+	public SearchContext cancellable()
+	{
+		return new SearchContext(
+				deadline,
+				nodeLimit,
+				new AtomicBoolean(),
+				isCancellable()? this: null,
+				listener);
+	}
+	/**
+	 * Create a {@code SearchContext} with the same limits as
+	 * <code>this</code> {@code SearchContext}, which reports the
+	 * {@link SearchStatistics} of the search to a {@link SearchListener}.
+	 *
+	 * <p>
+	 * The {@link SearchListener} replaces the {@link SearchListener} of
+	 * <code>this</code> {@code SearchContext}, if there is one.
+	 * </p>
+	 *
+	 * @param listener The {@link SearchListener} of the search.
+	 * @return The created {@code SearchContext}.
+	 * @throws IllegalArgumentException If <code>listener</code> is
+	 * 			<code>null</code>.
+	 */
+	public SearchContext observed(final SearchListener listener)
+			throws
+			IllegalArgumentException
+	{
+		if(listener == null)
+			throw new IllegalArgumentException();
+		return new SearchContext(
+				deadline,
+				nodeLimit,
+				cancelled,
+				parent,
+				listener);
+	}
+	/**
+	 * Report the {@link SearchStatistics} of a search to the
+	 * {@link SearchListener} of <code>this</code> {@code SearchContext}, if
+	 * it has one.
+	 *
+	 * @param statistics The {@link SearchStatistics} of the search.
+	 */
+	public void report(final SearchStatistics statistics)
+	{
+		if(listener != null)
+			listener.searched(statistics);
+	}
+	/**
+	 * Cancel the search, and every search with a {@code SearchContext} which
+	 * was derived from <code>this</code> {@code SearchContext}.
+	 *
+	 * @throws IllegalStateException If <code>this</code>
+	 * 			{@code SearchContext} was not created by
+	 * 			{@link #cancellable()}.
+	 */
+	public void cancel()
+			throws
+			IllegalStateException
+	{
+		if(cancelled == null)
+			throw new IllegalStateException();
+		cancelled.set(true);
+	}
+	/**
+	 * Check if the search is cancelled.
+	 *
+	 * @return <code>true</code> if <code>this</code> {@code SearchContext},
+	 * 			or one it was derived from, was cancelled, otherwise,
+	 * 			returns <code>false</code>.
+	 */
+	public boolean isCancelled()
+	{
+		return (cancelled != null && cancelled.get())
+				|| (parent != null && parent.isCancelled());
+	}
+	/**
+	 * Check if <code>this</code> {@code SearchContext} can be cancelled.
+	 *
+	 * @return <code>true</code> if <code>this</code> {@code SearchContext},
+	 * 			or one it was derived from, was created by
+	 * 			{@link #cancellable()}, otherwise, returns <code>false</code>.
+	 */
+	private boolean isCancellable()
+	{
+		return cancelled != null || parent != null;
+	}
+	/**
+	 * Check if the search has used up <code>this</code>
+	 * {@code SearchContext}.
+	 *
+	 * @param nodes The number of nodes the search has visited so far.
+	 * @return <code>true</code> if the search must stop, because it ran out
+	 * 			of its budget or was cancelled, otherwise, returns
+	 * 			<code>false</code>.
+	 */
+	public boolean isExpired(final long nodes)
+	{
+		return nodes >= nodeLimit
+				|| isCancelled()
+				|| (deadline != Long.MAX_VALUE
+						&& System.nanoTime() - deadline >= 0);
+	}
+	/**
+	 * Check if <code>this</code> {@code SearchContext} limits the search.
+	 *
+	 * @return <code>true</code> if there is either a deadline or a node
+	 * 			limit, or it can be cancelled, otherwise, returns
+	 * 			<code>false</code>.
+	 */
+	public boolean isLimited()
+	{
+		return deadline != Long.MAX_VALUE
+				|| nodeLimit != Long.MAX_VALUE
+				|| isCancellable();
+	}
+	/**
+	 * Get the number of milliseconds until the deadline.
+	 *
+	 * @return The remaining milliseconds, which is <code>0</code> if the
+	 * 			deadline has passed, or {@link Long#MAX_VALUE} if there is no
+	 * 			deadline.
+	 */
+	public long remainingMillis()
+	{
+		if(deadline == Long.MAX_VALUE)
+			return Long.MAX_VALUE;
+		return Math.max(0, (deadline - System.nanoTime()) / NANOS_PER_MILLI);
+	}
+}
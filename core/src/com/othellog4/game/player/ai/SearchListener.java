@@ -0,0 +1,30 @@
+package com.othellog4.game.player.ai;
+
+/**
+ * The {@code SearchListener} interface is used to receive the
+ * {@link SearchStatistics} of each search of a {@link SearchStrategy}.
+ *
+ * <p>
+ * A {@code SearchListener} is added to a search by
+ * {@link SearchContext#observed(SearchListener)}, and is called on the
+ * thread of the search once it is complete.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see SearchStatistics
+ */
+@FunctionalInterface
+public interface SearchListener
+{
+	//=========================================================================
+	//Abstract methods.
+	/**
+	 * Update <code>this</code> {@code SearchListener} when a search is
+	 * complete.
+	 *
+	 * @param statistics The {@link SearchStatistics} of the search.
+	 */
+	public void searched(final SearchStatistics statistics);
+}
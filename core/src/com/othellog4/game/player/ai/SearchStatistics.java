@@ -0,0 +1,331 @@
+package com.othellog4.game.player.ai;
+
+/**
+ * The {@code SearchStatistics} class is a record of the work done by one or
+ * more searches of a {@link SearchStrategy}.
+ *
+ * <p>
+ * A {@code SearchStatistics} object is reported to the
+ * {@link SearchListener} of a {@link SearchContext} at the end of each
+ * search. The statistics of several searches are combined by
+ * {@link #plus(SearchStatistics)}, in which case the depth, branching
+ * factor and speed are averages over the searches.
+ * </p>
+ *
+ * <p>
+ * The counters which a {@link SearchStrategy} does not keep are
+ * <code>0</code>; for example, an exact endgame search does not evaluate
+ * any leaves with an {@link EvaluationStrategy}.
+ * </p>
+ *
+ * <p>
+ * The {@code SearchStatistics} class is immutable.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see SearchListener
+ */
+public final class SearchStatistics
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The {@code SearchStatistics} of no searches at all.
+	 */
+	public static final SearchStatistics NONE =
+			new SearchStatistics(0, 0, 0, 0, 0, 0, 0, 0, 0);
+	/**
+	 * The number of nanoseconds in a second.
+	 */
+	private static final double NANOS_PER_SECOND = 1e9;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The number of searches.
+	 */
+	private final long searches;
+	/**
+	 * The number of nodes visited.
+	 */
+	private final long nodes;
+	/**
+	 * The number of leaves ranked by an {@link EvaluationStrategy}.
+	 */
+	private final long leaves;
+	/**
+	 * The sum of the depth completed by each search.
+	 */
+	private final long depths;
+	/**
+	 * The number of nodes whose moves were searched.
+	 */
+	private final long interior;
+	/**
+	 * The number of nodes whose search was cut off by the bound.
+	 */
+	private final long cutoffs;
+	/**
+	 * The number of probes of a {@link TranspositionTable}.
+	 */
+	private final long probes;
+	/**
+	 * The number of probes which found an entry.
+	 */
+	private final long hits;
+	/**
+	 * The number of nanoseconds the searches took.
+	 */
+	private final long elapsed;
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create the {@code SearchStatistics} of a single search.
+	 *
+	 * @param nodes The number of nodes visited.
+	 * @param leaves The number of leaves ranked by an
+	 * 			{@link EvaluationStrategy}.
+	 * @param depth The depth of the deepest search which was completed.
+	 * @param interior The number of nodes whose moves were searched.
+	 * @param cutoffs The number of nodes whose search was cut off by the
+	 * 			bound.
+	 * @param probes The number of probes of a {@link TranspositionTable}.
+	 * @param hits The number of probes which found an entry.
+	 * @param elapsed The number of nanoseconds the search took.
+	 * @throws IllegalArgumentException If any of the arguments is negative.
+	 */
+	public SearchStatistics(
+			final long nodes,
+			final long leaves,
+			final int depth,
+			final long interior,
+			final long cutoffs,
+			final long probes,
+			final long hits,
+			final long elapsed)
+			throws
+			IllegalArgumentException
+	{
+		this(1, nodes, leaves, depth, interior, cutoffs, probes, hits, elapsed);
+		if(nodes < 0
+				|| leaves < 0
+				|| depth < 0
+				|| interior < 0
+				|| cutoffs < 0
+				|| probes < 0
+				|| hits < 0
+				|| elapsed < 0)
+			throw new IllegalArgumentException();
+	}
+	/**
+	 * Create the {@code SearchStatistics} of any number of searches.
+	 *
+	 * @param searches The number of searches.
+	 * @param nodes The number of nodes visited.
+	 * @param leaves The number of leaves ranked by an
+	 * 			{@link EvaluationStrategy}.
+	 * @param depths The sum of the depth completed by each search.
+	 * @param interior The number of nodes whose moves were searched.
+	 * @param cutoffs The number of nodes whose search was cut off by the
+	 * 			bound.
+	 * @param probes The number of probes of a {@link TranspositionTable}.
+	 * @param hits The number of probes which found an entry.
+	 * @param elapsed The number of nanoseconds the searches took.
+	 */
+	private SearchStatistics(
+			final long searches,
+			final long nodes,
+			final long leaves,
+			final long depths,
+			final long interior,
+			final long cutoffs,
+			final long probes,
+			final long hits,
+			final long elapsed)
+	{
+		this.searches = searches;
+		this.nodes = nodes;
+		this.leaves = leaves;
+		this.depths = depths;
+		this.interior = interior;
+		this.cutoffs = cutoffs;
+		this.probes = probes;
+		this.hits = hits;
+		this.elapsed = elapsed;
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Combine <code>this</code> {@code SearchStatistics} with another.
+	 *
+	 * @param other The other {@code SearchStatistics}.
+	 * @return The {@code SearchStatistics} of the searches of both.
+	 */
+	public SearchStatistics plus(final SearchStatistics other)
+	{
+		return new SearchStatistics(
+				searches + other.searches,
+				nodes + other.nodes,
+				leaves + other.leaves,
+				depths + other.depths,
+				interior + other.interior,
+				cutoffs + other.cutoffs,
+				probes + other.probes,
+				hits + other.hits,
+				elapsed + other.elapsed);
+	}
+	/**
+	 * Get the number of searches.
+	 *
+	 * @return The number of searches.
+	 */
+	public long searches()
+	{
+		return searches;
+	}
+	/**
+	 * Get the number of nodes visited.
+	 *
+	 * @return The number of nodes visited.
+	 */
+	public long nodes()
+	{
+		return nodes;
+	}
+	/**
+	 * Get the number of leaves ranked by an {@link EvaluationStrategy}.
+	 *
+	 * @return The number of leaf evaluations.
+	 */
+	public long leaves()
+	{
+		return leaves;
+	}
+	/**
+	 * Get the depth which was completed.
+	 *
+	 * @return The average depth completed by each search, which is
+	 * 			<code>0</code> if there are no searches.
+	 */
+	public double depth()
+	{
+		return searches == 0? 0: (double) depths / searches;
+	}
+	/**
+	 * Get the effective branching factor, which is the number of moves per
+	 * node of a uniform tree of the depth completed, with the same number
+	 * of nodes.
+	 *
+	 * @return The average effective branching factor of each search, which
+	 * 			is <code>0</code> if no depth was completed.
+	 */
+	public double branchingFactor()
+	{
+		final double depth = depth();
+		if(depth <= 0)
+			return 0;
+		return Math.pow((double) nodes / searches, 1.0 / depth);
+	}
+	/**
+	 * Get the number of nodes whose moves were searched.
+	 *
+	 * @return The number of interior nodes.
+	 */
+	public long interior()
+	{
+		return interior;
+	}
+	/**
+	 * Get the number of nodes whose search was cut off by the bound.
+	 *
+	 * @return The number of beta cutoffs.
+	 */
+	public long cutoffs()
+	{
+		return cutoffs;
+	}
+	/**
+	 * Get the share of the nodes whose moves were searched, where the search
+	 * was cut off by the bound.
+	 *
+	 * @return The beta cutoff ratio, between <code>0</code> and
+	 * 			<code>1</code>.
+	 */
+	public double cutoffRatio()
+	{
+		return interior == 0? 0: (double) cutoffs / interior;
+	}
+	/**
+	 * Get the number of probes of a {@link TranspositionTable}.
+	 *
+	 * @return The number of probes.
+	 */
+	public long probes()
+	{
+		return probes;
+	}
+	/**
+	 * Get the number of probes of a {@link TranspositionTable} which found
+	 * an entry.
+	 *
+	 * @return The number of hits.
+	 */
+	public long hits()
+	{
+		return hits;
+	}
+	/**
+	 * Get the share of the probes of a {@link TranspositionTable} which
+	 * found an entry.
+	 *
+	 * @return The hit rate, between <code>0</code> and <code>1</code>.
+	 */
+	public double hitRate()
+	{
+		return probes == 0? 0: (double) hits / probes;
+	}
+	/**
+	 * Get the number of nanoseconds the searches took.
+	 *
+	 * @return The elapsed nanoseconds.
+	 */
+	public long elapsedNanos()
+	{
+		return elapsed;
+	}
+	/**
+	 * Get the number of nodes visited per second.
+	 *
+	 * @return The nodes per second, which is <code>0</code> if no time
+	 * 			elapsed.
+	 */
+	public double nodesPerSecond()
+	{
+		return elapsed == 0? 0: nodes * NANOS_PER_SECOND / elapsed;
+	}
+	//=========================================================================
+	//Overridden methods.
+	/**
+	 * Get the {@link String} representation of <code>this</code>
+	 * {@code SearchStatistics}, which is a single line for a log.
+	 *
+	 * @return The {@link String} representation.
+	 */
+	@Override
+	public String toString()
+	{
+		return String.format(
+				"searches=%d nodes=%d leaves=%d depth=%.1f ebf=%.2f"
+						+ " cutoffs=%.1f%% tt=%.1f%% time=%.3fs nps=%.0f",
+				searches,
+				nodes,
+				leaves,
+				depth(),
+				branchingFactor(),
+				cutoffRatio() * 100,
+				hitRate() * 100,
+				elapsed / NANOS_PER_SECOND,
+				nodesPerSecond());
+	}
+}
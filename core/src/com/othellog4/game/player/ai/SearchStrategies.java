@@ -6,9 +6,9 @@ import java.util.List;
 import java.util.Set;
 
 import com.othellog4.game.board.BoardView;
-import com.othellog4.game.board.InvalidMoveException;
 import com.othellog4.game.board.Piece;
 import com.othellog4.game.board.Position;
+import com.othellog4.game.board.SearchBoard;
 
 /**
  * The {@code SearchStrategies} enumeration is a class containing concrete
@@ -17,7 +17,7 @@ import com.othellog4.game.board.Position;
  * @author 	159014260 John Berg
  * @author  159148026 Arvinder Chatha
  * @since 	08/12/2017
- * @version 08/12/2017
+ * @version 18/10/2026
  */
 public enum SearchStrategies implements SearchStrategy
 {
@@ -83,21 +83,25 @@ public enum SearchStrategies implements SearchStrategy
 				final Piece piece,
 				final EvaluationStrategy eval)
 		{
-			return board.legalMoves(piece).stream().reduce((acc, pos) ->
+			final SearchBoard search = new SearchBoard(board);
+			int best = -1;
+			double bestScore = 0.0;
+			long moves = search.legalMoveMask(piece);
+			while(moves != 0)
 			{
-				try
+				final int square = Long.numberOfTrailingZeros(moves);
+				moves &= moves - 1;
+				search.makeMove(square, piece);
+				final double score = eval.evaluate(search, piece);
+				search.unmakeMove();
+				//Ties go to the later move.
+				if(best < 0 || score >= bestScore)
 				{
-					return eval.evaluate(board.tryPut(acc, piece), piece) >
-					eval.evaluate(board.tryPut(pos, piece), piece)
-					?acc
-							:pos;
+					best = square;
+					bestScore = score;
 				}
-				catch(final com.othellog4.game.board.InvalidMoveException e)
-				{
-					e.printStackTrace();
-					return pos;
-				}
-			}).get();
+			}
+			return SearchBoard.position(best);
 		}
 	},	
 	/**
@@ -139,129 +143,428 @@ public enum SearchStrategies implements SearchStrategy
 				final Piece piece,
 				final EvaluationStrategy eval)
 		{
-			Position finalPosition = null;
-			try {
-				ArrayList<ScorePosition> bestPossiblePositions = minimax(
-						board,
-						piece,
+			final SearchBoard search = new SearchBoard(board);
+			final boolean isMax = DEPTH_LIMIT % 2 == 0;
+			final List<Position> bestPossiblePositions =
+					new ArrayList<Position>();
+			double bestScore = isMax ? -1000.0 : 1000.0;
+			long moves = search.legalMoveMask(piece);
+			while(moves != 0)
+			{
+				final int square = Long.numberOfTrailingZeros(moves);
+				moves &= moves - 1;
+				search.makeMove(square, piece);
+				final double currentScore = minimax(
+						search,
+						piece.flip(),
 						eval,
-						DEPTH_LIMIT,
-						DEPTH_LIMIT % 2 == 0);
-				finalPosition = bestPossiblePositions.get(
-						rng.nextInt(bestPossiblePositions.size())).getPos(); 
-			}
-			catch (com.othellog4.game.board.InvalidMoveException e) {
-				e.printStackTrace();
+						DEPTH_LIMIT - 1,
+						!isMax);
+				search.unmakeMove();
+				if(currentScore == bestScore)
+					bestPossiblePositions.add(SearchBoard.position(square));
+				else if(isMax ? currentScore > bestScore
+						: currentScore < bestScore)
+				{
+					bestScore = currentScore;
+					bestPossiblePositions.clear();
+					bestPossiblePositions.add(SearchBoard.position(square));
+				}
 			}
-			return finalPosition;
+			return bestPossiblePositions.get(
+					rng.nextInt(bestPossiblePositions.size()));
 		}
 
 		/**
-		 * The recursive function used to determine the best possible 
-		 * {@link Position} for the current game {@link BoardView}
+		 * The recursive function used to determine the score of the best
+		 * possible move for the current {@link SearchBoard}.
+		 *
+		 * <p>
+		 * Each move is made on, and then taken back from, the same
+		 * <code>board</code>, so no objects are allocated per node.
+		 * </p>
 		 * 
-		 * @param board The {@link BoardView} which to search for moves.
+		 * @param board The {@link SearchBoard} which to search for moves.
 		 * @param piece The {@link Piece} object to search for moves for.
 		 * @param eval The {@link EvaluationStrategy} used to rank the
 		 * 			<code>board</code>.
 		 * @param depth The current depth of the recursive function. 
 		 * 		  (Inverted, 0 is bottom of tree)
 		 * @param isMax True if maximising player, false if minimising player
-		 * @return An ArrayList<ScorePosition> storing the best 
-		 * 			{@link ScorePosition}s
-		 * @throws InvalidMoveException 
+		 * @return The score of the best move for <code>piece</code>.
 		 */
-		private ArrayList<ScorePosition> minimax(
-				BoardView board,
-				Piece piece,
-				EvaluationStrategy eval,
-				int depth, boolean isMax)
-						throws InvalidMoveException {
-			ArrayList<ScorePosition> scorePositionList =
-					new ArrayList<ScorePosition>();
-			List<Position> currentPlayerMoveList = new ArrayList<Position>();
-			currentPlayerMoveList.addAll(board.legalMoves(piece));
-			Position bestMove = null; 
-			double bestScore;
-			if(isMax) {
-				bestScore = -1000.0; 
-			} else {
-				bestScore = 1000.0;
-			}
-
-			//Leaf node or game ended
-			if(board.isEnd() || depth == 0) {
-				scorePositionList.add(
-						new ScorePosition(eval.evaluate(board, piece), null));
-				return scorePositionList;
-			}
+		private double minimax(
+				final SearchBoard board,
+				final Piece piece,
+				final EvaluationStrategy eval,
+				final int depth,
+				final boolean isMax)
+		{
+			//Leaf node or game ended, scored for the maximising player
+			if(depth == 0)
+				return eval.evaluate(board, isMax ? piece : piece.flip());
+			long moves = board.legalMoveMask(piece);
+			if(moves == 0 && board.mobility(piece.flip()) == 0)
+				return eval.evaluate(board, isMax ? piece : piece.flip());
 			//Current player can't take a move due to being no available moves
-			else if(board.legalMoves(piece).isEmpty()){
-				return minimax(board, piece.flip(), eval, depth-1, !isMax);
-			}
-
-			for (Position move : currentPlayerMoveList) {
-				BoardView newBoard = board.tryPut(move, piece);;
-				ArrayList<ScorePosition> ranks = 
-						minimax(newBoard, piece.flip(), eval, depth-1, !isMax);
-
-				//Update scorePositionList
-				double currentScore = ranks.get(0).getScore();
-				if(currentScore==bestScore) {
-					scorePositionList.add(
-							new ScorePosition(currentScore, move));
-				}					
-				else if(isMax && (currentScore > bestScore)) {
-					bestScore = currentScore;
-					bestMove = move;
-					scorePositionList.clear();
-					scorePositionList.add(
-							new ScorePosition(bestScore, bestMove));
-				}
-				else if(!isMax && (currentScore < bestScore)){
+			else if(moves == 0)
+				return minimax(board, piece.flip(), eval, depth - 1, !isMax);
+			double bestScore = isMax ? -1000.0 : 1000.0;
+			while(moves != 0)
+			{
+				final int square = Long.numberOfTrailingZeros(moves);
+				moves &= moves - 1;
+				board.makeMove(square, piece);
+				final double currentScore = minimax(
+						board,
+						piece.flip(),
+						eval,
+						depth - 1,
+						!isMax);
+				board.unmakeMove();
+				if(isMax ? currentScore > bestScore : currentScore < bestScore)
 					bestScore = currentScore;
-					bestMove = move;
-					scorePositionList.clear();
-					scorePositionList.add(
-							new ScorePosition(bestScore, bestMove));
-				}
 			}
-			return scorePositionList;
+			return bestScore;
 		}
-
+	},
+	/**
+	 * The implementation of the {@link SearchStrategy} interface which selects
+	 * the same {@link Position} objects as {@link #MINIMAX}, but prunes the
+	 * moves which cannot change the result, allowing it to search deeper.
+	 *
+	 * <p>
+	 * No {@link TranspositionTable} is used, as the deeper results of earlier
+	 * searches would score a position differently from {@link #MINIMAX}.
+	 * The strategies which are limited by time, such as
+	 * {@link #ITERATIVE_DEEPENING}, reuse them instead.
+	 * </p>
+	 *
+	 * @see AlphaBeta
+	 */
+	ALPHA_BETA
+	{
+		//=====================================================================
+		//Fields.
 		/**
-		 * Class that exists to store the score of a given {@link Position}.
-		 * 
-		 * @author 	159148026 Arvinder Chatha
-		 * @since 	14/03/2017
-		 * @version 13/03/2018
+		 * The number of moves to search ahead.
 		 */
-		class ScorePosition {
-
-			private double score;
-			private Position pos;
-
-			/**
-			 * The constructor initialises both the score and {@link Position}
-			 * @param score The score associated to the {@link Position}
-			 * @param pos The {@link Position} associated to the score
-			 */
-			private ScorePosition(Double score, Position pos) {
-				this.score = score;
-				this.pos = pos;
-			}
-			/**
-			 * @return the score
-			 */
-			public double getScore() {
-				return score;
-			}
-			/**
-			 * @return the pos
-			 */
-			public Position getPos() {
-				return pos;
-			}
+		final int DEPTH_LIMIT = 8;
+		/**
+		 * The {@link IterativeDeepening} which the search is delegated to,
+		 * which stops at {@link #DEPTH_LIMIT} rather than at a time.
+		 */
+		private final SearchStrategy search = new IterativeDeepening(
+				Long.MAX_VALUE,
+				Long.MAX_VALUE,
+				null,
+				DEPTH_LIMIT);
+		//=====================================================================
+		//Overridden methods.
+		/**
+		 * Search for the {@link Position} object where a {@link Piece} object
+		 * can be placed on a board using alpha-beta pruning.
+		 *
+		 * @param board The {@link BoardView} which to search for moves.
+		 * @param piece The {@link Piece} object to search for moves for.
+		 * @param eval The {@link EvaluationStrategy} used to rank the
+		 * 			<code>board</code>.
+		 * @return The selected {@link Position} object.
+		 */
+		@Override
+		public final Position search(
+				final BoardView board,
+				final Piece piece,
+				final EvaluationStrategy eval)
+		{
+			return search.search(board, piece, eval);
+		}
+		/**
+		 * Search for the {@link Position} object where a {@link Piece} object
+		 * can be placed on a board using alpha-beta pruning, and report the
+		 * {@link SearchStatistics} to a {@link SearchContext}.
+		 *
+		 * <p>
+		 * The search deepens a move at a time up to {@link #DEPTH_LIMIT}. If
+		 * the <code>context</code> is cancelled or expires, the best moves of
+		 * the last depth which was completed are selected from. A search
+		 * which is not stopped selects the same moves as a single search to
+		 * {@link #DEPTH_LIMIT}.
+		 * </p>
+		 *
+		 * @param board The {@link BoardView} which to search for moves.
+		 * @param piece The {@link Piece} object to search for moves for.
+		 * @param eval The {@link EvaluationStrategy} used to rank the
+		 * 			<code>board</code>.
+		 * @param context The {@link SearchContext} which limits the search,
+		 * 			and which the {@link SearchStatistics} are reported to.
+		 * @return The selected {@link Position} object.
+		 */
+		@Override
+		public final Position search(
+				final BoardView board,
+				final Piece piece,
+				final EvaluationStrategy eval,
+				final SearchContext context)
+		{
+			return search.search(board, piece, eval, context);
+		}
+	},
+	/**
+	 * The implementation of the {@link SearchStrategy} interface which
+	 * searches deeper until it runs out of time, rather than to a fixed
+	 * depth.
+	 *
+	 * @see IterativeDeepening
+	 */
+	ITERATIVE_DEEPENING
+	{
+		//=====================================================================
+		//Fields.
+		/**
+		 * The most milliseconds which a single search may take.
+		 */
+		final long MOVE_TIME = 1000;
+		/**
+		 * The {@link IterativeDeepening} which the search is delegated to.
+		 */
+		private final SearchStrategy search = new IterativeDeepening(
+				MOVE_TIME);
+		//=====================================================================
+		//Overridden methods.
+		/**
+		 * Search for the {@link Position} object where a {@link Piece} object
+		 * can be placed on a board, for at most {@link #MOVE_TIME}.
+		 *
+		 * @param board The {@link BoardView} which to search for moves.
+		 * @param piece The {@link Piece} object to search for moves for.
+		 * @param eval The {@link EvaluationStrategy} used to rank the
+		 * 			<code>board</code>.
+		 * @return The selected {@link Position} object.
+		 */
+		@Override
+		public final Position search(
+				final BoardView board,
+				final Piece piece,
+				final EvaluationStrategy eval)
+		{
+			return search.search(board, piece, eval);
+		}
+		/**
+		 * Search for the {@link Position} object where a {@link Piece} object
+		 * can be placed on a board, for at most {@link #MOVE_TIME}, or less
+		 * if the {@link SearchContext} is tighter.
+		 *
+		 * @param board The {@link BoardView} which to search for moves.
+		 * @param piece The {@link Piece} object to search for moves for.
+		 * @param eval The {@link EvaluationStrategy} used to rank the
+		 * 			<code>board</code>.
+		 * @param context The {@link SearchContext} which limits the search.
+		 * @return The selected {@link Position} object.
+		 */
+		@Override
+		public final Position search(
+				final BoardView board,
+				final Piece piece,
+				final EvaluationStrategy eval,
+				final SearchContext context)
+		{
+			return search.search(board, piece, eval, context);
+		}
+	},
+	/**
+	 * The implementation of the {@link SearchStrategy} interface which
+	 * searches deeper until it runs out of time, with a thread for each
+	 * processor.
+	 *
+	 * <p>
+	 * The number of threads may be set by the
+	 * {@link LazySmp#THREADS_PROPERTY} system property.
+	 * </p>
+	 *
+	 * @see LazySmp
+	 */
+	PARALLEL
+	{
+		//=====================================================================
+		//Fields.
+		/**
+		 * The most milliseconds which a single search may take.
+		 */
+		final long MOVE_TIME = 1000;
+		/**
+		 * The {@link LazySmp} which the search is delegated to.
+		 */
+		private final SearchStrategy search = new LazySmp(
+				LazySmp.defaultThreads(),
+				MOVE_TIME);
+		//=====================================================================
+		//Overridden methods.
+		/**
+		 * Search for the {@link Position} object where a {@link Piece} object
+		 * can be placed on a board, for at most {@link #MOVE_TIME}.
+		 *
+		 * @param board The {@link BoardView} which to search for moves.
+		 * @param piece The {@link Piece} object to search for moves for.
+		 * @param eval The {@link EvaluationStrategy} used to rank the
+		 * 			<code>board</code>.
+		 * @return The selected {@link Position} object.
+		 */
+		@Override
+		public final Position search(
+				final BoardView board,
+				final Piece piece,
+				final EvaluationStrategy eval)
+		{
+			return search.search(board, piece, eval);
+		}
+		/**
+		 * Search for the {@link Position} object where a {@link Piece} object
+		 * can be placed on a board, for at most {@link #MOVE_TIME}, or less
+		 * if the {@link SearchContext} is tighter.
+		 *
+		 * @param board The {@link BoardView} which to search for moves.
+		 * @param piece The {@link Piece} object to search for moves for.
+		 * @param eval The {@link EvaluationStrategy} used to rank the
+		 * 			<code>board</code>.
+		 * @param context The {@link SearchContext} which limits the search.
+		 * @return The selected {@link Position} object.
+		 */
+		@Override
+		public final Position search(
+				final BoardView board,
+				final Piece piece,
+				final EvaluationStrategy eval,
+				final SearchContext context)
+		{
+			return search.search(board, piece, eval, context);
+		}
+	},
+	/**
+	 * The implementation of the {@link SearchStrategy} interface which ranks
+	 * the moves by the results of random games, with a thread for each
+	 * processor.
+	 *
+	 * @see MonteCarloTreeSearch
+	 */
+	MCTS
+	{
+		//=====================================================================
+		//Fields.
+		/**
+		 * The most milliseconds which a single search may take.
+		 */
+		final long MOVE_TIME = 1000;
+		/**
+		 * The {@link MonteCarloTreeSearch} which the search is delegated to.
+		 */
+		private final SearchStrategy search = new MonteCarloTreeSearch(
+				LazySmp.defaultThreads(),
+				MOVE_TIME,
+				Long.MAX_VALUE,
+				true);
+		//=====================================================================
+		//Overridden methods.
+		/**
+		 * Search for the {@link Position} object where a {@link Piece} object
+		 * can be placed on a board, for at most {@link #MOVE_TIME}.
+		 *
+		 * @param board The {@link BoardView} which to search for moves.
+		 * @param piece The {@link Piece} object to search for moves for.
+		 * @param eval Unused.
+		 * @return The selected {@link Position} object.
+		 */
+		@Override
+		public final Position search(
+				final BoardView board,
+				final Piece piece,
+				final EvaluationStrategy eval)
+		{
+			return search.search(board, piece, eval);
+		}
+		/**
+		 * Search for the {@link Position} object where a {@link Piece} object
+		 * can be placed on a board, for at most {@link #MOVE_TIME}, or less
+		 * if the {@link SearchContext} is tighter.
+		 *
+		 * @param board The {@link BoardView} which to search for moves.
+		 * @param piece The {@link Piece} object to search for moves for.
+		 * @param eval Unused.
+		 * @param context The {@link SearchContext} which limits the search.
+		 * @return The selected {@link Position} object.
+		 */
+		@Override
+		public final Position search(
+				final BoardView board,
+				final Piece piece,
+				final EvaluationStrategy eval,
+				final SearchContext context)
+		{
+			return search.search(board, piece, eval, context);
+		}
+	},
+	/**
+	 * The implementation of the {@link SearchStrategy} interface which
+	 * solves the end of the game exactly, and searches the same as
+	 * {@link #PARALLEL} before then.
+	 *
+	 * @see EndgameSolver
+	 */
+	ENDGAME
+	{
+		//=====================================================================
+		//Fields.
+		/**
+		 * The most milliseconds which a single search may take.
+		 */
+		final long MOVE_TIME = 1000;
+		/**
+		 * The {@link EndgameSolver} which the search is delegated to.
+		 */
+		private final SearchStrategy search = new EndgameSolver(
+				EndgameSolver.DEFAULT_EMPTIES,
+				MOVE_TIME,
+				new LazySmp(LazySmp.defaultThreads(), MOVE_TIME));
+		//=====================================================================
+		//Overridden methods.
+		/**
+		 * Search for the {@link Position} object where a {@link Piece} object
+		 * can be placed on a board, for at most {@link #MOVE_TIME}.
+		 *
+		 * @param board The {@link BoardView} which to search for moves.
+		 * @param piece The {@link Piece} object to search for moves for.
+		 * @param eval The {@link EvaluationStrategy} used to rank the
+		 * 			<code>board</code> before the end of the game.
+		 * @return The selected {@link Position} object.
+		 */
+		@Override
+		public final Position search(
+				final BoardView board,
+				final Piece piece,
+				final EvaluationStrategy eval)
+		{
+			return search.search(board, piece, eval);
+		}
+		/**
+		 * Search for the {@link Position} object where a {@link Piece} object
+		 * can be placed on a board, for at most {@link #MOVE_TIME}, or less
+		 * if the {@link SearchContext} is tighter.
+		 *
+		 * @param board The {@link BoardView} which to search for moves.
+		 * @param piece The {@link Piece} object to search for moves for.
+		 * @param eval The {@link EvaluationStrategy} used to rank the
+		 * 			<code>board</code> before the end of the game.
+		 * @param context The {@link SearchContext} which limits the search.
+		 * @return The selected {@link Position} object.
+		 */
+		@Override
+		public final Position search(
+				final BoardView board,
+				final Piece piece,
+				final EvaluationStrategy eval,
+				final SearchContext context)
+		{
+			return search.search(board, piece, eval, context);
 		}
 	}
 };
@@ -10,7 +10,7 @@ import com.othellog4.game.board.Position;
  *
  * @author 	159014260 John Berg
  * @since 	08/12/2017
- * @version 25/01/2018
+ * @version 18/10/2026
  */
 @FunctionalInterface
 public interface SearchStrategy
@@ -32,4 +32,31 @@ public interface SearchStrategy
 			final BoardView board,
 			final Piece piece,
 			final EvaluationStrategy eval);
+	/**
+	 * Search a {@link BoardView} object for a {@link Position} object where a
+	 * specified {@link Piece} object should be placed, within the budget of a
+	 * {@link SearchContext}.
+	 *
+	 * <p>
+	 * By default the <code>context</code> is ignored, and the search is the
+	 * same as {@link #search(BoardView, Piece, EvaluationStrategy)}.
+	 * </p>
+	 *
+	 * @param board The {@link BoardView} object to search.
+	 * @param piece The {@link Piece} object used to find a {@link Position}
+	 * 			object to place the {@link Piece} object.
+	 * @param eval The {@link EvaluationStrategy} which defines how the state
+	 * 			of the <code>board</code> is evaluated.
+	 * @param context The {@link SearchContext} which limits the search.
+	 * @return The {@link Position} object which represents the place to put a
+	 * 			{@link Piece} object.
+	 */
+	public default Position search(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval,
+			final SearchContext context)
+	{
+		return search(board, piece, eval);
+	}
 }
@@ -1,6 +1,8 @@
 package com.othellog4.game.player.ai;
 
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import com.othellog4.game.board.BoardView;
 import com.othellog4.game.board.Piece;
@@ -11,9 +13,16 @@ import com.othellog4.game.board.Position;
  * {@link SearchStrategy} and a {@link EvaluationStrategy} to formulate
  * a strategy of how to play.
  *
+ * <p>
+ * Every search which is given a {@link SearchContext} reports exactly one
+ * {@link SearchStatistics} object to the {@link SearchListener} of the
+ * {@link SearchContext}. If the {@link SearchStrategy} does not report its
+ * own, the {@link SearchStatistics} only contain the elapsed time.
+ * </p>
+ *
  * @author 	159014260 John Berg
  * @since	14/02/2018
- * @version 15/02/2018
+ * @version 18/10/2026
  */
 public final class Tactic
 {
@@ -70,4 +79,92 @@ public final class Tactic
 	{
 		return () -> callback.accept(search.search(board, piece, eval));
 	}
+	/**
+	 * Prepare the application of <code>this</code> {@code Tactic} object,
+	 * within the budget of a {@link SearchContext}.
+	 *
+	 * <p>
+	 * The {@link SearchContext} is only created when the {@link Runnable}
+	 * object is run, so that any delay before running it is not counted
+	 * against the search.
+	 * </p>
+	 *
+	 * @param board The {@link BoardView} object to apply the strategies to.
+	 * @param piece The {@link Piece} object to use during the search.
+	 * @param context The function to create the {@link SearchContext} which
+	 * 			limits the search.
+	 * @param callback The function to return the {@link Position} object
+	 * 			result from evaluation.
+	 * @return The {@link Runnable} object which when run will execute the
+	 * 			strategy.
+	 */
+	public final Runnable plan(
+			final BoardView board,
+			final Piece piece,
+			final Supplier<SearchContext> context,
+			final Consumer<Position> callback)
+	{
+		return () -> callback.accept(search(board, piece, context.get()));
+	}
+	/**
+	 * Apply <code>this</code> {@code Tactic} object immediately, within the
+	 * budget of a {@link SearchContext}.
+	 *
+	 * @param board The {@link BoardView} object to apply the strategies to.
+	 * @param piece The {@link Piece} object to use during the search.
+	 * @param context The {@link SearchContext} which limits the search.
+	 * @return The {@link Position} object found by the search.
+	 */
+	public final Position search(
+			final BoardView board,
+			final Piece piece,
+			final SearchContext context)
+	{
+		final AtomicReference<SearchStatistics> reported =
+				new AtomicReference<>();
+		final long start = System.nanoTime();
+		final Position position = search.search(
+				board,
+				piece,
+				eval,
+				context.observed(reported::set));
+		final SearchStatistics statistics = reported.get();
+		context.report(statistics != null
+				? statistics
+				: new SearchStatistics(
+						0,
+						0,
+						0,
+						0,
+						0,
+						0,
+						0,
+						System.nanoTime() - start));
+		return position;
+	}
+	/**
+	 * Evaluate a {@link BoardView} object with the
+	 * {@link EvaluationStrategy} of <code>this</code> {@code Tactic} object.
+	 *
+	 * @param board The {@link BoardView} object to evaluate.
+	 * @param piece The {@link Piece} object which is the basis of the
+	 * 			evaluation.
+	 * @return The ranking of the <code>board</code> for the
+	 * 			<code>piece</code>.
+	 */
+	public final double evaluate(final BoardView board, final Piece piece)
+	{
+		return eval.evaluate(board, piece);
+	}
+	/**
+	 * Get the {@link SearchStrategy} of <code>this</code> {@code Tactic}
+	 * object.
+	 *
+	 * @return The {@link SearchStrategy} used to search a
+	 * 			{@link BoardView} object.
+	 */
+	public final SearchStrategy getSearchStrategy()
+	{
+		return search;
+	}
 }
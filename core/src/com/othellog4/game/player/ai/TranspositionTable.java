@@ -0,0 +1,534 @@
+package com.othellog4.game.player.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code TranspositionTable} class is a fixed size cache of the results
+ * of searching positions, which is keyed by the 64-bit hash of a position.
+ *
+ * <p>
+ * Each entry stores the score, the depth it was searched to, the
+ * {@link Bound} of the score and the best move, packed into a
+ * <code>long[]</code>, so no objects are allocated once the table is
+ * created. The entries are grouped into buckets of two: the first entry of a
+ * bucket is only replaced by an entry searched at least as deep, or if it
+ * is from an older search, while the second entry is always replaced.
+ * </p>
+ *
+ * <p>
+ * The {@code TranspositionTable} class is thread safe without locking. Each
+ * entry is written as several <code>long</code> values, the first of which
+ * is the key combined by exclusive or with the others. An entry which is
+ * read while another thread writes it does not combine to its key, and so
+ * is treated as a miss rather than returning a corrupt result.
+ * </p>
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ * @see com.othellog4.game.board.BoardView#hash(com.othellog4.game.board.Piece)
+ */
+public final class TranspositionTable
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The size in megabytes of the {@link #shared()}
+	 * {@code TranspositionTable}, if the {@link #SIZE_PROPERTY} is not set.
+	 */
+	public static final int DEFAULT_MEGABYTES = 16;
+	/**
+	 * The name of the system property which sets the size in megabytes of
+	 * the {@link #shared()} {@code TranspositionTable}.
+	 */
+	public static final String SIZE_PROPERTY = "othello.hash.megabytes";
+	/**
+	 * The value of the move of an entry which has no best move.
+	 */
+	public static final int NO_MOVE = 64;
+	/**
+	 * The number of <code>long</code> values of an entry.
+	 */
+	private static final int ENTRY_LONGS = 3;
+	/**
+	 * The number of entries in a bucket.
+	 */
+	private static final int BUCKET_ENTRIES = 2;
+	/**
+	 * The number of <code>long</code> values of a bucket.
+	 */
+	private static final int BUCKET_LONGS = ENTRY_LONGS * BUCKET_ENTRIES;
+	/**
+	 * The most buckets which fit in an array.
+	 */
+	private static final int MAX_BUCKETS = 1 << 28;
+	/**
+	 * The number of bytes in a megabyte.
+	 */
+	private static final long MEGABYTE = 1L << 20;
+	/**
+	 * The largest depth which can be stored.
+	 */
+	private static final int MAX_DEPTH = 0xFF;
+	/**
+	 * The position of the {@link Bound} in the packed data of an entry.
+	 */
+	private static final int BOUND_SHIFT = 8;
+	/**
+	 * The position of the solved flag in the packed data of an entry.
+	 */
+	private static final int SOLVED_SHIFT = 10;
+	/**
+	 * The position of the move in the packed data of an entry.
+	 */
+	private static final int MOVE_SHIFT = 11;
+	/**
+	 * The position of the generation in the packed data of an entry.
+	 */
+	private static final int GENERATION_SHIFT = 18;
+	/**
+	 * The mask of the bound bits, after shifting by {@link #BOUND_SHIFT}.
+	 */
+	private static final int BOUND_MASK = 0x3;
+	/**
+	 * The mask of the move bits, after shifting by {@link #MOVE_SHIFT}.
+	 */
+	private static final int MOVE_MASK = 0x7F;
+	/**
+	 * The mask of the generation bits, after shifting by
+	 * {@link #GENERATION_SHIFT}.
+	 */
+	private static final int GENERATION_MASK = 0xFF;
+	/**
+	 * The values of {@link Bound}, indexed by their packed value.
+	 */
+	private static final Bound[] BOUNDS = {
+			null,
+			Bound.EXACT,
+			Bound.LOWER,
+			Bound.UPPER
+	};
+	//=========================================================================
+	//Fields.
+	/**
+	 * The packed entries.
+	 */
+	private final long[] table;
+	/**
+	 * The mask of the bucket index of a key.
+	 */
+	private final long mask;
+	/**
+	 * The generation of the current search, which is stored in each entry.
+	 */
+	private volatile int generation;
+	/**
+	 * The number of calls to {@link #probe(long, Entry)}.
+	 */
+	private final LongAdder probes = new LongAdder();
+	/**
+	 * The number of calls to {@link #probe(long, Entry)} which found the
+	 * entry of the key.
+	 */
+	private final LongAdder hits = new LongAdder();
+	/**
+	 * The number of calls to {@link #probe(long, Entry)} which found the
+	 * bucket of the key occupied only by other keys.
+	 */
+	private final LongAdder collisions = new LongAdder();
+	/**
+	 * The number of calls to {@link #store(long, double, int, Bound, int,
+	 * boolean)}.
+	 */
+	private final LongAdder stores = new LongAdder();
+	/**
+	 * The number of calls to {@link #store(long, double, int, Bound, int,
+	 * boolean)} which replaced the entry of another key.
+	 */
+	private final LongAdder overwrites = new LongAdder();
+	//=========================================================================
+	//Constructors.
+	/**
+	 * Create an empty {@code TranspositionTable} which uses at most a number
+	 * of megabytes.
+	 *
+	 * <p>
+	 * The number of buckets is rounded down to a power of two.
+	 * </p>
+	 *
+	 * @param megabytes The most megabytes the table may use.
+	 * @throws IllegalArgumentException If <code>megabytes</code> is not
+	 * 			positive.
+	 */
+	public TranspositionTable(final int megabytes)
+			throws
+			IllegalArgumentException
+	{
+		if(megabytes <= 0)
+			throw new IllegalArgumentException();
+		final long buckets = Math.min(
+				MAX_BUCKETS,
+				megabytes * MEGABYTE / (BUCKET_LONGS * Long.BYTES));
+		final int size = Integer.highestOneBit((int) buckets);
+		table = new long[size * BUCKET_LONGS];
+		mask = size - 1;
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Get the {@code TranspositionTable} which is shared by every
+	 * {@link SearchStrategy}.
+	 *
+	 * <p>
+	 * It is created when first used, and its size in megabytes is read from
+	 * the {@link #SIZE_PROPERTY} system property, or is
+	 * {@link #DEFAULT_MEGABYTES}.
+	 * </p>
+	 *
+	 * @return The shared {@code TranspositionTable}.
+	 */
+	public static TranspositionTable shared()
+	{
+		return Shared.TABLE;
+	}
+	/**
+	 * Get the depth of packed entry data.
+	 *
+	 * @param data The packed data.
+	 * @return The depth.
+	 */
+	private static int depth(final long data)
+	{
+		return (int) data & MAX_DEPTH;
+	}
+	/**
+	 * Get the generation of packed entry data.
+	 *
+	 * @param data The packed data.
+	 * @return The generation.
+	 */
+	private static int generation(final long data)
+	{
+		return (int) (data >>> GENERATION_SHIFT) & GENERATION_MASK;
+	}
+	//=========================================================================
+	//Methods.
+	/**
+	 * Get the index in {@link #table} of the bucket of a key.
+	 *
+	 * @param key The key.
+	 * @return The index of the first entry of the bucket.
+	 */
+	private int bucket(final long key)
+	{
+		return (int) (key & mask) * BUCKET_LONGS;
+	}
+	/**
+	 * Read the packed data of an entry, if it is the entry of a key.
+	 *
+	 * @param index The index of the entry.
+	 * @param key The key.
+	 * @return The packed data of the entry, or <code>0</code> if the entry
+	 * 			is empty, or is not the entry of <code>key</code>.
+	 */
+	private long read(final int index, final long key)
+	{
+		final long data = table[index + 2];
+		if((table[index] ^ table[index + 1] ^ data) != key)
+			return 0;
+		return data;
+	}
+	/**
+	 * Start a new search.
+	 *
+	 * <p>
+	 * The entries of earlier searches are still found, but are replaced
+	 * before the entries of the new search.
+	 * </p>
+	 */
+	public void newSearch()
+	{
+		generation = (generation + 1) & GENERATION_MASK;
+	}
+	/**
+	 * Find the entry of a key.
+	 *
+	 * @param key The key of the position.
+	 * @param entry The {@link Entry} which is set to the found entry.
+	 * @return <code>true</code> if the entry of <code>key</code> was found,
+	 * 			otherwise, returns <code>false</code>, and <code>entry</code>
+	 * 			is unchanged.
+	 */
+	public boolean probe(final long key, final Entry entry)
+	{
+		probes.increment();
+		final int bucket = bucket(key);
+		boolean occupied = false;
+		for(int i = 0; i < BUCKET_ENTRIES; ++i)
+		{
+			final int index = bucket + i * ENTRY_LONGS;
+			//Read each value once, so they are verified together.
+			final long check = table[index];
+			final long scoreBits = table[index + 1];
+			final long data = table[index + 2];
+			if(data != 0 && (check ^ scoreBits ^ data) == key)
+			{
+				hits.increment();
+				entry.score = Double.longBitsToDouble(scoreBits);
+				entry.data = data;
+				return true;
+			}
+			occupied |= data != 0;
+		}
+		if(occupied)
+			collisions.increment();
+		return false;
+	}
+	/**
+	 * Store the result of searching a position.
+	 *
+	 * @param key The key of the position.
+	 * @param score The score of the position.
+	 * @param depth The depth the position was searched to.
+	 * @param bound The {@link Bound} of <code>score</code>.
+	 * @param move The square of the best move, or {@link #NO_MOVE}.
+	 * @param solved If every line of the search reached the end of the
+	 * 			game, so a deeper search has the same result.
+	 */
+	public void store(
+			final long key,
+			final double score,
+			final int depth,
+			final Bound bound,
+			final int move,
+			final boolean solved)
+	{
+		stores.increment();
+		final int current = generation;
+		final long data = Math.min(Math.max(depth, 0), MAX_DEPTH)
+				| (long) (bound.ordinal() + 1) << BOUND_SHIFT
+				| (solved? 1L: 0L) << SOLVED_SHIFT
+				| (long) (move & MOVE_MASK) << MOVE_SHIFT
+				| (long) current << GENERATION_SHIFT;
+		final int bucket = bucket(key);
+		final int deep = bucket;
+		final int always = bucket + ENTRY_LONGS;
+		final long deepData = table[deep + 2];
+		final int index;
+		if(read(always, key) != 0)
+			index = always;
+		else if(deepData == 0
+				|| read(deep, key) != 0
+				|| generation(deepData) != current
+				|| depth >= depth(deepData))
+			index = deep;
+		else
+			index = always;
+		final long old = table[index + 2];
+		if(old != 0 && read(index, key) == 0)
+			overwrites.increment();
+		final long scoreBits = Double.doubleToLongBits(score);
+		table[index] = key ^ scoreBits ^ data;
+		table[index + 1] = scoreBits;
+		table[index + 2] = data;
+	}
+	/**
+	 * Remove every entry, and reset the counters.
+	 *
+	 * <p>
+	 * Must not be called while the table is used by a search.
+	 * </p>
+	 */
+	public void clear()
+	{
+		Arrays.fill(table, 0);
+		resetCounters();
+	}
+	/**
+	 * Reset the counters to <code>0</code>.
+	 */
+	public void resetCounters()
+	{
+		probes.reset();
+		hits.reset();
+		collisions.reset();
+		stores.reset();
+		overwrites.reset();
+	}
+	/**
+	 * Get the number of entries the table can hold.
+	 *
+	 * @return The number of entries.
+	 */
+	public int capacity()
+	{
+		return table.length / ENTRY_LONGS;
+	}
+	/**
+	 * Get the number of times the table was probed.
+	 *
+	 * @return The number of calls to {@link #probe(long, Entry)}.
+	 */
+	public long probes()
+	{
+		return probes.sum();
+	}
+	/**
+	 * Get the number of times a probe found the entry of its key.
+	 *
+	 * @return The number of hits.
+	 */
+	public long hits()
+	{
+		return hits.sum();
+	}
+	/**
+	 * Get the number of times a probe missed its key, while its bucket was
+	 * occupied by other keys.
+	 *
+	 * @return The number of collisions.
+	 */
+	public long collisions()
+	{
+		return collisions.sum();
+	}
+	/**
+	 * Get the number of entries which have been stored.
+	 *
+	 * @return The number of calls to {@link #store(long, double, int, Bound,
+	 * 			int, boolean)}.
+	 */
+	public long stores()
+	{
+		return stores.sum();
+	}
+	/**
+	 * Get the number of times an entry replaced the entry of another key.
+	 *
+	 * @return The number of overwrites.
+	 */
+	public long overwrites()
+	{
+		return overwrites.sum();
+	}
+	//=========================================================================
+	//Overriden methods.
+	/**
+	 * Get the {@link String} representation of the counters of
+	 * <code>this</code> {@code TranspositionTable}.
+	 *
+	 * @return The {@link String} representation.
+	 */
+	@Override
+	public String toString()
+	{
+		return "TranspositionTable[capacity=" + capacity()
+				+ ", probes=" + probes()
+				+ ", hits=" + hits()
+				+ ", collisions=" + collisions()
+				+ ", stores=" + stores()
+				+ ", overwrites=" + overwrites()
+				+ "]";
+	}
+	//=========================================================================
+	//Inner classes.
+	/**
+	 * The {@code Bound} enumeration is the relation between the score of an
+	 * entry and the actual score of the position.
+	 */
+	public enum Bound
+	{
+		/**
+		 * The score is the actual score.
+		 */
+		EXACT,
+		/**
+		 * The actual score is at least the score.
+		 */
+		LOWER,
+		/**
+		 * The actual score is at most the score.
+		 */
+		UPPER
+	}
+	/**
+	 * The {@code Entry} class is a reusable holder of an entry found by
+	 * {@link TranspositionTable#probe(long, Entry)}.
+	 *
+	 * <p>
+	 * Each search thread should have its own {@code Entry}.
+	 * </p>
+	 */
+	public static final class Entry
+	{
+		/**
+		 * The score of the entry.
+		 */
+		private double score;
+		/**
+		 * The packed data of the entry.
+		 */
+		private long data;
+		/**
+		 * Get the score.
+		 *
+		 * @return The score of the position.
+		 */
+		public double score()
+		{
+			return score;
+		}
+		/**
+		 * Get the depth.
+		 *
+		 * @return The depth the position was searched to.
+		 */
+		public int depth()
+		{
+			return TranspositionTable.depth(data);
+		}
+		/**
+		 * Get the {@link Bound}.
+		 *
+		 * @return The {@link Bound} of the {@link #score()}.
+		 */
+		public Bound bound()
+		{
+			return BOUNDS[(int) (data >>> BOUND_SHIFT) & BOUND_MASK];
+		}
+		/**
+		 * Get the best move.
+		 *
+		 * @return The square of the best move, or {@link #NO_MOVE}.
+		 */
+		public int move()
+		{
+			return (int) (data >>> MOVE_SHIFT) & MOVE_MASK;
+		}
+		/**
+		 * Check if every line of the search reached the end of the game.
+		 *
+		 * @return <code>true</code> if a deeper search has the same result,
+		 * 			otherwise, returns <code>false</code>.
+		 */
+		public boolean isSolved()
+		{
+			return (data >>> SOLVED_SHIFT & 1) != 0;
+		}
+	}
+	/**
+	 * The {@code Shared} class holds the {@link TranspositionTable#shared()}
+	 * table, so that it is only created when it is first used.
+	 */
+	private static final class Shared
+	{
+		/**
+		 * The shared {@link TranspositionTable}.
+		 */
+		private static final TranspositionTable TABLE =
+				new TranspositionTable(Math.max(1, Integer.getInteger(
+						SIZE_PROPERTY,
+						DEFAULT_MEGABYTES)));
+	}
+}
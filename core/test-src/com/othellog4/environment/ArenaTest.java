@@ -0,0 +1,167 @@
+package com.othellog4.environment;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.othellog4.game.board.Symmetry;
+import com.othellog4.game.player.ai.EvaluationStrategies;
+import com.othellog4.game.player.ai.LazySmp;
+import com.othellog4.game.player.ai.SearchStrategies;
+import com.othellog4.game.player.ai.Tactic;
+
+/**
+ * The JUnit test suit for the {@link Arena} class.
+ *
+ * @author 	159014260 John Berg
+ * @since	18/10/2026
+ * @version 18/10/2026
+ */
+public class ArenaTest
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The milli-seconds which a game may take.
+	 */
+	private static final long TIMEOUT = 30000;
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Create an {@link Arena.Engine} which moves without searching.
+	 *
+	 * @param search The {@link SearchStrategies} of the engine.
+	 * @return The {@link Arena.Engine}.
+	 */
+	private static Arena.Engine engine(final SearchStrategies search)
+	{
+		return Arena.Engine.of(
+				search.name(),
+				new Tactic(EvaluationStrategies.COUNT, search));
+	}
+	//=========================================================================
+	//Tests.
+	/**
+	 * Test the {@link Arena#openings(int, int, long)} method of the
+	 * {@link Arena} class.
+	 *
+	 * <p>
+	 * This test should only pass if the openings are distinct under the
+	 * symmetry of the board, and are played from the same seed alike.
+	 * </p>
+	 */
+	@Test
+	public final void testOpenings()
+	{
+		final List<Arena.Opening> openings = Arena.openings(10, 6, 42);
+		assertEquals(10, openings.size());
+		final Set<Long> keys = new HashSet<>();
+		for(final Arena.Opening opening : openings)
+			assertTrue(keys.add(Symmetry.canonicalForm(opening.board())
+					.board()
+					.hash(opening.next())));
+		final List<Arena.Opening> again = Arena.openings(10, 6, 42);
+		for(int i = 0; i < openings.size(); ++i)
+			assertEquals(
+					openings.get(i).board().hash(openings.get(i).next()),
+					again.get(i).board().hash(again.get(i).next()));
+	}
+	/**
+	 * Test the {@link Arena#run()} method of the {@link Arena} class.
+	 *
+	 * <p>
+	 * This test should only pass if every pair of engines plays every
+	 * opening with both colours, and every game is recorded for both of
+	 * its engines.
+	 * </p>
+	 */
+	@Test
+	public final void testRun() throws InterruptedException
+	{
+		final Arena.Standings standings = new Arena(
+				Arrays.asList(
+						engine(SearchStrategies.RANDOM_SELECTION),
+						engine(SearchStrategies.BEST_IMMEDIATE),
+						engine(SearchStrategies.MINIMAX)),
+				Arena.openings(2, 4, 7),
+				4,
+				TIMEOUT,
+				null).run();
+		assertEquals(12, standings.games());
+		for(final Arena.Result result : standings.results())
+		{
+			assertEquals(
+					8,
+					result.wins() + result.draws() + result.losses());
+			assertTrue(result.moveMillis() >= 0);
+		}
+		for(final Arena.Pairing pairing : standings.pairings())
+			assertEquals(4, pairing.games());
+		assertNotNull(standings.toString());
+	}
+	/**
+	 * Test the {@link Arena.Sprt} class.
+	 *
+	 * <p>
+	 * This test should only pass if a one sided result accepts the
+	 * alternative hypothesis, an even result accepts the null hypothesis,
+	 * and a short result is undecided.
+	 * </p>
+	 */
+	@Test
+	public final void testSprt()
+	{
+		final Arena.Sprt sprt = new Arena.Sprt(0, 10, 0.05, 0.05);
+		assertEquals(1, sprt.decide(900, 100, 100));
+		assertEquals(-1, sprt.decide(5000, 500, 5000));
+		assertEquals(0, sprt.decide(3, 1, 2));
+	}
+	/**
+	 * Test the {@link Arena#concurrency(List)} method of the {@link Arena}
+	 * class.
+	 *
+	 * <p>
+	 * This test should only pass if the games of single threaded engines
+	 * are played on every processor, and the games of an engine which
+	 * searches with every processor are not played at once.
+	 * </p>
+	 */
+	@Test
+	public final void testConcurrency()
+	{
+		final int processors = Runtime.getRuntime().availableProcessors();
+		final Arena.Engine single = engine(SearchStrategies.RANDOM_SELECTION);
+		final Arena.Engine parallel = Arena.Engine.of(PlayerType.AI_HARD);
+		assertEquals(1, single.threads());
+		assertEquals(LazySmp.defaultThreads(), parallel.threads());
+		assertEquals(
+				processors,
+				Arena.concurrency(Arrays.asList(single, single)));
+		assertEquals(
+				Math.max(1, processors / LazySmp.defaultThreads()),
+				Arena.concurrency(Arrays.asList(single, parallel)));
+	}
+	/**
+	 * Test the constructor of the {@link Arena} class.
+	 *
+	 * <p>
+	 * This test should only pass if an {@link Arena} of a single engine
+	 * cannot be created.
+	 * </p>
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testSingleEngine()
+	{
+		new Arena(
+				Arrays.asList(engine(SearchStrategies.RANDOM_SELECTION)),
+				Arena.openings(1, 4, 7),
+				1,
+				TIMEOUT,
+				null);
+	}
+}
@@ -0,0 +1,110 @@
+package com.othellog4.environment;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * The JUnit test suit for the {@link Elo} class.
+ *
+ * @author 	159014260 John Berg
+ * @since	18/10/2026
+ * @version 18/10/2026
+ */
+public class EloTest
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The number of straight wins or losses which an {@link Arena.Sprt}
+	 * must decide.
+	 */
+	private static final int SWEEP = 20;
+	/**
+	 * The tolerance of the comparison of Elo differences.
+	 */
+	private static final double DELTA = 1e-6;
+	//=========================================================================
+	//Tests.
+	/**
+	 * Test the {@link Elo#score(double)} and {@link Elo#elo(double)} methods
+	 * of the {@link Elo} class.
+	 *
+	 * <p>
+	 * This test should only pass if the methods are the inverse of each
+	 * other, an even score is no difference, and a certain score is
+	 * clamped.
+	 * </p>
+	 */
+	@Test
+	public final void testScore()
+	{
+		assertEquals(0.5, Elo.score(0), DELTA);
+		assertEquals(0, Elo.elo(0.5), DELTA);
+		for(final double elo : new double[]{-400, -35, 10, 200})
+			assertEquals(elo, Elo.elo(Elo.score(elo)), DELTA);
+		assertEquals(Elo.MAX, Elo.elo(1), DELTA);
+		assertEquals(-Elo.MAX, Elo.elo(0), DELTA);
+		assertEquals(0.75, Elo.score(5, 5, 0), DELTA);
+	}
+	/**
+	 * Test the {@link Elo#interval(int, int, int)} method of the
+	 * {@link Elo} class.
+	 *
+	 * <p>
+	 * This test should only pass if the interval contains the estimate, and
+	 * narrows as more games are played.
+	 * </p>
+	 */
+	@Test
+	public final void testInterval()
+	{
+		final double elo = Elo.elo(Elo.score(12, 6, 8));
+		final double[] small = Elo.interval(12, 6, 8);
+		final double[] large = Elo.interval(120, 60, 80);
+		assertTrue(small[0] < elo && elo < small[1]);
+		assertTrue(large[0] < elo && elo < large[1]);
+		assertTrue(large[1] - large[0] < small[1] - small[0]);
+	}
+	/**
+	 * Test the {@link Elo#llr(int, int, int, double, double)} method of the
+	 * {@link Elo} class.
+	 *
+	 * <p>
+	 * This test should only pass if a strong result favours the
+	 * alternative hypothesis, an even result favours the null hypothesis,
+	 * and no games are undecided.
+	 * </p>
+	 */
+	@Test
+	public final void testLlr()
+	{
+		assertTrue(Elo.llr(60, 20, 20, 0, 10) > 0);
+		assertTrue(Elo.llr(40, 20, 40, 0, 10) < 0);
+		assertEquals(0, Elo.llr(0, 0, 0, 0, 10), DELTA);
+	}
+	/**
+	 * Test the {@link Elo#llr(int, int, int, double, double)} method of the
+	 * {@link Elo} class.
+	 *
+	 * <p>
+	 * This test should only pass if a result where every game is the same
+	 * still moves the ratio, further with every game, and a sweep of wins
+	 * is decided by an {@link Arena.Sprt} well before the openings of an
+	 * {@link Arena} run out.
+	 * </p>
+	 */
+	@Test
+	public final void testLlr_Sweep()
+	{
+		assertTrue(Elo.llr(10, 0, 0, 0, 10) > 0);
+		assertTrue(Elo.llr(20, 0, 0, 0, 10) > Elo.llr(10, 0, 0, 0, 10));
+		assertTrue(Elo.llr(0, 0, 10, 0, 10) < 0);
+		assertTrue(Elo.llr(0, 10, 0, 0, 10) < 0);
+		assertTrue(Elo.llr(0, 20, 0, 0, 10) < Elo.llr(0, 10, 0, 0, 10));
+		final Arena.Sprt sprt = new Arena.Sprt(0, 10, 0.05, 0.05);
+		assertEquals(0, sprt.decide(1, 0, 0));
+		assertEquals(1, sprt.decide(SWEEP, 0, 0));
+		assertEquals(-1, sprt.decide(0, 0, SWEEP));
+	}
+}
@@ -0,0 +1,139 @@
+package com.othellog4.environment;
+
+import static org.junit.Assert.*;
+
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import com.othellog4.game.player.Participant;
+import com.othellog4.game.player.Player;
+import com.othellog4.game.player.ai.EvaluationStrategies;
+import com.othellog4.game.player.ai.SearchStrategies;
+
+/**
+ * The JUnit test suit for the {@link HeadlessRunner} class.
+ *
+ * @author 	159014260 John Berg
+ * @since	18/10/2026
+ * @version 18/10/2026
+ */
+public class HeadlessRunnerTest
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The number of games of each batch.
+	 */
+	private static final int GAMES = 20;
+	/**
+	 * The number of games which are played at once.
+	 */
+	private static final int CONCURRENCY = 4;
+	/**
+	 * The milli-seconds which a game may take.
+	 */
+	private static final long TIMEOUT = 30000;
+	//=========================================================================
+	//Tests.
+	/**
+	 * Test the {@link HeadlessRunner#run(java.util.function.Supplier,
+	 * java.util.function.Supplier, int)} method of the
+	 * {@link HeadlessRunner} class.
+	 *
+	 * <p>
+	 * This test should only pass if every game of the batch is played to the
+	 * end, and recorded once.
+	 * </p>
+	 */
+	@Test
+	public final void testRun() throws InterruptedException
+	{
+		final Participant player1 = HeadlessRunner.engine(
+				EvaluationStrategies.COUNT,
+				SearchStrategies.RANDOM_SELECTION);
+		final Participant player2 = HeadlessRunner.engine(
+				EvaluationStrategies.COUNT,
+				SearchStrategies.BEST_IMMEDIATE);
+		final HeadlessRunner.Report report =
+				new HeadlessRunner(CONCURRENCY, TIMEOUT)
+						.run(() -> player1, () -> player2, GAMES);
+		assertEquals(GAMES, report.games());
+		assertEquals(0, report.unfinished());
+		assertEquals(
+				GAMES,
+				report.wins() + report.losses() + report.draws());
+		assertTrue(report.score() >= 0 && report.score() <= 1);
+		assertTrue(report.gamesPerSecond() > 0);
+	}
+	/**
+	 * Test the {@link HeadlessRunner#run(java.util.function.Supplier,
+	 * java.util.function.Supplier, int)} method of the
+	 * {@link HeadlessRunner} class.
+	 *
+	 * <p>
+	 * This test should only pass if the players alternate colours, so two
+	 * games between the same deterministic players are the same game from
+	 * each side.
+	 * </p>
+	 */
+	@Test
+	public final void testRunAlternates() throws InterruptedException
+	{
+		final Supplier<Participant> player = () -> HeadlessRunner.engine(
+				EvaluationStrategies.COUNT,
+				SearchStrategies.BEST_IMMEDIATE);
+		final HeadlessRunner.Report report =
+				new HeadlessRunner(1, TIMEOUT).run(player, player, 2);
+		assertEquals(0, report.unfinished());
+		assertEquals(report.wins(), report.losses());
+		assertEquals(0, report.discDifference(), 0);
+		assertEquals(0.5, report.score(), 0);
+	}
+	/**
+	 * Test the time limit of the {@link HeadlessRunner} class.
+	 *
+	 * <p>
+	 * This test should only pass if the games of players who never move are
+	 * abandoned once they run out of time.
+	 * </p>
+	 */
+	@Test
+	public final void testTimeout() throws InterruptedException
+	{
+		final HeadlessRunner.Report report = new HeadlessRunner(2, 50)
+				.run(Player::new, Player::new, 3);
+		assertEquals(3, report.games());
+		assertEquals(3, report.unfinished());
+		assertEquals(0.5, report.score(), 0);
+	}
+	/**
+	 * Test the {@link HeadlessRunner#run(java.util.function.Supplier,
+	 * java.util.function.Supplier, int)} method of the
+	 * {@link HeadlessRunner} class.
+	 *
+	 * <p>
+	 * This test should only pass if an empty batch is reported at once.
+	 * </p>
+	 */
+	@Test
+	public final void testNoGames() throws InterruptedException
+	{
+		assertEquals(0, new HeadlessRunner(1, 0)
+				.run(Player::new, Player::new, 0)
+				.games());
+	}
+	/**
+	 * Test the constructor of the {@link HeadlessRunner} class.
+	 *
+	 * <p>
+	 * This test should only pass if a {@link HeadlessRunner} which plays no
+	 * games at once cannot be created.
+	 * </p>
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testNoConcurrency()
+	{
+		new HeadlessRunner(0, 0);
+	}
+}
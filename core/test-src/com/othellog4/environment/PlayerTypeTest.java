@@ -0,0 +1,55 @@
+package com.othellog4.environment;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.othellog4.game.player.AutomaticPlayer;
+
+/**
+ * The JUnit test suit for the {@link PlayerType} enumeration.
+ *
+ * @author 	159014260 John Berg
+ * @since	18/10/2026
+ * @version 18/10/2026
+ */
+public class PlayerTypeTest
+{
+	//=========================================================================
+	//Tests.
+	/**
+	 * Test the {@link PlayerType#get()} method of the {@link PlayerType}
+	 * enumeration.
+	 *
+	 * <p>
+	 * This test should only pass if no shared AI ponders.
+	 * </p>
+	 */
+	@Test
+	public final void testGet_NoPondering()
+	{
+		for(final PlayerType type : PlayerType.values())
+			if(type.get() instanceof AutomaticPlayer)
+				assertFalse(((AutomaticPlayer) type.get()).ponders());
+	}
+	/**
+	 * Test the {@link PlayerType#get(boolean)} method of the
+	 * {@link PlayerType} enumeration.
+	 *
+	 * <p>
+	 * This test should only pass if an AI which ponders is a new instance
+	 * for each game, and the shared AI is returned otherwise.
+	 * </p>
+	 */
+	@Test
+	public final void testGet_Pondering()
+	{
+		final AutomaticPlayer ai =
+				(AutomaticPlayer) PlayerType.AI_HARD.get(true);
+		assertTrue(ai.ponders());
+		assertNotSame(ai, PlayerType.AI_HARD.get(true));
+		assertNotSame(ai, PlayerType.AI_HARD.get());
+		assertSame(PlayerType.AI_HARD.get(), PlayerType.AI_HARD.get(false));
+		assertSame(PlayerType.AI_EASY.get(), PlayerType.AI_EASY.get(true));
+	}
+}
@@ -0,0 +1,228 @@
+package com.othellog4.environment;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * The JUnit test suit for the {@link Scheduler} class.
+ *
+ * @author 	159014260 John Berg
+ * @since	18/10/2026
+ * @version 18/10/2026
+ */
+public class SchedulerTest
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The milli-seconds which a test waits for a task at most.
+	 */
+	private static final long TIMEOUT = 5000;
+	/**
+	 * The milli-seconds of the delay of a delayed task.
+	 */
+	private static final long DELAY = 200;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The {@link Scheduler} which is tested, which is not the shared one.
+	 */
+	private Scheduler scheduler;
+	//=========================================================================
+	//Before and after.
+	/**
+	 * After each test, shut down the {@link Scheduler} which was tested.
+	 */
+	@After
+	public final void tearDown()
+	{
+		if(scheduler != null)
+			scheduler.shutdown();
+	}
+	//=========================================================================
+	//Tests.
+	/**
+	 * Test the {@link Scheduler#run(Runnable)} method of the
+	 * {@link Scheduler} class.
+	 *
+	 * <p>
+	 * This test should only pass if the task is run by a named daemon thread
+	 * of the pool.
+	 * </p>
+	 */
+	@Test
+	public final void testRun() throws Exception
+	{
+		scheduler = new Scheduler(2, false);
+		final AtomicReference<Thread> thread = new AtomicReference<>();
+		scheduler.run(() -> thread.set(Thread.currentThread()))
+				.get(TIMEOUT, TimeUnit.MILLISECONDS);
+		assertTrue(thread.get().isDaemon());
+		assertTrue(thread.get().getName().startsWith("othello-scheduler-"));
+		assertNotSame(Thread.currentThread(), thread.get());
+	}
+	/**
+	 * Test the {@link Scheduler#delay(Runnable, long)} method of the
+	 * {@link Scheduler} class.
+	 *
+	 * <p>
+	 * This test should only pass if the task is not run before its delay
+	 * has elapsed, and is run after.
+	 * </p>
+	 */
+	@Test
+	public final void testDelay() throws Exception
+	{
+		scheduler = new Scheduler(1, false);
+		final long start = System.nanoTime();
+		final CountDownLatch ran = new CountDownLatch(1);
+		scheduler.delay(ran::countDown, DELAY);
+		assertTrue(ran.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+				>= DELAY - 1);
+	}
+	/**
+	 * Test the {@link Scheduler#delay(Runnable, long)} method of the
+	 * {@link Scheduler} class.
+	 *
+	 * <p>
+	 * This test should only pass if a delayed task does not hold a worker
+	 * while it waits, so a single worker still runs other tasks.
+	 * </p>
+	 */
+	@Test
+	public final void testDelayHoldsNoWorker() throws Exception
+	{
+		scheduler = new Scheduler(1, false);
+		final CountDownLatch delayed = new CountDownLatch(1);
+		for(int i = 0; i < 100; ++i)
+			scheduler.delay(delayed::countDown, TIMEOUT * 10);
+		final CountDownLatch ran = new CountDownLatch(1);
+		scheduler.run(ran::countDown);
+		assertTrue(ran.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(1, delayed.getCount());
+	}
+	/**
+	 * Test the {@link Future} of the
+	 * {@link Scheduler#delay(Runnable, long)} method of the
+	 * {@link Scheduler} class.
+	 *
+	 * <p>
+	 * This test should only pass if a task which is cancelled before its
+	 * delay has elapsed is never run.
+	 * </p>
+	 */
+	@Test
+	public final void testCancel() throws Exception
+	{
+		scheduler = new Scheduler(1, false);
+		final AtomicBoolean ran = new AtomicBoolean();
+		final Future<?> future = scheduler.delay(() -> ran.set(true), DELAY);
+		assertTrue(future.cancel(false));
+		Thread.sleep(DELAY * 2);
+		assertFalse(ran.get());
+	}
+	/**
+	 * Test the {@link Scheduler#run(Runnable, java.util.function.Consumer)}
+	 * method of the {@link Scheduler} class.
+	 *
+	 * <p>
+	 * This test should only pass if a {@link Throwable} thrown by the task
+	 * is passed to the handler, and the worker survives it.
+	 * </p>
+	 */
+	@Test
+	public final void testOnThrow() throws Exception
+	{
+		scheduler = new Scheduler(1, false);
+		final AtomicReference<Throwable> thrown = new AtomicReference<>();
+		final RuntimeException error = new RuntimeException();
+		scheduler.run(() -> { throw error; }, thrown::set)
+				.get(TIMEOUT, TimeUnit.MILLISECONDS);
+		assertSame(error, thrown.get());
+		scheduler.run(() -> {}).get(TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+	/**
+	 * Test the {@link Scheduler#shutdown()} method of the {@link Scheduler}
+	 * class.
+	 *
+	 * <p>
+	 * This test should only pass if the delayed tasks are discarded, and new
+	 * tasks are rejected.
+	 * </p>
+	 */
+	@Test
+	public final void testShutdown() throws Exception
+	{
+		scheduler = new Scheduler(1, false);
+		final AtomicBoolean ran = new AtomicBoolean();
+		scheduler.delay(() -> ran.set(true), DELAY);
+		scheduler.shutdown();
+		assertTrue(scheduler.isShutdown());
+		assertTrue(scheduler.awaitTermination(TIMEOUT));
+		final AtomicReference<Throwable> thrown = new AtomicReference<>();
+		assertTrue(scheduler.run(() -> ran.set(true), thrown::set)
+				.isCancelled());
+		assertTrue(thrown.get() instanceof RejectedExecutionException);
+		Thread.sleep(DELAY * 2);
+		assertFalse(ran.get());
+	}
+	/**
+	 * Test the virtual threads of the {@link Scheduler} class.
+	 *
+	 * <p>
+	 * This test should only pass if the tasks are run whether or not the JVM
+	 * supports virtual threads.
+	 * </p>
+	 */
+	@Test
+	public final void testVirtual() throws Exception
+	{
+		scheduler = new Scheduler(1, true);
+		final AtomicReference<Thread> thread = new AtomicReference<>();
+		final CountDownLatch ran = new CountDownLatch(1);
+		scheduler.delay(() ->
+		{
+			thread.set(Thread.currentThread());
+			ran.countDown();
+		}, 1);
+		assertTrue(ran.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertTrue(thread.get().getName().startsWith("othello-scheduler-"));
+	}
+	/**
+	 * Test the {@link Scheduler#get()} method of the {@link Scheduler}
+	 * class.
+	 *
+	 * <p>
+	 * This test should only pass if the same {@link Scheduler} is shared.
+	 * </p>
+	 */
+	@Test
+	public final void testGet()
+	{
+		assertSame(Scheduler.get(), Scheduler.get());
+		assertFalse(Scheduler.get().isShutdown());
+	}
+	/**
+	 * Test the constructor of the {@link Scheduler} class.
+	 *
+	 * <p>
+	 * This test should only pass if a {@link Scheduler} without workers
+	 * cannot be created.
+	 * </p>
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testNoWorkers()
+	{
+		new Scheduler(0, false);
+	}
+}
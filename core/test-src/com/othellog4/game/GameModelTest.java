@@ -5,9 +5,13 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import com.othellog4.game.board.BoardView;
 import com.othellog4.game.board.GameBoard;
 import com.othellog4.game.board.Piece;
 import com.othellog4.game.board.Position;
@@ -15,7 +19,10 @@ import com.othellog4.game.player.AutomaticPlayer;
 import com.othellog4.game.player.Player;
 import com.othellog4.game.player.ai.DelayStrategies;
 import com.othellog4.game.player.ai.EvaluationStrategies;
+import com.othellog4.game.player.ai.EvaluationStrategy;
+import com.othellog4.game.player.ai.SearchContext;
 import com.othellog4.game.player.ai.SearchStrategies;
+import com.othellog4.game.player.ai.SearchStrategy;
 
 
 public class GameModelTest
@@ -153,6 +160,56 @@ public class GameModelTest
 		assertNotEquals(previousTurn, model.turn());
 	}
 	@Test
+	public final void testDiscard_StopsAIPlayer()
+	{
+		//The delayed move is held, so it is only made once the game is gone.
+		final List<Runnable> delayed = new ArrayList<>();
+		final List<SearchContext> searches = new ArrayList<>();
+		final GameModel model = new GameModel(new Game(
+				new GameBoard(8)),
+				new AutomaticPlayer(
+						EvaluationStrategies.COUNT,
+						new SearchStrategy()
+						{
+							@Override
+							public Position search(
+									final BoardView board,
+									final Piece piece,
+									final EvaluationStrategy eval)
+							{
+								return search(
+										board,
+										piece,
+										eval,
+										SearchContext.unlimited());
+							}
+							@Override
+							public Position search(
+									final BoardView board,
+									final Piece piece,
+									final EvaluationStrategy eval,
+									final SearchContext context)
+							{
+								searches.add(context);
+								return board.legalMoves(piece)
+										.iterator()
+										.next();
+							}
+						},
+						delayed::add),
+				new Player());
+		model.start();
+		assertEquals(1, delayed.size());
+		assertTrue(searches.isEmpty());
+		model.discard();
+		delayed.get(0).run();
+		//The search is told to stop at once, and its move is not made.
+		assertEquals(1, searches.size());
+		assertTrue(searches.get(0).isCancelled());
+		assertEquals(1, model.turn());
+		assertEquals(2, model.getBoard().count(Piece.PIECE_A));
+	}
+	@Test
 	public final void testGetPlayer1Piece()
 	{
 		assertEquals(Piece.PIECE_A, model.getPlayer1Piece());
@@ -2,6 +2,8 @@ package com.othellog4.game;
 
 import static org.junit.Assert.*;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -18,7 +20,7 @@ import com.othellog4.game.player.Player;
  * 
  * @author 	159014260 John Berg
  * @since 	16/02/2018
- * @version 18/03/2018
+ * @version 18/10/2026
  */
 public class GameSessionTest
 {
@@ -238,4 +240,93 @@ public class GameSessionTest
 					.next()));
 		assertSame(manager.player2(), manager.playerOf(session.current()));
 	}
+	/**
+	 * Test the {@link GameSession#addInterrupt(Runnable)} method of the
+	 * {@link GameSession} class.
+	 * 
+	 * <p>
+	 * This test should only pass if an interrupt is run once when the game is
+	 * paused, and not again when the game is paused a second time.
+	 * </p>
+	 */
+	@Test
+	public final void testAddInterrupt_Paused()
+	{
+		final AtomicInteger runs = new AtomicInteger();
+		session.addInterrupt(runs::incrementAndGet);
+		assertEquals(0, runs.get());
+		manager.game().pause();
+		assertEquals(1, runs.get());
+		manager.game().start();
+		manager.game().pause();
+		assertEquals(1, runs.get());
+	}
+	/**
+	 * Test the {@link GameSession#addInterrupt(Runnable)} method of the
+	 * {@link GameSession} class.
+	 * 
+	 * <p>
+	 * This test should only pass if an interrupt is run when the game ends.
+	 * </p>
+	 */
+	@Test
+	public final void testAddInterrupt_End()
+	{
+		final AtomicInteger runs = new AtomicInteger();
+		session.addInterrupt(runs::incrementAndGet);
+		manager.game().surrender(session.current());
+		assertEquals(1, runs.get());
+	}
+	/**
+	 * Test the {@link GameSession#addInterrupt(Runnable)} method of the
+	 * {@link GameSession} class.
+	 * 
+	 * <p>
+	 * This test should only pass if a <code>null</code> interrupt causes a
+	 * {@link NullPointerException} to be thrown.
+	 * </p>
+	 */
+	@Test(expected = NullPointerException.class)
+	public final void testAddInterrupt_NullArg()
+	{
+		session.addInterrupt(null);
+	}
+	/**
+	 * Test the {@link GameSession#removeInterrupt(Runnable)} method of the
+	 * {@link GameSession} class.
+	 * 
+	 * <p>
+	 * This test should only pass if a removed interrupt is not run when the
+	 * game is paused.
+	 * </p>
+	 */
+	@Test
+	public final void testRemoveInterrupt()
+	{
+		final Runnable task = () -> fail();
+		session.addInterrupt(task);
+		session.removeInterrupt(task);
+		manager.game().pause();
+	}
+	/**
+	 * Test the {@link GameSession#discard()} method of the
+	 * {@link GameSession} class.
+	 * 
+	 * <p>
+	 * This test should only pass if discarding runs the interrupts, and an
+	 * interrupt which is added afterwards is run immediately.
+	 * </p>
+	 */
+	@Test
+	public final void testDiscard()
+	{
+		final AtomicInteger runs = new AtomicInteger();
+		assertFalse(session.isDiscarded());
+		session.addInterrupt(runs::incrementAndGet);
+		session.discard();
+		assertTrue(session.isDiscarded());
+		assertEquals(1, runs.get());
+		session.addInterrupt(runs::incrementAndGet);
+		assertEquals(2, runs.get());
+	}
 }
@@ -0,0 +1,119 @@
+package com.othellog4.game.board;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * The {@code FeaturesTest} class is a JUnit test suit for the
+ * {@link Features} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class FeaturesTest {
+
+	private static final Piece p1 = Piece.PIECE_A;
+	private static final Piece p2 = Piece.PIECE_B;
+	private static final long SEED = 20180318L;
+	private static final int GAMES = 50;
+	private static final long TOP_EDGE = 0xFFL;
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.BoardView#mask(
+	 * com.othellog4.game.board.Piece)}.
+	 */
+	@Test
+	public void testMask() {
+		final GameBoard gameBoard = new GameBoard(SearchBoard.SIZE);
+		final BitBoard bitBoard = new BitBoard();
+		assertEquals(bitBoard.mask(p1), gameBoard.mask(p1));
+		assertEquals(bitBoard.mask(p2), gameBoard.mask(p2));
+		assertEquals(bitBoard.mask(p1), bitBoard.getView().mask(p1));
+	}
+
+	/**
+	 * Test method for the features of the start of a game.
+	 */
+	@Test
+	public void testStart() {
+		final BitBoard board = new BitBoard();
+		final long a = board.mask(p1);
+		final long b = board.mask(p2);
+		assertEquals(4, Features.mobility(a, b));
+		assertEquals(10, Features.potentialMobility(a, b));
+		assertEquals(2, Features.frontier(a, b));
+		assertEquals(0, Features.stable(a, b));
+		assertEquals(0, Features.corners(a));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Features#stable(long,
+	 * long)}.
+	 */
+	@Test
+	public void testStable() {
+		assertEquals(64, Features.stable(-1L, 0));
+		//A run along the edge from a corner is stable.
+		assertEquals(3, Features.stable(0x7L, 0x8L));
+		//The same run without the corner is not.
+		assertEquals(0, Features.stable(0x6L, 0x8L));
+		//A full edge is stable, whatever the side of each disc.
+		assertEquals(4, Features.stable(0x0FL, 0xF0L));
+		assertEquals(4, Features.stable(0xF0L, 0x0FL));
+		assertEquals(8, Long.bitCount(Features.stableMask(TOP_EDGE, 0)));
+	}
+
+	/**
+	 * Test method for the features of random games against the features
+	 * counted square by square.
+	 */
+	@Test
+	public void testRandomGames() {
+		final Random rng = new Random(SEED);
+		for(int game = 0; game < GAMES; ++game) {
+			final SearchBoard board = new SearchBoard(new BitBoard());
+			Piece current = p1;
+			while(!board.isEnd()) {
+				final long own = board.mask(current);
+				final long opp = board.mask(current.flip());
+				assertEquals(
+						board.legalMoves(current).size(),
+						Features.mobility(own, opp));
+				int potential = 0;
+				int frontier = 0;
+				for(int square = 0; square < 64; ++square) {
+					final long bit = 1L << square;
+					final boolean nextToEmpty =
+							(Features.neighbours(bit) & ~(own | opp)) != 0;
+					final boolean nextToOpp =
+							(Features.neighbours(bit) & opp) != 0;
+					if((bit & (own | opp)) == 0 && nextToOpp)
+						++potential;
+					if((bit & own) != 0 && nextToEmpty)
+						++frontier;
+				}
+				assertEquals(potential, Features.potentialMobility(own, opp));
+				assertEquals(frontier, Features.frontier(own, opp));
+				final long stable = Features.stableMask(opp, own);
+				assertEquals(0, stable & ~opp);
+				final long moves = board.legalMoveMask(current);
+				if(moves == 0) {
+					current = current.flip();
+					continue;
+				}
+				final int[] squares = new int[Long.bitCount(moves)];
+				int i = 0;
+				for(long m = moves; m != 0; m &= m - 1)
+					squares[i++] = Long.numberOfTrailingZeros(m);
+				board.makeMove(squares[rng.nextInt(i)], current);
+				//A stable disc is never flipped.
+				assertEquals(stable, board.mask(current.flip()) & stable);
+				current = current.flip();
+			}
+		}
+	}
+}
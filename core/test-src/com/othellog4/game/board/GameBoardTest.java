@@ -188,6 +188,67 @@ public class GameBoardTest {
 		assertEquals(5, p2WinningBoard.count(p2));
 	}
 
+	/**
+	 * Test method for {@link com.othellog4.game.board.GameBoard#count(
+	 * com.othellog4.game.board.Piece)} after placing pieces.
+	 */
+	@Test
+	public void testCountAfterPut() throws InvalidMoveException {
+		board.put(Position.at(3, 5), p1);
+		assertEquals(4, board.count(p1));
+		assertEquals(1, board.count(p2));
+		assertEquals(boardSize * boardSize - 5, board.count(null));
+		assertEquals(p1, board.winning());
+
+		final GameBoard clone = board.clone();
+		clone.put(Position.at(2, 5), p2);
+		assertEquals(3, clone.count(p1));
+		assertEquals(3, clone.count(p2));
+		assertTrue(clone.isDraw());
+		//The original is unaffected by the clone.
+		assertEquals(4, board.count(p1));
+		assertEquals(1, board.count(p2));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.GameBoard#hash()}.
+	 */
+	@Test
+	public void testHash() throws InvalidMoveException {
+		assertEquals(Zobrist.hash(board), board.hash());
+		assertEquals(new BitBoard().hash(), board.hash());
+
+		final GameBoard clone = board.clone();
+		assertEquals(board.hash(), clone.hash());
+		clone.put(Position.at(3, 5), p1);
+		assertNotEquals(board.hash(), clone.hash());
+		assertEquals(Zobrist.hash(clone), clone.hash());
+
+		assertNotEquals(board.hash(p1), board.hash(p2));
+		assertEquals(board.hash() ^ Zobrist.side(p2), board.hash(p2));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.GameBoard#equals(
+	 * java.lang.Object)} and
+	 * {@link com.othellog4.game.board.GameBoard#hashCode()}.
+	 */
+	@Test
+	public void testEquals() throws InvalidMoveException {
+		final GameBoard clone = board.clone();
+		assertEquals(board, clone);
+		assertEquals(board.hashCode(), clone.hashCode());
+		assertEquals(board, new BitBoard());
+		assertEquals(board, board.getView());
+		assertEquals(board.getView(), board);
+		assertNotEquals(board, new GameBoard(6));
+
+		clone.put(Position.at(3, 5), p1);
+		assertNotEquals(board, clone);
+		assertNotEquals(board, p1WinningBoard);
+		assertNotEquals(board, null);
+	}
+
 	/**
 	 * Test method for {@link com.othellog4.game.board.GameBoard#countFlips(
 	 * int, int, com.othellog4.game.board.Piece)}.
@@ -252,6 +313,38 @@ public class GameBoardTest {
 		assertEquals(5, p2WinningBoard.legalMoves(p2).size());
 	}
 
+	/**
+	 * Test method for {@link com.othellog4.game.board.GameBoard#legalMoveMask(
+	 * com.othellog4.game.board.Piece)}.
+	 */
+	@Test
+	public void testLegalMoveMask() {
+		for(final Piece piece: Piece.values()) {
+			long mask = 0;
+			for(final Position pos: board.legalMoves(piece))
+				mask |= 1L << (pos.row * boardSize + pos.col);
+			assertEquals(mask, board.legalMoveMask(piece));
+		}
+		assertEquals(1L << (5 * boardSize + 2),
+				p2WinningBoard.legalMoveMask(p1) & (1L << (5 * boardSize + 2)));
+		assertEquals(0, new GameBoard(new Piece[][]{
+				{ p1, p1 },
+				{ p1, p2 }
+		}).legalMoveMask(p2));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.GameBoard#mobility(
+	 * com.othellog4.game.board.Piece)}.
+	 */
+	@Test
+	public void testMobility() {
+		assertEquals(4, board.mobility(p1));
+		assertEquals(4, board.mobility(p2));
+		assertEquals(3, p1WinningBoard.mobility(p1));
+		assertEquals(5, p2WinningBoard.mobility(p2));
+	}
+
 	/**
 	 * Test method for {@link com.othellog4.game.board.GameBoard#view(
 	 * com.othellog4.game.board.Position)}.
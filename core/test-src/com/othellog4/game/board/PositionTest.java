@@ -1,6 +1,102 @@
 package com.othellog4.game.board;
 
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * The {@code PositionTest} class is a JUnit test suit for the
+ * {@link Position} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
 public class PositionTest
 {
+	private static final int boardSize = 8;
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Position#at(int, int)}.
+	 */
+	@Test
+	public void testAt()
+	{
+		final Position pos = Position.at(2, 5);
+		assertEquals(2, pos.col);
+		assertEquals(5, pos.row);
+		assertSame(pos, Position.at(2, 5));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Position#at(int, int)}
+	 * outside of the cached range.
+	 */
+	@Test
+	public void testAtUncached()
+	{
+		final Position pos = Position.at(-1, -1);
+		assertEquals(-1, pos.col);
+		assertEquals(-1, pos.row);
+		assertEquals(pos, Position.at(-1, -1));
+		assertEquals(
+				Position.at(Position.CACHE_SIZE, 0),
+				Position.at(Position.CACHE_SIZE, 0));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Position#index(int)}
+	 * and {@link com.othellog4.game.board.Position#fromIndex(int, int)}.
+	 */
+	@Test
+	public void testIndex()
+	{
+		assertEquals(0, Position.at(0, 0).index(boardSize));
+		assertEquals(13, Position.at(5, 1).index(boardSize));
+		for(int i = 0; i < boardSize * boardSize; ++i)
+			assertEquals(i, Position.fromIndex(i, boardSize).index(boardSize));
+		assertSame(Position.at(5, 1), Position.fromIndex(13, boardSize));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Position#equals(
+	 * java.lang.Object)}.
+	 */
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testEquals()
+	{
+		assertEquals(Position.at(3, 4), new Position(4, 3));
+		assertNotEquals(Position.at(3, 4), Position.at(4, 3));
+		assertNotEquals(Position.at(3, 4), null);
+		assertNotEquals(Position.at(3, 4), "(3, 4)");
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Position#hashCode()}.
+	 */
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testHashCode()
+	{
+		final Set<Integer> hashes = new HashSet<>();
+		for(int x = 0; x < Position.CACHE_SIZE; ++x)
+			for(int y = 0; y < Position.CACHE_SIZE; ++y)
+				assertTrue(hashes.add(Position.at(x, y).hashCode()));
+		assertEquals(
+				Position.at(6, 2).hashCode(),
+				new Position(2, 6).hashCode());
+	}
 
+	/**
+	 * Test method for {@link com.othellog4.game.board.Position#toString()}.
+	 */
+	@Test
+	public void testToString()
+	{
+		assertEquals("(3, 4)", Position.at(3, 4).toString());
+	}
 }
@@ -0,0 +1,238 @@
+package com.othellog4.game.board;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The {@code SearchBoardTest} class is a JUnit test suit for the
+ * {@link SearchBoard} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class SearchBoardTest {
+
+	private static final Piece p1 = Piece.PIECE_A;
+	private static final Piece p2 = Piece.PIECE_B;
+	private static final long SEED = 20180318L;
+	private static final int GAMES = 200;
+
+	private SearchBoard board;
+
+	/**
+	 *
+	 */
+	@Before
+	public void setUp(){
+		board = new SearchBoard(new BitBoard());
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.SearchBoard#SearchBoard(
+	 * com.othellog4.game.board.BoardView)}.
+	 */
+	@Test
+	public void testCopy() {
+		final GameBoard gameBoard = new GameBoard(SearchBoard.SIZE);
+		final SearchBoard copy = new SearchBoard(gameBoard);
+		for(int x = 0; x < SearchBoard.SIZE; ++x)
+			for(int y = 0; y < SearchBoard.SIZE; ++y)
+				assertEquals(
+						gameBoard.view(Position.at(x, y)),
+						copy.view(Position.at(x, y)));
+		assertEquals(0, copy.ply());
+		assertEquals(60, copy.empties());
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.SearchBoard#SearchBoard(
+	 * com.othellog4.game.board.BoardView)}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testCopyInvalidSize() {
+		new SearchBoard(new GameBoard(6));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.SearchBoard#makeMove(
+	 * int, com.othellog4.game.board.Piece)}.
+	 */
+	@Test
+	public void testMakeMove() {
+		final long flips = board.makeMove(
+				SearchBoard.square(Position.at(4, 2)),
+				p1);
+		assertEquals(1L << SearchBoard.square(Position.at(4, 3)), flips);
+		assertEquals(1, board.ply());
+		assertEquals(4, board.count(p1));
+		assertEquals(1, board.count(p2));
+		assertEquals(p1, board.view(Position.at(4, 2)).get());
+		assertEquals(p1, board.view(Position.at(4, 3)).get());
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.SearchBoard#makeMove(
+	 * int, com.othellog4.game.board.Piece)}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testMakeMoveInvalid() {
+		board.makeMove(SearchBoard.square(Position.at(0, 0)), p1);
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.SearchBoard#unmakeMove()}.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testUnmakeMoveEmpty() {
+		board.unmakeMove();
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.SearchBoard#makeMove(
+	 * int, com.othellog4.game.board.Piece)} and
+	 * {@link com.othellog4.game.board.SearchBoard#unmakeMove()}.
+	 *
+	 * <p>
+	 * Plays random games on both a {@link SearchBoard} and a
+	 * {@link BitBoard}, and then takes back every move of the
+	 * {@link SearchBoard}, checking each state on the way back.
+	 * </p>
+	 */
+	@Test
+	public void testMakeUnmakeRoundTrip() {
+		final Random rng = new Random(SEED);
+		for(int game = 0; game < GAMES; ++game) {
+			final BitBoard bitBoard = new BitBoard();
+			final long[] historyA = new long[64];
+			final long[] historyB = new long[64];
+			final long[] historyHash = new long[64];
+			Piece current = p1;
+			while(!bitBoard.isEnd()) {
+				final long moves = bitBoard.legalMoveMask(current);
+				assertEquals(moves, board.legalMoveMask(current));
+				if(moves == 0) {
+					current = current.flip();
+					continue;
+				}
+				historyA[board.ply()] = board.mask(p1);
+				historyB[board.ply()] = board.mask(p2);
+				historyHash[board.ply()] = board.hash();
+				int square = Long.numberOfTrailingZeros(moves);
+				for(int skip = rng.nextInt(Long.bitCount(moves));
+						skip > 0;
+						--skip)
+					square = Long.numberOfTrailingZeros(
+							moves & (-1L << (square + 1)));
+				final Position move = SearchBoard.position(square);
+				assertEquals(
+						bitBoard.countFlips(move.col, move.row, current),
+						Long.bitCount(board.makeMove(square, current)));
+				try {
+					bitBoard.put(move, current);
+				}
+				catch(final InvalidMoveException e) {
+					fail(e.getMessage());
+				}
+				for(int x = 0; x < SearchBoard.SIZE; ++x)
+					for(int y = 0; y < SearchBoard.SIZE; ++y)
+						assertEquals(
+								bitBoard.view(Position.at(x, y)),
+								board.view(Position.at(x, y)));
+				assertEquals(bitBoard.hash(), board.hash());
+				current = current.flip();
+			}
+			assertTrue(board.isEnd());
+			assertEquals(bitBoard.winning(), board.winning());
+			while(board.ply() > 0) {
+				board.unmakeMove();
+				assertEquals(historyA[board.ply()], board.mask(p1));
+				assertEquals(historyB[board.ply()], board.mask(p2));
+				assertEquals(historyHash[board.ply()], board.hash());
+			}
+			assertEquals(60, board.empties());
+		}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.SearchBoard#flips()}.
+	 */
+	@Test
+	public void testFlips() throws InvalidMoveException {
+		assertTrue(board.flips().isEmpty());
+		final BitBoard bitBoard = new BitBoard();
+		board.put(Position.at(4, 2), p1);
+		bitBoard.put(Position.at(4, 2), p1);
+		int events = 0;
+		for(final FlipEvent[] sequence : board.flips())
+			events += sequence.length;
+		int expected = 0;
+		for(final FlipEvent[] sequence : bitBoard.flips())
+			expected += sequence.length;
+		assertEquals(expected, events);
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.SearchBoard#patterns()}.
+	 *
+	 * <p>
+	 * Plays random games where the pattern indices are updated by each move,
+	 * and checks them against indices computed from every square, on the
+	 * way forward and on the way back.
+	 * </p>
+	 */
+	@Test
+	public void testPatternsIncremental() {
+		final Random rng = new Random(SEED);
+		assertEquals(Patterns.instances(), board.patterns().length);
+		for(int game = 0; game < GAMES; ++game) {
+			Piece current = p1;
+			while(!board.isEnd()) {
+				final long moves = board.legalMoveMask(current);
+				if(moves != 0) {
+					final int[] squares = new int[Long.bitCount(moves)];
+					int i = 0;
+					for(long m = moves; m != 0; m &= m - 1)
+						squares[i++] = Long.numberOfTrailingZeros(m);
+					board.makeMove(squares[rng.nextInt(i)], current);
+					assertArrayEquals(
+							Patterns.indices(board.mask(p1), board.mask(p2)),
+							board.patterns());
+				}
+				current = current.flip();
+			}
+			while(board.ply() > 0) {
+				board.unmakeMove();
+				assertArrayEquals(
+						Patterns.indices(board.mask(p1), board.mask(p2)),
+						board.patterns());
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Patterns#indices(long,
+	 * long)}.
+	 */
+	@Test
+	public void testPatternInstances() {
+		final int[] expected = {4, 4, 8, 2, 4, 4, 4, 4};
+		final int[] found = new int[Patterns.TYPES];
+		for(int instance = 0; instance < Patterns.instances(); ++instance) {
+			++found[Patterns.type(instance)];
+			assertEquals(
+					Patterns.length(Patterns.type(instance)),
+					Patterns.squares(instance).length);
+		}
+		assertArrayEquals(expected, found);
+		final int[] full = Patterns.indices(-1L, 0);
+		for(int instance = 0; instance < full.length; ++instance)
+			assertEquals(
+					(Patterns.size(Patterns.type(instance)) - 1) / 2,
+					full[instance]);
+	}
+}
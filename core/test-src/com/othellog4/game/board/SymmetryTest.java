@@ -0,0 +1,189 @@
+package com.othellog4.game.board;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * The {@code SymmetryTest} class is a JUnit test suit for the
+ * {@link Symmetry} enumeration.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class SymmetryTest {
+
+	private static final long SEED = 20180318L;
+	private static final int MASKS = 1000;
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Symmetry#apply(long)}
+	 * maps each square the same as
+	 * {@link com.othellog4.game.board.Symmetry#apply(int)}.
+	 */
+	@Test
+	public void testApplyMask() {
+		final Random rng = new Random(SEED);
+		for(final Symmetry symmetry : Symmetry.values())
+			for(int i = 0; i < MASKS; ++i) {
+				final long mask = rng.nextLong();
+				long expected = 0;
+				for(long m = mask; m != 0; m &= m - 1)
+					expected |= 1L << symmetry.apply(
+							Long.numberOfTrailingZeros(m));
+				assertEquals(symmetry.toString(),
+						expected,
+						symmetry.apply(mask));
+			}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Symmetry#inverse()}.
+	 */
+	@Test
+	public void testInverse() {
+		for(final Symmetry symmetry : Symmetry.values())
+			for(int square = 0; square < 64; ++square)
+				assertEquals(
+						square,
+						symmetry.inverse().apply(symmetry.apply(square)));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Symmetry#canonical(
+	 * long, long)} is the same for every orientation of a position.
+	 */
+	@Test
+	public void testCanonical() {
+		final Random rng = new Random(SEED);
+		for(int i = 0; i < MASKS; ++i) {
+			final long a = rng.nextLong();
+			final long b = rng.nextLong() & ~a;
+			final Symmetry s = Symmetry.canonical(a, b);
+			for(final Symmetry symmetry : Symmetry.values()) {
+				final long ta = symmetry.apply(a);
+				final long tb = symmetry.apply(b);
+				final Symmetry t = Symmetry.canonical(ta, tb);
+				assertEquals(s.apply(a), t.apply(ta));
+				assertEquals(s.apply(b), t.apply(tb));
+			}
+		}
+	}
+
+	private static Piece[][] grid(final long a, final long b, final int size) {
+		final Piece[][] grid = new Piece[size][size];
+		for(int col = 0; col < size; ++col)
+			for(int row = 0; row < size; ++row) {
+				final long bit = 1L << (row * size + col);
+				if((a & bit) != 0)
+					grid[col][row] = Piece.PIECE_A;
+				else if((b & bit) != 0)
+					grid[col][row] = Piece.PIECE_B;
+			}
+		return grid;
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Symmetry#apply(
+	 * com.othellog4.game.board.Piece[][])} maps each square the same as
+	 * {@link com.othellog4.game.board.Symmetry#apply(long)}.
+	 */
+	@Test
+	public void testApplyGrid() {
+		final Random rng = new Random(SEED);
+		for(final Symmetry symmetry : Symmetry.values())
+			for(int i = 0; i < MASKS; ++i) {
+				final long a = rng.nextLong();
+				final long b = rng.nextLong() & ~a;
+				final Piece[][] expected = grid(
+						symmetry.apply(a),
+						symmetry.apply(b),
+						8);
+				final Piece[][] mapped = symmetry.apply(grid(a, b, 8));
+				for(int col = 0; col < 8; ++col)
+					assertArrayEquals(expected[col], mapped[col]);
+			}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Symmetry#apply(
+	 * com.othellog4.game.board.Position, int)}.
+	 */
+	@Test
+	public void testApplyPosition() {
+		for(final Symmetry symmetry : Symmetry.values())
+			for(int square = 0; square < 64; ++square)
+				assertEquals(
+						Position.fromIndex(symmetry.apply(square), 8),
+						symmetry.apply(Position.fromIndex(square, 8), 8));
+		assertEquals(
+				Position.at(5, 0),
+				Symmetry.ROTATE_90.apply(Position.at(0, 0), 6));
+		assertEquals(
+				Position.at(0, 5),
+				Symmetry.ROTATE_270.apply(Position.at(0, 0), 6));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Symmetry#apply(
+	 * com.othellog4.game.board.BoardView)} maps the legal moves of a board.
+	 */
+	@Test
+	public void testApplyBoard() {
+		for(final int size : new int[]{6, 8, 10})
+			for(final BoardView board : new BoardView[]{
+					new GameBoard(size),
+					new GameBoard(size, 1)})
+				for(final Symmetry symmetry : Symmetry.values()) {
+					final BoardView mapped = symmetry.apply(board);
+					assertTrue(mapped instanceof GameBoard);
+					assertEquals(board.size(), mapped.size());
+					for(final Position p : board.legalMoves(Piece.PIECE_A))
+						assertTrue(mapped.legalMoves(Piece.PIECE_A)
+								.contains(symmetry.apply(p, size)));
+					for(int col = 0; col < size; ++col)
+						for(int row = 0; row < size; ++row)
+							assertEquals(
+									board.view(Position.at(col, row)),
+									mapped.view(symmetry.apply(
+											Position.at(col, row),
+											size)));
+				}
+		final BitBoard bitBoard = new BitBoard();
+		assertEquals(
+				new BitBoard(
+						Symmetry.ROTATE_90.apply(bitBoard.mask(Piece.PIECE_A)),
+						Symmetry.ROTATE_90.apply(bitBoard.mask(Piece.PIECE_B))),
+				Symmetry.ROTATE_90.apply(bitBoard));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Symmetry#canonicalForm(
+	 * com.othellog4.game.board.BoardView)} is the same for every orientation
+	 * of a board of any size.
+	 */
+	@Test
+	public void testCanonicalForm() throws InvalidMoveException {
+		for(final int size : new int[]{6, 8}) {
+			final GameBoard board = new GameBoard(size);
+			board.put(
+					board.legalMoves(Piece.PIECE_A).iterator().next(),
+					Piece.PIECE_A);
+			board.put(
+					board.legalMoves(Piece.PIECE_B).iterator().next(),
+					Piece.PIECE_B);
+			final Symmetry.Canonical canonical = Symmetry.canonicalForm(board);
+			assertEquals(
+					canonical.board().hash(),
+					canonical.symmetry().apply(board).hash());
+			for(final Symmetry symmetry : Symmetry.values())
+				assertEquals(
+						canonical.board().hash(),
+						Symmetry.canonicalForm(symmetry.apply(board))
+								.board().hash());
+		}
+	}
+}
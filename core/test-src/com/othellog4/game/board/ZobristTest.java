@@ -0,0 +1,57 @@
+package com.othellog4.game.board;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * The {@code ZobristTest} class is a JUnit test suit for the
+ * {@link Zobrist} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class ZobristTest {
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.Zobrist
+	 * #side(com.othellog4.game.board.Piece)} is not the key of any
+	 * {@link Piece} at any square.
+	 */
+	@Test
+	public void testSideDistinct() {
+		final long side = Zobrist.side(Piece.PIECE_B);
+		assertNotEquals(0, side);
+		assertEquals(0, Zobrist.side(Piece.PIECE_A));
+		for(final Piece piece : Piece.values()) {
+			for(int square = 0; square < BoardMasks.SQUARES; ++square)
+				assertNotEquals(side, Zobrist.key(piece, square));
+			for(int col = 0; col < Position.CACHE_SIZE; ++col)
+				for(int row = 0; row < Position.CACHE_SIZE; ++row)
+					assertNotEquals(side, Zobrist.key(piece, col, row));
+		}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.board.BitBoard
+	 * #hash(com.othellog4.game.board.Piece)} of a position with
+	 * {@link Piece#PIECE_B} to move is not the hash of the position with one
+	 * more disc of {@link Piece#PIECE_A} and {@link Piece#PIECE_A} to move.
+	 */
+	@Test
+	public void testSideNoCollision() {
+		final BitBoard board = new BitBoard();
+		final long maskA = board.mask(Piece.PIECE_A);
+		final long maskB = board.mask(Piece.PIECE_B);
+		final Set<Long> hashes = new HashSet<>();
+		hashes.add(board.hash(Piece.PIECE_B));
+		for(int square = 0; square < BoardMasks.SQUARES; ++square)
+			if(((maskA | maskB) & 1L << square) == 0)
+				assertTrue(hashes.add(new BitBoard(maskA | 1L << square, maskB)
+						.hash(Piece.PIECE_A)));
+	}
+}
@@ -0,0 +1,304 @@
+package com.othellog4.game.extension;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.othellog4.game.Game;
+import com.othellog4.game.GameException;
+import com.othellog4.game.GameManager;
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.GameBoard;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.SearchBoard;
+import com.othellog4.game.command.Pause;
+import com.othellog4.game.command.Put;
+import com.othellog4.game.command.Surrender;
+import com.othellog4.game.player.Player;
+
+/**
+ * The JUnit test suit for the {@link Journal} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version	18/10/2026
+ */
+public class JournalTest
+{
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Create a {@link GameManager} of a game which is journalled.
+	 *
+	 * @param out The {@link ByteArrayOutputStream} of the journal.
+	 * @return The {@link GameManager}, whose game has started.
+	 */
+	private static GameManager journalled(final ByteArrayOutputStream out)
+	{
+		final GameManager manager = new GameManager(
+				new Game(new BitBoard()),
+				new Player(),
+				new Player(),
+				new Journal(out));
+		manager.game().start();
+		return manager;
+	}
+	/**
+	 * Play random moves until a game ends or a number of moves are played.
+	 *
+	 * @param manager The {@link GameManager} of the game.
+	 * @param random The {@link Random} which picks the moves.
+	 * @param moves The most moves to play.
+	 * @throws GameException If a move is not accepted.
+	 */
+	private static void play(
+			final GameManager manager,
+			final Random random,
+			final int moves)
+			throws
+			GameException
+	{
+		final Game game = manager.game();
+		for(int i = 0; i < moves && !game.isGameOver(); ++i)
+		{
+			long legal = game.getBoard().legalMoveMask(game.getCurrent());
+			for(int skip = random.nextInt(Long.bitCount(legal));
+					skip > 0;
+					--skip)
+				legal &= legal - 1;
+			manager.execute(new Put(
+					manager.current(),
+					SearchBoard.position(Long.numberOfTrailingZeros(legal))));
+		}
+	}
+	/**
+	 * Open a journal for reading.
+	 *
+	 * @param out The {@link ByteArrayOutputStream} of the journal.
+	 * @return The {@link DataInputStream} of the journal.
+	 */
+	private static DataInputStream in(final ByteArrayOutputStream out)
+	{
+		return new DataInputStream(
+				new ByteArrayInputStream(out.toByteArray()));
+	}
+	//=========================================================================
+	//Tests.
+	/**
+	 * Test the {@link Journal.Record#replay()} method of the
+	 * {@link Journal.Record} class.
+	 *
+	 * <p>
+	 * This test should only pass if a game which is played to the end is
+	 * recorded with one byte per move, and is replayed to the same
+	 * position and conclusion.
+	 * </p>
+	 */
+	@Test
+	public final void testReplay() throws GameException, IOException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final GameManager manager = journalled(out);
+		play(manager, new Random(1), Integer.MAX_VALUE);
+		final Journal.Record record = Journal.Record.read(in(out));
+		final Game replay = record.replay();
+		assertTrue(replay.isGameOver());
+		assertEquals(
+				manager.game().getBoard().hash(),
+				replay.getBoard().hash());
+		assertEquals(
+				manager.game().getConclusion().getWinner(),
+				replay.getConclusion().getWinner());
+		assertTrue(record.moves().length <= 60);
+		assertTrue(record.length() >= record.moves().length);
+		assertTrue(record.start() <= System.currentTimeMillis());
+	}
+	/**
+	 * Test the {@link Journal.Record#replay(int)} method of the
+	 * {@link Journal.Record} class.
+	 *
+	 * <p>
+	 * This test should only pass if a game is replayed to the position of
+	 * each of its moves, without being over.
+	 * </p>
+	 */
+	@Test
+	public final void testReplayPartial() throws GameException, IOException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final GameManager manager = journalled(out);
+		final Random random = new Random(2);
+		play(manager, random, 10);
+		final long hash = manager.game().getBoard().hash();
+		final Piece current = manager.game().getCurrent();
+		play(manager, random, Integer.MAX_VALUE);
+		final Journal.Record record = Journal.Record.read(in(out));
+		final Game replay = record.replay(10);
+		assertFalse(replay.isGameOver());
+		assertEquals(hash, replay.getBoard().hash());
+		assertEquals(current, replay.getCurrent());
+		assertEquals(
+				new BitBoard().hash(),
+				record.replay(0).getBoard().hash());
+	}
+	/**
+	 * Test the recording of pauses and surrenders of the {@link Journal}
+	 * class.
+	 *
+	 * <p>
+	 * This test should only pass if a pause and resume are recorded, and a
+	 * game which is surrendered is replayed to the same conclusion.
+	 * </p>
+	 */
+	@Test
+	public final void testSurrender() throws GameException, IOException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final GameManager manager = journalled(out);
+		play(manager, new Random(3), 4);
+		manager.execute(new Pause(manager.current()));
+		manager.game().start();
+		manager.execute(new Surrender(manager.player2(), Piece.player2()));
+		final Journal.Record record = Journal.Record.read(in(out));
+		assertEquals(4 + 3, record.length());
+		final Game replay = record.replay();
+		assertTrue(replay.isGameOver());
+		assertEquals(Piece.player1(), replay.getConclusion().getWinner());
+	}
+	/**
+	 * Test the recording of surrenders of the {@link Journal} class.
+	 *
+	 * <p>
+	 * This test should only pass if a surrender which did not end the game
+	 * is forgotten once the turn is passed on, so the game is replayed to
+	 * the end it really had.
+	 * </p>
+	 */
+	@Test
+	public final void testSurrenderNotAccepted()
+			throws GameException, IOException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final Journal journal = new Journal(out);
+		final GameManager manager = new GameManager(
+				new Game(new BitBoard()),
+				new Player(),
+				new Player(),
+				journal);
+		manager.game().start();
+		journal.onCommand(
+				new Surrender(manager.player1(), Piece.player1()),
+				manager);
+		play(manager, new Random(4), Integer.MAX_VALUE);
+		final Journal.Record record = Journal.Record.read(in(out));
+		final Game replay = record.replay();
+		assertEquals(
+				manager.game().getConclusion().getWinner(),
+				replay.getConclusion().getWinner());
+		assertFalse(journal.failure().isPresent());
+	}
+	/**
+	 * Test the {@link Journal#failure()} method of the {@link Journal}
+	 * class.
+	 *
+	 * <p>
+	 * This test should only pass if a {@link Journal.Record} which cannot
+	 * be written is reported by the {@link Journal}, without disturbing the
+	 * game.
+	 * </p>
+	 */
+	@Test
+	public final void testFailure() throws GameException
+	{
+		final IOException full = new IOException("Disk full");
+		final Journal journal = new Journal(new OutputStream()
+		{
+			@Override
+			public void write(final int b) throws IOException
+			{
+				throw full;
+			}
+		});
+		final GameManager manager = new GameManager(
+				new Game(new BitBoard()),
+				new Player(),
+				new Player(),
+				journal);
+		manager.game().start();
+		assertFalse(journal.failure().isPresent());
+		manager.execute(new Surrender(manager.player1(), Piece.player1()));
+		assertTrue(manager.game().isGameOver());
+		assertSame(full, journal.failure().get());
+	}
+	/**
+	 * Test the {@link Journal.Record#read(java.io.DataInput)} method of the
+	 * {@link Journal.Record} class.
+	 *
+	 * <p>
+	 * This test should only pass if the records of several games which
+	 * share a stream are read back in order, and the end of the stream is
+	 * reached cleanly.
+	 * </p>
+	 */
+	@Test
+	public final void testAppend() throws GameException, IOException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final long[] hashes = new long[3];
+		for(int i = 0; i < hashes.length; ++i)
+		{
+			final GameManager manager = journalled(out);
+			play(manager, new Random(10 + i), Integer.MAX_VALUE);
+			hashes[i] = manager.game().getBoard().hash();
+		}
+		final DataInputStream in = in(out);
+		for(final long hash : hashes)
+			assertEquals(
+					hash,
+					Journal.Record.read(in).replay().getBoard().hash());
+		assertNull(Journal.Record.read(in));
+	}
+	/**
+	 * Test the {@link Journal} class with a board which is not of the
+	 * size of a {@link BitBoard}.
+	 *
+	 * <p>
+	 * This test should only pass if nothing is recorded.
+	 * </p>
+	 */
+	@Test
+	public final void testOtherSize() throws GameException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final GameManager manager = new GameManager(
+				new Game(new GameBoard(6)),
+				new Player(),
+				new Player(),
+				new Journal(out));
+		manager.game().start();
+		manager.execute(new Surrender(manager.player1(), Piece.player1()));
+		assertEquals(0, out.size());
+	}
+	/**
+	 * Test the {@link Journal.Record#read(java.io.DataInput)} method of the
+	 * {@link Journal.Record} class.
+	 *
+	 * <p>
+	 * This test should only pass if a stream which is not a journal is
+	 * rejected.
+	 * </p>
+	 */
+	@Test(expected = IOException.class)
+	public final void testNotJournal() throws IOException
+	{
+		Journal.Record.read(new DataInputStream(
+				new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})));
+	}
+}
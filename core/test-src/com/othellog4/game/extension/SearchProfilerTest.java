@@ -0,0 +1,151 @@
+package com.othellog4.game.extension;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.othellog4.game.Game;
+import com.othellog4.game.GameException;
+import com.othellog4.game.GameManager;
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.command.Surrender;
+import com.othellog4.game.player.Player;
+import com.othellog4.game.player.ai.SearchStatistics;
+
+/**
+ * The JUnit test suit for the {@link SearchProfiler} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version	18/10/2026
+ */
+public class SearchProfilerTest
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The number of nano-seconds in a second.
+	 */
+	private static final long SECOND = 1000000000L;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The lines which the {@link #profiler} has logged.
+	 */
+	private List<String> lines;
+	/**
+	 * The {@link SearchProfiler} which is tested.
+	 */
+	private SearchProfiler profiler;
+	//=========================================================================
+	//Before and after.
+	/**
+	 * Setup the {@link #profiler} with a log of its {@link #lines}.
+	 */
+	@Before
+	public final void setup()
+	{
+		lines = new ArrayList<>();
+		profiler = new SearchProfiler(lines::add);
+	}
+	//=========================================================================
+	//Static methods.
+	/**
+	 * Create the {@link SearchStatistics} of a search.
+	 *
+	 * @param nodes The number of nodes visited.
+	 * @param depth The depth of the search.
+	 * @param elapsed The nano-seconds which the search took.
+	 * @return The {@link SearchStatistics}.
+	 */
+	private static SearchStatistics search(
+			final long nodes,
+			final int depth,
+			final long elapsed)
+	{
+		return new SearchStatistics(nodes, nodes, depth, 0, 0, 0, 0, elapsed);
+	}
+	//=========================================================================
+	//Tests.
+	/**
+	 * Test the {@link SearchProfiler#record(Piece, SearchStatistics)}
+	 * method of the {@link SearchProfiler} class.
+	 *
+	 * <p>
+	 * This test should only pass if the searches of each {@link Piece} are
+	 * combined separately, and each search is logged.
+	 * </p>
+	 */
+	@Test
+	public final void testRecord()
+	{
+		assertSame(
+				SearchStatistics.NONE,
+				profiler.statistics(Piece.player1()));
+		profiler.record(Piece.player1(), search(100, 2, SECOND));
+		profiler.record(Piece.player1(), search(300, 4, SECOND));
+		profiler.record(Piece.player2(), search(50, 3, SECOND));
+		final SearchStatistics player1 = profiler.statistics(Piece.player1());
+		assertEquals(2, player1.searches());
+		assertEquals(400, player1.nodes());
+		assertEquals(3, player1.depth(), 0);
+		final SearchStatistics player2 = profiler.statistics(Piece.player2());
+		assertEquals(1, player2.searches());
+		assertEquals(50, player2.nodes());
+		assertEquals(3, lines.size());
+		assertTrue(lines.get(2).startsWith("Search: " + Piece.player2()));
+	}
+	/**
+	 * Test the {@link SearchProfiler#result(Piece)} method of the
+	 * {@link SearchProfiler} class.
+	 *
+	 * <p>
+	 * This test should only pass if the result is the nodes per second of
+	 * every search of a {@link Piece}, is <code>0</code> before it has
+	 * searched, and is clamped to the largest <code>int</code>.
+	 * </p>
+	 */
+	@Test
+	public final void testResult()
+	{
+		assertTrue(profiler.hasResult());
+		assertEquals(0, profiler.result(Piece.player1()));
+		profiler.record(Piece.player1(), search(1000, 1, SECOND));
+		profiler.record(Piece.player1(), search(3000, 1, SECOND));
+		assertEquals(2000, profiler.result(Piece.player1()));
+		profiler.record(Piece.player2(), search(Long.MAX_VALUE / 2, 1, 1));
+		assertEquals(Integer.MAX_VALUE, profiler.result(Piece.player2()));
+	}
+	/**
+	 * Test the logging of the totals of the {@link SearchProfiler} class at
+	 * the end of a game.
+	 *
+	 * <p>
+	 * This test should only pass if the totals are logged once the game
+	 * ends, only for the players which have searched.
+	 * </p>
+	 */
+	@Test
+	public final void testEndLog() throws GameException
+	{
+		final GameManager manager = new GameManager(
+				new Game(new BitBoard()),
+				new Player(),
+				new Player(),
+				profiler);
+		manager.game().start();
+		profiler.record(Piece.player1(), search(100, 2, SECOND));
+		assertEquals(1, lines.size());
+		manager.execute(new Surrender(manager.player1(), Piece.player1()));
+		assertEquals(2, lines.size());
+		assertEquals(
+				"Total: " + Piece.player1() + " "
+						+ profiler.statistics(Piece.player1()),
+				lines.get(1));
+	}
+}
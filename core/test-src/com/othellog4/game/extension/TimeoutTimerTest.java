@@ -0,0 +1,143 @@
+package com.othellog4.game.extension;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.othellog4.game.Game;
+import com.othellog4.game.GameConclusion;
+import com.othellog4.game.GameManager;
+import com.othellog4.game.board.GameBoard;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+import com.othellog4.game.player.Player;
+
+/**
+ * The JUnit test suit for the {@link TimeoutTimer} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version	18/10/2026
+ */
+public class TimeoutTimerTest
+{
+	//=========================================================================
+	//Static fields.
+	/**
+	 * The time limit of each player in seconds.
+	 */
+	private static final int LIMIT = 1;
+	/**
+	 * The milli-seconds which a test waits for a clock to run out.
+	 */
+	private static final long WAIT = LIMIT * 1000L + 500;
+	//=========================================================================
+	//Fields.
+	/**
+	 * The {@link GameManager} of the game which is timed.
+	 */
+	private GameManager manager;
+	/**
+	 * The {@link TimeoutTimer} which is tested.
+	 */
+	private TimeoutTimer timer;
+	//=========================================================================
+	//Before and after.
+	/**
+	 * Setup the {@link #manager} of a game with a {@link TimeoutTimer} which
+	 * has an increment.
+	 */
+	@Before
+	public final void setup()
+	{
+		timer = new TimeoutTimer(LIMIT, LIMIT);
+		manager = new GameManager(
+				new Game(new GameBoard(8)),
+				new Player(),
+				new Player(),
+				timer);
+	}
+	//=========================================================================
+	//Tests.
+	/**
+	 * Test the deadline of the {@link TimeoutTimer} class.
+	 *
+	 * <p>
+	 * This test should only pass if the current player surrenders when they
+	 * run out of time.
+	 * </p>
+	 */
+	@Test
+	public final void testTimeout() throws InterruptedException
+	{
+		manager.game().start();
+		assertTrue(timer.remaining(Piece.PIECE_A) > 0);
+		Thread.sleep(WAIT);
+		assertTrue(manager.game().isGameOver());
+		assertEquals(
+				GameConclusion.loser(Piece.PIECE_A),
+				manager.game().getConclusion());
+		assertEquals(0, timer.remaining(Piece.PIECE_A));
+	}
+	/**
+	 * Test the increment of the {@link TimeoutTimer} class.
+	 *
+	 * <p>
+	 * This test should only pass if a player who completes a turn gains the
+	 * increment, so their clock does not run out.
+	 * </p>
+	 */
+	@Test
+	public final void testIncrement() throws Exception
+	{
+		manager.game().start();
+		final Position move = manager.game().getBoard()
+				.legalMoves(Piece.PIECE_A)
+				.iterator()
+				.next();
+		manager.game().put(move);
+		assertTrue(timer.remaining(Piece.PIECE_A) > LIMIT * 1000L);
+		assertEquals(LIMIT, timer.increment());
+		Thread.sleep(WAIT);
+		assertEquals(
+				GameConclusion.loser(Piece.PIECE_B),
+				manager.game().getConclusion());
+		assertTrue(timer.remaining(Piece.PIECE_A) > 0);
+	}
+	/**
+	 * Test the pausing of the {@link TimeoutTimer} class.
+	 *
+	 * <p>
+	 * This test should only pass if no clock runs while the game is paused,
+	 * and the deadline is re-armed when the game is resumed.
+	 * </p>
+	 */
+	@Test
+	public final void testPause() throws InterruptedException
+	{
+		manager.game().start();
+		manager.game().pause();
+		final long remaining = timer.remaining(Piece.PIECE_A);
+		Thread.sleep(WAIT);
+		assertFalse(manager.game().isGameOver());
+		assertEquals(remaining, timer.remaining(Piece.PIECE_A));
+		manager.game().start();
+		Thread.sleep(WAIT);
+		assertEquals(
+				GameConclusion.loser(Piece.PIECE_A),
+				manager.game().getConclusion());
+	}
+	/**
+	 * Test the constructor of the {@link TimeoutTimer} class.
+	 *
+	 * <p>
+	 * This test should only pass if a negative increment is rejected.
+	 * </p>
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testNegativeIncrement()
+	{
+		new TimeoutTimer(LIMIT, -1);
+	}
+}
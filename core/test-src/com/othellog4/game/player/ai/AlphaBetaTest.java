@@ -0,0 +1,243 @@
+package com.othellog4.game.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+
+/**
+ * The {@code AlphaBetaTest} class is a JUnit test suit for the
+ * {@link AlphaBeta} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class AlphaBetaTest {
+
+	private static final long SEED = 20180318L;
+	private static final int POSITIONS = 40;
+	private static final int DEPTH = 4;
+	private static final int STRATEGY_POSITIONS = 10;
+	/**
+	 * The depth of {@link SearchStrategies#ALPHA_BETA}.
+	 */
+	private static final int STRATEGY_DEPTH = 8;
+
+	/**
+	 * Plain minimax, without pruning, scored for <code>max</code>.
+	 */
+	private static double minimax(
+			final BoardView board,
+			final Piece piece,
+			final Piece max,
+			final EvaluationStrategy eval,
+			final int depth) throws InvalidMoveException {
+		if(depth == 0 || board.isEnd())
+			return eval.evaluate(board, max);
+		if(board.mobility(piece) == 0)
+			return minimax(board, piece.flip(), max, eval, depth - 1);
+		double best = piece == max
+				? Double.NEGATIVE_INFINITY
+				: Double.POSITIVE_INFINITY;
+		for(final Position move : board.legalMoves(piece)) {
+			final double score = minimax(
+					board.tryPut(move, piece),
+					piece.flip(),
+					max,
+					eval,
+					depth - 1);
+			best = piece == max
+					? Math.max(best, score)
+					: Math.min(best, score);
+		}
+		return best;
+	}
+
+	/**
+	 * The set of the best moves found by plain minimax.
+	 */
+	private static Set<Position> bestMoves(
+			final BoardView board,
+			final Piece piece,
+			final EvaluationStrategy eval,
+			final int depth) throws InvalidMoveException {
+		final Set<Position> best = new HashSet<>();
+		double bestScore = Double.NEGATIVE_INFINITY;
+		for(final Position move : board.legalMoves(piece)) {
+			final double score = minimax(
+					board.tryPut(move, piece),
+					piece.flip(),
+					piece,
+					eval,
+					depth - 1);
+			if(score > bestScore) {
+				bestScore = score;
+				best.clear();
+			}
+			if(score == bestScore)
+				best.add(move);
+		}
+		return best;
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.AlphaBeta#best(
+	 * int)} finds the same moves as minimax.
+	 */
+	@Test
+	public void testSameAsMinimax() throws InvalidMoveException {
+		sameAsMinimax(false);
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.AlphaBeta#best(
+	 * int)} finds the same moves as minimax when it uses a
+	 * {@link TranspositionTable}, which is shared by every
+	 * {@link EvaluationStrategy}, and is searched twice.
+	 */
+	@Test
+	public void testSameAsMinimaxWithTable() throws InvalidMoveException {
+		sameAsMinimax(true);
+	}
+
+	/**
+	 * A board and the piece which is next to move.
+	 */
+	private static final class Game {
+		private final BitBoard board;
+		private final Piece piece;
+
+		private Game(final BitBoard board, final Piece piece) {
+			this.board = board;
+			this.piece = piece;
+		}
+	}
+
+	/**
+	 * Play a number of random moves from the start of the game.
+	 *
+	 * @return The position, or <code>null</code> if the piece to move has no
+	 * 			legal move.
+	 */
+	private static Game randomPosition(final Random rng, final int moves)
+			throws InvalidMoveException {
+		BitBoard board = new BitBoard();
+		Piece piece = Piece.PIECE_A;
+		for(int left = moves; left > 0 && !board.isEnd();) {
+			if(board.mobility(piece) != 0) {
+				final Position[] legal = board.legalMoves(piece)
+						.toArray(new Position[0]);
+				board = board.tryPut(legal[rng.nextInt(legal.length)], piece);
+				--left;
+			}
+			piece = piece.flip();
+		}
+		if(board.mobility(piece) == 0)
+			return null;
+		return new Game(board, piece);
+	}
+
+	private static void sameAsMinimax(final boolean withTable)
+			throws InvalidMoveException {
+		final Random rng = new Random(SEED);
+		for(int i = 0; i < POSITIONS; ++i) {
+			//Play a random number of random moves.
+			final Game position = randomPosition(rng, rng.nextInt(50));
+			if(position == null)
+				continue;
+			final BitBoard board = position.board;
+			final Piece piece = position.piece;
+			final TranspositionTable table = withTable
+					? new TranspositionTable(1)
+					: null;
+			for(int repeat = withTable? 2: 1; repeat > 0; --repeat)
+				for(final EvaluationStrategy eval
+						: EvaluationStrategies.values())
+					assertEquals(
+							bestMoves(board, piece, eval, DEPTH),
+							new HashSet<>(new AlphaBeta(
+									board,
+									piece,
+									eval,
+									table).best(DEPTH)));
+			if(withTable)
+				assertTrue(table.hits() > 0);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.SearchStrategies
+	 * #ALPHA_BETA} selects one of the moves of a search to its depth, even
+	 * when the {@link TranspositionTable#shared()} table holds deeper
+	 * results of the same positions.
+	 */
+	@Test
+	public void testStrategySameAsFixedDepth() throws InvalidMoveException {
+		final Random rng = new Random(SEED);
+		final EvaluationStrategy eval = EvaluationStrategies.COUNT;
+		for(int i = 0; i < STRATEGY_POSITIONS; ++i) {
+			final Game position = randomPosition(rng, 40 + rng.nextInt(10));
+			if(position == null)
+				continue;
+			final BitBoard board = position.board;
+			final Piece piece = position.piece;
+			final TranspositionTable shared = TranspositionTable.shared();
+			shared.newSearch();
+			new AlphaBeta(board, piece, eval, shared)
+					.best(STRATEGY_DEPTH + 2);
+			final Set<Position> expected = new HashSet<>(
+					new AlphaBeta(board, piece, eval, null)
+							.best(STRATEGY_DEPTH));
+			for(int repeat = 0; repeat < 4; ++repeat)
+				assertTrue(expected.contains(SearchStrategies.ALPHA_BETA
+						.search(board, piece, eval)));
+		}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.AlphaBeta#best(
+	 * int)} when there are no legal moves.
+	 */
+	@Test
+	public void testNoMoves() {
+		final BitBoard board = new BitBoard(0xFFL, 0);
+		assertTrue(new AlphaBeta(
+				board,
+				Piece.PIECE_A,
+				EvaluationStrategies.COUNT).best(DEPTH).isEmpty());
+	}
+
+	/**
+	 * Test method for {@link SearchStrategies#ALPHA_BETA} which is searched
+	 * with a {@link SearchContext} that has been cancelled.
+	 *
+	 * <p>
+	 * The search should stop after the first depth, and still select a
+	 * legal move.
+	 * </p>
+	 */
+	@Test
+	public void testCancelledSearch() {
+		final BitBoard board = new BitBoard();
+		final SearchContext context = SearchContext.unlimited().cancellable();
+		context.cancel();
+		final SearchStatistics[] reported = new SearchStatistics[1];
+		final Position move = SearchStrategies.ALPHA_BETA.search(
+				board,
+				Piece.PIECE_A,
+				EvaluationStrategies.COUNT,
+				context.observed(statistics -> reported[0] = statistics));
+		assertTrue(board.legalMoves(Piece.PIECE_A).contains(move));
+		assertEquals(1, reported[0].depth(), 0);
+	}
+}
@@ -0,0 +1,99 @@
+package com.othellog4.game.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+
+/**
+ * The {@code CachedEvaluationTest} class is a JUnit test suit for the
+ * {@link CachedEvaluation} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class CachedEvaluationTest {
+
+	private static final double DELTA = 1e-9;
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.CachedEvaluation
+	 * #evaluate(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece)} only evaluates a repeated position
+	 * once.
+	 */
+	@Test
+	public void testEvaluateCached() throws InvalidMoveException {
+		final AtomicInteger calls = new AtomicInteger();
+		final CachedEvaluation cache = new CachedEvaluation(
+				(board, piece) -> {
+					calls.incrementAndGet();
+					return EvaluationStrategies.COUNT.evaluate(board, piece);
+				},
+				1024);
+		final BoardView board = new BitBoard().tryPut(
+				Position.at(4, 2),
+				Piece.PIECE_A);
+		final double a = cache.evaluate(board, Piece.PIECE_A);
+		assertEquals(a, cache.evaluate(board, Piece.PIECE_A), DELTA);
+		assertEquals(
+				a,
+				cache.evaluate(new BitBoard().tryPut(
+						Position.at(4, 2),
+						Piece.PIECE_A), Piece.PIECE_A),
+				DELTA);
+		assertEquals(1, calls.get());
+		assertEquals(-a, cache.evaluate(board, Piece.PIECE_B), DELTA);
+		assertEquals(2, calls.get());
+		assertEquals(4, cache.probes());
+		assertEquals(2, cache.hits());
+		assertEquals(0.5, cache.hitRate(), DELTA);
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.CachedEvaluation
+	 * #clear()}.
+	 */
+	@Test
+	public void testClear() {
+		final AtomicInteger calls = new AtomicInteger();
+		final CachedEvaluation cache = new CachedEvaluation(
+				(board, piece) -> calls.incrementAndGet(),
+				16);
+		final BoardView board = new BitBoard();
+		cache.evaluate(board, Piece.PIECE_A);
+		cache.clear();
+		assertEquals(0, cache.probes());
+		cache.evaluate(board, Piece.PIECE_A);
+		assertEquals(2, calls.get());
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.CachedEvaluation
+	 * #CachedEvaluation(EvaluationStrategy, int)}.
+	 */
+	@Test
+	public void testCapacity() {
+		assertEquals(
+				64,
+				new CachedEvaluation(EvaluationStrategies.COUNT, 100)
+						.capacity());
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.CachedEvaluation
+	 * #CachedEvaluation(EvaluationStrategy, int)}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCapacity() {
+		new CachedEvaluation(EvaluationStrategies.COUNT, 0);
+	}
+}
@@ -0,0 +1,188 @@
+package com.othellog4.game.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+
+/**
+ * The {@code EndgameTest} class is a JUnit test suit for the
+ * {@link Endgame} and {@link EndgameSolver} classes.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class EndgameTest {
+
+	private static final long SEED = 20180318L;
+	private static final int POSITIONS = 60;
+	private static final int EMPTIES = 9;
+
+	/**
+	 * A {@link SearchStrategy} which is used as the fallback, and records
+	 * that it was used.
+	 */
+	private static final class Fallback implements SearchStrategy {
+		private boolean used;
+
+		@Override
+		public Position search(
+				final BoardView board,
+				final Piece piece,
+				final EvaluationStrategy eval) {
+			used = true;
+			return SearchStrategies.RANDOM_SELECTION.search(
+					board,
+					piece,
+					eval);
+		}
+	}
+
+	/**
+	 * Play random moves until there are a number of empty squares.
+	 */
+	private static BitBoard randomBoard(final Random rng, final int empties)
+			throws InvalidMoveException {
+		BitBoard board = new BitBoard();
+		Piece piece = Piece.PIECE_A;
+		while(empty(board) > empties && !board.isEnd()) {
+			if(board.mobility(piece) != 0) {
+				final Position[] legal = board.legalMoves(piece)
+						.toArray(new Position[0]);
+				board = board.tryPut(legal[rng.nextInt(legal.length)], piece);
+			}
+			piece = piece.flip();
+		}
+		return board;
+	}
+
+	private static int empty(final BoardView board) {
+		return 64
+				- board.count(Piece.PIECE_A)
+				- board.count(Piece.PIECE_B);
+	}
+
+	/**
+	 * Plain negamax to the end of the game.
+	 */
+	private static int negamax(
+			final BoardView board,
+			final Piece piece,
+			final boolean passed) throws InvalidMoveException {
+		if(board.mobility(piece) == 0) {
+			if(passed)
+				return board.count(piece) - board.count(piece.flip());
+			return -negamax(board, piece.flip(), true);
+		}
+		int best = Integer.MIN_VALUE;
+		for(final Position move : board.legalMoves(piece))
+			best = Math.max(
+					best,
+					-negamax(board.tryPut(move, piece), piece.flip(), false));
+		return best;
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.Endgame#best(
+	 * SearchContext)} finds the same moves and score as plain negamax.
+	 */
+	@Test
+	public void testSameAsNegamax() throws InvalidMoveException {
+		final Random rng = new Random(SEED);
+		int tested = 0;
+		for(int i = 0; i < POSITIONS; ++i) {
+			final BitBoard board = randomBoard(rng, rng.nextInt(EMPTIES + 1));
+			for(final Piece piece
+					: new Piece[] {Piece.PIECE_A, Piece.PIECE_B}) {
+				if(board.mobility(piece) == 0)
+					continue;
+				int bestScore = Integer.MIN_VALUE;
+				final Set<Position> best = new HashSet<>();
+				for(final Position move : board.legalMoves(piece)) {
+					final int score = -negamax(
+							board.tryPut(move, piece),
+							piece.flip(),
+							false);
+					if(score > bestScore) {
+						bestScore = score;
+						best.clear();
+					}
+					if(score == bestScore)
+						best.add(move);
+				}
+				final Endgame endgame = new Endgame(board, piece);
+				assertEquals(
+						best,
+						new HashSet<>(endgame.best(
+								SearchContext.unlimited())));
+				assertEquals(bestScore, endgame.score());
+				assertFalse(endgame.isAborted());
+				++tested;
+			}
+		}
+		assertTrue(tested > POSITIONS / 2);
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.EndgameSolver
+	 * #search(BoardView, Piece, EvaluationStrategy)} delegates the positions
+	 * with too many empty squares.
+	 */
+	@Test
+	public void testFallback() throws InvalidMoveException {
+		final Random rng = new Random(SEED);
+		final BitBoard board = randomBoard(rng, 30);
+		final Piece piece = board.mobility(Piece.PIECE_A) != 0
+				? Piece.PIECE_A
+				: Piece.PIECE_B;
+		final Fallback fallback = new Fallback();
+		new EndgameSolver(20, 1000, fallback)
+				.search(board, piece, EvaluationStrategies.COUNT);
+		assertTrue(fallback.used);
+		//Cannot be solved in no time.
+		final Fallback timeout = new Fallback();
+		new EndgameSolver(64, 0, timeout)
+				.search(board, piece, EvaluationStrategies.COUNT);
+		assertTrue(timeout.used);
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.EndgameSolver
+	 * #search(BoardView, Piece, EvaluationStrategy)} solves the positions
+	 * with few empty squares.
+	 */
+	@Test
+	public void testSolve() throws InvalidMoveException {
+		final Random rng = new Random(SEED);
+		for(int i = 0; i < 10; ++i) {
+			final BitBoard board = randomBoard(rng, 12);
+			for(final Piece piece
+					: new Piece[] {Piece.PIECE_A, Piece.PIECE_B}) {
+				if(board.mobility(piece) == 0)
+					continue;
+				final Fallback fallback = new Fallback();
+				final Position move = new EndgameSolver(
+						EndgameSolver.DEFAULT_EMPTIES,
+						Long.MAX_VALUE,
+						fallback).search(
+								board,
+								piece,
+								EvaluationStrategies.COUNT);
+				assertFalse(fallback.used);
+				assertTrue(new Endgame(board, piece)
+						.best(SearchContext.unlimited())
+						.contains(move));
+			}
+		}
+	}
+}
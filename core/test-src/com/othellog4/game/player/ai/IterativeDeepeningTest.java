@@ -0,0 +1,239 @@
+package com.othellog4.game.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+
+/**
+ * The {@code IterativeDeepeningTest} class is a JUnit test suit for the
+ * {@link IterativeDeepening} and {@link SearchContext} classes.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class IterativeDeepeningTest {
+
+	private static final long SEED = 20180318L;
+	private static final long MOVE_TIME = 100;
+	private static final long TOLERANCE = 400;
+	private static final int DEPTH = 4;
+
+	/**
+	 * Play random moves from the start of a game.
+	 */
+	private static BitBoard randomBoard(final Random rng, final int moves)
+			throws InvalidMoveException {
+		BitBoard board = new BitBoard();
+		Piece piece = Piece.PIECE_A;
+		for(int i = moves; i > 0 && !board.isEnd();) {
+			if(board.mobility(piece) != 0) {
+				final Position[] legal = board.legalMoves(piece)
+						.toArray(new Position[0]);
+				board = board.tryPut(legal[rng.nextInt(legal.length)], piece);
+				--i;
+			}
+			piece = piece.flip();
+		}
+		return board;
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.IterativeDeepening
+	 * #search(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece, EvaluationStrategy)} stays within its
+	 * time budget.
+	 */
+	@Test
+	public void testMoveTime() {
+		final BitBoard board = new BitBoard();
+		final long start = System.currentTimeMillis();
+		final Position move = new IterativeDeepening(MOVE_TIME)
+				.search(board, Piece.PIECE_A, EvaluationStrategies.COUNT);
+		assertTrue(System.currentTimeMillis() - start < MOVE_TIME + TOLERANCE);
+		assertTrue(board.legalMoves(Piece.PIECE_A).contains(move));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.IterativeDeepening
+	 * #search(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece, EvaluationStrategy, SearchContext)}
+	 * stays within the budget of the {@link SearchContext}.
+	 */
+	@Test
+	public void testContext() {
+		final BitBoard board = new BitBoard();
+		final long start = System.currentTimeMillis();
+		final Position move = new IterativeDeepening(Long.MAX_VALUE).search(
+				board,
+				Piece.PIECE_A,
+				EvaluationStrategies.COUNT,
+				SearchContext.ofMillis(MOVE_TIME));
+		assertTrue(System.currentTimeMillis() - start < MOVE_TIME + TOLERANCE);
+		assertTrue(board.legalMoves(Piece.PIECE_A).contains(move));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.IterativeDeepening
+	 * #search(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece, EvaluationStrategy, SearchContext)}
+	 * stops at its depth limit, and finds the moves of a single search to
+	 * that depth.
+	 */
+	@Test
+	public void testDepthLimit() throws InvalidMoveException {
+		final Random rng = new Random(SEED);
+		for(int i = 0; i < 10; ++i) {
+			final BitBoard board = randomBoard(rng, rng.nextInt(30));
+			if(board.mobility(Piece.PIECE_A) == 0)
+				continue;
+			final SearchStatistics[] reported = new SearchStatistics[1];
+			final Position move = new IterativeDeepening(
+					Long.MAX_VALUE,
+					Long.MAX_VALUE,
+					null,
+					DEPTH).search(
+							board,
+							Piece.PIECE_A,
+							EvaluationStrategies.COUNT,
+							SearchContext.unlimited().observed(
+									statistics -> reported[0] = statistics));
+			assertEquals(DEPTH, reported[0].depth(), 0);
+			assertTrue(new AlphaBeta(
+					board,
+					Piece.PIECE_A,
+					EvaluationStrategies.COUNT,
+					null).best(DEPTH).contains(move));
+		}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.IterativeDeepening
+	 * #search(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece, EvaluationStrategy)} with no budget
+	 * left still finds a legal move.
+	 */
+	@Test
+	public void testNoBudget() {
+		final BitBoard board = new BitBoard();
+		final Position move = new IterativeDeepening(0, 0)
+				.search(board, Piece.PIECE_A, EvaluationStrategies.COUNT);
+		assertTrue(board.legalMoves(Piece.PIECE_A).contains(move));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.IterativeDeepening
+	 * #search(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece, EvaluationStrategy)} searches to the
+	 * end of the game when it has the time to.
+	 */
+	@Test
+	public void testSolvesEndgame() throws InvalidMoveException {
+		final Random rng = new Random(SEED);
+		for(int i = 0; i < 10; ++i) {
+			final BitBoard board = randomBoard(rng, 52);
+			for(final Piece piece : Piece.values()) {
+				if(board.mobility(piece) == 0)
+					continue;
+				final HashSet<Position> best = new HashSet<>(
+						new AlphaBeta(board, piece, EvaluationStrategies.COUNT)
+								.best(64));
+				final Position move = new IterativeDeepening(Long.MAX_VALUE)
+						.search(board, piece, EvaluationStrategies.COUNT);
+				assertTrue(best.contains(move));
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.SearchContext}.
+	 */
+	@Test
+	public void testSearchContext() {
+		assertFalse(SearchContext.unlimited().isLimited());
+		assertFalse(SearchContext.unlimited().isExpired(Long.MAX_VALUE - 1));
+		assertEquals(
+				Long.MAX_VALUE,
+				SearchContext.unlimited().remainingMillis());
+
+		final SearchContext nodes = SearchContext.ofNodes(10);
+		assertTrue(nodes.isLimited());
+		assertFalse(nodes.isExpired(9));
+		assertTrue(nodes.isExpired(10));
+
+		assertTrue(SearchContext.ofMillis(0).isExpired(0));
+		assertFalse(SearchContext.ofMillis(60000).isExpired(0));
+		assertTrue(SearchContext.ofMillis(60000).within(0, 10).isExpired(0));
+		assertTrue(SearchContext.unlimited().within(100, 10).isExpired(10));
+
+		//The clock is shared between the moves, with some in reserve.
+		final long share = SearchContext.ofClock(30000, 30, 0)
+				.remainingMillis();
+		assertTrue(share <= 1000);
+		assertTrue(share > 500);
+		//The overhead of the later moves is reserved.
+		assertEquals(0, SearchContext.ofClock(10000, 11, 1000)
+				.remainingMillis());
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.SearchContext
+	 * #cancel()}.
+	 */
+	@Test
+	public void testCancel() {
+		final SearchContext outer = SearchContext.unlimited().cancellable();
+		final SearchContext derived = outer.within(60000, Long.MAX_VALUE);
+		final SearchContext inner = derived.cancellable();
+		assertTrue(outer.isLimited());
+		assertFalse(inner.isExpired(0));
+		inner.cancel();
+		assertTrue(inner.isExpired(0));
+		assertFalse(outer.isExpired(0));
+		outer.cancel();
+		assertTrue(derived.isCancelled());
+		assertTrue(derived.cancellable().isCancelled());
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.SearchContext
+	 * #cancel()} when it cannot be cancelled.
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void testCancelUnlimited() {
+		SearchContext.unlimited().cancel();
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.IterativeDeepening
+	 * #search(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece, EvaluationStrategy, SearchContext)}
+	 * which is cancelled by another thread.
+	 */
+	@Test
+	public void testCancelSearch() throws InterruptedException {
+		final BitBoard board = new BitBoard();
+		final SearchContext context = SearchContext.unlimited().cancellable();
+		final Position[] move = new Position[1];
+		final Thread thread = new Thread(() -> move[0] =
+				new IterativeDeepening(Long.MAX_VALUE).search(
+						board,
+						Piece.PIECE_A,
+						EvaluationStrategies.COUNT,
+						context));
+		thread.start();
+		Thread.sleep(MOVE_TIME);
+		context.cancel();
+		thread.join(TOLERANCE);
+		assertFalse(thread.isAlive());
+		assertTrue(board.legalMoves(Piece.PIECE_A).contains(move[0]));
+	}
+}
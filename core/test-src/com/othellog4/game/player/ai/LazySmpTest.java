@@ -0,0 +1,109 @@
+package com.othellog4.game.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+
+/**
+ * The {@code LazySmpTest} class is a JUnit test suit for the
+ * {@link LazySmp} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class LazySmpTest {
+
+	private static final long SEED = 20180318L;
+	private static final int THREADS = 4;
+	private static final long MOVE_TIME = 100;
+	private static final long TOLERANCE = 400;
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.LazySmp
+	 * #search(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece, EvaluationStrategy)} stays within its
+	 * time budget, and reports the speed of every thread.
+	 */
+	@Test
+	public void testMoveTime() {
+		for(int threads = 1; threads <= THREADS; ++threads) {
+			final LazySmp search = new LazySmp(
+					threads,
+					MOVE_TIME,
+					Long.MAX_VALUE,
+					new TranspositionTable(1));
+			assertEquals(0, search.nodesPerSecond().length);
+			final BitBoard board = new BitBoard();
+			final long start = System.currentTimeMillis();
+			final Position move = search.search(
+					board,
+					Piece.PIECE_A,
+					EvaluationStrategies.COUNT);
+			assertTrue(System.currentTimeMillis() - start
+					< MOVE_TIME + TOLERANCE);
+			assertTrue(board.legalMoves(Piece.PIECE_A).contains(move));
+			final double[] rates = search.nodesPerSecond();
+			assertEquals(threads, rates.length);
+			for(final double rate : rates)
+				assertTrue(rate > 0);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.LazySmp
+	 * #search(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece, EvaluationStrategy)} finds the same
+	 * moves as a complete search at the end of the game.
+	 */
+	@Test
+	public void testSolvesEndgame() throws InvalidMoveException {
+		final Random rng = new Random(SEED);
+		final LazySmp search = new LazySmp(
+				THREADS,
+				Long.MAX_VALUE,
+				Long.MAX_VALUE,
+				new TranspositionTable(1));
+		for(int i = 0; i < 10; ++i) {
+			BitBoard board = new BitBoard();
+			Piece piece = Piece.PIECE_A;
+			for(int moves = 50; moves > 0 && !board.isEnd();) {
+				if(board.mobility(piece) != 0) {
+					final Position[] legal = board.legalMoves(piece)
+							.toArray(new Position[0]);
+					board = board.tryPut(
+							legal[rng.nextInt(legal.length)],
+							piece);
+					--moves;
+				}
+				piece = piece.flip();
+			}
+			if(board.mobility(piece) == 0)
+				continue;
+			final HashSet<Position> best = new HashSet<>(
+					new AlphaBeta(board, piece, EvaluationStrategies.COUNT)
+							.best(64));
+			assertTrue(best.contains(search.search(
+					board,
+					piece,
+					EvaluationStrategies.COUNT)));
+		}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.LazySmp#LazySmp(
+	 * int, long)} with no threads.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testNoThreads() {
+		new LazySmp(0, MOVE_TIME);
+	}
+}
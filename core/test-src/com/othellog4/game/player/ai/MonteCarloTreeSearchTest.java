@@ -0,0 +1,190 @@
+package com.othellog4.game.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+
+/**
+ * The {@code MonteCarloTreeSearchTest} class is a JUnit test suit for the
+ * {@link MonteCarloTreeSearch} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class MonteCarloTreeSearchTest {
+
+	private static final long SEED = 20180318L;
+	private static final int PLAYOUTS = 1000;
+	private static final long MOVE_TIME = 100;
+	private static final long TOLERANCE = 400;
+
+	/**
+	 * Plain negamax to the end of the game.
+	 */
+	private static int negamax(
+			final BoardView board,
+			final Piece piece,
+			final boolean passed) throws InvalidMoveException {
+		if(board.mobility(piece) == 0) {
+			if(passed)
+				return board.count(piece) - board.count(piece.flip());
+			return -negamax(board, piece.flip(), true);
+		}
+		int best = Integer.MIN_VALUE;
+		for(final Position move : board.legalMoves(piece))
+			best = Math.max(
+					best,
+					-negamax(board.tryPut(move, piece), piece.flip(), false));
+		return best;
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.MonteCarloTreeSearch
+	 * #search(BoardView, Piece, EvaluationStrategy)} plays exactly its
+	 * number of playouts with one thread.
+	 */
+	@Test
+	public void testPlayouts() {
+		final MonteCarloTreeSearch search = new MonteCarloTreeSearch(
+				1,
+				Long.MAX_VALUE,
+				PLAYOUTS,
+				false);
+		final BitBoard board = new BitBoard();
+		final Position move = search.search(
+				board,
+				Piece.PIECE_A,
+				EvaluationStrategies.COUNT);
+		assertTrue(board.legalMoves(Piece.PIECE_A).contains(move));
+		assertEquals(PLAYOUTS, search.playouts());
+		assertTrue(search.playoutsPerSecond() > 0);
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.MonteCarloTreeSearch
+	 * #search(BoardView, Piece, EvaluationStrategy)} stays within its time
+	 * budget with several threads.
+	 */
+	@Test
+	public void testMoveTime() throws InvalidMoveException {
+		final MonteCarloTreeSearch search = new MonteCarloTreeSearch(
+				4,
+				MOVE_TIME,
+				Long.MAX_VALUE,
+				true);
+		BoardView board = new BitBoard();
+		Piece piece = Piece.PIECE_A;
+		//Both sides share the tree, which is reused on every move.
+		for(int i = 0; i < 4; ++i) {
+			final long start = System.currentTimeMillis();
+			final Position move = search.search(
+					board,
+					piece,
+					EvaluationStrategies.COUNT);
+			assertTrue(System.currentTimeMillis() - start
+					< MOVE_TIME + TOLERANCE);
+			assertTrue(board.legalMoves(piece).contains(move));
+			board = board.tryPut(move, piece);
+			piece = piece.flip();
+		}
+	}
+
+	/**
+	 * Search a position with a fixed number of playouts.
+	 *
+	 * @return The number of nodes of the tree which was searched.
+	 */
+	private static long nodes(
+			final MonteCarloTreeSearch search,
+			final BoardView board,
+			final Piece piece) {
+		final SearchStatistics[] reported = new SearchStatistics[1];
+		search.search(
+				board,
+				piece,
+				EvaluationStrategies.COUNT,
+				SearchContext.unlimited().observed(
+						statistics -> reported[0] = statistics));
+		return reported[0].nodes();
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.MonteCarloTreeSearch
+	 * #search(BoardView, Piece, EvaluationStrategy, SearchContext)} keeps
+	 * the tree of each of two games which take turns to search.
+	 */
+	@Test
+	public void testTreePerGame() throws InvalidMoveException {
+		final MonteCarloTreeSearch search = new MonteCarloTreeSearch(
+				1,
+				Long.MAX_VALUE,
+				PLAYOUTS,
+				false);
+		final BitBoard start = new BitBoard();
+		final Position[] openings = start.legalMoves(Piece.PIECE_A)
+				.toArray(new Position[0]);
+		final BitBoard game1 = start.tryPut(openings[0], Piece.PIECE_A);
+		final BitBoard game2 = start.tryPut(openings[1], Piece.PIECE_A);
+		final long first1 = nodes(search, game1, Piece.PIECE_B);
+		final long first2 = nodes(search, game2, Piece.PIECE_B);
+		//Each game grows its own tree further, rather than starting again.
+		assertTrue(nodes(search, game1, Piece.PIECE_B) > first1 * 3 / 2);
+		assertTrue(nodes(search, game2, Piece.PIECE_B) > first2 * 3 / 2);
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.MonteCarloTreeSearch
+	 * #search(BoardView, Piece, EvaluationStrategy)} finds a move which is
+	 * as good as the best move, near the end of the game.
+	 */
+	@Test
+	public void testEndgame() throws InvalidMoveException {
+		final Random rng = new Random(SEED);
+		final MonteCarloTreeSearch search = new MonteCarloTreeSearch(
+				1,
+				Long.MAX_VALUE,
+				20 * PLAYOUTS,
+				false);
+		for(int i = 0; i < 20; ++i) {
+			BitBoard board = new BitBoard();
+			Piece piece = Piece.PIECE_A;
+			while(board.count(Piece.PIECE_A) + board.count(Piece.PIECE_B)
+					< 59 && !board.isEnd()) {
+				if(board.mobility(piece) != 0) {
+					final Position[] legal = board.legalMoves(piece)
+							.toArray(new Position[0]);
+					board = board.tryPut(
+							legal[rng.nextInt(legal.length)],
+							piece);
+				}
+				piece = piece.flip();
+			}
+			if(board.mobility(piece) == 0)
+				continue;
+			int best = Integer.MIN_VALUE;
+			for(final Position move : board.legalMoves(piece))
+				best = Math.max(best, -negamax(
+						board.tryPut(move, piece),
+						piece.flip(),
+						false));
+			final int found = -negamax(
+					board.tryPut(search.search(
+							board,
+							piece,
+							EvaluationStrategies.COUNT), piece),
+					piece.flip(),
+					false);
+			//As likely to win, but not necessarily by as much.
+			assertEquals(Integer.signum(best), Integer.signum(found));
+		}
+	}
+}
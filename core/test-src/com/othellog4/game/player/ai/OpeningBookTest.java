@@ -0,0 +1,177 @@
+package com.othellog4.game.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+import com.othellog4.game.board.SearchBoard;
+import com.othellog4.game.board.Symmetry;
+
+/**
+ * The {@code OpeningBookTest} class is a JUnit test suit for the
+ * {@link OpeningBook} and {@link OpeningBookBuilder} classes.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class OpeningBookTest {
+
+	private static final int GAMES = 40;
+	private static final int PLIES = 8;
+	/**
+	 * The random plies of a book built by
+	 * {@link OpeningBookBuilder#main(String[])}.
+	 */
+	private static final int RANDOM_PLIES = 6;
+	private static final long SEED = 20180318L;
+
+	private static byte[] contents;
+
+	/**
+	 * Build a small book of the first plies of games which have random
+	 * moves in their openings, once for every test.
+	 */
+	private static synchronized byte[] contents() throws IOException {
+		if(contents != null)
+			return contents;
+		final OpeningBookBuilder builder = new OpeningBookBuilder(
+				new Tactic(
+						EvaluationStrategies.COUNT,
+						new IterativeDeepening(1)),
+				PLIES,
+				RANDOM_PLIES,
+				SEED);
+		builder.play(GAMES);
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		builder.write(output);
+		contents = output.toByteArray();
+		return contents;
+	}
+
+	private static BoardView transform(
+			final BoardView board,
+			final Symmetry symmetry) {
+		return new BitBoard(
+				symmetry.apply(board.mask(Piece.PIECE_A)),
+				symmetry.apply(board.mask(Piece.PIECE_B)));
+	}
+
+	/**
+	 * Find a position after two moves which is in the book, and is not
+	 * equal to any of its rotations or reflections.
+	 */
+	private static BoardView asymmetric(final OpeningBook book)
+			throws InvalidMoveException {
+		final BitBoard start = new BitBoard();
+		final Piece first = Piece.player1();
+		final BoardView board = start.tryPut(
+				start.legalMoves(first).iterator().next(),
+				first);
+		for(final Position reply : board.legalMoves(first.flip())) {
+			final BoardView after = board.tryPut(reply, first.flip());
+			boolean symmetric = false;
+			for(final Symmetry symmetry : Symmetry.values())
+				symmetric |= symmetry != Symmetry.IDENTITY
+						&& transform(after, symmetry).equals(after);
+			if(!symmetric && book.best(after, first).isPresent())
+				return after;
+		}
+		throw new AssertionError("No asymmetric position in the book");
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.OpeningBook
+	 * #best(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece)} finds a legal move for the start of
+	 * the game and for a position within the random plies, and none for the
+	 * side which is not to move.
+	 */
+	@Test
+	public void testBestRecorded() throws IOException, InvalidMoveException {
+		final OpeningBook book = OpeningBook.wrap(contents());
+		assertTrue(book.size() > 0);
+		final BitBoard start = new BitBoard();
+		final Optional<Position> opening = book.best(start, Piece.player1());
+		assertTrue(opening.isPresent());
+		assertTrue(start.legalMoves(Piece.player1()).contains(opening.get()));
+		final BoardView board = asymmetric(book);
+		final Optional<Position> best = book.best(board, Piece.player1());
+		assertTrue(board.legalMoves(Piece.player1()).contains(best.get()));
+		assertFalse(book.best(board, Piece.player2()).isPresent());
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.OpeningBook
+	 * #best(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece)} finds the same move in every
+	 * orientation of a position.
+	 */
+	@Test
+	public void testBestFolded() throws IOException, InvalidMoveException {
+		final OpeningBook book = OpeningBook.wrap(contents());
+		final BoardView board = asymmetric(book);
+		final Piece piece = Piece.player1();
+		final Optional<Position> best = book.best(board, piece);
+		assertTrue(best.isPresent());
+		for(final Symmetry symmetry : Symmetry.values())
+			assertEquals(
+					SearchBoard.position(symmetry.apply(
+							SearchBoard.square(best.get()))),
+					book.best(transform(board, symmetry), piece).get());
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.OpeningBook
+	 * #open(java.nio.file.Path)} maps the same book as was written.
+	 */
+	@Test
+	public void testOpen() throws IOException, InvalidMoveException {
+		final Path file = Files.createTempFile("book", ".bin");
+		try {
+			Files.write(file, contents());
+			final OpeningBook book = OpeningBook.open(file);
+			final OpeningBook wrapped = OpeningBook.wrap(contents());
+			assertEquals(wrapped.size(), book.size());
+			final BoardView board = asymmetric(wrapped);
+			assertEquals(
+					wrapped.best(board, Piece.player1()),
+					book.best(board, Piece.player1()));
+		}
+		finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.OpeningBook
+	 * #wrap(byte[])} rejects a file which is not an opening book.
+	 */
+	@Test(expected = IOException.class)
+	public void testInvalid() throws IOException {
+		OpeningBook.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.OpeningBook
+	 * #empty()}.
+	 */
+	@Test
+	public void testEmpty() {
+		assertEquals(0, OpeningBook.empty().size());
+		assertFalse(OpeningBook.empty()
+				.best(new BitBoard(), Piece.player1())
+				.isPresent());
+	}
+}
@@ -0,0 +1,104 @@
+package com.othellog4.game.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Patterns;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+import com.othellog4.game.board.SearchBoard;
+
+/**
+ * The {@code PatternEvaluationTest} class is a JUnit test suit for the
+ * {@link PatternEvaluation} and {@link PatternWeights} classes.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class PatternEvaluationTest {
+
+	private static final double DELTA = 1e-9;
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.PatternWeights
+	 * #save(java.io.OutputStream)} can be read back by
+	 * {@link com.othellog4.game.player.ai.PatternWeights
+	 * #load(java.io.InputStream)}.
+	 */
+	@Test
+	public void testSaveLoad() throws IOException {
+		final PatternWeights weights = PatternWeights.defaults();
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		weights.save(output);
+		final PatternWeights loaded = PatternWeights.load(
+				new ByteArrayInputStream(output.toByteArray()));
+		assertEquals(weights.stages(), loaded.stages());
+		for(int stage = 0; stage < weights.stages(); ++stage)
+			for(int type = 0; type < Patterns.TYPES; ++type)
+				for(int index = 0; index < Patterns.size(type); ++index)
+					assertEquals(
+							weights.weight(stage, type, index),
+							loaded.weight(stage, type, index));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.PatternWeights
+	 * #load(java.io.InputStream)} rejects a file of another format.
+	 */
+	@Test(expected = IOException.class)
+	public void testLoadInvalid() throws IOException {
+		PatternWeights.load(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.PatternEvaluation
+	 * #evaluate(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece)} is the opposite for each side, and
+	 * neutral at the start.
+	 */
+	@Test
+	public void testEvaluateSymmetric() throws InvalidMoveException {
+		final EvaluationStrategy eval = PatternEvaluation.shared();
+		final BitBoard start = new BitBoard();
+		assertEquals(0.0, eval.evaluate(start, Piece.PIECE_A), DELTA);
+		final BoardView board = start.tryPut(
+				Position.at(4, 2),
+				Piece.PIECE_A);
+		assertEquals(
+				eval.evaluate(board, Piece.PIECE_A),
+				-eval.evaluate(board, Piece.PIECE_B),
+				DELTA);
+		assertEquals(
+				eval.evaluate(board, Piece.PIECE_A),
+				eval.evaluate(new SearchBoard(board), Piece.PIECE_A),
+				DELTA);
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.PatternEvaluation
+	 * #evaluate(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece)} prefers a corner to the square next
+	 * to it.
+	 */
+	@Test
+	public void testEvaluateCorner() {
+		final EvaluationStrategy eval = PatternEvaluation.shared();
+		final long centre = 1L << 27 | 1L << 28 | 1L << 35 | 1L << 36;
+		final double corner = eval.evaluate(
+				new SearchBoard(centre | 1L, 0),
+				Piece.PIECE_A);
+		final double x = eval.evaluate(
+				new SearchBoard(centre | 1L << 9, 0),
+				Piece.PIECE_A);
+		assertTrue(corner > x);
+	}
+}
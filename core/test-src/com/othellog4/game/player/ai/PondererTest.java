@@ -0,0 +1,108 @@
+package com.othellog4.game.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.BoardView;
+import com.othellog4.game.board.InvalidMoveException;
+import com.othellog4.game.board.Piece;
+import com.othellog4.game.board.Position;
+
+/**
+ * The {@code PondererTest} class is a JUnit test suit for the
+ * {@link Ponderer} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class PondererTest {
+
+	private static final long MOVE_TIME = 20;
+	private static final long TIMEOUT = 5000;
+	private static final long POLL = 10;
+
+	private static Tactic tactic() {
+		return new Tactic(
+				EvaluationStrategies.COUNT,
+				new IterativeDeepening(
+						MOVE_TIME,
+						Long.MAX_VALUE,
+						new TranspositionTable(1)));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.Ponderer
+	 * #start(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece)} finds a legal answer to every reply of
+	 * the opponent.
+	 */
+	@Test
+	public void testAnswersEveryReply()
+			throws InvalidMoveException, InterruptedException {
+		final Ponderer ponderer = new Ponderer(tactic());
+		final BitBoard start = new BitBoard();
+		final BoardView board = start.tryPut(
+				start.legalMoves(Piece.PIECE_A).iterator().next(),
+				Piece.PIECE_A);
+		ponderer.start(board, Piece.PIECE_A);
+		for(final Position reply : board.legalMoves(Piece.PIECE_B)) {
+			final BoardView after = board.tryPut(reply, Piece.PIECE_B);
+			final long deadline = System.currentTimeMillis() + TIMEOUT;
+			Optional<Position> answer = ponderer.answer(after, Piece.PIECE_A);
+			while(!answer.isPresent()
+					&& System.currentTimeMillis() < deadline) {
+				Thread.sleep(POLL);
+				answer = ponderer.answer(after, Piece.PIECE_A);
+			}
+			assertTrue(answer.isPresent());
+			assertTrue(after.legalMoves(Piece.PIECE_A)
+					.contains(answer.get()));
+		}
+		ponderer.stop();
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.Ponderer
+	 * #answer(com.othellog4.game.board.BoardView,
+	 * com.othellog4.game.board.Piece)} has no answer for a position which
+	 * was not pondered.
+	 */
+	@Test
+	public void testNoAnswerWithoutPondering() {
+		final Ponderer ponderer = new Ponderer(tactic());
+		assertFalse(ponderer.answer(new BitBoard(), Piece.PIECE_A)
+				.isPresent());
+		ponderer.stop();
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.Ponderer#stop()}
+	 * stops the pondering before the replies have been answered.
+	 */
+	@Test
+	public void testStop()
+			throws InvalidMoveException, InterruptedException {
+		final Ponderer ponderer = new Ponderer(new Tactic(
+				EvaluationStrategies.COUNT,
+				new IterativeDeepening(
+						TIMEOUT,
+						Long.MAX_VALUE,
+						new TranspositionTable(1))));
+		final BitBoard start = new BitBoard();
+		final BoardView board = start.tryPut(
+				start.legalMoves(Piece.PIECE_A).iterator().next(),
+				Piece.PIECE_A);
+		ponderer.start(board, Piece.PIECE_A);
+		ponderer.stop();
+		Thread.sleep(MOVE_TIME * 5);
+		for(final Position reply : board.legalMoves(Piece.PIECE_B))
+			assertFalse(ponderer.answer(
+					board.tryPut(reply, Piece.PIECE_B),
+					Piece.PIECE_A).isPresent());
+	}
+}
@@ -0,0 +1,121 @@
+package com.othellog4.game.player.ai;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.othellog4.game.board.BitBoard;
+import com.othellog4.game.board.Piece;
+
+/**
+ * The {@code SearchStatisticsTest} class is a JUnit test suit for the
+ * {@link SearchStatistics} class, and the reports of the searches.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class SearchStatisticsTest {
+
+	private static final double EPSILON = 1e-9;
+	private static final long MOVE_TIME = 100;
+
+	/**
+	 * Test the derived values of a single search.
+	 */
+	@Test
+	public void testSingleSearch() {
+		final SearchStatistics stats =
+				new SearchStatistics(1000, 800, 3, 200, 50, 100, 25, 500000);
+		assertEquals(1, stats.searches());
+		assertEquals(3, stats.depth(), EPSILON);
+		assertEquals(10, stats.branchingFactor(), 1e-6);
+		assertEquals(0.25, stats.cutoffRatio(), EPSILON);
+		assertEquals(0.25, stats.hitRate(), EPSILON);
+		assertEquals(2000000, stats.nodesPerSecond(), EPSILON);
+	}
+
+	/**
+	 * Test {@link SearchStatistics#plus(SearchStatistics)} sums the counters
+	 * and averages the depth.
+	 */
+	@Test
+	public void testPlus() {
+		final SearchStatistics stats = SearchStatistics.NONE
+				.plus(new SearchStatistics(10, 5, 2, 4, 1, 0, 0, 10))
+				.plus(new SearchStatistics(30, 15, 4, 6, 3, 0, 0, 30));
+		assertEquals(2, stats.searches());
+		assertEquals(40, stats.nodes());
+		assertEquals(20, stats.leaves());
+		assertEquals(3, stats.depth(), EPSILON);
+		assertEquals(0.4, stats.cutoffRatio(), EPSILON);
+		assertEquals(40, stats.elapsedNanos());
+	}
+
+	/**
+	 * Test that no searches have no rates, rather than dividing by zero.
+	 */
+	@Test
+	public void testNone() {
+		assertEquals(0, SearchStatistics.NONE.depth(), EPSILON);
+		assertEquals(0, SearchStatistics.NONE.branchingFactor(), EPSILON);
+		assertEquals(0, SearchStatistics.NONE.cutoffRatio(), EPSILON);
+		assertEquals(0, SearchStatistics.NONE.nodesPerSecond(), EPSILON);
+	}
+
+	/**
+	 * Test that negative counters are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegative() {
+		new SearchStatistics(-1, 0, 0, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * Test that an {@link IterativeDeepening} search reports the work of
+	 * its deepest iteration.
+	 */
+	@Test
+	public void testIterativeDeepeningReport() {
+		final AtomicReference<SearchStatistics> reported =
+				new AtomicReference<>();
+		new IterativeDeepening(
+				MOVE_TIME,
+				Long.MAX_VALUE,
+				new TranspositionTable(1)).search(
+						new BitBoard(),
+						Piece.PIECE_A,
+						EvaluationStrategies.COUNT,
+						SearchContext.unlimited().observed(reported::set));
+		final SearchStatistics stats = reported.get();
+		assertNotNull(stats);
+		assertTrue(stats.depth() >= 2);
+		assertTrue(stats.nodes() > 0);
+		assertTrue(stats.leaves() > 0);
+		assertTrue(stats.leaves() <= stats.nodes());
+		assertTrue(stats.cutoffs() <= stats.interior());
+		assertTrue(stats.probes() > 0);
+		assertTrue(stats.elapsedNanos() > 0);
+	}
+
+	/**
+	 * Test that a {@link Tactic} reports one {@link SearchStatistics} for
+	 * a {@link SearchStrategy} which does not report its own.
+	 */
+	@Test
+	public void testTacticReport() {
+		final AtomicReference<SearchStatistics> reported =
+				new AtomicReference<>();
+		new Tactic(
+				EvaluationStrategies.COUNT,
+				SearchStrategies.BEST_IMMEDIATE).search(
+						new BitBoard(),
+						Piece.PIECE_A,
+						SearchContext.unlimited().observed(s ->
+								assertNull(reported.getAndSet(s))));
+		assertNotNull(reported.get());
+		assertEquals(1, reported.get().searches());
+	}
+}
@@ -0,0 +1,161 @@
+package com.othellog4.game.player.ai;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.othellog4.game.player.ai.TranspositionTable.Bound;
+import com.othellog4.game.player.ai.TranspositionTable.Entry;
+
+/**
+ * The {@code TranspositionTableTest} class is a JUnit test suit for the
+ * {@link TranspositionTable} class.
+ *
+ * @author 	159014260 John Berg
+ * @since 	18/10/2026
+ * @version 18/10/2026
+ */
+public class TranspositionTableTest {
+
+	private static final long KEY = 0x123456789ABCDEF0L;
+
+	/**
+	 * Get a key which is in the same bucket as {@link #KEY}.
+	 */
+	private static long sameBucket(final int n) {
+		return KEY + ((long) n << 40);
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.TranspositionTable
+	 * #TranspositionTable(int)}.
+	 */
+	@Test
+	public void testSize() {
+		//48 bytes per bucket of two entries.
+		assertEquals(2 * 16384, new TranspositionTable(1).capacity());
+		assertEquals(2 * 262144, new TranspositionTable(16).capacity());
+		//Rounded down to a power of two.
+		assertEquals(2 * 262144, new TranspositionTable(20).capacity());
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.TranspositionTable
+	 * #TranspositionTable(int)} with an invalid size.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSize() {
+		new TranspositionTable(0);
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.TranspositionTable
+	 * #probe(long, Entry)} returns what was stored.
+	 */
+	@Test
+	public void testStoreProbe() {
+		final TranspositionTable table = new TranspositionTable(1);
+		final Entry entry = new Entry();
+		assertFalse(table.probe(KEY, entry));
+		table.store(KEY, -0.25, 7, Bound.LOWER, 63, true);
+		assertTrue(table.probe(KEY, entry));
+		assertEquals(-0.25, entry.score(), 0.0);
+		assertEquals(7, entry.depth());
+		assertEquals(Bound.LOWER, entry.bound());
+		assertEquals(63, entry.move());
+		assertTrue(entry.isSolved());
+		table.store(KEY, 1.0, 3, Bound.EXACT, TranspositionTable.NO_MOVE,
+				false);
+		assertTrue(table.probe(KEY, entry));
+		assertEquals(1.0, entry.score(), 0.0);
+		assertEquals(3, entry.depth());
+		assertEquals(Bound.EXACT, entry.bound());
+		assertEquals(TranspositionTable.NO_MOVE, entry.move());
+		assertFalse(entry.isSolved());
+		//A key of 0 does not match an empty entry.
+		assertFalse(table.probe(0, entry));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.TranspositionTable
+	 * #store(long, double, int, Bound, int, boolean)} keeps the deeper entry
+	 * of a bucket.
+	 */
+	@Test
+	public void testReplacement() {
+		final TranspositionTable table = new TranspositionTable(1);
+		final Entry entry = new Entry();
+		final long deep = sameBucket(1);
+		table.store(deep, 1.0, 10, Bound.EXACT, 0, false);
+		for(int i = 2; i < 10; ++i)
+			table.store(sameBucket(i), i, 2, Bound.EXACT, 0, false);
+		assertTrue(table.probe(deep, entry));
+		assertEquals(10, entry.depth());
+		//Only the last shallow entry is kept.
+		assertTrue(table.probe(sameBucket(9), entry));
+		assertFalse(table.probe(sameBucket(8), entry));
+		assertEquals(7, table.overwrites());
+		//A deeper entry replaces the deep entry.
+		table.store(sameBucket(10), 0.0, 11, Bound.EXACT, 0, false);
+		assertFalse(table.probe(deep, entry));
+		//An entry of a new search replaces the deep entry.
+		table.newSearch();
+		table.store(deep, 1.0, 1, Bound.UPPER, 0, false);
+		assertTrue(table.probe(deep, entry));
+		assertFalse(table.probe(sameBucket(10), entry));
+	}
+
+	/**
+	 * Test method for the counters of the
+	 * {@link com.othellog4.game.player.ai.TranspositionTable}.
+	 */
+	@Test
+	public void testCounters() {
+		final TranspositionTable table = new TranspositionTable(1);
+		final Entry entry = new Entry();
+		table.store(KEY, 0.0, 1, Bound.EXACT, 0, false);
+		table.probe(KEY, entry);
+		table.probe(sameBucket(1), entry);
+		table.probe(KEY + 1, entry);
+		assertEquals(3, table.probes());
+		assertEquals(1, table.hits());
+		assertEquals(1, table.collisions());
+		assertEquals(1, table.stores());
+		assertEquals(0, table.overwrites());
+		table.clear();
+		assertEquals(0, table.probes());
+		assertFalse(table.probe(KEY, entry));
+	}
+
+	/**
+	 * Test method for {@link com.othellog4.game.player.ai.TranspositionTable}
+	 * when several threads store and probe the same bucket.
+	 */
+	@Test
+	public void testConcurrent() throws InterruptedException {
+		final TranspositionTable table = new TranspositionTable(1);
+		final Thread[] threads = new Thread[4];
+		final boolean[] corrupt = new boolean[threads.length];
+		for(int t = 0; t < threads.length; ++t) {
+			final int id = t;
+			threads[t] = new Thread(() -> {
+				final Entry entry = new Entry();
+				for(int i = 0; i < 100000; ++i) {
+					final int n = (i + id) % 8;
+					final long key = sameBucket(n);
+					table.store(key, n, n, Bound.EXACT, n, false);
+					if(table.probe(key, entry)
+							&& (entry.score() != n
+									|| entry.depth() != n
+									|| entry.move() != n))
+						corrupt[id] = true;
+				}
+			});
+			threads[t].start();
+		}
+		for(final Thread thread : threads)
+			thread.join();
+		for(final boolean c : corrupt)
+			assertFalse(c);
+	}
+}